@@ -1,7 +1,6 @@
 package control;
 
 import model.CellType;
-import view.CellButton;
 
 public class CellActionFactory {
 
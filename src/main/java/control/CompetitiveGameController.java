@@ -1,6 +1,7 @@
 package control;
 
 import model.DetailedGameHistoryEntry;
+import model.MineSampler;
 import model.SysData;
 import model.User;
 
@@ -8,6 +9,7 @@ import javax.swing.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
 
 public class CompetitiveGameController {
@@ -19,6 +21,7 @@ public class CompetitiveGameController {
     private final User player2;
     private final String difficulty;
     private final int gridSize;
+    private boolean noGuess = false;
 
     private int player1Score;
     private int player2Score;
@@ -64,6 +67,8 @@ public class CompetitiveGameController {
 
     private final DetailedGameHistoryEntry detailedHistory;
 
+    private final long gameSeed;
+
     // ----------------------------
     // ✅ OBSERVER
     // ----------------------------
@@ -91,6 +96,12 @@ public class CompetitiveGameController {
     // ✅ CTOR
     // ----------------------------
     public CompetitiveGameController(SysData sysData, User player1, User player2, String difficulty, int gridSize) {
+        this(sysData, player1, player2, difficulty, gridSize, new SplittableRandom().nextLong());
+    }
+
+    // Same seed + same first clicks => same two boards (replays / bug reports)
+    public CompetitiveGameController(SysData sysData, User player1, User player2, String difficulty, int gridSize, long gameSeed) {
+        this.gameSeed = gameSeed;
         this.sysData = sysData;
         this.player1 = player1;
         this.player2 = player2;
@@ -114,6 +125,7 @@ public class CompetitiveGameController {
                 0,
                 false
         );
+        this.detailedHistory.setSeed(gameSeed);
 
         notifyObservers();
     }
@@ -159,6 +171,21 @@ public class CompetitiveGameController {
         else player2TotalMines = totalMines;
     }
 
+    public long getGameSeed() { return gameSeed; }
+
+    // No-guess: boards come from NoGuessPool (solvable by logic from the first click)
+    public boolean isNoGuess() { return noGuess; }
+    public void setNoGuess(boolean noGuess) { this.noGuess = noGuess; }
+
+    public long getBoardSeed(int playerNum) {
+        return MineSampler.boardSeed(gameSeed, playerNum);
+    }
+
+    public void setPlayerFirstClick(int playerNum, int cellIndex) {
+        if (playerNum == 1) detailedHistory.setPlayer1FirstClick(cellIndex);
+        else detailedHistory.setPlayer2FirstClick(cellIndex);
+    }
+
     // ----------------------------
     // ✅ First move tracking
     // ----------------------------
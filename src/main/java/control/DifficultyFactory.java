@@ -13,4 +13,9 @@ public class DifficultyFactory {
             default -> new Config(8, 8, 10, 5);
         };
     }
+
+    /** Custom boards play with the Medium lives and activation cost. */
+    public static Config custom(int rows, int cols) {
+        return new Config(rows, cols, 8, 8);
+    }
 }
\ No newline at end of file
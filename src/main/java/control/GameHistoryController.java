@@ -3,9 +3,9 @@ package control;
 import model.DetailedGameHistoryEntry;
 import model.GameHistoryEntry;
 import model.GameRecord;
+import model.HistoryStore;
 import model.SysData;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,9 +22,7 @@ public class GameHistoryController {
     }
 
     public List<GameHistoryEntry> getSimpleHistoryForLoggedUser() {
-        // Try to reload from file if SysData has loadHistory()
-        tryCall(repo, "loadHistory");
-
+        // memory holds every game, including those not written yet
         List<GameHistoryEntry> all = repo.getHistory();
         return (all == null) ? new ArrayList<>() : new ArrayList<>(all);
     }
@@ -34,6 +32,10 @@ public class GameHistoryController {
         return (all == null) ? new ArrayList<>() : new ArrayList<>(all);
     }
 
+    public HistoryStore.Summary getDetailedHistorySummary() {
+        return repo.getDetailedHistorySummary();
+    }
+
     public List<GameHistoryEntry> getHistoryForUser(String username) {
         List<GameHistoryEntry> all = getSimpleHistoryForLoggedUser();
 
@@ -59,10 +61,8 @@ public class GameHistoryController {
                 username, "Practice Mode", difficulty, finalScore, durationSeconds, won
         );
 
+        // memory already holds the entry; the line is written in the background
         repo.addGameHistory(entry);
-
-        // Refresh memory if method exists
-        tryCall(repo, "loadHistory");
     }
 
    
@@ -81,13 +81,4 @@ public class GameHistoryController {
     private String safeLower(String s) {
         return s == null ? "" : s.trim().toLowerCase();
     }
-
-    private void tryCall(Object target, String methodName) {
-        if (target == null || methodName == null) return;
-        try {
-            Method m = target.getClass().getMethod(methodName);
-            m.invoke(target);
-        } catch (Exception ignored) {
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package control;
 
 import model.DetailedGameHistoryEntry;
+import model.MineSampler;
 import model.GameHistoryEntry;
 import model.SysData;
 import model.User;
@@ -10,6 +11,7 @@ import java.util.List;
 
 import javax.swing.*;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
 
 
@@ -22,6 +24,7 @@ public class MultiPlayerGameController {
     private User player2;
     private String difficulty;
     private int gridSize;
+    private boolean noGuess = false;
 
     private int sharedScore;
     private int sharedLives;
@@ -63,6 +66,8 @@ public class MultiPlayerGameController {
     private int activationCost;
 
     private DetailedGameHistoryEntry detailedHistory;
+
+    private final long gameSeed;
     public void addObserver(GameObserver o) {
         if (o != null && !observers.contains(o)) observers.add(o);
     }
@@ -80,6 +85,12 @@ public class MultiPlayerGameController {
 
 
     public MultiPlayerGameController(SysData sysData, User player1, User player2, String difficulty, int gridSize) {
+        this(sysData, player1, player2, difficulty, gridSize, new SplittableRandom().nextLong());
+    }
+
+    // Same seed + same first clicks => same two boards (replays / bug reports)
+    public MultiPlayerGameController(SysData sysData, User player1, User player2, String difficulty, int gridSize, long gameSeed) {
+        this.gameSeed = gameSeed;
         this.sysData = sysData;
         this.player1 = player1;
         this.player2 = player2;
@@ -104,6 +115,7 @@ public class MultiPlayerGameController {
                 0,
                 false
         );
+        this.detailedHistory.setSeed(gameSeed);
     }
     public int getGridSize() {
         return gridSize;
@@ -143,6 +155,21 @@ public class MultiPlayerGameController {
         }
     }
 
+    public long getGameSeed() { return gameSeed; }
+
+    // No-guess: boards come from NoGuessPool (solvable by logic from the first click)
+    public boolean isNoGuess() { return noGuess; }
+    public void setNoGuess(boolean noGuess) { this.noGuess = noGuess; }
+
+    public long getBoardSeed(int playerNum) {
+        return MineSampler.boardSeed(gameSeed, playerNum);
+    }
+
+    public void setPlayerFirstClick(int playerNum, int cellIndex) {
+        if (playerNum == 1) detailedHistory.setPlayer1FirstClick(cellIndex);
+        else detailedHistory.setPlayer2FirstClick(cellIndex);
+    }
+
     // Check if first move for player
     public boolean isPlayerFirstMove(int playerNum) {
         return playerNum == 1 ? player1FirstMove : player2FirstMove;
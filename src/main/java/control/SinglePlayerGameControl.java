@@ -1,12 +1,15 @@
 package control;
 
+import engine.BoardSpec;
 import model.GameHistoryEntry;
+import model.MineSampler;
 import model.SysData;
 import model.User;
 import view.MinesweeperBoardPanel;
 
 import javax.swing.*;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
 
 public class SinglePlayerGameControl {
@@ -22,6 +25,7 @@ public class SinglePlayerGameControl {
     private final Random random = new Random();
 
     private String difficulty;
+    private BoardSpec boardSpec;
 
     private int rows;
     private int cols;
@@ -45,15 +49,28 @@ public class SinglePlayerGameControl {
     private Timer timer;
     private int elapsedSeconds = 0;
 
+    private final long gameSeed;
+
     // =======================
     // ctor
     // =======================
     public SinglePlayerGameControl(User currentUser, String difficulty, SysData sysData) {
+        this(currentUser, difficulty, sysData, new SplittableRandom().nextLong());
+    }
+
+    public SinglePlayerGameControl(User currentUser, String difficulty, SysData sysData, long gameSeed) {
         this.currentUser = currentUser;
         this.sysData = sysData;
+        this.gameSeed = gameSeed;
         initDifficulty(difficulty);
     }
 
+    /** Custom game: any size up to {@link BoardSpec#MAX_SIDE}, Medium rules and scoring. */
+    public SinglePlayerGameControl(User currentUser, BoardSpec customSpec, SysData sysData) {
+        this(currentUser, "Custom", sysData);
+        initCustom(customSpec);
+    }
+
     // =======================
     // Difficulty setup (MATCH MULTI style)
     // =======================
@@ -79,6 +96,8 @@ public class SinglePlayerGameControl {
             default -> { questionCells = 7; surpriseCells = 3; }
         }
 
+        this.boardSpec = BoardSpec.forDifficulty(difficulty, rows, cols);
+
         this.points = 0;
         this.gameOver = false;
         this.gameWon = false;
@@ -87,6 +106,22 @@ public class SinglePlayerGameControl {
         resetTimer();
     }
 
+    private void initCustom(BoardSpec spec) {
+        DifficultyFactory.Config cfg = DifficultyFactory.custom(spec.rows(), spec.cols());
+
+        this.boardSpec = spec;
+        this.rows = cfg.rows();
+        this.cols = cfg.cols();
+        this.activationCost = cfg.activationCost();
+        this.maxLives = cfg.maxLives();
+        this.lives = maxLives;
+
+        this.totalMines = spec.mines();
+        this.remainingMines = totalMines;
+        this.questionCells = spec.questions();
+        this.surpriseCells = spec.surprises();
+    }
+
     private int minesForDifficulty(String diff) {
         return switch (diff) {
             case "Easy" -> 10;
@@ -107,6 +142,9 @@ public class SinglePlayerGameControl {
     // =======================
     public User getCurrentUser() { return currentUser; }
     public String getDifficulty() { return difficulty; }
+    public BoardSpec getBoardSpec() { return boardSpec; }
+    public long getGameSeed() { return gameSeed; }
+    public long getBoardSeed() { return MineSampler.boardSeed(gameSeed, 1); }
 
     public int getRows() { return rows; }
     public int getCols() { return cols; }
@@ -0,0 +1,106 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * The cells one move changed, with each cell's state before and after the move.
+ * A cell appears once per change set however many steps of the move touched it,
+ * and indices are in ascending (row-major) order.
+ *
+ * A state is a bit set of {@link #REVEALED}, {@link #FLAGGED} and {@link #USED}.
+ */
+public final class BoardChange {
+
+    public static final int REVEALED = 1;
+    public static final int FLAGGED = 2;
+    public static final int USED = 4;
+
+    private static final int[] NO_INDICES = new int[0];
+    private static final byte[] NO_STATES = new byte[0];
+
+    static final BoardChange EMPTY = new BoardChange(NO_INDICES, NO_STATES);
+
+    private final int[] indices;
+    private final byte[] states;           // old state in the high nibble, new state in the low one
+
+    private BoardChange(int[] indices, byte[] states) {
+        this.indices = indices;
+        this.states = states;
+    }
+
+    public int size() { return indices.length; }
+    public boolean isEmpty() { return indices.length == 0; }
+
+    public int index(int i) { return indices[i]; }
+    public int oldState(int i) { return (states[i] >> 4) & 0xF; }
+    public int newState(int i) { return states[i] & 0xF; }
+
+    /** The changed indices, ascending. Shared, do not modify. */
+    public int[] indices() { return indices; }
+
+    /** Collects the steps of one move; see {@link #build()}. */
+    static final class Builder {
+        private int[] idx;
+        private byte[] st;
+        private int n = 0;
+        private boolean ascending = true;
+
+        Builder(int expected) {
+            idx = new int[Math.max(expected, 4)];
+            st = new byte[idx.length];
+        }
+
+        void add(int index, int oldState, int newState) {
+            if (n == idx.length) {
+                idx = Arrays.copyOf(idx, n * 2);
+                st = Arrays.copyOf(st, n * 2);
+            }
+            if (n > 0 && index <= idx[n - 1]) ascending = false;
+            idx[n] = index;
+            st[n] = (byte) ((oldState << 4) | newState);
+            n++;
+        }
+
+        /** Sorts, merges repeated cells (first old state, last new state) and drops no-ops. */
+        BoardChange build() {
+            if (n == 0) return EMPTY;
+            if (!ascending) sortAndMerge();
+
+            int m = 0;
+            for (int i = 0; i < n; i++) {
+                if (((st[i] >> 4) & 0xF) == (st[i] & 0xF)) continue;
+                idx[m] = idx[i];
+                st[m] = st[i];
+                m++;
+            }
+            if (m == 0) return EMPTY;
+            return new BoardChange(m == idx.length ? idx : Arrays.copyOf(idx, m),
+                    m == st.length ? st : Arrays.copyOf(st, m));
+        }
+
+        // index in the high bits, arrival order in the low ones: a stable sort by index
+        private void sortAndMerge() {
+            long[] keys = new long[n];
+            for (int i = 0; i < n; i++) keys[i] = ((long) idx[i] << 32) | i;
+            Arrays.sort(keys);
+
+            int[] outIdx = new int[n];
+            byte[] outSt = new byte[n];
+            int m = 0;
+            for (long k : keys) {
+                int index = (int) (k >>> 32);
+                byte s = st[(int) k];
+                if (m > 0 && outIdx[m - 1] == index) {
+                    outSt[m - 1] = (byte) ((outSt[m - 1] & 0xF0) | (s & 0x0F));
+                } else {
+                    outIdx[m] = index;
+                    outSt[m] = s;
+                    m++;
+                }
+            }
+            idx = outIdx;
+            st = outSt;
+            n = m;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package engine;
+
+import model.CellType;
+import model.FlagResult;
+import model.MineSampler;
+import model.PackedBoard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * UI-free rules of one Minesweeper board: seeded generation around a safe first click,
+ * reveal with cascade, flags, question / surprise activation, bonus reveals and
+ * completion detection, all on a {@link PackedBoard}.
+ *
+ * Scoring, turns and lives stay in the controllers; board panels only render
+ * what they receive through {@link BoardListener}.
+ */
+public class BoardEngine {
+
+    /** One reveal move: the clicked cell's type and every index it opened (clicked cell first). */
+    public record RevealResult(int index, CellType type, int[] opened) {}
+
+    private final BoardSpec spec;
+    private final PackedBoard board;
+    private final List<BoardListener> listeners = new ArrayList<>();
+
+    // 3x3 bonus on boards above MineSampler.LARGE_BOARD cells: windows sampled around random hidden cells
+    private static final int BLOCK_SAMPLES = 24;
+
+    private boolean generated = false;
+    private int firstClick = -1;
+
+    // third split of the board seed, so bonus and hint picks replay with the layout
+    private SplittableRandom bonusRandom = new SplittableRandom();
+
+    public BoardEngine(BoardSpec spec) {
+        this.spec = spec;
+        this.board = new PackedBoard(spec.rows(), spec.cols());
+    }
+
+    // =========================
+    // LISTENERS
+    // =========================
+    public void addListener(BoardListener l) {
+        if (l != null && !listeners.contains(l)) listeners.add(l);
+    }
+
+    public void removeListener(BoardListener l) {
+        listeners.remove(l);
+    }
+
+    private void fireRevealed(int[] indices) {
+        if (indices.length == 0) return;
+        for (BoardListener l : listeners) l.onCellsRevealed(this, indices);
+    }
+
+    private void fireChanged(BoardChange.Builder changes) {
+        if (listeners.isEmpty()) return;
+        BoardChange change = changes.build();
+        if (change.isEmpty()) return;
+        for (BoardListener l : listeners) l.onCellsChanged(this, change);
+    }
+
+    // a reveal only flips the revealed bit, so the old state follows from the new one
+    private void addRevealed(BoardChange.Builder changes, int idx) {
+        int now = getCellState(idx);
+        changes.add(idx, now & ~BoardChange.REVEALED, now);
+    }
+
+    // =========================
+    // STATE (read)
+    // =========================
+    public BoardSpec getSpec() { return spec; }
+    public int getRows() { return spec.rows(); }
+    public int getCols() { return spec.cols(); }
+    public int index(int r, int c) { return board.index(r, c); }
+    public boolean isInBounds(int r, int c) { return board.isInBounds(r, c); }
+
+    public boolean isGenerated() { return generated; }
+    public int getFirstClick() { return firstClick; }
+
+    public CellType getType(int idx) { return board.getType(idx); }
+    public int getAdjacentMines(int idx) { return board.getAdjacentMines(idx); }
+    public boolean isRevealed(int idx) { return board.isRevealed(idx); }
+    public boolean isFlagged(int idx) { return board.isFlagged(idx); }
+    public boolean isUsed(int idx) { return board.isUsed(idx); }
+
+    /** The cell as a {@link BoardChange} state bit set. */
+    public int getCellState(int idx) {
+        return (board.isRevealed(idx) ? BoardChange.REVEALED : 0)
+                | (board.isFlagged(idx) ? BoardChange.FLAGGED : 0)
+                | (board.isUsed(idx) ? BoardChange.USED : 0);
+    }
+
+    /** A revealed question / surprise cell that was not activated yet. */
+    public boolean canActivate(int idx) {
+        return board.isRevealed(idx) && !board.isUsed(idx)
+                && (board.isQuestion(idx) || board.isSurprise(idx)) && !board.isMine(idx);
+    }
+
+    // =========================
+    // GENERATION
+    // =========================
+
+    /**
+     * Places mines outside the 3x3 around the first click, then numbers, then the
+     * question / surprise cells on plain empty cells (never on the first click,
+     * so it always opens a cascade). Same seed + same first click = same board.
+     */
+    public void generate(int firstRow, int firstCol, long seed) {
+        if (generated) return;
+
+        board.clear();
+        firstClick = index(firstRow, firstCol);
+
+        SplittableRandom gen = new SplittableRandom(seed);
+        SplittableRandom mineStream = gen.split();
+        SplittableRandom specialStream = gen.split();
+        bonusRandom = gen.split();
+
+        int[] safeZone = MineSampler.safeZone(spec.rows(), spec.cols(), firstRow, firstCol);
+        board.placeMines(MineSampler.sample(spec.size(), spec.mines(), safeZone, mineStream));
+        board.computeAdjacency();
+
+        int[] specials = MineSampler.pickCells(spec.size(), spec.questions() + spec.surprises(),
+                idx -> idx != firstClick && board.getType(idx) == CellType.EMPTY, specialStream);
+        for (int i = 0; i < specials.length; i++) {
+            if (i < spec.questions()) board.setQuestion(specials[i], true);
+            else board.setSurprise(specials[i], true);
+        }
+
+        generated = true;
+        for (BoardListener l : listeners) l.onBoardGenerated(this);
+    }
+
+    /** Places a ready-made layout (e.g. a pooled no-guess board) instead of generating one. */
+    public void load(BoardLayout layout) {
+        if (generated) return;
+        if (layout.rows() != spec.rows() || layout.cols() != spec.cols())
+            throw new IllegalArgumentException("Layout is " + layout.rows() + "x" + layout.cols() +
+                    ", board is " + spec.rows() + "x" + spec.cols() + ".");
+
+        board.clear();
+        firstClick = layout.firstClick();
+        bonusRandom = new SplittableRandom(layout.bonusSeed());
+
+        board.placeMines(layout.mines());
+        board.computeAdjacency();
+        for (int idx : layout.questions()) board.setQuestion(idx, true);
+        for (int idx : layout.surprises()) board.setSurprise(idx, true);
+
+        generated = true;
+        for (BoardListener l : listeners) l.onBoardGenerated(this);
+    }
+
+    /**
+     * The current board as a layout. The opening region lists the plain empty cells of the
+     * first click's cascade (known as soon as the board is generated, nothing is revealed).
+     */
+    public BoardLayout toLayout(long bonusSeed) {
+        int[] mines = new int[board.countMines()];
+        int[] questions = new int[board.countQuestions()];
+        int[] surprises = new int[board.countSurprises()];
+        int nm = 0, nq = 0, ns = 0;
+        for (int idx = 0; idx < spec.size(); idx++) {
+            if (board.isMine(idx)) mines[nm++] = idx;
+            else if (board.isQuestion(idx)) questions[nq++] = idx;
+            else if (board.isSurprise(idx)) surprises[ns++] = idx;
+        }
+        return new BoardLayout(spec.rows(), spec.cols(), firstClick,
+                mines, questions, surprises, openingRegion(), bonusSeed);
+    }
+
+    // plain EMPTY cells 8-connected to the first click through EMPTY / special cells
+    private int[] openingRegion() {
+        if (firstClick < 0 || board.getType(firstClick) != CellType.EMPTY) return new int[0];
+
+        boolean[] seen = new boolean[spec.size()];
+        int[] stack = new int[spec.size()];
+        int[] region = new int[spec.size()];
+        int top = 0, n = 0;
+        stack[top++] = firstClick;
+        seen[firstClick] = true;
+
+        while (top > 0) {
+            int idx = stack[--top];
+            if (board.getType(idx) == CellType.EMPTY) region[n++] = idx;
+
+            int r = board.rowOf(idx), c = board.colOf(idx);
+            for (int nr = r - 1; nr <= r + 1; nr++) {
+                for (int nc = c - 1; nc <= c + 1; nc++) {
+                    if (!isInBounds(nr, nc)) continue;
+                    int nIdx = index(nr, nc);
+                    if (seen[nIdx]) continue;
+                    CellType t = board.getType(nIdx);
+                    if (t == CellType.MINE || t == CellType.NUMBER) continue;
+                    seen[nIdx] = true;
+                    stack[top++] = nIdx;
+                }
+            }
+        }
+
+        int[] out = Arrays.copyOf(region, n);
+        Arrays.sort(out);
+        return out;
+    }
+
+    // =========================
+    // MOVES
+    // =========================
+
+    /** @return null if the cell cannot be revealed (not generated, already open or flagged) */
+    public RevealResult reveal(int r, int c) {
+        if (!generated || !isInBounds(r, c)) return null;
+
+        int idx = index(r, c);
+        if (board.isRevealed(idx) || board.isFlagged(idx)) return null;
+
+        board.reveal(idx);
+        CellType type = board.getType(idx);
+
+        int[] opened;
+        if (type == CellType.MINE || type == CellType.NUMBER) {
+            opened = new int[]{idx};
+        } else {
+            int[] cascade = board.floodReveal(idx);
+            opened = new int[cascade.length + 1];
+            opened[0] = idx;
+            System.arraycopy(cascade, 0, opened, 1, cascade.length);
+        }
+
+        fireRevealed(opened);
+        BoardChange.Builder changes = new BoardChange.Builder(opened.length);
+        for (int o : opened) addRevealed(changes, o);
+        fireChanged(changes);
+        return new RevealResult(idx, type, opened);
+    }
+
+    public FlagResult toggleFlag(int r, int c) {
+        if (!generated || !isInBounds(r, c)) return FlagResult.INVALID;
+
+        int idx = index(r, c);
+        if (board.isRevealed(idx)) return FlagResult.INVALID;
+
+        boolean flagged = !board.isFlagged(idx);
+        int before = getCellState(idx);
+        board.setFlagged(idx, flagged);
+        for (BoardListener l : listeners) l.onFlagChanged(this, idx, flagged);
+        BoardChange.Builder changes = new BoardChange.Builder(1);
+        changes.add(idx, before, getCellState(idx));
+        fireChanged(changes);
+
+        if (!flagged) return FlagResult.REMOVED;
+        return board.isMine(idx) ? FlagResult.CORRECT_MINE : FlagResult.INCORRECT;
+    }
+
+    /** Marks a question / surprise cell as activated. @return false if it cannot be activated */
+    public boolean markUsed(int idx) {
+        if (!canActivate(idx)) return false;
+        int before = getCellState(idx);
+        board.markUsed(idx);
+        for (BoardListener l : listeners) l.onCellUsed(this, idx);
+        BoardChange.Builder changes = new BoardChange.Builder(1);
+        changes.add(idx, before, getCellState(idx));
+        fireChanged(changes);
+        return true;
+    }
+
+    // =========================
+    // BONUSES / HINTS
+    // =========================
+
+    /** @return index of a random hidden, unflagged mine or -1 (O(1), from the board's index) */
+    public int pickRandomHiddenMine() {
+        return generated ? board.randomHiddenMine(bonusRandom) : -1;
+    }
+
+    /** Reveal-a-mine bonus. @return the revealed mine or -1 */
+    public int revealRandomHiddenMine() {
+        int idx = pickRandomHiddenMine();
+        if (idx < 0) return -1;
+
+        board.reveal(idx);
+        fireRevealed(new int[]{idx});
+        BoardChange.Builder changes = new BoardChange.Builder(1);
+        addRevealed(changes, idx);
+        fireChanged(changes);
+        return idx;
+    }
+
+    /**
+     * 3x3 bonus: opens the hidden, unflagged cells of a 3x3 block, then tops up with random
+     * hidden cells elsewhere until {@code target} cells were opened. The block is the fullest
+     * window on the board, a random one among ties. Boards above {@link MineSampler#LARGE_BOARD}
+     * cells only compare {@link #BLOCK_SAMPLES} windows around randomly picked hidden cells,
+     * so the cost stops growing with the board. Bonus reveals do not cascade.
+     *
+     * @return the opened indices
+     */
+    public int[] revealBonusBlock(int target) {
+        if (!generated) return new int[0];
+
+        int rows = spec.rows(), cols = spec.cols();
+        int[] opened = new int[target];
+        int count = 0;
+
+        if (rows >= 3 && cols >= 3) {
+            int bestCorner = -1;
+            int bestEligible = 0;
+
+            if (spec.size() <= MineSampler.LARGE_BOARD) {
+                int ties = 0;
+                for (int tr = 0; tr <= rows - 3; tr++) {
+                    for (int tc = 0; tc <= cols - 3; tc++) {
+                        int eligible = countHiddenIn3x3(tr, tc);
+                        if (eligible == 0 || eligible < bestEligible) continue;
+                        if (eligible > bestEligible) {
+                            bestEligible = eligible;
+                            ties = 0;
+                        }
+                        // keeps each of the tied windows with equal chance
+                        if (bonusRandom.nextInt(++ties) == 0) bestCorner = index(tr, tc);
+                    }
+                }
+            } else {
+                for (int i = 0; i < BLOCK_SAMPLES; i++) {
+                    int cell = board.randomHiddenCell(bonusRandom);
+                    if (cell < 0) break;
+
+                    // the window containing the sampled cell, clamped to the board
+                    int tr = Math.min(Math.max(board.rowOf(cell) - bonusRandom.nextInt(3), 0), rows - 3);
+                    int tc = Math.min(Math.max(board.colOf(cell) - bonusRandom.nextInt(3), 0), cols - 3);
+                    int eligible = countHiddenIn3x3(tr, tc);
+                    if (eligible > bestEligible) {
+                        bestEligible = eligible;
+                        bestCorner = index(tr, tc);
+                    }
+                    if (bestEligible == 9) break;
+                }
+            }
+
+            if (bestCorner >= 0) {
+                int tr = board.rowOf(bestCorner), tc = board.colOf(bestCorner);
+
+                for (int r = tr; r < tr + 3 && count < target; r++) {
+                    for (int c = tc; c < tc + 3 && count < target; c++) {
+                        int idx = index(r, c);
+                        if (isHiddenUnflagged(idx)) {
+                            board.reveal(idx);
+                            opened[count++] = idx;
+                        }
+                    }
+                }
+            }
+        }
+
+        // top up: each reveal leaves the hidden index, so picks never repeat
+        while (count < target) {
+            int idx = board.randomHiddenCell(bonusRandom);
+            if (idx < 0) break;
+            board.reveal(idx);
+            opened[count++] = idx;
+        }
+
+        int[] result = Arrays.copyOf(opened, count);
+        fireRevealed(result);
+        BoardChange.Builder changes = new BoardChange.Builder(count);
+        for (int o : result) addRevealed(changes, o);
+        fireChanged(changes);
+        return result;
+    }
+
+    private int countHiddenIn3x3(int tr, int tc) {
+        int count = 0;
+        for (int r = tr; r < tr + 3; r++)
+            for (int c = tc; c < tc + 3; c++)
+                if (isHiddenUnflagged(index(r, c))) count++;
+        return count;
+    }
+
+    private boolean isHiddenUnflagged(int idx) {
+        return !board.isRevealed(idx) && !board.isFlagged(idx);
+    }
+
+    /** End of game: opens every remaining cell, flagged ones included. */
+    public int[] revealAll() {
+        if (!generated) return new int[0];
+
+        int[] opened = new int[spec.size()];
+        int n = 0;
+        for (int idx = 0; idx < spec.size(); idx++) {
+            if (board.reveal(idx)) opened[n++] = idx;
+        }
+
+        int[] result = Arrays.copyOf(opened, n);
+        fireRevealed(result);
+        BoardChange.Builder changes = new BoardChange.Builder(n);
+        for (int o : result) addRevealed(changes, o);
+        fireChanged(changes);
+        return result;
+    }
+
+    // =========================
+    // COMPLETION / COUNTERS
+    // =========================
+
+    /** Every mine is either revealed or correctly flagged. */
+    public boolean isBoardFinished() {
+        return generated && board.getRevealedMines() + board.getCorrectFlags() >= board.countMines();
+    }
+
+    public int getTotalMines() { return generated ? board.countMines() : spec.mines(); }
+    public int getRevealedMines() { return board.getRevealedMines(); }
+    public int getCorrectFlags() { return board.getCorrectFlags(); }
+    public int getWrongFlags() { return board.getWrongFlags(); }
+    public int getHiddenSafeCells() { return board.getHiddenSafeCells(); }
+
+    public int getMinesLeft() {
+        return Math.max(getTotalMines() - getRevealedMines() - getCorrectFlags(), 0);
+    }
+
+    public int getHandledMines() { return board.countHandledMines(); }
+    public int getTotalQuestions() { return board.countQuestions(); }
+    public int getUsedQuestions() { return board.countUsedQuestions(); }
+    public int getTotalSurprises() { return board.countSurprises(); }
+    public int getUsedSurprises() { return board.countUsedSurprises(); }
+    public int getUnopenedQuestions() { return board.countUnopenedQuestions(); }
+    public int getUnopenedSurprises() { return board.countUnopenedSurprises(); }
+
+    /** Question / surprise cells of the spec that found no empty cell to go on (0 on almost every board). */
+    public int getMissingSpecials() {
+        if (!generated) return 0;
+        return Math.max(0, spec.questions() + spec.surprises() - board.countQuestions() - board.countSurprises());
+    }
+}
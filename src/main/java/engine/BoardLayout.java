@@ -0,0 +1,69 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * A fully placed board: mines, question / surprise cells and the first click, plus the
+ * seed of the bonus stream. Produced by generation and replayable through
+ * {@link BoardEngine#load(BoardLayout)}.
+ *
+ * @param opening sorted plain empty cells of the first click's cascade region; clicking any
+ *                of them opens exactly the same cells (empty if not computed)
+ */
+public record BoardLayout(int rows, int cols, int firstClick,
+                          int[] mines, int[] questions, int[] surprises,
+                          int[] opening, long bonusSeed) {
+
+    /** 4 symmetries for rectangular boards, 8 (with transposes) for square ones. */
+    public int symmetryCount() {
+        return rows == cols ? 8 : 4;
+    }
+
+    /** Where cell {@code idx} lands under symmetry {@code s} (bit 2 transpose, bit 0 mirror cols, bit 1 mirror rows). */
+    public int map(int idx, int s) {
+        int r = idx / cols, c = idx % cols;
+        if ((s & 4) != 0) {
+            int t = r;
+            r = c;
+            c = t;
+        }
+        if ((s & 1) != 0) c = cols - 1 - c;
+        if ((s & 2) != 0) r = rows - 1 - r;
+        return r * cols + c;
+    }
+
+    /** @return the symmetry whose image of {@link #opening} contains {@code idx}, or -1 */
+    public int symmetryOpeningAt(int idx) {
+        for (int s = 0; s < symmetryCount(); s++) {
+            if (Arrays.binarySearch(opening, inverse(idx, s)) >= 0) return s;
+        }
+        return -1;
+    }
+
+    /** The same board seen through symmetry {@code s}, first click moved to {@code newFirstClick}. */
+    public BoardLayout transform(int s, int newFirstClick) {
+        int[] open = mapAll(opening, s);
+        Arrays.sort(open);
+        return new BoardLayout(rows, cols, newFirstClick,
+                mapAll(mines, s), mapAll(questions, s), mapAll(surprises, s), open, bonusSeed);
+    }
+
+    private int[] mapAll(int[] cells, int s) {
+        int[] out = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) out[i] = map(cells[i], s);
+        return out;
+    }
+
+    // undoes map(): mirrors first, then the transpose
+    private int inverse(int idx, int s) {
+        int r = idx / cols, c = idx % cols;
+        if ((s & 2) != 0) r = rows - 1 - r;
+        if ((s & 1) != 0) c = cols - 1 - c;
+        if ((s & 4) != 0) {
+            int t = r;
+            r = c;
+            c = t;
+        }
+        return r * cols + c;
+    }
+}
@@ -0,0 +1,25 @@
+package engine;
+
+/**
+ * Receives board changes from a {@link BoardEngine}.
+ * Indices are flat (row * cols + col); renderers map them back to their cells.
+ */
+public interface BoardListener {
+
+    /** Mines, numbers and special cells are in place. */
+    void onBoardGenerated(BoardEngine engine);
+
+    /**
+     * Everything one move changed (click, cascade, flag, activation, bonus or end-of-game
+     * reveal), sent once after the move. Renderers update and repaint just these cells.
+     */
+    default void onCellsChanged(BoardEngine engine, BoardChange change) {}
+
+    /** The cells were opened by one move (click, cascade, bonus or end-of-game reveal). */
+    default void onCellsRevealed(BoardEngine engine, int[] indices) {}
+
+    default void onFlagChanged(BoardEngine engine, int index, boolean flagged) {}
+
+    /** A question / surprise cell was activated. */
+    default void onCellUsed(BoardEngine engine, int index) {}
+}
@@ -0,0 +1,82 @@
+package engine;
+
+/**
+ * Size and contents of one board.
+ * The per-difficulty counts used to be repeated in every board panel.
+ */
+public record BoardSpec(int rows, int cols, int mines, int questions, int surprises) {
+
+    /** Largest side of a custom board. */
+    public static final int MAX_SIDE = 10_000;
+
+    public BoardSpec {
+        if (rows <= 0 || cols <= 0)
+            throw new IllegalArgumentException("Board size must be greater than 0.");
+        if ((long) rows * cols > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Board is too large: " + rows + "x" + cols + ".");
+        if (mines < 0 || questions < 0 || surprises < 0)
+            throw new IllegalArgumentException("Cell counts must not be negative.");
+    }
+
+    /**
+     * A user-defined board. Leaves room for the 3x3 safe zone of the first click, and
+     * since question / surprise cells only go on empty cells (no adjacent mine), allows
+     * at most half the empty cells a board this dense is expected to have.
+     */
+    public static BoardSpec custom(int rows, int cols, int mines, int questions, int surprises) {
+        if (rows > MAX_SIDE || cols > MAX_SIDE)
+            throw new IllegalArgumentException("Custom boards are at most " + MAX_SIDE + "x" + MAX_SIDE + ".");
+        BoardSpec spec = new BoardSpec(rows, cols, mines, questions, surprises);
+        long free = (long) rows * cols - 9;
+        if (mines > free)
+            throw new IllegalArgumentException("At most " + Math.max(free, 0) + " mines fit on a " +
+                    rows + "x" + cols + " board.");
+        if ((long) questions + surprises > free - mines)
+            throw new IllegalArgumentException("Not enough free cells for " + (questions + surprises) +
+                    " question / surprise cells.");
+        long maxSpecials = expectedEmptyCells(rows, cols, mines) / 2;
+        if ((long) questions + surprises > maxSpecials)
+            throw new IllegalArgumentException("With " + mines + " mines a " + rows + "x" + cols +
+                    " board has room for at most " + maxSpecials + " question / surprise cells.");
+        return spec;
+    }
+
+    /**
+     * Expected number of cells that are neither mines nor next to one, when the mines are
+     * spread evenly outside the safe zone: a cell whose 3x3 block holds n cells is empty
+     * with probability (1 - density)^n. Border rows and columns have smaller blocks.
+     */
+    static long expectedEmptyCells(int rows, int cols, int mines) {
+        long free = (long) rows * cols - 9;
+        if (free <= 0) return 0;
+        double clear = 1.0 - Math.min(1.0, (double) mines / free);
+        double expected = 0;
+        for (int rowSpan = 1; rowSpan <= 3; rowSpan++) {
+            for (int colSpan = 1; colSpan <= 3; colSpan++) {
+                long cells = (long) linesWithSpan(rows, rowSpan) * linesWithSpan(cols, colSpan);
+                if (cells > 0) expected += cells * Math.pow(clear, rowSpan * colSpan);
+            }
+        }
+        return (long) expected;
+    }
+
+    // how many of n rows (or columns) see span rows of their 3x3 block
+    private static int linesWithSpan(int n, int span) {
+        return switch (span) {
+            case 1 -> n == 1 ? 1 : 0;
+            case 2 -> n >= 2 ? 2 : 0;
+            default -> Math.max(n - 2, 0);
+        };
+    }
+
+    public static BoardSpec forDifficulty(String difficulty, int rows, int cols) {
+        return switch (difficulty) {
+            case "Easy" -> new BoardSpec(rows, cols, 10, 6, 2);
+            case "Medium" -> new BoardSpec(rows, cols, 26, 7, 3);
+            case "Hard" -> new BoardSpec(rows, cols, 44, 11, 4);
+            default -> new BoardSpec(rows, cols, 26, 7, 3);
+        };
+    }
+
+    public int size() { return rows * cols; }
+}
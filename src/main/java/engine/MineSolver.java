@@ -0,0 +1,572 @@
+package engine;
+
+import model.CellType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Mine probabilities for every hidden cell, from what a player can see.
+ *
+ * Revealed numbers give linear constraints over their hidden neighbours (the frontier).
+ * The frontier is split into independent components; each component is enumerated
+ * exactly (backtracking, counting solutions per mine count) and, if that does not fit
+ * the time budget, sampled instead. Components are then combined with the cells that
+ * touch no number through the remaining global mine count.
+ *
+ * Incremental: exact component results are cached by their cells + constraints, so
+ * after a move only the components the move touched are enumerated again.
+ *
+ * Thread-safe (solve is synchronized) and UI-free, so it can run in a SwingWorker
+ * on a {@link Snapshot} taken on the EDT.
+ */
+public class MineSolver {
+
+    /** Two frames at 60 fps, minus room for painting the overlay. */
+    public static final long DEFAULT_BUDGET_NANOS = 25_000_000L;
+
+    public static final byte HIDDEN = -1;
+    public static final byte MINE = -2;
+    private static final byte DEDUCED_SAFE = -3;
+
+    private static final int SAMPLES_PER_COMPONENT = 300;
+    private static final int MAX_NODES_PER_SAMPLE = 5_000;
+    private static final double EPS = 1e-9;
+
+    /**
+     * What the player sees: {@link #HIDDEN} (flagged cells included, flags may be wrong),
+     * {@link #MINE} for a revealed mine, otherwise the revealed cell's number.
+     */
+    public record Snapshot(int rows, int cols, int totalMines, byte[] cells) {
+
+        public static Snapshot of(BoardEngine engine) {
+            int size = engine.getRows() * engine.getCols();
+            byte[] cells = new byte[size];
+            for (int idx = 0; idx < size; idx++) {
+                if (!engine.isRevealed(idx)) cells[idx] = HIDDEN;
+                else if (engine.getType(idx) == CellType.MINE) cells[idx] = MINE;
+                else cells[idx] = (byte) engine.getAdjacentMines(idx);
+            }
+            return new Snapshot(engine.getRows(), engine.getCols(), engine.getTotalMines(), cells);
+        }
+    }
+
+    /**
+     * @param probability mine probability per cell, NaN for revealed cells
+     * @param safeCells   hidden cells that cannot be mines (empty unless {@code exact})
+     * @param mineCells   hidden cells that must be mines (empty unless {@code exact})
+     * @param exact       every component was enumerated completely
+     * @param frontier    hidden cells that touch a revealed number
+     */
+    public record Result(double[] probability, int[] safeCells, int[] mineCells,
+                         boolean exact, boolean[] frontier) {
+
+        public double probabilityAt(int idx) { return probability[idx]; }
+        public boolean isFrontier(int idx) { return frontier[idx]; }
+    }
+
+    private Map<Key, Component> cache = new HashMap<>();
+    private final SplittableRandom random;
+
+    private int lastEnumerated = 0;
+    private int lastReused = 0;
+
+    public MineSolver() {
+        this(new SplittableRandom());
+    }
+
+    MineSolver(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /** Components enumerated / taken from the cache by the last {@link #solve} call. */
+    public synchronized int getLastEnumerated() { return lastEnumerated; }
+    public synchronized int getLastReused() { return lastReused; }
+
+    public synchronized Result solve(Snapshot s) {
+        return solve(s, DEFAULT_BUDGET_NANOS);
+    }
+
+    public synchronized Result solve(Snapshot s, long budgetNanos) {
+        // exact enumeration gets two thirds of the budget, sampling the rest
+        long start = System.nanoTime();
+        long enumDeadline = start + budgetNanos * 2 / 3;
+        long deadline = start + budgetNanos;
+        int size = s.rows() * s.cols();
+        byte[] cells = s.cells();
+
+        // cheap single-constraint deductions first; they split the frontier into small components
+        Snapshot work = deduce(s);
+        byte[] known = work.cells();
+
+        int knownMines = 0;
+        int hidden = 0;
+        for (byte v : known) {
+            if (v == MINE) knownMines++;
+            else if (v == HIDDEN) hidden++;
+        }
+        int minesLeft = Math.max(s.totalMines() - knownMines, 0);
+
+        List<Component> components = buildComponents(work);
+        Map<Key, Component> nextCache = new HashMap<>();
+        lastEnumerated = 0;
+        lastReused = 0;
+
+        boolean exact = true;
+        List<Component> solved = new ArrayList<>();
+        boolean[] frontier = new boolean[size];
+        int frontierCount = 0;
+
+        for (Component c : components) {
+            for (int v : c.vars) frontier[v] = true;
+            frontierCount += c.vars.length;
+
+            Component cached = cache.get(c.key);
+            if (cached != null) {
+                lastReused++;
+                nextCache.put(c.key, cached);
+                solved.add(cached);
+                continue;
+            }
+
+            lastEnumerated++;
+            if (enumerate(c, enumDeadline)) {
+                nextCache.put(c.key, c);
+            } else {
+                exact = false;
+                sample(c, deadline);
+            }
+            if (c.total() > 0) solved.add(c);
+        }
+        cache = nextCache;
+
+        double[] prob = new double[size];
+        Arrays.fill(prob, Double.NaN);
+        int unconstrained = hidden - frontierCount;
+
+        // a component without a single layout (sampling ran out of time) holds mines nobody
+        // counted; splitting minesLeft over the others would skew them, so use density instead
+        boolean dropped = solved.size() < components.size();
+        if (dropped || !combine(solved, unconstrained, minesLeft, prob, frontier, known)) {
+            // no consistent layout found in time: plain density for every hidden cell
+            exact = false;
+            double density = hidden == 0 ? 0 : (double) minesLeft / hidden;
+            for (int idx = 0; idx < size; idx++) if (known[idx] == HIDDEN) prob[idx] = density;
+        }
+        for (int idx = 0; idx < size; idx++) {
+            if (cells[idx] != HIDDEN) continue;
+            if (known[idx] == MINE) prob[idx] = 1;
+            else if (known[idx] == DEDUCED_SAFE) prob[idx] = 0;
+            if (known[idx] != HIDDEN) frontier[idx] = true;
+        }
+
+        int[] safe = new int[size];
+        int[] mines = new int[size];
+        int ns = 0, nm = 0;
+        if (exact) {
+            for (int idx = 0; idx < size; idx++) {
+                if (cells[idx] != HIDDEN) continue;
+                if (prob[idx] <= EPS) safe[ns++] = idx;
+                else if (prob[idx] >= 1 - EPS) mines[nm++] = idx;
+            }
+        }
+        return new Result(prob, Arrays.copyOf(safe, ns), Arrays.copyOf(mines, nm), exact, frontier);
+    }
+
+    // =========================
+    // FRONTIER / COMPONENTS
+    // =========================
+
+    /**
+     * Repeats "number already satisfied -> rest safe" and "hidden == missing -> all mines"
+     * until nothing changes. Deduced cells are written into a copy of the snapshot.
+     */
+    private static Snapshot deduce(Snapshot s) {
+        byte[] work = s.cells().clone();
+        Snapshot w = new Snapshot(s.rows(), s.cols(), s.totalMines(), work);
+        int[] nbr = new int[8];
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int idx = 0; idx < work.length; idx++) {
+                if (work[idx] < 0) continue;
+                int n = hiddenNeighbours(w, idx, nbr);
+                if (n == 0) continue;
+
+                int need = work[idx] - countMineNeighbours(w, idx);
+                byte fill;
+                if (need == 0) fill = DEDUCED_SAFE;
+                else if (need == n) fill = MINE;
+                else continue;
+
+                for (int i = 0; i < n; i++) work[nbr[i]] = fill;
+                changed = true;
+            }
+        }
+        return w;
+    }
+
+    private List<Component> buildComponents(Snapshot s) {
+        int rows = s.rows(), cols = s.cols();
+        byte[] cells = s.cells();
+        int size = rows * cols;
+
+        int[] parent = new int[size];
+        for (int i = 0; i < size; i++) parent[i] = i;
+
+        List<Integer> constraintCells = new ArrayList<>();
+        int[] nbr = new int[8];
+
+        for (int idx = 0; idx < size; idx++) {
+            if (cells[idx] < 0) continue;
+            int n = hiddenNeighbours(s, idx, nbr);
+            if (n == 0) continue;
+            constraintCells.add(idx);
+            for (int i = 1; i < n; i++) union(parent, nbr[0], nbr[i]);
+        }
+
+        Map<Integer, List<Integer>> byRoot = new HashMap<>();
+        for (int idx : constraintCells) {
+            hiddenNeighbours(s, idx, nbr);
+            byRoot.computeIfAbsent(find(parent, nbr[0]), k -> new ArrayList<>()).add(idx);
+        }
+
+        List<Component> out = new ArrayList<>();
+        for (List<Integer> group : byRoot.values()) out.add(new Component(s, group));
+        return out;
+    }
+
+    private static int hiddenNeighbours(Snapshot s, int idx, int[] out) {
+        int rows = s.rows(), cols = s.cols();
+        int r = idx / cols, c = idx % cols;
+        int n = 0;
+        for (int nr = r - 1; nr <= r + 1; nr++) {
+            if (nr < 0 || nr >= rows) continue;
+            for (int nc = c - 1; nc <= c + 1; nc++) {
+                if (nc < 0 || nc >= cols || (nr == r && nc == c)) continue;
+                if (s.cells()[nr * cols + nc] == HIDDEN) out[n++] = nr * cols + nc;
+            }
+        }
+        return n;
+    }
+
+    private static int countMineNeighbours(Snapshot s, int idx) {
+        int rows = s.rows(), cols = s.cols();
+        int r = idx / cols, c = idx % cols;
+        int n = 0;
+        for (int nr = r - 1; nr <= r + 1; nr++) {
+            if (nr < 0 || nr >= rows) continue;
+            for (int nc = c - 1; nc <= c + 1; nc++) {
+                if (nc < 0 || nc >= cols || (nr == r && nc == c)) continue;
+                if (s.cells()[nr * cols + nc] == MINE) n++;
+            }
+        }
+        return n;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra != rb) parent[ra] = rb;
+    }
+
+    // =========================
+    // ENUMERATION / SAMPLING
+    // =========================
+
+    /** Exact backtracking. @return false if the deadline hit first (results are then discarded) */
+    private boolean enumerate(Component c, long deadline) {
+        c.reset();
+        int[] assign = new int[c.vars.length];
+        int[] need = c.values.clone();
+        int[] open = c.openCounts();
+        long[] nodes = {0};
+        return backtrack(c, 0, 0, assign, need, open, deadline, nodes, null);
+    }
+
+    /** Random restarts of a randomized backtrack; each first solution found counts once. */
+    private void sample(Component c, long deadline) {
+        c.reset();
+        int[] assign = new int[c.vars.length];
+        for (int i = 0; i < SAMPLES_PER_COMPONENT && System.nanoTime() < deadline; i++) {
+            long[] nodes = {0};
+            backtrack(c, 0, 0, assign, c.values.clone(), c.openCounts(), Long.MAX_VALUE, nodes, random);
+        }
+    }
+
+    // exhaustive when rnd == null; otherwise stops after the first solution (returns false)
+    private boolean backtrack(Component c, int pos, int mines, int[] assign, int[] need, int[] open,
+                              long deadline, long[] nodes, SplittableRandom rnd) {
+        if (rnd == null) {
+            if ((++nodes[0] & 1023) == 0 && System.nanoTime() > deadline) return false;
+        } else if (++nodes[0] > MAX_NODES_PER_SAMPLE) {
+            return false;
+        }
+
+        if (pos == c.vars.length) {
+            c.record(assign, mines);
+            return rnd == null;
+        }
+
+        int first = rnd == null ? 0 : rnd.nextInt(2);
+        for (int t = 0; t < 2; t++) {
+            int v = first ^ t;
+            if (!apply(c, pos, v, need, open)) {
+                undo(c, pos, v, need, open);
+                continue;
+            }
+            assign[pos] = v;
+            boolean keepGoing = backtrack(c, pos + 1, mines + v, assign, need, open, deadline, nodes, rnd);
+            undo(c, pos, v, need, open);
+            if (!keepGoing) return false;
+        }
+        return true;
+    }
+
+    // assigns v to var pos; false if some constraint of it can no longer be met
+    private static boolean apply(Component c, int pos, int v, int[] need, int[] open) {
+        boolean ok = true;
+        for (int k : c.varConstraints[pos]) {
+            need[k] -= v;
+            open[k]--;
+            if (need[k] < 0 || need[k] > open[k]) ok = false;
+        }
+        return ok;
+    }
+
+    private static void undo(Component c, int pos, int v, int[] need, int[] open) {
+        for (int k : c.varConstraints[pos]) {
+            need[k] += v;
+            open[k]++;
+        }
+    }
+
+    // =========================
+    // GLOBAL COMBINATION
+    // =========================
+
+    /**
+     * P(cell) = sum over layouts of (component weights) * C(unconstrained, minesLeft - frontier mines),
+     * normalised. Weights are relative, so every array is rescaled freely to stay in double range.
+     */
+    private static boolean combine(List<Component> comps, int unconstrained, int minesLeft,
+                                   double[] prob, boolean[] frontier, byte[] cells) {
+        int n = comps.size();
+        double[][] pre = new double[n + 1][];
+        double[][] suf = new double[n + 1][];
+        pre[0] = new double[]{1};
+        suf[n] = new double[]{1};
+        for (int i = 0; i < n; i++) pre[i + 1] = convolve(pre[i], comps.get(i).weights());
+        for (int i = n - 1; i >= 0; i--) suf[i] = convolve(suf[i + 1], comps.get(i).weights());
+
+        double[] logFact = new double[unconstrained + 2];
+        for (int i = 1; i < logFact.length; i++) logFact[i] = logFact[i - 1] + Math.log(i);
+
+        int maxFrontier = pre[n].length - 1;
+        double ref = Double.NEGATIVE_INFINITY;
+        for (int sum = 0; sum <= maxFrontier; sum++) {
+            int x = minesLeft - sum;
+            if (x >= 0 && x <= unconstrained) ref = Math.max(ref, logChoose(logFact, unconstrained, x));
+        }
+        if (ref == Double.NEGATIVE_INFINITY) return false;
+
+        double[] binom = new double[maxFrontier + 1];
+        for (int sum = 0; sum <= maxFrontier; sum++) {
+            int x = minesLeft - sum;
+            binom[sum] = (x >= 0 && x <= unconstrained) ? Math.exp(logChoose(logFact, unconstrained, x) - ref) : 0;
+        }
+
+        // cells that touch no number
+        double total = 0, expected = 0;
+        for (int sum = 0; sum <= maxFrontier; sum++) {
+            double w = pre[n][sum] * binom[sum];
+            total += w;
+            expected += w * (minesLeft - sum);
+        }
+        if (total <= 0) return false;
+        if (unconstrained > 0) {
+            double p = expected / total / unconstrained;
+            for (int idx = 0; idx < prob.length; idx++)
+                if (cells[idx] == HIDDEN && !frontier[idx]) prob[idx] = p;
+        }
+
+        // frontier cells, one component against the convolution of all the others
+        for (int i = 0; i < n; i++) {
+            Component c = comps.get(i);
+            double[] others = convolve(pre[i], suf[i + 1]);
+            double[] weights = c.weights();
+            double[] perK = new double[weights.length];
+            double compTotal = 0;
+
+            for (int k = 0; k < weights.length; k++) {
+                if (weights[k] == 0) continue;
+                double f = 0;
+                for (int o = 0; o < others.length && k + o < binom.length; o++) f += others[o] * binom[k + o];
+                perK[k] = f / c.scale;
+                compTotal += weights[k] * f;
+            }
+            if (compTotal <= 0) return false;
+
+            for (int v = 0; v < c.vars.length; v++) {
+                double num = 0;
+                for (int k = 0; k < perK.length; k++) num += c.cellCounts[k][v] * perK[k];
+                prob[c.vars[v]] = Math.min(1, Math.max(0, num / compTotal));
+            }
+        }
+        return true;
+    }
+
+    private static double logChoose(double[] logFact, int n, int k) {
+        return logFact[n] - logFact[k] - logFact[n - k];
+    }
+
+    private static double[] convolve(double[] a, double[] b) {
+        double[] out = new double[a.length + b.length - 1];
+        double max = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) continue;
+            for (int j = 0; j < b.length; j++) out[i + j] += a[i] * b[j];
+        }
+        for (double v : out) max = Math.max(max, v);
+        if (max > 0) for (int i = 0; i < out.length; i++) out[i] /= max;
+        return out;
+    }
+
+    // =========================
+    // COMPONENT
+    // =========================
+    private static final class Component {
+        final int[] vars;               // hidden cells, in constraint (BFS) order
+        final int[] values;             // remaining mines per constraint
+        final int[][] varConstraints;   // constraints of each var
+        final int[] constraintSizes;
+        final Key key;
+
+        double[] solutions;             // per mine count
+        double[][] cellCounts;          // [mine count][var]
+        double scale = 1;               // solutions[] were divided by this (cellCounts too)
+
+        Component(Snapshot s, List<Integer> constraintCells) {
+            int[] nbr = new int[8];
+            Map<Integer, Integer> varPos = new HashMap<>();
+            List<int[]> constraintVars = new ArrayList<>();
+            int[] cons = new int[constraintCells.size()];
+            values = new int[constraintCells.size()];
+
+            // BFS over constraints so neighbouring vars get close positions (early pruning)
+            constraintCells.sort(null);
+            boolean[] seen = new boolean[constraintCells.size()];
+            Map<Integer, List<Integer>> constraintsOfCell = new HashMap<>();
+            for (int k = 0; k < constraintCells.size(); k++) {
+                int n = hiddenNeighbours(s, constraintCells.get(k), nbr);
+                for (int i = 0; i < n; i++) constraintsOfCell.computeIfAbsent(nbr[i], x -> new ArrayList<>()).add(k);
+            }
+
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            int order = 0;
+            List<Integer> vars = new ArrayList<>();
+            for (int start = 0; start < seen.length; start++) {
+                if (seen[start]) continue;
+                seen[start] = true;
+                queue.add(start);
+                while (!queue.isEmpty()) {
+                    int k = queue.poll();
+                    int cell = constraintCells.get(k);
+                    cons[order] = cell;
+                    values[order] = s.cells()[cell] - countMineNeighbours(s, cell);
+
+                    int n = hiddenNeighbours(s, cell, nbr);
+                    int[] cv = new int[n];
+                    for (int i = 0; i < n; i++) {
+                        Integer p = varPos.get(nbr[i]);
+                        if (p == null) {
+                            p = vars.size();
+                            varPos.put(nbr[i], p);
+                            vars.add(nbr[i]);
+                        }
+                        cv[i] = p;
+                        for (int other : constraintsOfCell.get(nbr[i])) {
+                            if (!seen[other]) {
+                                seen[other] = true;
+                                queue.add(other);
+                            }
+                        }
+                    }
+                    constraintVars.add(cv);
+                    order++;
+                }
+            }
+
+            this.vars = vars.stream().mapToInt(Integer::intValue).toArray();
+            this.constraintSizes = new int[cons.length];
+            List<List<Integer>> perVar = new ArrayList<>();
+            for (int i = 0; i < this.vars.length; i++) perVar.add(new ArrayList<>());
+            for (int k = 0; k < constraintVars.size(); k++) {
+                constraintSizes[k] = constraintVars.get(k).length;
+                for (int v : constraintVars.get(k)) perVar.get(v).add(k);
+            }
+            this.varConstraints = new int[this.vars.length][];
+            for (int i = 0; i < this.vars.length; i++)
+                varConstraints[i] = perVar.get(i).stream().mapToInt(Integer::intValue).toArray();
+
+            int[] sortedVars = this.vars.clone();
+            Arrays.sort(sortedVars);
+            int[] keyData = new int[1 + sortedVars.length + 2 * cons.length];
+            keyData[0] = sortedVars.length;
+            System.arraycopy(sortedVars, 0, keyData, 1, sortedVars.length);
+            for (int k = 0; k < cons.length; k++) {
+                keyData[1 + sortedVars.length + 2 * k] = cons[k];
+                keyData[2 + sortedVars.length + 2 * k] = values[k];
+            }
+            this.key = new Key(keyData);
+        }
+
+        int[] openCounts() { return constraintSizes.clone(); }
+
+        void reset() {
+            solutions = new double[vars.length + 1];
+            cellCounts = new double[vars.length + 1][vars.length];
+            scale = 1;
+        }
+
+        void record(int[] assign, int mines) {
+            solutions[mines] += 1;
+            double[] row = cellCounts[mines];
+            for (int v = 0; v < assign.length; v++) if (assign[v] != 0) row[v] += 1;
+        }
+
+        double total() {
+            double t = 0;
+            for (double w : solutions) t += w;
+            return t;
+        }
+
+        // relative weights per mine count; scale is remembered so cellCounts stay comparable
+        double[] weights() {
+            double max = 0;
+            for (double w : solutions) max = Math.max(max, w);
+            scale = max > 0 ? max : 1;
+            double[] out = new double[solutions.length];
+            for (int k = 0; k < out.length; k++) out[k] = solutions[k] / scale;
+            return out;
+        }
+    }
+
+    private record Key(int[] data) {
+        @Override public boolean equals(Object o) { return o instanceof Key k && Arrays.equals(data, k.data); }
+        @Override public int hashCode() { return Arrays.hashCode(data); }
+    }
+}
@@ -0,0 +1,55 @@
+package engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates boards that can be cleared by logic alone from the first click.
+ *
+ * A candidate is a normal seeded board; it is accepted if repeatedly opening every
+ * cell the {@link MineSolver} proves safe ends with no hidden safe cell left.
+ */
+public final class NoGuessGenerator {
+
+    // checks run off the EDT, so the solver can take its time and stay exact
+    private static final long CHECK_BUDGET_NANOS = 200_000_000L;
+
+    private NoGuessGenerator() {}
+
+    /** @return the layout if the board for (seed, first click) needs no guess, otherwise null */
+    public static BoardLayout candidate(BoardSpec spec, int firstRow, int firstCol, long seed) {
+        BoardEngine engine = new BoardEngine(spec);
+        engine.generate(firstRow, firstCol, seed);
+        BoardLayout layout = engine.toLayout(new SplittableRandom(seed).nextLong());
+
+        return (layout.opening().length > 0 && solvesWithoutGuessing(engine, firstRow, firstCol)) ? layout : null;
+    }
+
+    /** Tries fresh seeds until one passes or {@code budgetNanos} is spent. @return null on timeout */
+    public static BoardLayout generate(BoardSpec spec, int firstRow, int firstCol,
+                                       SplittableRandom seeds, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        do {
+            BoardLayout layout = candidate(spec, firstRow, firstCol, seeds.nextLong());
+            if (layout != null) return layout;
+        } while (System.nanoTime() < deadline);
+        return null;
+    }
+
+    /** Plays the board with proven-safe moves only (the engine is revealed in the process). */
+    public static boolean solvesWithoutGuessing(BoardEngine engine, int firstRow, int firstCol) {
+        if (engine.reveal(firstRow, firstCol) == null) return false;
+
+        MineSolver solver = new MineSolver();
+        int cols = engine.getCols();
+
+        while (engine.getHiddenSafeCells() > 0) {
+            MineSolver.Result result = solver.solve(MineSolver.Snapshot.of(engine), CHECK_BUDGET_NANOS);
+            if (!result.exact() || result.safeCells().length == 0) return false;
+
+            for (int idx : result.safeCells()) {
+                if (!engine.isRevealed(idx)) engine.reveal(idx / cols, idx % cols);
+            }
+        }
+        return true;
+    }
+}
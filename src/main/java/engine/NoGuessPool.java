@@ -0,0 +1,139 @@
+package engine;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ready no-guess boards, generated in the background while the players are still on a
+ * setup screen ({@link #prewarm}). The first click takes one ({@link #take}).
+ *
+ * Boards are generated around random first clicks. A pooled board fits a click if the click
+ * lies in its opening region under one of the board's mirror / rotation symmetries; the
+ * board is then handed out through that symmetry. On a miss a board is generated for the
+ * exact click within a short budget, and if that fails too the caller falls back to a
+ * regular board.
+ */
+public final class NoGuessPool {
+
+    public static final int CAPACITY = 4;
+
+    // a miss is paid on the click, so keep it well under a tenth of a second
+    private static final long MISS_BUDGET_NANOS = 80_000_000L;
+    private static final long FILL_BUDGET_NANOS = 5_000_000_000L;
+
+    /** Pool counters since start-up. */
+    public record Stats(long hits, long misses, long missesBuilt, long accepted, long rejected) {
+        public double hitRate() {
+            long takes = hits + misses;
+            return takes == 0 ? 0 : (double) hits / takes;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + " (built on click: " + missesBuilt + ")" +
+                    ", hitRate=" + Math.round(hitRate() * 100) + "%" +
+                    ", accepted=" + accepted + ", rejected=" + rejected;
+        }
+    }
+
+    private static final NoGuessPool INSTANCE = new NoGuessPool();
+
+    public static NoGuessPool getInstance() {
+        return INSTANCE;
+    }
+
+    private static final class Slot {
+        final ArrayBlockingQueue<BoardLayout> ready = new ArrayBlockingQueue<>(CAPACITY);
+        final AtomicInteger inFlight = new AtomicInteger();
+    }
+
+    private final Map<BoardSpec, Slot> slots = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong missesBuilt = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private NoGuessPool() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "no-guess-generator");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    /** Starts filling the queue for this board size / difficulty (no-op if it is full or filling). */
+    public void prewarm(BoardSpec spec) {
+        Slot slot = slots.computeIfAbsent(spec, k -> new Slot());
+        int missing = CAPACITY - slot.ready.size() - slot.inFlight.get();
+        for (int i = 0; i < missing; i++) {
+            slot.inFlight.incrementAndGet();
+            workers.execute(() -> fillOne(spec, slot));
+        }
+    }
+
+    private void fillOne(BoardSpec spec, Slot slot) {
+        try {
+            SplittableRandom seeds = new SplittableRandom();
+            long deadline = System.nanoTime() + FILL_BUDGET_NANOS;
+            while (System.nanoTime() < deadline) {
+                int r = seeds.nextInt(spec.rows()), c = seeds.nextInt(spec.cols());
+                BoardLayout layout = NoGuessGenerator.candidate(spec, r, c, seeds.nextLong());
+                if (layout == null) {
+                    rejected.incrementAndGet();
+                    continue;
+                }
+                accepted.incrementAndGet();
+                slot.ready.offer(layout);
+                return;
+            }
+        } finally {
+            slot.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * A no-guess board whose first click is (row, col), or null if none could be made in time.
+     * Refills the queue afterwards.
+     */
+    public BoardLayout take(BoardSpec spec, int row, int col) {
+        Slot slot = slots.computeIfAbsent(spec, k -> new Slot());
+        int click = row * spec.cols() + col;
+
+        try {
+            for (BoardLayout layout : slot.ready) {
+                int s = layout.symmetryOpeningAt(click);
+                if (s >= 0 && slot.ready.remove(layout)) {
+                    hits.incrementAndGet();
+                    return layout.transform(s, click);
+                }
+            }
+
+            misses.incrementAndGet();
+            BoardLayout built = NoGuessGenerator.generate(spec, row, col, new SplittableRandom(), MISS_BUDGET_NANOS);
+            if (built != null) missesBuilt.incrementAndGet();
+            return built;
+        } finally {
+            prewarm(spec);
+        }
+    }
+
+    public int readyCount(BoardSpec spec) {
+        Slot slot = slots.get(spec);
+        return slot == null ? 0 : slot.ready.size();
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), missesBuilt.get(), accepted.get(), rejected.get());
+    }
+}
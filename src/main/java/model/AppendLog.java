@@ -0,0 +1,93 @@
+package model;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A text file with one record per line that only grows: saving a record appends its line,
+ * so the cost of a save does not depend on how many records the file already holds. The
+ * file keeps its CSV layout (optional header line first), so every reader of it still works.
+ *
+ * Whole-file rewrites are only needed when records are deleted or the line format changes;
+ * they go through a temp file that replaces the log in one move. The async variants queue
+ * on the {@link PersistenceService} writer, so appends and rewrites land in request order.
+ */
+public final class AppendLog {
+
+    private final Path path;
+    private final String header;                // null: the file has no header line
+
+    public AppendLog(String path, String header) {
+        this.path = Path.of(path);
+        this.header = header;
+    }
+
+    /**
+     * Appends one record. Writes the header first into an empty file.
+     * @return the byte offset the record's line starts at
+     */
+    public synchronized long append(String line) throws IOException {
+        long at = Files.exists(path) ? Files.size(path) : 0;
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(path.toFile(), true), StandardCharsets.UTF_8))) {
+            if (at == 0 && header != null) {
+                w.write(header);
+                w.write('\n');
+                at += header.getBytes(StandardCharsets.UTF_8).length + 1;
+            } else if (at > 0 && !endsWithNewline()) {
+                w.write('\n');                       // a write cut short by a crash: keep it on its own line
+                at++;
+            }
+            w.write(line);
+            w.write('\n');
+        }
+        return at;
+    }
+
+    /** Queues {@link #append} on the writer thread. */
+    public CompletableFuture<Void> appendAsync(String line) {
+        return PersistenceService.getInstance().submit(() -> append(line));
+    }
+
+    /**
+     * Queues a rewrite of the whole file with {@code lines} (a copy is taken now). It runs
+     * in request order with the appends, so lines appended after this call are kept.
+     */
+    public CompletableFuture<Void> rewriteAsync(List<String> lines) {
+        List<String> copy = new ArrayList<>(lines);
+        return PersistenceService.getInstance().submit(() -> rewrite(copy));
+    }
+
+    /** Replaces the file's records with {@code lines}. */
+    public synchronized void rewrite(List<String> lines) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            if (header != null) {
+                w.write(header);
+                w.write('\n');
+            }
+            for (String line : lines) {
+                w.write(line);
+                w.write('\n');
+            }
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private boolean endsWithNewline() throws IOException {
+        try (RandomAccessFile f = new RandomAccessFile(path.toFile(), "r")) {
+            f.seek(f.length() - 1);
+            return f.read() == '\n';
+        }
+    }
+}
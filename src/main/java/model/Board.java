@@ -1,105 +1,129 @@
 package model;
 
-import java.util.Random;
-
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Object view over a {@link PackedBoard}.
+ * Cells returned from here are lightweight views created on demand, their
+ * revealed / flagged / used state is read from and written to the packed bits.
+ */
 public class Board {
-    private final int size;
-    private final Cell[][] grid;
+    private final int rows;
+    private final int cols;
+    private final PackedBoard packed;
+
+    // question difficulty is the only per-cell value that does not fit the bitsets
+    private final Map<Integer, Integer> questionDifficulty = new HashMap<>();
 
     public Board(int size) {
-        if (size <= 0)
+        this(size, size);
+    }
+
+    public Board(int rows, int cols) {
+        if (rows <= 0 || cols <= 0)
             throw new IllegalArgumentException("Board size must be greater than 0.");
-        this.size = size;
-        this.grid = new Cell[size][size];
+        this.rows = rows;
+        this.cols = cols;
+        this.packed = new PackedBoard(rows, cols);
     }
 
+    /** Row count (the side length of a square board). */
     public int getSize() {
-        return size;
+        return rows;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    public PackedBoard getPackedBoard() {
+        return packed;
     }
 
+    /** Materializes a full grid of views (legacy API, allocates rows*cols objects). */
     public Cell[][] getCells() {
+        Cell[][] grid = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                grid[r][c] = viewOf(r, c);
         return grid;
     }
 
     public Cell getCell(int r, int c) {
         if (!isInBounds(r, c)) return null;
-        return grid[r][c];
+        return viewOf(r, c);
     }
 
     public void setCell(int r, int c, Cell cell) {
         if (!isInBounds(r, c))
             throw new IndexOutOfBoundsException("Cell position out of bounds.");
-        grid[r][c] = cell;
+
+        // the new cell's state replaces the old one's, cleared bits included
+        boolean revealed = cell.isRevealed(), flagged = cell.isFlagged(), used = cell.isUsed();
+        int idx = packed.index(r, c);
+        int adjacent = (cell instanceof NumberCell n) ? n.getAdjacentMines() : 0;
+        packed.setType(idx, cell.getType(), adjacent);
+
+        if (cell instanceof QuestionCell q) questionDifficulty.put(idx, q.getDifficulty());
+        else questionDifficulty.remove(idx);
+
+        packed.setRevealed(idx, revealed);
+        packed.setFlagged(idx, flagged);
+        packed.setUsed(idx, used);
+    }
+
+    private Cell viewOf(int r, int c) {
+        int idx = packed.index(r, c);
+        Cell cell = switch (packed.getType(idx)) {
+            case MINE -> new MineCell(r, c);
+            case QUESTION -> new QuestionCell(r, c, questionDifficulty.getOrDefault(idx, 0));
+            case SURPRISE -> new SurpriseCell(r, c);
+            case NUMBER -> new NumberCell(r, c, packed.getAdjacentMines(idx));
+            case EMPTY -> new EmptyCell(r, c);
+        };
+        cell.bind(packed);
+        return cell;
     }
 
     public boolean isInBounds(int r, int c) {
-        return r >= 0 && c >= 0 && r < size && c < size;
+        return packed.isInBounds(r, c);
     }
 
     public void resetBoard() {
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                grid[r][c] = null;
-            }
-        }
+        packed.clear();
+        questionDifficulty.clear();
     }
 
     public void generateBoard(int mines, int questions, int surprises) {
-        Random rand = new Random();
-
-        for (int r = 0; r < size; r++)
-            for (int c = 0; c < size; c++)
-                grid[r][c] = new EmptyCell(r, c);
-
-        for (int i = 0; i < mines; ) {
-            int r = rand.nextInt(size), c = rand.nextInt(size);
-            if (grid[r][c].getType() != CellType.MINE) {
-                grid[r][c] = new MineCell(r, c);
-                i++;
-            }
-        }
-
-        for (int i = 0; i < questions; ) {
-            int r = rand.nextInt(size), c = rand.nextInt(size);
-            if (grid[r][c].getType() == CellType.EMPTY) {
-                grid[r][c] = new QuestionCell(r, c,1);
-                i++;
-            }
-        }
+        generateBoard(mines, questions, surprises, new SplittableRandom().nextLong());
+    }
 
-        for (int i = 0; i < surprises; ) {
-            int r = rand.nextInt(size), c = rand.nextInt(size);
-            if (grid[r][c].getType() == CellType.EMPTY) {
-                grid[r][c] = new SurpriseCell(r, c);
-                i++;
+    /** Same seed, same layout. */
+    public void generateBoard(int mines, int questions, int surprises, long seed) {
+        SplittableRandom gen = new SplittableRandom(seed);
+        SplittableRandom mineStream = gen.split();
+        SplittableRandom specialStream = gen.split();
+        resetBoard();
+
+        packed.placeMines(MineSampler.sample(packed.size(), mines, MineSampler.NO_EXCLUSION, mineStream));
+
+        // specials are placed before numbers are assigned, so any non-mine cell qualifies
+        int[] specials = MineSampler.pickCells(packed.size(), questions + surprises,
+                idx -> !packed.isMine(idx), specialStream);
+        for (int i = 0; i < specials.length; i++) {
+            if (i < questions) {
+                packed.setQuestion(specials[i], true);
+                questionDifficulty.put(specials[i], 1);
+            } else {
+                packed.setSurprise(specials[i], true);
             }
         }
 
-        for (int r = 0; r < size; r++)
-            for (int c = 0; c < size; c++)
-                if (grid[r][c].getType() == CellType.EMPTY) {
-                    int adjacentMines = countAdjacentMines(r, c);
-                    if (adjacentMines > 0)
-                        grid[r][c] = new NumberCell(r, c, adjacentMines);
-                }
-    }
-
-    private int countAdjacentMines(int r, int c) {
-        int count = 0;
-        for (int dr = -1; dr <= 1; dr++)
-            for (int dc = -1; dc <= 1; dc++) {
-                int nr = r + dr, nc = c + dc;
-                if (nr == r && nc == c) continue;
-                if (isInBounds(nr, nc) && grid[nr][nc].getType() == CellType.MINE) count++;
-            }
-        return count;
+        packed.computeAdjacency();
     }
 
     public boolean allMinesRevealed() {
-        for (int r = 0; r < size; r++)
-            for (int c = 0; c < size; c++)
-                if (grid[r][c].getType() == CellType.MINE && !grid[r][c].isRevealed())
-                    return false;
-        return true;
+        return packed.allMinesRevealed();
     }
 }
@@ -7,21 +7,39 @@ public abstract class Cell {
     protected boolean flagged = false;
     protected boolean used = false;
 
+    // When bound, state reads/writes go straight to the packed board (Board view).
+    private PackedBoard store;
+    private int index = -1;
+
     public Cell(int row, int col) {
         this.row = row;
         this.col = col;
     }
 
+    void bind(PackedBoard store) {
+        this.store = store;
+        this.index = store.index(row, col);
+    }
+
     public abstract CellType getType();
 
-    public boolean isRevealed() { return revealed; }
-    public void reveal() { this.revealed = true; }
+    public boolean isRevealed() { return store != null ? store.isRevealed(index) : revealed; }
+    public void reveal() {
+        if (store != null) store.reveal(index);
+        else this.revealed = true;
+    }
 
-    public boolean isFlagged() { return flagged; }
-    public void toggleFlag() { this.flagged = !flagged; }
+    public boolean isFlagged() { return store != null ? store.isFlagged(index) : flagged; }
+    public void toggleFlag() {
+        if (store != null) store.toggleFlag(index);
+        else this.flagged = !flagged;
+    }
 
-    public boolean isUsed() { return used; }
-    public void markUsed() { this.used = true; }
+    public boolean isUsed() { return store != null ? store.isUsed(index) : used; }
+    public void markUsed() {
+        if (store != null) store.markUsed(index);
+        else this.used = true;
+    }
 
     public int getRow() { return row; }
     public int getCol() { return col; }
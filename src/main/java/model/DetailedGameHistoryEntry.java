@@ -17,6 +17,11 @@ public class DetailedGameHistoryEntry {
     private int player1Score = 0;
     private int player2Score = 0;
 
+    // NEW: board reproduction (seed + first click per board is enough to regenerate the layout)
+    private long seed = 0L;
+    private int player1FirstClick = -1;   // flat index row * cols + col, -1 = unknown
+    private int player2FirstClick = -1;
+
     // ---------------- EXISTING FIELDS ----------------
     private String player1;
     private String player2;
@@ -68,6 +73,7 @@ public class DetailedGameHistoryEntry {
     // Base columns were 27 (index 0..26)
     // Later you added Mode+Winner (2 columns) => 29 (index 0..28)
     // Now we add EndReason + P1Score + P2Score (3 columns) => 32 (index 0..31)
+    // Then Seed + P1FirstClick + P2FirstClick (3 columns) => 35 (index 0..34)
 
     public String toCSV() {
         String safeWinner = (winner == null) ? "" : winner.replace(",", " ");
@@ -78,7 +84,8 @@ public class DetailedGameHistoryEntry {
                 "%s,%s,%s,%s,%d,%d,%b," +
                         "%d,%d,%d,%d,%d,%d,%d,%d,%d,%d," +
                         "%d,%d,%d,%d,%d,%d,%d,%d,%d,%d," +
-                        "%s,%s,%s,%d,%d",
+                        "%s,%s,%s,%d,%d," +
+                        "%d,%d,%d",
                 timestamp, player1, player2, difficulty, finalScore, durationSeconds, won,
                 player1QuestionsAnswered, player1QuestionsCorrect, player1SurprisesActivated,
                 player1GoodSurprises, player1BadSurprises, player1MinesFlagged,
@@ -90,7 +97,10 @@ public class DetailedGameHistoryEntry {
                 safeWinner,
                 safeReason,
                 player1Score,
-                player2Score
+                player2Score,
+                seed,
+                player1FirstClick,
+                player2FirstClick
         );
     }
 
@@ -100,7 +110,8 @@ public class DetailedGameHistoryEntry {
                 "P1_MinesFlagged,P1_CorrectFlags,P1_WrongFlags,P1_CellsRevealed,P1_MinesRevealed," +
                 "P2_Questions,P2_Correct,P2_Surprises,P2_GoodSurprises,P2_BadSurprises," +
                 "P2_MinesFlagged,P2_CorrectFlags,P2_WrongFlags,P2_CellsRevealed,P2_MinesRevealed," +
-                "Mode,Winner,EndReason,P1_Score,P2_Score";
+                "Mode,Winner,EndReason,P1_Score,P2_Score," +
+                "Seed,P1_FirstClick,P2_FirstClick";
     }
 
     public static DetailedGameHistoryEntry fromCSV(String csvLine) {
@@ -174,6 +185,13 @@ public class DetailedGameHistoryEntry {
                 entry.player2Score = 0;
             }
 
+            // 32..34: seed + first clicks (optional)
+            if (parts.length >= 35) {
+                entry.seed = safeLong(parts[32], 0L);
+                entry.player1FirstClick = safeInt(parts[33], -1);
+                entry.player2FirstClick = safeInt(parts[34], -1);
+            }
+
             // If endReason missing but we have won boolean -> derive something reasonable
             if (entry.endReason == null || entry.endReason.isBlank()) {
                 entry.endReason = entry.won ? "WIN" : "LOST";
@@ -190,6 +208,10 @@ public class DetailedGameHistoryEntry {
         try { return Integer.parseInt(s.trim()); } catch (Exception e) { return def; }
     }
 
+    private static long safeLong(String s, long def) {
+        try { return Long.parseLong(s.trim()); } catch (Exception e) { return def; }
+    }
+
     // Normalize "GIVE UP" -> "GIVE_UP", "LOSE" -> "LOST", etc.
     private static String normalizeEndReason(String s) {
         if (s == null) return "";
@@ -219,6 +241,15 @@ public class DetailedGameHistoryEntry {
     public int getPlayer2Score() { return player2Score; }
     public void setPlayer2Score(int player2Score) { this.player2Score = player2Score; }
 
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getPlayer1FirstClick() { return player1FirstClick; }
+    public void setPlayer1FirstClick(int index) { this.player1FirstClick = index; }
+
+    public int getPlayer2FirstClick() { return player2FirstClick; }
+    public void setPlayer2FirstClick(int index) { this.player2FirstClick = index; }
+
     public String getPlayer1() { return player1; }
     public void setPlayer1(String player1) { this.player1 = player1; }
 
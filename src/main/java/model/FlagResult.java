@@ -3,5 +3,6 @@ package model;
 public enum FlagResult {
         CORRECT_MINE,   
         INCORRECT,      
+        REMOVED,        // flag taken off again
         INVALID        
     }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package model;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Iterative cascade reveal shared by Game and every board panel.
+ * Breadth-first over flat cell indices (row * cols + col) with a visited bitset,
+ * so large empty regions cannot overflow the stack.
+ * The visited bits are chunked and allocated on touch, and the list of opened cells
+ * doubles as the queue, so a small cascade on a huge board costs what the cascade costs.
+ * The routine only collects cells; callers apply the new state and repaint once.
+ */
+public final class FloodReveal {
+
+    private static final int CHUNK_SHIFT = 12;
+
+    private FloodReveal() {}
+
+    /**
+     * @param start   index of the cell that was just opened (not included in the result)
+     * @param canOpen true if a neighbour may be opened by the cascade
+     *                (hidden, not flagged, not a mine)
+     * @param expands true if an opened cell keeps the cascade going (no adjacent mines)
+     * @return indices of the newly opened cells in visit order
+     */
+    public static int[] collect(int rows, int cols, int start, IntPredicate canOpen, IntPredicate expands) {
+        long[][] visited = new long[(rows * cols >>> CHUNK_SHIFT) + 1][];
+        visit(visited, start);
+
+        int[] opened = new int[64];
+        int count = 0;
+        int head = 0;
+        int cur = start;
+
+        while (true) {
+            int r = cur / cols;
+            int c = cur % cols;
+
+            for (int dr = -1; dr <= 1; dr++) {
+                int nr = r + dr;
+                if (nr < 0 || nr >= rows) continue;
+
+                for (int dc = -1; dc <= 1; dc++) {
+                    int nc = c + dc;
+                    if ((dr == 0 && dc == 0) || nc < 0 || nc >= cols) continue;
+
+                    int n = nr * cols + nc;
+                    if (!visit(visited, n)) continue;
+                    if (!canOpen.test(n)) continue;
+
+                    if (count == opened.length) opened = Arrays.copyOf(opened, count * 2);
+                    opened[count++] = n;
+                }
+            }
+
+            // next queued cell: opened cells that keep the cascade going, in visit order
+            while (head < count && !expands.test(opened[head])) head++;
+            if (head == count) break;
+            cur = opened[head++];
+        }
+
+        return Arrays.copyOf(opened, count);
+    }
+
+    /** @return false if the cell was visited already */
+    private static boolean visit(long[][] visited, int idx) {
+        long[] chunk = visited[idx >>> CHUNK_SHIFT];
+        if (chunk == null) chunk = visited[idx >>> CHUNK_SHIFT] = new long[1 << (CHUNK_SHIFT - 6)];
+        int w = (idx >>> 6) & ((1 << (CHUNK_SHIFT - 6)) - 1);
+        long bit = 1L << idx;
+        if ((chunk[w] & bit) != 0) return false;
+        chunk[w] |= bit;
+        return true;
+    }
+}
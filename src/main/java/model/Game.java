@@ -1,6 +1,6 @@
 package model;
 
-import java.util.*;
+import java.util.SplittableRandom;
 
 public class Game {
 
@@ -17,7 +17,13 @@ public class Game {
 
     private boolean gameOver;
 
+    private final long seed;
+
     public Game(int rows, int cols, int mines, int questions, int surprises, int lives) {
+        this(rows, cols, mines, questions, surprises, lives, new SplittableRandom().nextLong());
+    }
+
+    public Game(int rows, int cols, int mines, int questions, int surprises, int lives, long seed) {
         this.rows = rows;
         this.cols = cols;
         this.mines = mines;
@@ -25,8 +31,9 @@ public class Game {
         this.surprises = surprises;
         this.lives = lives;
         this.score = 0;
-        this.board = new Board(rows);
+        this.board = new Board(rows, cols);
         this.gameOver = false;
+        this.seed = seed;
 
         generateBoard();
     }
@@ -38,141 +45,79 @@ public class Game {
     public int getScore() { return score; }
     public int getLives() { return lives; }
     public boolean isGameOver() { return gameOver; }
+    public long getSeed() { return seed; }
 
     public void addScore(int pts) { score += pts; }
     public void addLife(int val) { lives += val; if (lives < 0) lives = 0; }
 
 
     private void generateBoard() {
-        placeMines();
+        SplittableRandom gen = new SplittableRandom(seed);
+        SplittableRandom mineStream = gen.split();
+        SplittableRandom specialStream = gen.split();
+        placeMines(mineStream);
         placeNumbersAndEmpty();
-        placeQuestionCells();
-        placeSurpriseCells();
+        placeSpecialCells(specialStream);
     }
 
-    private void placeMines() {
-        Random rand = new Random();
-        int placed = 0;
-        while (placed < mines) {
-            int r = rand.nextInt(rows);
-            int c = rand.nextInt(cols);
-            if (board.getCell(r, c) == null) {
-                board.setCell(r, c, new MineCell(r, c));
-                placed++;
-            }
-        }
+    private void placeMines(SplittableRandom rand) {
+        PackedBoard packed = board.getPackedBoard();
+        packed.placeMines(MineSampler.sample(packed.size(), mines, MineSampler.NO_EXCLUSION, rand));
     }
 
     private void placeNumbersAndEmpty() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (board.getCell(r, c) != null) continue;
-
-                int adjMines = countAdjacentMines(r, c);
-                if (adjMines == 0)
-                    board.setCell(r, c, new EmptyCell(r, c));
-                else
-                    board.setCell(r, c, new NumberCell(r, c, adjMines));
-            }
-        }
+        board.getPackedBoard().computeAdjacency();
     }
 
-    private int countAdjacentMines(int r, int c) {
-        int count = 0;
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-                int nr = r + dr;
-                int nc = c + dc;
-                if (board.isInBounds(nr, nc) && board.getCell(nr, nc) instanceof MineCell)
-                    count++;
+    // questions take the first picks from the EMPTY pool, surprises the next ones
+    private void placeSpecialCells(SplittableRandom rand) {
+        PackedBoard packed = board.getPackedBoard();
+        int[] specials = MineSampler.pickCells(packed.size(), questions + surprises,
+                idx -> packed.getType(idx) == CellType.EMPTY, rand);
+        for (int i = 0; i < specials.length; i++) {
+            int idx = specials[i];
+            if (i < questions) {
+                board.setCell(packed.rowOf(idx), packed.colOf(idx),
+                        new QuestionCell(packed.rowOf(idx), packed.colOf(idx), 0));
+            } else {
+                packed.setSurprise(idx, true);
             }
         }
-        return count;
-    }
-
-    private void placeQuestionCells() {
-        List<EmptyCell> emptyCells = collectEmptyCells();
-        Collections.shuffle(emptyCells);
-        for (int i = 0; i < Math.min(questions, emptyCells.size()); i++) {
-            EmptyCell ec = emptyCells.get(i);
-            board.setCell(ec.getRow(), ec.getCol(), new QuestionCell(ec.getRow(), ec.getCol(), 0));
-        }
-    }
-
-    private void placeSurpriseCells() {
-        List<EmptyCell> emptyCells = collectEmptyCells();
-        Collections.shuffle(emptyCells);
-        for (int i = 0; i < Math.min(surprises, emptyCells.size()); i++) {
-            EmptyCell ec = emptyCells.get(i);
-            board.setCell(ec.getRow(), ec.getCol(), new SurpriseCell(ec.getRow(), ec.getCol()));
-        }
-    }
-
-    private List<EmptyCell> collectEmptyCells() {
-        List<EmptyCell> list = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (board.getCell(r, c) instanceof EmptyCell)
-                    list.add((EmptyCell) board.getCell(r, c));
-            }
-        }
-        return list;
     }
 
     public boolean revealCell(int r, int c) {
         if (gameOver || !board.isInBounds(r, c)) return false;
 
-        Cell cell = board.getCell(r, c);
-        if (cell.isRevealed() || cell.isFlagged()) return false;
+        PackedBoard packed = board.getPackedBoard();
+        int idx = packed.index(r, c);
+        if (packed.isRevealed(idx) || packed.isFlagged(idx)) return false;
 
-        cell.reveal();
+        packed.reveal(idx);
 
-        if (cell instanceof MineCell) {
+        if (packed.isMine(idx)) {
             lives--;
             if (lives <= 0) gameOver = true;
             return false;
         }
 
-        if (cell instanceof NumberCell && ((NumberCell) cell).getAdjacentMines() == 0)
-            floodReveal(r, c);
+        if (packed.getType(idx) == CellType.EMPTY)
+            packed.floodReveal(idx);
 
         checkWin();
         return true;
     }
 
-    private void floodReveal(int r, int c) {
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int nr = r + dr;
-                int nc = c + dc;
-                if (!board.isInBounds(nr, nc)) continue;
-                Cell cell = board.getCell(nr, nc);
-                if (!cell.isRevealed() && !(cell instanceof MineCell)) {
-                    cell.reveal();
-                    if (cell instanceof NumberCell && ((NumberCell) cell).getAdjacentMines() == 0)
-                        floodReveal(nr, nc);
-                }
-            }
-        }
-    }
-
     public void toggleFlag(int r, int c) {
         if (!board.isInBounds(r, c)) return;
-        Cell cell = board.getCell(r, c);
-        if (!cell.isRevealed())
-            cell.toggleFlag();
+        PackedBoard packed = board.getPackedBoard();
+        int idx = packed.index(r, c);
+        if (!packed.isRevealed(idx))
+            packed.toggleFlag(idx);
     }
 
     private void checkWin() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = board.getCell(r, c);
-                if (!(cell instanceof MineCell) && !cell.isRevealed())
-                    return;
-            }
-        }
-        gameOver = true;
+        if (board.getPackedBoard().allSafeRevealed())
+            gameOver = true;
     }
 
 }
@@ -7,7 +7,6 @@ public class GameHistoryRepository {
 
     private static final String APP_DIR = System.getProperty("user.home") + File.separator + ".minesweeper";
     private final String FILE = APP_DIR + File.separator + "history.csv";
-    private static final String DETAILED_HISTORY_FILE = APP_DIR + File.separator + "detailed_history.csv";
 
     // ===== Simple History לפי משתמש אחד =====
 
@@ -15,17 +14,13 @@ public class GameHistoryRepository {
         System.out.println("history: " + username);
         List<GameHistoryEntry> records = new ArrayList<>();
 
-        try (BufferedReader br = new BufferedReader(new FileReader(FILE))) {
-
-            String line;
-            while ((line = br.readLine()) != null) {
+        try {
+            // only this user's lines, located through the player index
+            for (String line : PlayerIndex.of(FILE).linesOf(username)) {
 
                 String[] p = line.split(",");
                 if (p.length < 6) continue;
 
-                if (!p[0].equals(username))
-                    continue;
-
                 GameHistoryEntry r = new GameHistoryEntry();
 
                 r.setPlayer1(p[0]);
@@ -83,20 +78,16 @@ public class GameHistoryRepository {
         System.out.println("history" + username);
         List<GameRecord> records = new ArrayList<>();
 
-        try (BufferedReader br = new BufferedReader(new FileReader(FILE))) {
-            String line;
-            boolean first = true;
+        try {
+            PlayerIndex playerIndex = PlayerIndex.of(FILE);
+            long[] offsets = playerIndex.offsetsOf(username);
+            if (offsets.length > 0 && offsets[0] == 0) {
+                offsets = Arrays.copyOfRange(offsets, 1, offsets.length); // מדלגים על כותרת אם יש
+            }
 
-            while ((line = br.readLine()) != null) {
-                if (first) {
-                    first = false; // מדלגים על כותרת אם יש
-                    continue;
-                }
+            for (String line : playerIndex.readLines(offsets)) {
                 String[] p = line.split(",");
 
-                if (!p[0].equals(username))
-                    continue;
-
                 GameRecord r = new GameRecord();
                 r.setDate(p[1]);
                 r.setDifficulty(p[2]);
@@ -197,68 +188,16 @@ public class GameHistoryRepository {
     // ===== Detailed History לפי משתמש =====
 
     public List<DetailedGameHistoryEntry> loadDetailedHistoryForUser(String username) {
-        List<DetailedGameHistoryEntry> records = new ArrayList<>();
-
-        File file = new File(DETAILED_HISTORY_FILE);
-        if (!file.exists()) {
-            System.out.println("Detailed history file not found: " + DETAILED_HISTORY_FILE);
-            return records;
-        }
-
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line = br.readLine(); // כותרת אם קיימת
-
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-
-                DetailedGameHistoryEntry entry = DetailedGameHistoryEntry.fromCSV(line);
-                if (entry != null) {
-                    if (entry.getPlayer1().equals(username) || entry.getPlayer2().equals(username)) {
-                        records.add(entry);
-                    }
-                }
-            }
-
-            System.out.println("Loaded " + records.size() + " detailed records for " + username);
-
-        } catch (IOException e) {
-            System.err.println("Error loading detailed history: " + e.getMessage());
-            e.printStackTrace();
-        }
-
+        List<DetailedGameHistoryEntry> records = HistoryStore.getInstance().readForPlayer(username);
+        System.out.println("Loaded " + records.size() + " detailed records for " + username);
         return records;
     }
 
     // ===== Detailed History לכל השחקנים =====
 
     public List<DetailedGameHistoryEntry> loadDetailedHistoryCombined() {
-        List<DetailedGameHistoryEntry> records = new ArrayList<>();
-
-        File file = new File(DETAILED_HISTORY_FILE);
-        if (!file.exists()) {
-            System.out.println("Detailed history file not found: " + DETAILED_HISTORY_FILE);
-            return records;
-        }
-
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line = br.readLine(); // כותרת אם קיימת
-
-            while ((line = br.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-
-                DetailedGameHistoryEntry entry = DetailedGameHistoryEntry.fromCSV(line);
-                if (entry != null) {
-                    records.add(entry);
-                }
-            }
-
-            System.out.println("Loaded " + records.size() + " detailed records (combined)");
-
-        } catch (IOException e) {
-            System.err.println("Error loading detailed history: " + e.getMessage());
-            e.printStackTrace();
-        }
-
+        List<DetailedGameHistoryEntry> records = HistoryStore.getInstance().readAll();
+        System.out.println("Loaded " + records.size() + " detailed records (combined)");
         return records;
     }
 }
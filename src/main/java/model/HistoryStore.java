@@ -0,0 +1,524 @@
+package model;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detailed game history in a binary columnar file, read through a memory mapping so the
+ * history and statistics screens open without parsing text.
+ *
+ * The file is a 64-byte header followed by blocks of {@value #BLOCK_ROWS} games. Inside a
+ * block every field is its own column of fixed-width values (two long columns, then the
+ * int columns), so a statistic reads only the columns it needs and never builds an entry.
+ * Player, difficulty, winner and end-reason strings are stored as ids into a dictionary
+ * file next to it, one string per line.
+ *
+ * A game is appended to the mapped columns at once, so readers see it immediately and
+ * never wait for the disk. New dictionary lines and then the game count in the header are
+ * written on the {@link PersistenceService} thread, so after a crash the file holds only
+ * games whose strings were saved.
+ *
+ * One mapping covers the whole file and offsets are ints, so the store holds at most
+ * about 3,500 blocks (some 14 million games, just under 2 GB).
+ *
+ * detailed_history.csv stays the import/export format: it is imported once when this file
+ * does not exist yet. A file in an unknown format is moved aside to ".bak" first. If the file
+ * cannot be opened at all, the history is imported into memory for this session instead.
+ */
+public final class HistoryStore {
+
+    private static final String APP_DIR =
+            System.getProperty("user.home") + File.separator + ".minesweeper";
+
+    private static final int MAGIC = 0x4D534842;        // "MSHB"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int BLOCK_ROWS = 4096;
+
+    // long columns
+    private static final int L_TIMESTAMP = 0, L_SEED = 1;
+    private static final int LONG_COLUMNS = 2;
+
+    // int columns; the ten counters of each player keep the CSV order
+    private static final int C_PLAYER1 = 0, C_PLAYER2 = 1, C_DIFFICULTY = 2, C_WINNER = 3, C_END_REASON = 4,
+            C_MODE = 5, C_SCORE = 6, C_DURATION = 7, C_WON = 8,
+            C_P1 = 9, C_P2 = 19,
+            C_P1_SCORE = 29, C_P2_SCORE = 30, C_P1_FIRST = 31, C_P2_FIRST = 32;
+    private static final int INT_COLUMNS = 33;
+
+    // offsets of the counters inside C_P1 / C_P2
+    private static final int QUESTIONS = 0, CORRECT = 1, SURPRISES = 2, GOOD = 3, BAD = 4,
+            FLAGGED = 5, CORRECT_FLAGS = 6, WRONG_FLAGS = 7, CELLS = 8, MINES = 9;
+
+    private static final int INTS_AT = BLOCK_ROWS * 8 * LONG_COLUMNS;
+    private static final int BLOCK_BYTES = INTS_AT + BLOCK_ROWS * 4 * INT_COLUMNS;
+
+    private static final int NO_STRING = -1;
+    private static final long NO_TIME = Long.MIN_VALUE;
+    // timestamps in any other format are kept as text: TEXT_TIME + dictionary id, far below every epoch second
+    private static final long TEXT_TIME = Long.MIN_VALUE / 2;
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static HistoryStore instance;
+
+    private final File dictFile;                // null, like raf and channel, for a store kept in memory
+    private final RandomAccessFile raf;
+    private final FileChannel channel;
+    private ByteBuffer map;
+    private int count;
+    private final boolean fresh;                // started empty by this open
+
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> unsaved = new ArrayList<>();   // dictionary lines not written yet
+
+    /** Whole-history figures from the columns. */
+    public record Summary(int games, int won, int bestScore, long totalSeconds) {
+        public double winRate() {
+            return games > 0 ? (double) won / games * 100 : 0;
+        }
+    }
+
+    private static final class Rows {
+        int[] at = new int[4];
+        int size;
+
+        void add(int row) {
+            if (size == at.length) at = Arrays.copyOf(at, size * 2);
+            at[size++] = row;
+        }
+    }
+
+    private List<Rows> rowsByPlayer;                   // by player string id; null until first needed
+
+    public static synchronized HistoryStore getInstance() {
+        if (instance == null) {
+            new File(APP_DIR).mkdirs();
+            try {
+                instance = new HistoryStore(APP_DIR + File.separator + "detailed_history.bin");
+            } catch (IOException e) {
+                System.err.println("Error opening the history store, keeping history in memory: " + e.getMessage());
+                e.printStackTrace();
+                instance = new HistoryStore();
+            }
+            if (instance.fresh) {
+                try {
+                    int games = instance.importCsv(APP_DIR + File.separator + "detailed_history.csv");
+                    System.out.println("Imported " + games + " games into the history store");
+                } catch (IOException e) {
+                    System.err.println("Error importing detailed history: " + e.getMessage());
+                    e.printStackTrace();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public HistoryStore(String path) throws IOException {
+        File file = new File(path);
+        this.dictFile = new File(path.replaceFirst("\\.bin$", "") + "_strings.txt");
+
+        boolean isNew = !file.exists() || file.length() == 0;
+        if (!isNew && !hasKnownHeader(file)) {
+            System.err.println("Unknown history store format, moving it aside: " + path);
+            moveAside(file);
+            moveAside(dictFile);
+            isNew = true;
+        }
+
+        this.raf = new RandomAccessFile(file, "rw");
+        this.channel = raf.getChannel();
+        if (isNew) {
+            raf.setLength(HEADER_BYTES + (long) BLOCK_BYTES);
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+            writeHeader();
+            Files.write(dictFile.toPath(), new byte[0]);
+        } else {
+            map = channel.map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+            count = Math.min(map.getInt(8), capacity());
+            readStrings();
+        }
+        this.fresh = isNew;
+    }
+
+    // the same layout on the heap, saved nowhere; the CSV export stays the record
+    private HistoryStore() {
+        this.dictFile = null;
+        this.raf = null;
+        this.channel = null;
+        this.map = ByteBuffer.allocate(HEADER_BYTES + BLOCK_BYTES);
+        writeHeader();
+        this.fresh = true;
+    }
+
+    private void writeHeader() {
+        map.putInt(0, MAGIC);
+        map.putInt(4, VERSION);
+        map.putInt(8, 0);
+        map.putInt(12, BLOCK_ROWS);
+    }
+
+    // read with a plain stream, so a file in another format is never mapped
+    private static boolean hasKnownHeader(File file) {
+        if (file.length() < HEADER_BYTES) return false;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC && in.readInt() == VERSION && in.readInt() >= 0 && in.readInt() == BLOCK_ROWS;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void moveAside(File f) throws IOException {
+        if (!f.exists()) return;
+        Path p = f.toPath();
+        Files.move(p, p.resolveSibling(p.getFileName() + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public synchronized int size() { return count; }
+
+    // =========================
+    // WRITES
+    // =========================
+
+    /**
+     * Appends one game. It is readable at once; its new strings and the header count are
+     * queued on the writer thread. Only growing the file by a block touches the disk here.
+     */
+    public synchronized void append(DetailedGameHistoryEntry e) throws IOException {
+        appendRow(e);
+        List<String> lines = new ArrayList<>(unsaved);
+        unsaved.clear();
+        int committed = count;
+        PersistenceService.getInstance().submit(() -> commit(lines, committed));
+    }
+
+    // dictionary lines first, then the count that makes the rows part of the file
+    private synchronized void commit(List<String> lines, int committed) throws IOException {
+        writeStrings(lines);
+        map.putInt(8, committed);
+    }
+
+    private void appendRow(DetailedGameHistoryEntry e) throws IOException {
+        if (count == capacity()) grow();
+        int row = count;
+
+        map.putLong(longAt(row, L_TIMESTAMP), timeOf(e.getTimestamp()));
+        map.putLong(longAt(row, L_SEED), e.getSeed());
+
+        putInt(row, C_PLAYER1, idOf(e.getPlayer1()));
+        putInt(row, C_PLAYER2, idOf(e.getPlayer2()));
+        putInt(row, C_DIFFICULTY, idOf(e.getDifficulty()));
+        putInt(row, C_WINNER, idOf(e.getWinner()));
+        putInt(row, C_END_REASON, idOf(e.getEndReason()));
+        putInt(row, C_MODE, (e.getMode() == null ? TwoPlayerMode.COOP : e.getMode()).ordinal());
+        putInt(row, C_SCORE, e.getFinalScore());
+        putInt(row, C_DURATION, e.getDurationSeconds());
+        putInt(row, C_WON, e.isWon() ? 1 : 0);
+
+        putInt(row, C_P1 + QUESTIONS, e.getPlayer1QuestionsAnswered());
+        putInt(row, C_P1 + CORRECT, e.getPlayer1QuestionsCorrect());
+        putInt(row, C_P1 + SURPRISES, e.getPlayer1SurprisesActivated());
+        putInt(row, C_P1 + GOOD, e.getPlayer1GoodSurprises());
+        putInt(row, C_P1 + BAD, e.getPlayer1BadSurprises());
+        putInt(row, C_P1 + FLAGGED, e.getPlayer1MinesFlagged());
+        putInt(row, C_P1 + CORRECT_FLAGS, e.getPlayer1CorrectFlags());
+        putInt(row, C_P1 + WRONG_FLAGS, e.getPlayer1WrongFlags());
+        putInt(row, C_P1 + CELLS, e.getPlayer1CellsRevealed());
+        putInt(row, C_P1 + MINES, e.getPlayer1MinesRevealed());
+
+        putInt(row, C_P2 + QUESTIONS, e.getPlayer2QuestionsAnswered());
+        putInt(row, C_P2 + CORRECT, e.getPlayer2QuestionsCorrect());
+        putInt(row, C_P2 + SURPRISES, e.getPlayer2SurprisesActivated());
+        putInt(row, C_P2 + GOOD, e.getPlayer2GoodSurprises());
+        putInt(row, C_P2 + BAD, e.getPlayer2BadSurprises());
+        putInt(row, C_P2 + FLAGGED, e.getPlayer2MinesFlagged());
+        putInt(row, C_P2 + CORRECT_FLAGS, e.getPlayer2CorrectFlags());
+        putInt(row, C_P2 + WRONG_FLAGS, e.getPlayer2WrongFlags());
+        putInt(row, C_P2 + CELLS, e.getPlayer2CellsRevealed());
+        putInt(row, C_P2 + MINES, e.getPlayer2MinesRevealed());
+
+        putInt(row, C_P1_SCORE, e.getPlayer1Score());
+        putInt(row, C_P2_SCORE, e.getPlayer2Score());
+        putInt(row, C_P1_FIRST, e.getPlayer1FirstClick());
+        putInt(row, C_P2_FIRST, e.getPlayer2FirstClick());
+
+        count++;
+        if (rowsByPlayer != null) indexRow(row);
+    }
+
+    /** Forgets every game at once; the file keeps its size and is overwritten from the start. */
+    public synchronized void clear() {
+        count = 0;
+        rowsByPlayer = null;
+        strings.clear();
+        ids.clear();
+        unsaved.clear();
+        PersistenceService.getInstance().submit(() -> commit(null, 0));
+    }
+
+    /** Appends every record of a detailed_history.csv. @return the number of games imported */
+    public synchronized int importCsv(String csvPath) throws IOException {
+        File csv = new File(csvPath);
+        if (!csv.exists()) return 0;
+        int imported = 0;
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(csv), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("Timestamp,")) continue;
+                DetailedGameHistoryEntry entry = DetailedGameHistoryEntry.fromCSV(line);
+                if (entry == null) continue;
+                appendRow(entry);
+                imported++;
+            }
+        }
+        writeStrings(unsaved);
+        unsaved.clear();
+        map.putInt(8, count);
+        return imported;
+    }
+
+    /** Every game as a detailed_history.csv line, oldest first. */
+    public synchronized List<String> csvLines() {
+        List<String> lines = new ArrayList<>(count);
+        for (int row = 0; row < count; row++) lines.add(get(row).toCSV());
+        return lines;
+    }
+
+    // =========================
+    // READS
+    // =========================
+
+    public synchronized DetailedGameHistoryEntry get(int row) {
+        if (row < 0 || row >= count) throw new IndexOutOfBoundsException(row);
+
+        DetailedGameHistoryEntry e = new DetailedGameHistoryEntry();
+        e.setTimestamp(timestampOf(map.getLong(longAt(row, L_TIMESTAMP))));
+        e.setSeed(map.getLong(longAt(row, L_SEED)));
+
+        e.setPlayer1(stringOf(getInt(row, C_PLAYER1)));
+        e.setPlayer2(stringOf(getInt(row, C_PLAYER2)));
+        e.setDifficulty(stringOf(getInt(row, C_DIFFICULTY)));
+        e.setWinner(stringOf(getInt(row, C_WINNER)));
+        e.setEndReason(stringOf(getInt(row, C_END_REASON)));
+        int mode = getInt(row, C_MODE);
+        e.setMode(mode >= 0 && mode < TwoPlayerMode.values().length ? TwoPlayerMode.values()[mode] : TwoPlayerMode.COOP);
+        e.setFinalScore(getInt(row, C_SCORE));
+        e.setDurationSeconds(getInt(row, C_DURATION));
+        e.setWon(getInt(row, C_WON) != 0);
+
+        e.setPlayer1QuestionsAnswered(getInt(row, C_P1 + QUESTIONS));
+        e.setPlayer1QuestionsCorrect(getInt(row, C_P1 + CORRECT));
+        e.setPlayer1SurprisesActivated(getInt(row, C_P1 + SURPRISES));
+        e.setPlayer1GoodSurprises(getInt(row, C_P1 + GOOD));
+        e.setPlayer1BadSurprises(getInt(row, C_P1 + BAD));
+        e.setPlayer1MinesFlagged(getInt(row, C_P1 + FLAGGED));
+        e.setPlayer1CorrectFlags(getInt(row, C_P1 + CORRECT_FLAGS));
+        e.setPlayer1WrongFlags(getInt(row, C_P1 + WRONG_FLAGS));
+        e.setPlayer1CellsRevealed(getInt(row, C_P1 + CELLS));
+        e.setPlayer1MinesRevealed(getInt(row, C_P1 + MINES));
+
+        e.setPlayer2QuestionsAnswered(getInt(row, C_P2 + QUESTIONS));
+        e.setPlayer2QuestionsCorrect(getInt(row, C_P2 + CORRECT));
+        e.setPlayer2SurprisesActivated(getInt(row, C_P2 + SURPRISES));
+        e.setPlayer2GoodSurprises(getInt(row, C_P2 + GOOD));
+        e.setPlayer2BadSurprises(getInt(row, C_P2 + BAD));
+        e.setPlayer2MinesFlagged(getInt(row, C_P2 + FLAGGED));
+        e.setPlayer2CorrectFlags(getInt(row, C_P2 + CORRECT_FLAGS));
+        e.setPlayer2WrongFlags(getInt(row, C_P2 + WRONG_FLAGS));
+        e.setPlayer2CellsRevealed(getInt(row, C_P2 + CELLS));
+        e.setPlayer2MinesRevealed(getInt(row, C_P2 + MINES));
+
+        e.setPlayer1Score(getInt(row, C_P1_SCORE));
+        e.setPlayer2Score(getInt(row, C_P2_SCORE));
+        e.setPlayer1FirstClick(getInt(row, C_P1_FIRST));
+        e.setPlayer2FirstClick(getInt(row, C_P2_FIRST));
+        return e;
+    }
+
+    public synchronized List<DetailedGameHistoryEntry> readAll() {
+        List<DetailedGameHistoryEntry> all = new ArrayList<>(count);
+        for (int row = 0; row < count; row++) all.add(get(row));
+        return all;
+    }
+
+    /** The games {@code player} played in, oldest first; reads only their rows. */
+    public synchronized List<DetailedGameHistoryEntry> readForPlayer(String player) {
+        List<DetailedGameHistoryEntry> games = new ArrayList<>();
+        Integer id = player == null ? null : ids.get(player);
+        if (id == null) return games;
+        if (rowsByPlayer == null) indexPlayers();
+        Rows rows = id < rowsByPlayer.size() ? rowsByPlayer.get(id) : null;
+        if (rows == null) return games;
+        for (int i = 0; i < rows.size; i++) games.add(get(rows.at[i]));
+        return games;
+    }
+
+    // the player columns are the persistent form of this index; rebuilt from them on first use
+    private void indexPlayers() {
+        rowsByPlayer = new ArrayList<>();
+        for (int row = 0; row < count; row++) indexRow(row);
+    }
+
+    private void indexRow(int row) {
+        int p1 = getInt(row, C_PLAYER1);
+        int p2 = getInt(row, C_PLAYER2);
+        addRow(p1, row);
+        if (p2 != p1) addRow(p2, row);
+    }
+
+    private void addRow(int player, int row) {
+        if (player < 0) return;
+        while (rowsByPlayer.size() <= player) rowsByPlayer.add(null);
+        Rows rows = rowsByPlayer.get(player);
+        if (rows == null) rowsByPlayer.set(player, rows = new Rows());
+        rows.add(row);
+    }
+
+    // =========================
+    // AGGREGATES (column scans, no entries built)
+    // =========================
+
+    public synchronized Summary summary() {
+        int won = 0, best = 0;
+        long seconds = 0;
+        for (int block = 0; block * BLOCK_ROWS < count; block++) {
+            int rows = Math.min(BLOCK_ROWS, count - block * BLOCK_ROWS);
+            int first = block * BLOCK_ROWS;
+            for (int i = 0; i < rows; i++) won += getInt(first + i, C_WON);
+            for (int i = 0; i < rows; i++) best = Math.max(best, getInt(first + i, C_SCORE));
+            for (int i = 0; i < rows; i++) seconds += getInt(first + i, C_DURATION);
+        }
+        return new Summary(count, won, best, seconds);
+    }
+
+    /** Releases the file; the store cannot be used afterwards. */
+    public void close() throws IOException {
+        PersistenceService.getInstance().flush(5_000);   // queued commits take this store's lock
+        synchronized (this) {
+            if (raf == null) return;
+            ((MappedByteBuffer) map).force();
+            channel.close();
+            raf.close();
+        }
+    }
+
+    // =========================
+    // LAYOUT
+    // =========================
+
+    private int capacity() {
+        return (map.capacity() - HEADER_BYTES) / BLOCK_BYTES * BLOCK_ROWS;
+    }
+
+    private void grow() throws IOException {
+        if ((long) map.capacity() + BLOCK_BYTES > Integer.MAX_VALUE) throw new IOException("History store is full");
+        if (raf == null) {
+            map = ByteBuffer.allocate(map.capacity() + BLOCK_BYTES).put(map.duplicate().clear());
+            return;
+        }
+        raf.setLength(raf.length() + BLOCK_BYTES);
+        ((MappedByteBuffer) map).force();
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+    }
+
+    private static int blockAt(int row) {
+        return HEADER_BYTES + (row / BLOCK_ROWS) * BLOCK_BYTES;
+    }
+
+    private static int longAt(int row, int column) {
+        return blockAt(row) + (column * BLOCK_ROWS + row % BLOCK_ROWS) * 8;
+    }
+
+    private static int intAt(int row, int column) {
+        return blockAt(row) + INTS_AT + (column * BLOCK_ROWS + row % BLOCK_ROWS) * 4;
+    }
+
+    private int getInt(int row, int column) {
+        return map.getInt(intAt(row, column));
+    }
+
+    private void putInt(int row, int column, int value) {
+        map.putInt(intAt(row, column), value);
+    }
+
+    // =========================
+    // DICTIONARY
+    // =========================
+
+    private void readStrings() throws IOException {
+        if (!dictFile.exists()) return;
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(dictFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                ids.putIfAbsent(line, strings.size());
+                strings.add(line);
+            }
+        }
+    }
+
+    private int idOf(String s) throws IOException {
+        if (s == null) return NO_STRING;
+        String clean = s.replace('\n', ' ').replace('\r', ' ');
+        Integer id = ids.get(clean);
+        if (id != null) return id;
+
+        unsaved.add(clean);
+        id = strings.size();
+        strings.add(clean);
+        ids.put(clean, id);
+        return id;
+    }
+
+    // appends lines to the dictionary file; null empties it
+    private void writeStrings(List<String> lines) throws IOException {
+        if (dictFile == null || lines != null && lines.isEmpty()) return;
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(dictFile, lines != null), StandardCharsets.UTF_8))) {
+            if (lines == null) return;
+            for (String line : lines) {
+                w.write(line);
+                w.write('\n');
+            }
+        }
+    }
+
+    private String stringOf(int id) {
+        return id >= 0 && id < strings.size() ? strings.get(id) : null;
+    }
+
+    // the app writes "yyyy-MM-dd HH:mm:ss", stored as epoch seconds; any other text (older or
+    // hand-edited rows) goes to the dictionary so it reads back exactly as it was
+    private long timeOf(String timestamp) throws IOException {
+        if (timestamp == null) return NO_TIME;
+        try {
+            LocalDateTime time = LocalDateTime.parse(timestamp, TIME);
+            if (time.format(TIME).equals(timestamp)) return time.toEpochSecond(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            // not ours: kept as text below
+        }
+        return TEXT_TIME + idOf(timestamp);
+    }
+
+    private String timestampOf(long value) {
+        if (value == NO_TIME) return "";
+        if (value >= TEXT_TIME && value - TEXT_TIME <= Integer.MAX_VALUE) return stringOf((int) (value - TEXT_TIME));
+        return LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC).format(TIME);
+    }
+}
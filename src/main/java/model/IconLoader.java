@@ -2,28 +2,16 @@ package model;
 
 import javax.swing.*;
 import java.awt.*;
-import java.net.URL;
 
 public class IconLoader {
 
+    // decoded and scaled once per size through the shared image cache
     public static ImageIcon load(String path, int width, int height) {
-        try {
-            URL imgURL = IconLoader.class.getResource(path);
-            
-            if (imgURL != null) {
-                ImageIcon originalIcon = new ImageIcon(imgURL);
-                Image originalImage = originalIcon.getImage();
-                
-                Image scaledImage = originalImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                
-                return new ImageIcon(scaledImage);
-            } else {
-                System.err.println("Icon not found: " + path);
-                return null;
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+        Image img = ImageCache.get(path, width, height, 1.0);
+        if (img == null) {
+            System.err.println("Icon not found: " + path);
             return null;
         }
+        return new ImageIcon(img);
     }
-}
\ No newline at end of file
+}
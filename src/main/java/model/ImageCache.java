@@ -0,0 +1,141 @@
+package model;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Image resources decoded once per run. A resource is read on a background thread the
+ * first time it is asked for (or at startup through {@link #preload}); a caller that
+ * needs it before the read finishes waits for that same read instead of starting another.
+ *
+ * Scaled copies are kept per (path, size, display scale) in a small LRU, so drawing an
+ * image at a fixed size is a plain blit after the first time. Missing or unreadable
+ * resources give {@code null}.
+ */
+public final class ImageCache {
+
+    /** Images of the game over dialogs, shown at the moment the player is waiting. */
+    public static final String WIN = "/images/win.jpeg";
+    public static final String LOSE = "/images/lose.jpeg";
+    public static final String GIVE_UP = "/images/give_up.jpeg";
+
+    private static final int MAX_SCALED = 32;
+
+    private record Key(String path, int width, int height, double scale) {}
+
+    private static final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "image-loader");
+        t.setDaemon(true);
+        t.setPriority(Thread.MIN_PRIORITY);
+        return t;
+    });
+
+    private static final Map<String, CompletableFuture<BufferedImage>> decoded = new ConcurrentHashMap<>();
+
+    private static final Map<Key, BufferedImage> scaled = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BufferedImage> eldest) {
+            return size() > MAX_SCALED;
+        }
+    };
+
+    private ImageCache() {}
+
+    /** Starts decoding the given resources in the background. */
+    public static void preload(String... paths) {
+        for (String p : paths) decode(p);
+    }
+
+    /** Decodes every image the game over dialogs use. */
+    public static void preloadKnown() {
+        preload(WIN, LOSE, GIVE_UP);
+    }
+
+    /** The full size image, waiting for its decode if it is still running. */
+    public static BufferedImage get(String path) {
+        return decode(path).join();
+    }
+
+    /**
+     * The image scaled to {@code width x height} logical pixels for a display with the given
+     * scale (1 on ordinary screens, 2 on a 200% HiDPI screen). The returned image has
+     * {@code width * scale} by {@code height * scale} pixels; draw it into a
+     * {@code width x height} rectangle.
+     */
+    public static BufferedImage get(String path, int width, int height, double scale) {
+        if (width <= 0 || height <= 0) return null;
+        Key key = new Key(path, width, height, scale);
+        synchronized (scaled) {
+            BufferedImage hit = scaled.get(key);
+            if (hit != null) return hit;
+        }
+
+        BufferedImage src = get(path);
+        if (src == null) return null;
+        BufferedImage img = scale(src, (int) Math.ceil(width * scale), (int) Math.ceil(height * scale));
+
+        synchronized (scaled) {
+            scaled.put(key, img);
+        }
+        return img;
+    }
+
+    /** Display scale of a screen; 1 when unknown. */
+    public static double scaleOf(GraphicsConfiguration gc) {
+        if (gc == null) return 1.0;
+        AffineTransform t = gc.getDefaultTransform();
+        return Math.max(1.0, t.getScaleX());
+    }
+
+    private static CompletableFuture<BufferedImage> decode(String path) {
+        return decoded.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> read(p), loader));
+    }
+
+    private static BufferedImage read(String path) {
+        try {
+            URL url = ImageCache.class.getResource(path);
+            if (url == null) {
+                System.err.println("Image not found: " + path);
+                return null;
+            }
+            return ImageIO.read(url);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // halve with bilinear filtering until close, then one bicubic step: close to
+    // SCALE_SMOOTH quality at a fraction of its cost
+    private static BufferedImage scale(BufferedImage src, int w, int h) {
+        BufferedImage cur = src;
+        int cw = src.getWidth(), ch = src.getHeight();
+
+        while (cw / 2 >= w && ch / 2 >= h) {
+            cw /= 2;
+            ch /= 2;
+            cur = draw(cur, cw, ch, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return draw(cur, w, h, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h, Object interpolation) {
+        int type = src.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage out = new BufferedImage(w, h, type);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(src, 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+}
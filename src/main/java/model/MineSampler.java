@@ -0,0 +1,154 @@
+package model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * Shared mine / special-cell placement used by Board, Game and every board panel.
+ *
+ * Mines are drawn with Floyd's sampling over the allowed index range, so the work is
+ * bounded by the number of mines (one draw each, no retries) regardless of density.
+ * The first-click safe zone is passed as a small sorted index list and skipped by rank.
+ *
+ * Generation is seeded: a board seed opens a SplittableRandom whose first split feeds
+ * the mines and whose second split feeds the special cells, so seed + first click
+ * reproduce the whole layout.
+ */
+public final class MineSampler {
+
+    public static final int[] NO_EXCLUSION = new int[0];
+
+    // above this many cells special cells are drawn by rejection instead of from a full pool
+    public static final int LARGE_BOARD = 1 << 20;
+
+    private MineSampler() {}
+
+    /** Derives the seed of one board (1, 2, ...) from the game seed. */
+    public static long boardSeed(long gameSeed, int boardNum) {
+        return new SplittableRandom(gameSeed + boardNum * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    /** Sorted flat indices of the 3x3 block around (r, c), clipped to the board. */
+    public static int[] safeZone(int rows, int cols, int r, int c) {
+        int[] zone = new int[9];
+        int n = 0;
+        for (int nr = r - 1; nr <= r + 1; nr++) {
+            if (nr < 0 || nr >= rows) continue;
+            for (int nc = c - 1; nc <= c + 1; nc++) {
+                if (nc < 0 || nc >= cols) continue;
+                zone[n++] = nr * cols + nc;
+            }
+        }
+        return Arrays.copyOf(zone, n);
+    }
+
+    /**
+     * Picks {@code count} distinct indices in [0, size) that are not in {@code excluded}.
+     *
+     * @param excluded sorted, distinct indices that must never be chosen
+     * @return the chosen indices (unordered)
+     */
+    public static int[] sample(int size, int count, int[] excluded, RandomGenerator rnd) {
+        int allowed = size - excluded.length;
+        if (count < 0 || count > allowed)
+            throw new IllegalArgumentException("Cannot place " + count + " mines in " + allowed + " free cells.");
+
+        // Floyd: for j in [allowed - count, allowed) take a random t <= j, or j itself if t was already taken
+        long[] chosen = new long[(allowed + 63) >>> 6];
+        int[] result = new int[count];
+        int n = 0;
+
+        for (int j = allowed - count; j < allowed; j++) {
+            int t = rnd.nextInt(j + 1);
+            if ((chosen[t >>> 6] & (1L << t)) != 0) t = j;
+            chosen[t >>> 6] |= 1L << t;
+            result[n++] = rankToIndex(t, excluded);
+        }
+        return result;
+    }
+
+    /**
+     * Partial Fisher-Yates: moves {@code k} random entries of pool[0, poolSize) to the front.
+     *
+     * @return how many entries were picked (k capped at poolSize)
+     */
+    public static int pickInPlace(int[] pool, int poolSize, int k, RandomGenerator rnd) {
+        int picks = Math.min(k, poolSize);
+        for (int i = 0; i < picks; i++) {
+            int j = i + rnd.nextInt(poolSize - i);
+            int tmp = pool[i];
+            pool[i] = pool[j];
+            pool[j] = tmp;
+        }
+        return picks;
+    }
+
+    /**
+     * Picks up to {@code k} distinct indices in [0, size) accepted by {@code eligible}, in pick order.
+     *
+     * Boards up to {@link #LARGE_BOARD} cells shuffle the whole candidate pool, which keeps every
+     * recorded seed replaying to the same layout. Larger boards draw random cells and skip the
+     * rejected ones; if candidates turn out to be too rare for that, the remaining picks are
+     * drawn by rank among the candidates left. Either way only bitmaps are allocated, never a
+     * size-long index pool.
+     */
+    public static int[] pickCells(int size, int k, IntPredicate eligible, RandomGenerator rnd) {
+        if (size <= LARGE_BOARD) {
+            int[] pool = new int[size];
+            int n = 0;
+            for (int idx = 0; idx < size; idx++)
+                if (eligible.test(idx)) pool[n++] = idx;
+            return Arrays.copyOf(pool, pickInPlace(pool, n, k, rnd));
+        }
+
+        long[] taken = new long[(size + 63) >>> 6];
+        int[] picks = new int[k];
+        int n = 0;
+        long tries = 32L * k + 1024;
+        while (n < k && tries-- > 0) {
+            int idx = rnd.nextInt(size);
+            if ((taken[idx >>> 6] & (1L << idx)) != 0 || !eligible.test(idx)) continue;
+            taken[idx >>> 6] |= 1L << idx;
+            picks[n++] = idx;
+        }
+        if (n == k) return picks;
+
+        // candidates are rare: count them, draw ranks among them with Floyd, then map ranks back in one sweep
+        int free = 0;
+        for (int idx = 0; idx < size; idx++)
+            if ((taken[idx >>> 6] & (1L << idx)) == 0 && eligible.test(idx)) free++;
+        int more = Math.min(k - n, free);
+        long[] chosen = new long[(free + 63) >>> 6];
+        for (int j = free - more; j < free; j++) {
+            int t = rnd.nextInt(j + 1);
+            if ((chosen[t >>> 6] & (1L << t)) != 0) t = j;
+            chosen[t >>> 6] |= 1L << t;
+        }
+        int end = n + more;
+        for (int idx = 0, rank = 0; idx < size && n < end; idx++) {
+            if ((taken[idx >>> 6] & (1L << idx)) != 0 || !eligible.test(idx)) continue;
+            if ((chosen[rank >>> 6] & (1L << rank)) != 0) picks[n++] = idx;
+            rank++;
+        }
+        // the sweep found them in board order; callers split the picks into questions and surprises
+        for (int i = end - 1; i > end - more; i--) {
+            int j = end - more + rnd.nextInt(i - (end - more) + 1);
+            int tmp = picks[i];
+            picks[i] = picks[j];
+            picks[j] = tmp;
+        }
+        return Arrays.copyOf(picks, end);
+    }
+
+    // the rank-th allowed index: every excluded index at or below it shifts it one further
+    private static int rankToIndex(int rank, int[] excluded) {
+        int idx = rank;
+        for (int e : excluded) {
+            if (e <= idx) idx++;
+            else break;
+        }
+        return idx;
+    }
+}
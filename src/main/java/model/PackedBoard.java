@@ -0,0 +1,531 @@
+package model;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Primitive board storage.
+ * Every per-cell flag (mine / revealed / flagged / used / question / surprise)
+ * is one bit in a chunked bitset and adjacency counts are 4-bit nibbles,
+ * all addressed by a flat index = row * cols + col.
+ *
+ * Board / Cell are only views over this class.
+ *
+ * Storage is split into chunks of {@value #CHUNK_CELLS} cells that are allocated on the
+ * first set bit, so a fresh 10,000 x 10,000 board only pays for its mines and numbers
+ * (~65 MB) and the revealed / flagged / used layers grow with play.
+ *
+ * Live counters (mines, revealed safe cells, revealed mines, correct / wrong flags)
+ * are kept in step with every bit change, so win and completion checks
+ * are O(1) reads instead of full-board rescans after each move.
+ *
+ * Cell-category counts (hidden mines, hidden safe cells, unopened question / surprise
+ * cells) are kept the same way, per 512-cell block and for two coarser levels above it.
+ * A random pick walks the counts down to one block and selects the bit inside it, so
+ * bonus and hint picks stay cheap on any size without a per-cell index.
+ */
+public class PackedBoard {
+
+    private static final int CHUNK_SHIFT = 12;
+    public static final int CHUNK_CELLS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_WORDS = CHUNK_CELLS >>> 6;
+
+    // category counts: per block of 512 cells, per group of 64 blocks, per region of 64 groups
+    private static final int BLOCK_SHIFT = 9;
+    private static final int BLOCK_WORDS = 1 << (BLOCK_SHIFT - 6);
+    private static final int FAN_SHIFT = 6;
+
+    // categories: hidden = not revealed and not flagged; unopened = not revealed
+    private static final int HIDDEN_MINE = 0;
+    private static final int HIDDEN_SAFE = 1;
+    private static final int UNOPENED_QUESTION = 2;
+    private static final int UNOPENED_SURPRISE = 3;
+    private static final int CATEGORIES = 4;
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final int chunks;
+
+    private final long[][] mines;
+    private final long[][] revealed;
+    private final long[][] flagged;
+    private final long[][] used;
+    private final long[][] questions;
+    private final long[][] surprises;
+
+    // two cells per byte, low nibble = even index
+    private final byte[][] adjacent;
+
+    private final int[][] blockCount = new int[CATEGORIES][];
+    private final int[][] groupCount = new int[CATEGORIES][];
+    private final int[][] regionCount = new int[CATEGORIES][];
+    private final int[] categoryCount = new int[CATEGORIES];
+
+    private int mineCount;
+    private int revealedSafe;
+    private int revealedMines;
+    private int correctFlags;
+    private int wrongFlags;
+
+    public PackedBoard(int rows, int cols) {
+        if (rows <= 0 || cols <= 0)
+            throw new IllegalArgumentException("Board size must be greater than 0.");
+        if ((long) rows * cols > Integer.MAX_VALUE - CHUNK_CELLS)
+            throw new IllegalArgumentException("Board is too large: " + rows + "x" + cols + ".");
+        this.rows = rows;
+        this.cols = cols;
+        this.size = rows * cols;
+        this.chunks = (size + CHUNK_CELLS - 1) >>> CHUNK_SHIFT;
+
+        this.mines = new long[chunks][];
+        this.revealed = new long[chunks][];
+        this.flagged = new long[chunks][];
+        this.used = new long[chunks][];
+        this.questions = new long[chunks][];
+        this.surprises = new long[chunks][];
+        this.adjacent = new byte[chunks][];
+
+        int blocks = (size >>> BLOCK_SHIFT) + 1;
+        for (int cat = 0; cat < CATEGORIES; cat++) {
+            blockCount[cat] = new int[blocks];
+            groupCount[cat] = new int[(blocks >>> FAN_SHIFT) + 1];
+            regionCount[cat] = new int[(blocks >>> (2 * FAN_SHIFT)) + 1];
+        }
+        resetCategories();
+    }
+
+    // ─────────────────────────── Geometry ───────────────────────────
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int size() { return size; }
+
+    public int index(int r, int c) { return r * cols + c; }
+    public int rowOf(int idx) { return idx / cols; }
+    public int colOf(int idx) { return idx % cols; }
+
+    public boolean isInBounds(int r, int c) {
+        return r >= 0 && c >= 0 && r < rows && c < cols;
+    }
+
+    // ─────────────────────────── Bit helpers ───────────────────────────
+
+    private static boolean get(long[][] bits, int idx) {
+        long[] chunk = bits[idx >>> CHUNK_SHIFT];
+        return chunk != null && (chunk[(idx >>> 6) & (CHUNK_WORDS - 1)] & (1L << idx)) != 0;
+    }
+
+    private static void set(long[][] bits, int idx, boolean on) {
+        long[] chunk = bits[idx >>> CHUNK_SHIFT];
+        if (chunk == null) {
+            if (!on) return;
+            chunk = bits[idx >>> CHUNK_SHIFT] = new long[CHUNK_WORDS];
+        }
+        int w = (idx >>> 6) & (CHUNK_WORDS - 1);
+        if (on) chunk[w] |= (1L << idx);
+        else chunk[w] &= ~(1L << idx);
+    }
+
+    private static long word(long[][] bits, int chunk, int w) {
+        long[] c = bits[chunk];
+        return c == null ? 0L : c[w];
+    }
+
+    /** Adds (sign = 1) or removes (sign = -1) one cell's contribution to the live counters and categories. */
+    private void account(int idx, int sign) {
+        boolean mine = get(mines, idx);
+        boolean open = get(revealed, idx);
+        boolean flag = get(flagged, idx);
+
+        if (mine) {
+            mineCount += sign;
+            if (open) revealedMines += sign;
+            if (flag) correctFlags += sign;
+        } else {
+            if (open) revealedSafe += sign;
+            if (flag) wrongFlags += sign;
+        }
+
+        if (open) return;
+        if (!flag) category(mine ? HIDDEN_MINE : HIDDEN_SAFE, idx, sign);
+        if (get(questions, idx)) category(UNOPENED_QUESTION, idx, sign);
+        else if (get(surprises, idx)) category(UNOPENED_SURPRISE, idx, sign);
+    }
+
+    private void category(int cat, int idx, int sign) {
+        int block = idx >>> BLOCK_SHIFT;
+        blockCount[cat][block] += sign;
+        groupCount[cat][block >>> FAN_SHIFT] += sign;
+        regionCount[cat][block >>> (2 * FAN_SHIFT)] += sign;
+        categoryCount[cat] += sign;
+    }
+
+    // rebuilds every live counter and category count from the bits
+    private void recount() {
+        mineCount = revealedSafe = revealedMines = correctFlags = wrongFlags = 0;
+        clearCategories();
+
+        for (int c = 0; c < chunks; c++) {
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                long mine = word(mines, c, w), open = word(revealed, c, w), flag = word(flagged, c, w);
+                mineCount += Long.bitCount(mine);
+                revealedMines += Long.bitCount(mine & open);
+                revealedSafe += Long.bitCount(~mine & open);
+                correctFlags += Long.bitCount(mine & flag);
+                wrongFlags += Long.bitCount(~mine & flag);
+            }
+        }
+
+        for (int block = 0; block < blockCount[0].length; block++) {
+            int chunk = block >>> (CHUNK_SHIFT - BLOCK_SHIFT);
+            int w0 = (block << (BLOCK_SHIFT - 6)) & (CHUNK_WORDS - 1);
+            for (int cat = 0; cat < CATEGORIES; cat++) {
+                int n = 0;
+                for (int w = w0; w < w0 + BLOCK_WORDS; w++) n += Long.bitCount(categoryWord(cat, chunk, w));
+                addBlock(cat, block, n);
+            }
+        }
+    }
+
+    // every cell hidden and safe, nothing else
+    private void resetCategories() {
+        clearCategories();
+        for (int block = 0; block < blockCount[0].length; block++)
+            addBlock(HIDDEN_SAFE, block, Math.max(0, Math.min(1 << BLOCK_SHIFT, size - (block << BLOCK_SHIFT))));
+    }
+
+    private void clearCategories() {
+        for (int cat = 0; cat < CATEGORIES; cat++) {
+            Arrays.fill(blockCount[cat], 0);
+            Arrays.fill(groupCount[cat], 0);
+            Arrays.fill(regionCount[cat], 0);
+            categoryCount[cat] = 0;
+        }
+    }
+
+    private void addBlock(int cat, int block, int n) {
+        blockCount[cat][block] += n;
+        groupCount[cat][block >>> FAN_SHIFT] += n;
+        regionCount[cat][block >>> (2 * FAN_SHIFT)] += n;
+        categoryCount[cat] += n;
+    }
+
+    // ─────────────────────────── Cell state ───────────────────────────
+
+    public boolean isMine(int idx) { return get(mines, idx); }
+    public void setMine(int idx, boolean on) {
+        if (get(mines, idx) == on) return;
+        account(idx, -1);
+        set(mines, idx, on);
+        account(idx, 1);
+    }
+
+    /**
+     * Sets many mines at once and recounts the board in one sequential pass,
+     * instead of updating the counters cell by cell.
+     */
+    public void placeMines(int[] cells) {
+        for (int idx : cells) set(mines, idx, true);
+        recount();
+    }
+
+    public boolean isQuestion(int idx) { return get(questions, idx); }
+    public void setQuestion(int idx, boolean on) {
+        if (get(questions, idx) == on) return;
+        account(idx, -1);
+        set(questions, idx, on);
+        account(idx, 1);
+    }
+
+    public boolean isSurprise(int idx) { return get(surprises, idx); }
+    public void setSurprise(int idx, boolean on) {
+        if (get(surprises, idx) == on) return;
+        account(idx, -1);
+        set(surprises, idx, on);
+        account(idx, 1);
+    }
+
+    public boolean isRevealed(int idx) { return get(revealed, idx); }
+
+    /** @return true if the cell was hidden before this call */
+    public boolean reveal(int idx) {
+        if (get(revealed, idx)) return false;
+        set(revealed, idx, true);
+
+        // only the revealed bit changes, so move the cell out of its categories directly
+        boolean mine = get(mines, idx);
+        if (mine) revealedMines++;
+        else revealedSafe++;
+        if (!get(flagged, idx)) category(mine ? HIDDEN_MINE : HIDDEN_SAFE, idx, -1);
+        if (get(questions, idx)) category(UNOPENED_QUESTION, idx, -1);
+        else if (get(surprises, idx)) category(UNOPENED_SURPRISE, idx, -1);
+        return true;
+    }
+
+    /** Sets or clears the revealed bit, e.g. when a cell is replaced; {@link #reveal} is the game move. */
+    public void setRevealed(int idx, boolean on) {
+        if (get(revealed, idx) == on) return;
+        account(idx, -1);
+        set(revealed, idx, on);
+        account(idx, 1);
+    }
+
+    public boolean isFlagged(int idx) { return get(flagged, idx); }
+    public void setFlagged(int idx, boolean on) {
+        if (get(flagged, idx) == on) return;
+        set(flagged, idx, on);
+        int delta = on ? 1 : -1;
+        boolean mine = get(mines, idx);
+        if (mine) correctFlags += delta;
+        else wrongFlags += delta;
+        if (!get(revealed, idx)) category(mine ? HIDDEN_MINE : HIDDEN_SAFE, idx, -delta);
+    }
+
+    public void toggleFlag(int idx) { setFlagged(idx, !get(flagged, idx)); }
+
+    public boolean isUsed(int idx) { return get(used, idx); }
+    public void markUsed(int idx) { set(used, idx, true); }
+    public void setUsed(int idx, boolean on) { set(used, idx, on); }
+
+    public int getAdjacentMines(int idx) {
+        byte[] chunk = adjacent[idx >>> CHUNK_SHIFT];
+        if (chunk == null) return 0;
+        int b = chunk[(idx & (CHUNK_CELLS - 1)) >>> 1];
+        return (idx & 1) == 0 ? b & 0xF : (b >>> 4) & 0xF;
+    }
+
+    public void setAdjacentMines(int idx, int count) {
+        byte[] chunk = adjacent[idx >>> CHUNK_SHIFT];
+        if (chunk == null) {
+            if (count == 0) return;
+            chunk = adjacent[idx >>> CHUNK_SHIFT] = new byte[CHUNK_CELLS >>> 1];
+        }
+        int at = (idx & (CHUNK_CELLS - 1)) >>> 1;
+        chunk[at] = (idx & 1) == 0
+                ? (byte) ((chunk[at] & 0xF0) | (count & 0xF))
+                : (byte) ((chunk[at] & 0x0F) | ((count & 0xF) << 4));
+    }
+
+    /**
+     * Type priority matches the object grid: MINE, then the special cells,
+     * then NUMBER / EMPTY by adjacency.
+     */
+    public CellType getType(int idx) {
+        if (isMine(idx)) return CellType.MINE;
+        if (isQuestion(idx)) return CellType.QUESTION;
+        if (isSurprise(idx)) return CellType.SURPRISE;
+        return getAdjacentMines(idx) > 0 ? CellType.NUMBER : CellType.EMPTY;
+    }
+
+    public void setType(int idx, CellType type, int adjacentMines) {
+        setMine(idx, type == CellType.MINE);
+        setQuestion(idx, type == CellType.QUESTION);
+        setSurprise(idx, type == CellType.SURPRISE);
+        setAdjacentMines(idx, type == CellType.NUMBER ? adjacentMines : 0);
+    }
+
+    // ─────────────────────────── Whole board ───────────────────────────
+
+    /**
+     * Numbers every non-mine cell. The work follows the mines, not the board area: each mine
+     * adds one to its neighbours' nibbles (at most 8, so a nibble never carries), then the
+     * mines' own nibbles are cleared.
+     */
+    public void computeAdjacency() {
+        Arrays.fill(adjacent, null);
+        int r = 0, rowStart = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            long[] bits = mines[chunk];
+            if (bits == null) continue;
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    int idx = (chunk << CHUNK_SHIFT) + (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    // mines come in index order, so the row only ever moves forward
+                    while (idx >= rowStart + cols) {
+                        r++;
+                        rowStart += cols;
+                    }
+                    countAround(idx, r, idx - rowStart);
+                }
+            }
+        }
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            long[] bits = mines[chunk];
+            if (bits == null) continue;
+            for (int w = 0; w < CHUNK_WORDS; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    int idx = (chunk << CHUNK_SHIFT) + (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    setAdjacentMines(idx, 0);
+                }
+            }
+        }
+    }
+
+    private void countAround(int mine, int r, int c) {
+        int from = c > 0 ? -1 : 0;
+        int to = c < cols - 1 ? 1 : 0;
+        if (r > 0) bumpRun(mine - cols + from, mine - cols + to);
+        bumpRun(mine + from, mine + to);
+        if (r < rows - 1) bumpRun(mine + cols + from, mine + cols + to);
+    }
+
+    // adds one to every nibble in [from, to]; the mine's own nibble is cleared afterwards
+    private void bumpRun(int from, int to) {
+        for (int n = from; n <= to; n++) {
+            byte[] chunk = adjacent[n >>> CHUNK_SHIFT];
+            if (chunk == null) chunk = adjacent[n >>> CHUNK_SHIFT] = new byte[CHUNK_CELLS >>> 1];
+            chunk[(n & (CHUNK_CELLS - 1)) >>> 1] += (byte) ((n & 1) == 0 ? 1 : 0x10);
+        }
+    }
+
+    public int countAdjacentMines(int r, int c) {
+        int count = 0;
+        for (int dr = -1; dr <= 1; dr++) {
+            for (int dc = -1; dc <= 1; dc++) {
+                if (dr == 0 && dc == 0) continue;
+                int nr = r + dr, nc = c + dc;
+                if (isInBounds(nr, nc) && isMine(nr * cols + nc)) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Opens the cascade around an already revealed cell with no adjacent mines.
+     * @return indices of the cells newly revealed by the cascade
+     */
+    public int[] floodReveal(int start) {
+        int[] opened = FloodReveal.collect(rows, cols, start,
+                n -> !isRevealed(n) && !isFlagged(n) && !isMine(n),
+                n -> getAdjacentMines(n) == 0);
+        for (int n : opened) reveal(n);
+        return opened;
+    }
+
+    // ─────────────────────────── Live counters ───────────────────────────
+
+    public int countMines() { return mineCount; }
+    public int getHiddenSafeCells() { return size - mineCount - revealedSafe; }
+    public int getRevealedMines() { return revealedMines; }
+    public int getCorrectFlags() { return correctFlags; }
+    public int getWrongFlags() { return wrongFlags; }
+
+    public int countQuestions() { return countAnd(questions, null); }
+    public int countUsedQuestions() { return countAnd(questions, used); }
+    public int countSurprises() { return countAnd(surprises, null); }
+    public int countUsedSurprises() { return countAnd(surprises, used); }
+
+    /** Mines that are revealed or flagged (end-of-game summary). */
+    public int countHandledMines() {
+        int count = 0;
+        for (int c = 0; c < chunks; c++) {
+            if (mines[c] == null) continue;
+            for (int w = 0; w < CHUNK_WORDS; w++)
+                count += Long.bitCount(mines[c][w] & (word(revealed, c, w) | word(flagged, c, w)));
+        }
+        return count;
+    }
+
+    private int countAnd(long[][] a, long[][] b) {
+        int count = 0;
+        for (int c = 0; c < chunks; c++) {
+            if (a[c] == null) continue;
+            for (int w = 0; w < CHUNK_WORDS; w++)
+                count += Long.bitCount(b == null ? a[c][w] : a[c][w] & word(b, c, w));
+        }
+        return count;
+    }
+
+    // ─────────────────────────── Category picks ───────────────────────────
+
+    /** Hidden (unrevealed, unflagged) mines / safe cells, unopened question / surprise cells. */
+    public int countHiddenMines() { return categoryCount[HIDDEN_MINE]; }
+    public int countHiddenSafe() { return categoryCount[HIDDEN_SAFE]; }
+    public int countUnopenedQuestions() { return categoryCount[UNOPENED_QUESTION]; }
+    public int countUnopenedSurprises() { return categoryCount[UNOPENED_SURPRISE]; }
+
+    /** @return a uniformly random hidden, unflagged mine or -1 */
+    public int randomHiddenMine(RandomGenerator rnd) { return pickRandom(HIDDEN_MINE, rnd); }
+    public int randomHiddenSafe(RandomGenerator rnd) { return pickRandom(HIDDEN_SAFE, rnd); }
+    public int randomUnopenedQuestion(RandomGenerator rnd) { return pickRandom(UNOPENED_QUESTION, rnd); }
+    public int randomUnopenedSurprise(RandomGenerator rnd) { return pickRandom(UNOPENED_SURPRISE, rnd); }
+
+    /** @return a uniformly random hidden, unflagged cell of any type or -1 */
+    public int randomHiddenCell(RandomGenerator rnd) {
+        int hiddenMines = categoryCount[HIDDEN_MINE];
+        int total = hiddenMines + categoryCount[HIDDEN_SAFE];
+        if (total == 0) return -1;
+        int k = rnd.nextInt(total);
+        return k < hiddenMines ? select(HIDDEN_MINE, k) : select(HIDDEN_SAFE, k - hiddenMines);
+    }
+
+    private int pickRandom(int cat, RandomGenerator rnd) {
+        int total = categoryCount[cat];
+        return total == 0 ? -1 : select(cat, rnd.nextInt(total));
+    }
+
+    // the k-th member of a category in index order: region, group and block counts, then words
+    private int select(int cat, int k) {
+        int[] regions = regionCount[cat];
+        int region = 0;
+        while (k >= regions[region]) k -= regions[region++];
+
+        int[] groups = groupCount[cat];
+        int group = region << FAN_SHIFT;
+        while (k >= groups[group]) k -= groups[group++];
+
+        int[] blocks = blockCount[cat];
+        int block = group << FAN_SHIFT;
+        while (k >= blocks[block]) k -= blocks[block++];
+
+        int chunk = block >>> (CHUNK_SHIFT - BLOCK_SHIFT);
+        int w0 = (block << (BLOCK_SHIFT - 6)) & (CHUNK_WORDS - 1);
+        for (int w = w0; w < w0 + BLOCK_WORDS; w++) {
+            long bits = categoryWord(cat, chunk, w);
+            int n = Long.bitCount(bits);
+            if (k < n) {
+                for (int i = 0; i < k; i++) bits &= bits - 1;
+                return (chunk << CHUNK_SHIFT) + (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            k -= n;
+        }
+        throw new IllegalStateException("Category counts out of step with the bits.");
+    }
+
+    private long categoryWord(int cat, int chunk, int w) {
+        int base = (chunk << CHUNK_SHIFT) + (w << 6);
+        if (base >= size) return 0L;
+        long valid = size - base >= 64 ? -1L : (1L << (size - base)) - 1;
+
+        long closed = ~word(revealed, chunk, w) & valid;
+        long mine = word(mines, chunk, w);
+        long question = word(questions, chunk, w);
+        return switch (cat) {
+            case HIDDEN_MINE -> mine & closed & ~word(flagged, chunk, w);
+            case HIDDEN_SAFE -> ~mine & closed & ~word(flagged, chunk, w);
+            case UNOPENED_QUESTION -> question & closed;
+            default -> word(surprises, chunk, w) & ~question & closed;
+        };
+    }
+
+    public boolean allMinesRevealed() { return revealedMines == mineCount; }
+    public boolean allSafeRevealed() { return getHiddenSafeCells() == 0; }
+
+    /** Empties the board and hands every chunk back to the garbage collector. */
+    public void clear() {
+        Arrays.fill(mines, null);
+        Arrays.fill(revealed, null);
+        Arrays.fill(flagged, null);
+        Arrays.fill(used, null);
+        Arrays.fill(questions, null);
+        Arrays.fill(surprises, null);
+        Arrays.fill(adjacent, null);
+        mineCount = revealedSafe = revealedMines = correctFlags = wrongFlags = 0;
+        resetCategories();
+    }
+}
@@ -0,0 +1,129 @@
+package model;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The one thread that writes the app's files. Callers queue a write and get a future back
+ * instead of waiting for the disk, so game-end paths on the EDT never block on I/O.
+ *
+ * Writes run in the order they were queued. A write queued under a key replaces a
+ * still-queued write with the same key in its place in the queue (the newer one writes
+ * the newer state), so updates to one file that pile up while the disk is busy cost one
+ * write; the replaced write's future completes with the one that replaced it. A keyed
+ * write must therefore write state that is still right at the earlier position.
+ *
+ * The queue is unbounded: submitting never blocks, since callers are UI handlers.
+ * Everything still queued is written by a shutdown hook before the JVM exits.
+ */
+public final class PersistenceService {
+
+    /** One disk write. */
+    public interface Write {
+        void run() throws IOException;
+    }
+
+    private static final long SHUTDOWN_FLUSH_MS = 3_000;
+
+    private static final Write BARRIER = () -> {};
+
+    private static final PersistenceService INSTANCE = new PersistenceService();
+
+    private static final class Pending {
+        final Object key;
+        Write write;
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        Pending(Object key, Write write) {
+            this.key = key;
+            this.write = write;
+        }
+    }
+
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final Map<Object, Pending> queuedByKey = new HashMap<>();
+    private long writes = 0;
+
+    private PersistenceService() {
+        Thread writer = new Thread(this::writeLoop, "persistence-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(SHUTDOWN_FLUSH_MS), "persistence-flush"));
+    }
+
+    public static PersistenceService getInstance() {
+        return INSTANCE;
+    }
+
+    /** Queues a write that runs after every write queued before it. */
+    public CompletableFuture<Void> submit(Write write) {
+        return submit(null, write);
+    }
+
+    /** Queues a write under {@code key}; a queued write with the same key is replaced and keeps its position. */
+    public synchronized CompletableFuture<Void> submit(Object key, Write write) {
+        Pending queued = key == null ? null : queuedByKey.get(key);
+        if (queued != null) {
+            queued.write = Objects.requireNonNull(write);
+            return queued.done;
+        }
+        Pending p = new Pending(key, Objects.requireNonNull(write));
+        queue.add(p);
+        if (key != null) queuedByKey.put(key, p);
+        notifyAll();
+        return p.done;
+    }
+
+    /** Waits up to {@code timeoutMs} for every write queued so far. @return false on timeout */
+    public boolean flush(long timeoutMs) {
+        try {
+            submit(BARRIER).get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Writes run so far; replaced writes and flushes are not counted. */
+    public synchronized long getWriteCount() { return writes; }
+
+    private void writeLoop() {
+        while (true) {
+            List<Pending> batch;
+            synchronized (this) {
+                try {
+                    while (queue.isEmpty()) wait();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                batch = new ArrayList<>(queue);
+                queue.clear();
+                queuedByKey.clear();
+            }
+
+            for (Pending p : batch) {
+                Write w = p.write;
+                try {
+                    w.run();
+                    if (w != BARRIER) {
+                        synchronized (this) {
+                            writes++;               // counted before the future completes
+                        }
+                    }
+                    p.done.complete(null);
+                } catch (Exception e) {
+                    System.err.println("Write failed: " + e.getMessage());
+                    e.printStackTrace();
+                    p.done.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
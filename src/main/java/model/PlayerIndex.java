@@ -0,0 +1,202 @@
+package model;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Where each player's records are in a CSV history file whose first column is the player
+ * name: player name to the byte offsets of their lines. Reading one player's history then
+ * seeks straight to their lines instead of parsing the whole file.
+ *
+ * The index is kept next to the data file ("history.csv" -> "history_players.idx"), one
+ * "player,offset,end" line per record, where end is the data file length the index covers
+ * after that record. Writers call {@link #added} after appending a line and rewrite the file
+ * through {@link #replaceData}. Lines appended but not yet added are simply not indexed yet:
+ * the index only rebuilds when it knows it is stale, i.e. the file did not match it when it
+ * was loaded, a line turned up between two added lines, a rewrite, or a file shorter than
+ * what the index covers.
+ */
+public final class PlayerIndex {
+
+    private static final Map<String, PlayerIndex> OPEN = new HashMap<>();
+
+    private static final class Offsets {
+        long[] at = new long[4];
+        int size;
+
+        void add(long offset) {
+            if (size == at.length) at = Arrays.copyOf(at, size * 2);
+            at[size++] = offset;
+        }
+    }
+
+    private final File data;
+    private final AppendLog log;
+    private final Map<String, Offsets> byPlayer = new HashMap<>();
+    private long covered = 0;                   // data file bytes the index accounts for; -1 = stale
+
+    /** The index of {@code dataPath}, loaded once per process. */
+    public static synchronized PlayerIndex of(String dataPath) {
+        return OPEN.computeIfAbsent(new File(dataPath).getAbsolutePath(), PlayerIndex::new);
+    }
+
+    private PlayerIndex(String dataPath) {
+        this.data = new File(dataPath);
+        String indexPath = dataPath.replaceFirst("\\.csv$", "") + "_players.idx";
+        this.log = new AppendLog(indexPath, null);
+        load(new File(indexPath));
+        if (data.length() != covered) covered = -1;   // written without the index by an earlier run
+    }
+
+    // =========================
+    // LOOKUPS
+    // =========================
+
+    /** Offsets of the player's indexed lines, in file order. */
+    public synchronized long[] offsetsOf(String player) {
+        if (covered < 0 || data.length() < covered) rebuild();
+        Offsets o = player == null ? null : byPlayer.get(player);
+        return o == null ? new long[0] : Arrays.copyOf(o.at, o.size);
+    }
+
+    /** The player's lines, in file order. */
+    public List<String> linesOf(String player) throws IOException {
+        return readLines(offsetsOf(player));
+    }
+
+    /** The lines starting at {@code offsets}. */
+    public List<String> readLines(long[] offsets) throws IOException {
+        List<String> lines = new ArrayList<>(offsets.length);
+        if (offsets.length == 0) return lines;
+
+        try (RandomAccessFile f = new RandomAccessFile(data, "r")) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            byte[] buf = new byte[512];
+            for (long offset : offsets) {
+                line.reset();
+                f.seek(offset);
+                int n;
+                scan:
+                while ((n = f.read(buf)) > 0) {
+                    for (int i = 0; i < n; i++) {
+                        if (buf[i] == '\n') {
+                            line.write(buf, 0, i);
+                            break scan;
+                        }
+                    }
+                    line.write(buf, 0, n);
+                }
+                String s = line.toString(StandardCharsets.UTF_8);
+                lines.add(s.endsWith("\r") ? s.substring(0, s.length() - 1) : s);
+            }
+        }
+        return lines;
+    }
+
+    // =========================
+    // MAINTENANCE
+    // =========================
+
+    /** Records a line just appended at {@code offset}; lines the index already covers are ignored. */
+    public synchronized void added(String line, long offset) throws IOException {
+        if (offset < covered) return;
+        if (offset != covered) {
+            covered = -1;                       // something was appended without us: rebuild on lookup
+            return;
+        }
+        String player = playerOf(line);
+        long end = offset + line.getBytes(StandardCharsets.UTF_8).length + 1;
+        log.append(player + "," + offset + "," + end);
+        byPlayer.computeIfAbsent(player, p -> new Offsets()).add(offset);
+        covered = end;
+    }
+
+    /** Runs a rewrite of the data file; the index is rebuilt on the next lookup. */
+    public synchronized void replaceData(PersistenceService.Write rewrite) throws IOException {
+        try {
+            rewrite.run();
+        } finally {
+            covered = -1;
+        }
+    }
+
+    /** Re-reads the data file and rewrites the index. */
+    public synchronized void rebuild() {
+        byPlayer.clear();
+        covered = 0;
+        List<String> lines = new ArrayList<>();
+
+        try (InputStream in = new FileInputStream(data)) {
+            ByteArrayOutputStream name = new ByteArrayOutputStream(32);
+            byte[] buf = new byte[64 * 1024];
+            long pos = 0, lineStart = 0;
+            boolean inName = true;
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                for (int i = 0; i < n; i++, pos++) {
+                    byte b = buf[i];
+                    if (b == '\n') {
+                        String player = name.toString(StandardCharsets.UTF_8);
+                        if (player.endsWith("\r")) player = player.substring(0, player.length() - 1);
+                        if (pos > lineStart) {
+                            byPlayer.computeIfAbsent(player, p -> new Offsets()).add(lineStart);
+                            lines.add(player + "," + lineStart + "," + (pos + 1));
+                        }
+                        name.reset();
+                        inName = true;
+                        lineStart = pos + 1;
+                    } else if (b == ',') {
+                        inName = false;
+                    } else if (inName) {
+                        name.write(b);
+                    }
+                }
+            }
+            covered = pos;
+        } catch (FileNotFoundException e) {
+            covered = 0;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        try {
+            log.rewrite(lines);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        System.out.println("Rebuilt player index of " + data.getName() + ": " + lines.size() + " records");
+    }
+
+    private void load(File indexFile) {
+        if (!indexFile.exists()) {
+            covered = -1;
+            return;
+        }
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(indexFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                int b = line.lastIndexOf(',');
+                int a = line.lastIndexOf(',', b - 1);
+                if (a < 0) continue;
+                byPlayer.computeIfAbsent(line.substring(0, a), p -> new Offsets())
+                        .add(Long.parseLong(line.substring(a + 1, b)));
+                covered = Long.parseLong(line.substring(b + 1));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Unreadable player index, rebuilding: " + e.getMessage());
+            byPlayer.clear();
+            covered = -1;
+        }
+    }
+
+    private static String playerOf(String line) {
+        int comma = line.indexOf(',');
+        return comma < 0 ? line : line.substring(0, comma);
+    }
+}
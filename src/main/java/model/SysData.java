@@ -6,6 +6,7 @@ import com.opencsv.CSVWriter;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class SysData {
 
@@ -13,7 +14,6 @@ public class SysData {
 
     private final List<Question> questions;
     private final List<GameHistoryEntry> history;
-    private final List<DetailedGameHistoryEntry> detailedGameHistory;
 
     private int nextQuestionId = 1;
 
@@ -25,10 +25,18 @@ public class SysData {
     private static final String[] QUESTIONS_HEADER =
             {"ID", "Question", "Difficulty", "A", "B", "C", "D", "Correct Answer"};
 
+    // a finished game appends one line; whole-file rewrites only on delete / format upgrade
+    private final AppendLog historyLog = new AppendLog(HISTORY_CSV, null);
+    private final PlayerIndex historyIndex = PlayerIndex.of(HISTORY_CSV);
+    private final AppendLog detailedHistoryLog =
+            new AppendLog(DETAILED_HISTORY_FILE, DetailedGameHistoryEntry.getCSVHeader());
+
+    // detailed history is read from the columnar store; the CSV above is kept as its export
+    private HistoryStore detailedStore;
+
     public SysData() {
         questions = new ArrayList<>();
         history = new ArrayList<>();
-        detailedGameHistory = new ArrayList<>();
 
         ensureAppDirectory();
 
@@ -237,7 +245,8 @@ public class SysData {
 
     // ─────────────────────────── Simple History ───────────────────────────
 
-    public void loadHistory() {
+    // read once at startup; afterwards the list is the history, including games still queued for the disk
+    private void loadHistory() {
         history.clear();
         File file = new File(HISTORY_CSV);
         if (!file.exists()) return;
@@ -265,84 +274,74 @@ public class SysData {
         }
     }
 
+    /** Rewrites history.csv from memory on the writer thread. */
     public void saveHistory() {
-        try (PrintWriter pw = new PrintWriter(
-                new OutputStreamWriter(new FileOutputStream(HISTORY_CSV), StandardCharsets.UTF_8))) {
-
-            for (GameHistoryEntry h : history) {
-                pw.println(h.getPlayer1() + "," + h.getPlayer2() + "," + h.getDifficulty() + "," +
-                        h.getFinalScore() + "," + h.getDurationSeconds() + "," + h.isWon());
-            }
+        List<String> lines = new ArrayList<>(history.size());
+        for (GameHistoryEntry h : history) lines.add(historyLine(h));
+        PersistenceService.getInstance().submit(() -> historyIndex.replaceData(() -> historyLog.rewrite(lines)));
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+    private static String historyLine(GameHistoryEntry h) {
+        return h.getPlayer1() + "," + h.getPlayer2() + "," + h.getDifficulty() + "," +
+                h.getFinalScore() + "," + h.getDurationSeconds() + "," + h.isWon();
     }
 
     public List<GameHistoryEntry> getHistory() {
         return history;
     }
 
-    public void addGameHistory(GameHistoryEntry gameHistoryEntry) {
+    /** Adds the game in memory and queues its line; the caller does not wait for the disk. */
+    public CompletableFuture<Void> addGameHistory(GameHistoryEntry gameHistoryEntry) {
         history.add(gameHistoryEntry);
-        saveHistory();
+        String line = historyLine(gameHistoryEntry);
+        return PersistenceService.getInstance().submit(() -> historyIndex.added(line, historyLog.append(line)));
     }
 
     // ─────────────────────────── Detailed History ───────────────────────────
 
-    public void addDetailedGameHistory(DetailedGameHistoryEntry entry) {
-        detailedGameHistory.add(entry);
-        saveDetailedHistory();
+    /** Adds the game to the store at once and queues its CSV line; the caller does not wait for the disk. */
+    public CompletableFuture<Void> addDetailedGameHistory(DetailedGameHistoryEntry entry) {
+        try {
+            detailedStore.append(entry);
+        } catch (IOException e) {
+            System.err.println("Error saving detailed history: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return detailedHistoryLog.appendAsync(entry.toCSV());
     }
 
     public List<DetailedGameHistoryEntry> getDetailedGameHistory() {
-        return new ArrayList<>(detailedGameHistory);
+        return detailedStore.readAll();
     }
 
-    private void saveDetailedHistory() {
-        System.out.println("detailed history saved");
-        try (BufferedWriter writer = new BufferedWriter(
-                new OutputStreamWriter(new FileOutputStream(DETAILED_HISTORY_FILE), StandardCharsets.UTF_8))) {
-
-            writer.write(DetailedGameHistoryEntry.getCSVHeader());
-            writer.newLine();
-
-            for (DetailedGameHistoryEntry entry : detailedGameHistory) {
-                writer.write(entry.toCSV());
-                writer.newLine();
-            }
+    /** Game count, wins, best score and time played, computed from the store's columns. */
+    public HistoryStore.Summary getDetailedHistorySummary() {
+        return detailedStore.summary();
+    }
 
-        } catch (IOException e) {
-            System.err.println("Error saving detailed history: " + e.getMessage());
-            e.printStackTrace();
-        }
+    // the CSV export rewritten from the store as it is now, queued behind earlier appends
+    private void compactDetailedHistory() {
+        detailedHistoryLog.rewriteAsync(detailedStore.csvLines());
     }
 
+    // the store imports detailed_history.csv itself the first time it is opened
     private void loadDetailedHistory() {
-        File file = new File(DETAILED_HISTORY_FILE);
-        if (!file.exists()) {
-            System.out.println("No detailed history file found. Starting fresh.");
-            return;
-        }
+        detailedStore = HistoryStore.getInstance();
+        System.out.println("Detailed history: " + detailedStore.size() + " games");
 
-        detailedGameHistory.clear();
+        File file = new File(DETAILED_HISTORY_FILE);
+        if (!file.exists()) return;
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
 
-            String line = reader.readLine(); // header
-
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) continue;
-
-                DetailedGameHistoryEntry entry = DetailedGameHistoryEntry.fromCSV(line);
-                if (entry != null) {
-                    detailedGameHistory.add(entry);
-                }
+            // written by an older version: bring the file to the current columns once
+            String header = reader.readLine();
+            if (header != null && !header.equals(DetailedGameHistoryEntry.getCSVHeader())) {
+                System.out.println("Upgrading detailed history format in the background");
+                compactDetailedHistory();
             }
 
-            System.out.println("Loaded " + detailedGameHistory.size() + " detailed history entries");
-
         } catch (IOException e) {
             System.err.println("Error loading detailed history: " + e.getMessage());
             e.printStackTrace();
@@ -350,17 +349,11 @@ public class SysData {
     }
 
     public void clearDetailedHistory() {
-        detailedGameHistory.clear();
-        saveDetailedHistory();
+        detailedStore.clear();
+        compactDetailedHistory();
     }
 
     public List<DetailedGameHistoryEntry> getHistoryForPlayer(String playerName) {
-        List<DetailedGameHistoryEntry> playerHistory = new ArrayList<>();
-        for (DetailedGameHistoryEntry entry : detailedGameHistory) {
-            if (entry.getPlayer1().equals(playerName) || entry.getPlayer2().equals(playerName)) {
-                playerHistory.add(entry);
-            }
-        }
-        return playerHistory;
+        return detailedStore.readForPlayer(playerName);
     }
 }
@@ -0,0 +1,226 @@
+package model;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Every account, loaded once from users.csv into memory and looked up by username or by
+ * email (case-insensitive) without touching the disk.
+ *
+ * A change is saved as the user's whole row appended to a journal next to users.csv;
+ * loading reads users.csv and then replays the journal, the last row of a user winning.
+ * Saves queue on the {@link PersistenceService} under the user's name, so a burst of
+ * updates to one account writes one row. Once the journal outgrows the user count it is
+ * folded back into users.csv in the background.
+ */
+public final class UserRepository {
+
+    private static final String APP_DIR =
+            System.getProperty("user.home") + File.separator + ".minesweeper";
+
+    private static final String HEADER = "username,password,email,gamesPlayed,gamesWon,highScore";
+    private static final int MIN_JOURNAL_ROWS = 256;
+
+    private static UserRepository instance;
+
+    private final String usersCsv;
+    private final AppendLog base;
+    private final AppendLog journal;
+
+    private final Map<String, User> byName = new LinkedHashMap<>();   // file order
+    private final Map<String, String> byEmail = new HashMap<>();      // lower-case email -> username
+    private int journalRows = 0;
+    private int generation = 0;                 // bumped by each compaction; part of the save keys
+
+    public static synchronized UserRepository getInstance() {
+        if (instance == null) {
+            new File(APP_DIR).mkdirs();
+            instance = new UserRepository(APP_DIR + File.separator + "users.csv");
+        }
+        return instance;
+    }
+
+    public UserRepository(String usersCsv) {
+        this.usersCsv = usersCsv;
+        this.base = new AppendLog(usersCsv, HEADER);
+        this.journal = new AppendLog(journalPath(usersCsv), null);
+        load();
+    }
+
+    private static String journalPath(String usersCsv) {
+        return usersCsv.replaceFirst("\\.csv$", "") + "_journal.csv";
+    }
+
+    // =========================
+    // LOOKUPS
+    // =========================
+
+    /** A copy of the account, or null. */
+    public synchronized User find(String username) {
+        User u = username == null ? null : byName.get(username);
+        return u == null ? null : copyOf(u);
+    }
+
+    public synchronized User findByEmail(String email) {
+        if (email == null || email.trim().isEmpty()) return null;
+        String name = byEmail.get(email.trim().toLowerCase());
+        return name == null ? null : find(name);
+    }
+
+    public synchronized int size() { return byName.size(); }
+
+    // =========================
+    // CHANGES
+    // =========================
+
+    /** @return the write of the new row, or null if the username is taken */
+    public synchronized CompletableFuture<Void> add(String username, String password, String email) {
+        if (byName.containsKey(username)) return null;
+        put(new User(username, password, email == null ? "" : email, 0, 0, 0));
+        return save(username);
+    }
+
+    /** Forgets an account whose row could not be written. */
+    public synchronized void discard(String username) {
+        User u = byName.remove(username);
+        if (u != null && u.getEmail() != null && !u.getEmail().isEmpty()) {
+            byEmail.remove(u.getEmail().trim().toLowerCase(), username);
+        }
+    }
+
+    /** @return false for an unknown user */
+    public synchronized boolean updatePassword(String username, String newPassword) {
+        User u = byName.get(username);
+        if (u == null) return false;
+        User changed = new User(username, newPassword, u.getEmail(), u.getGamesPlayed(), u.getGamesWon(), u.getHighScore());
+        byName.put(username, changed);
+        save(username);
+        return true;
+    }
+
+    /** Updates the stats in memory at once and queues the row; unknown users are ignored. */
+    public synchronized CompletableFuture<Void> updateStats(String username, int gamesPlayed, int gamesWon, int highScore) {
+        User u = byName.get(username);
+        if (u == null) return CompletableFuture.completedFuture(null);
+        u.setGamesPlayed(gamesPlayed);
+        u.setGamesWon(gamesWon);
+        u.setHighScore(highScore);
+        return save(username);
+    }
+
+    // a newer row of the same user replaces one still queued since the last compaction
+    private CompletableFuture<Void> save(String username) {
+        String row = toRow(byName.get(username));
+        CompletableFuture<Void> done = PersistenceService.getInstance().submit(
+                "user:" + usersCsv + ":" + generation + ":" + username, () -> journal.append(row));
+        if (++journalRows > Math.max(MIN_JOURNAL_ROWS, byName.size())) compact();
+        return done;
+    }
+
+    /*
+     * users.csv from memory, then an empty journal, as one write. Every row queued before it
+     * is in the snapshot; the new generation keeps later saves from replacing those queued
+     * rows in place, so they all land after the truncation.
+     */
+    private void compact() {
+        List<String> rows = new ArrayList<>(byName.size());
+        for (User u : byName.values()) rows.add(toRow(u));
+        PersistenceService.getInstance().submit(() -> {
+            base.rewrite(rows);
+            journal.rewrite(List.of());
+        });
+        generation++;
+        journalRows = 0;
+    }
+
+    /** Writes everything queued so far; for tests and shutdown. */
+    public void flush() {
+        PersistenceService.getInstance().flush(5_000);
+    }
+
+    // =========================
+    // LOADING
+    // =========================
+
+    private void load() {
+        File file = new File(usersCsv);
+        if (!file.exists()) {
+            try {
+                base.rewrite(List.of());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        readRows(file, true);
+        journalRows = readRows(new File(journalPath(usersCsv)), false);
+        System.out.println("Loaded " + byName.size() + " users");
+    }
+
+    private int readRows(File file, boolean hasHeader) {
+        if (!file.exists()) return 0;
+        int rows = 0;
+        try (BufferedReader br = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            boolean firstLine = hasHeader;
+            while ((line = br.readLine()) != null) {
+                if (firstLine) { firstLine = false; continue; }
+                if (line.trim().isEmpty()) continue;
+
+                User u = fromRow(line);
+                if (u == null) continue;
+                put(u);
+                rows++;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return rows;
+    }
+
+    private void put(User u) {
+        User old = byName.put(u.getUsername(), u);
+        if (old != null && old.getEmail() != null && !old.getEmail().isEmpty()) {
+            byEmail.remove(old.getEmail().trim().toLowerCase(), u.getUsername());
+        }
+        if (u.getEmail() != null && !u.getEmail().isEmpty()) {
+            byEmail.putIfAbsent(u.getEmail().trim().toLowerCase(), u.getUsername());   // first account keeps an email
+        }
+    }
+
+    private static User fromRow(String line) {
+        String[] parts = line.split(",");
+        if (parts.length < 2) return null;
+        return new User(
+                parts[0],
+                parts[1],
+                parts.length > 2 ? parts[2] : "",
+                parts.length > 3 ? parseInt(parts[3]) : 0,
+                parts.length > 4 ? parseInt(parts[4]) : 0,
+                parts.length > 5 ? parseInt(parts[5]) : 0
+        );
+    }
+
+    private static String toRow(User u) {
+        return u.getUsername() + "," + u.getPassword() + "," + (u.getEmail() == null ? "" : u.getEmail()) + "," +
+                u.getGamesPlayed() + "," + u.getGamesWon() + "," + u.getHighScore();
+    }
+
+    private static int parseInt(String s) {
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static User copyOf(User u) {
+        return new User(u.getUsername(), u.getPassword(), u.getEmail(), u.getGamesPlayed(), u.getGamesWon(), u.getHighScore());
+    }
+}
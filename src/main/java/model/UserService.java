@@ -1,58 +1,35 @@
 package model;
 
-import java.io.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * Accounts and their stats for the login, sign-up and password screens. Lookups are served
+ * from the in-memory {@link UserRepository}; changes are written in the background.
+ */
 public class UserService {
 
-    private static final String APP_DIR =
-            System.getProperty("user.home") + File.separator + ".minesweeper";
-
-    private static final String USERS_CSV =
-            APP_DIR + File.separator + "users.csv";
-
-    public UserService() {
-        ensureAppDirectory();
-        ensureUsersFile();
-    }
-
-    private void ensureAppDirectory() {
-        File dir = new File(APP_DIR);
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
-    }
-
-    private void ensureUsersFile() {
-        try {
-            File file = new File(USERS_CSV);
-            if (!file.exists()) {
-                try (FileWriter fw = new FileWriter(file)) {
-                    // Updated CSV header to include email
-                    fw.write("username,password,email,gamesPlayed,gamesWon,highScore\n");
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
+    private final UserRepository users = UserRepository.getInstance();
 
     public boolean signup(String username, String password) {
         return signup(username, password, "");
     }
 
+    /**
+     * Waits for the new account's row to reach the disk, so a sign-up that reports success
+     * survives a restart. @return false if the username is taken or the row could not be written
+     */
     public boolean signup(String username, String password, String email) {
-        if (getUser(username) != null) return false;
-
-        try (FileWriter fw = new FileWriter(USERS_CSV, true)) {
-            fw.write(username + "," + password + "," + email + ",0,0,0\n");
-        } catch (IOException e) {
-            e.printStackTrace();
+        CompletableFuture<Void> saved = users.add(username, password, email);
+        if (saved == null) return false;
+        try {
+            saved.join();
+            return true;
+        } catch (CompletionException e) {
+            System.err.println("Error saving user: " + e.getCause().getMessage());
+            users.discard(username);
             return false;
         }
-
-        return true;
     }
 
     public User login(String username, String password) {
@@ -77,189 +54,39 @@ public class UserService {
     }
 
     public User getUser(String username) {
-        try (BufferedReader br = new BufferedReader(new FileReader(USERS_CSV))) {
-            String line;
-            boolean firstLine = true;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) { firstLine = false; continue; }
-                if (line.trim().isEmpty()) continue;
-
-                String[] parts = line.split(",");
-
-                if (parts.length >= 2 && parts[0].equals(username)) {
-                    User user = new User(
-                            parts[0],
-                            parts[1],
-                            parts.length > 3 ? Integer.parseInt(parts[3]) : 0,
-                            parts.length > 4 ? Integer.parseInt(parts[4]) : 0,
-                            parts.length > 5 ? Integer.parseInt(parts[5]) : 0
-                    );
-                    // Set email if available
-                    if (parts.length > 2 && !parts[2].isEmpty()) {
-                        user.setEmail(parts[2]);
-                    }
-                    return user;
-                }
-            }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return null;
+        return users.find(username);
     }
 
     // ✅ NEW: Get user by email address
     public User getUserByEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            return null;
-        }
-
-        try (BufferedReader br = new BufferedReader(new FileReader(USERS_CSV))) {
-            String line;
-            boolean firstLine = true;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) { firstLine = false; continue; }
-                if (line.trim().isEmpty()) continue;
-
-                String[] parts = line.split(",");
-
-                // Check if email matches (parts[2] is email)
-                if (parts.length >= 3 && parts[2].equalsIgnoreCase(email.trim())) {
-                    User user = new User(
-                            parts[0],
-                            parts[1],
-                            parts.length > 3 ? Integer.parseInt(parts[3]) : 0,
-                            parts.length > 4 ? Integer.parseInt(parts[4]) : 0,
-                            parts.length > 5 ? Integer.parseInt(parts[5]) : 0
-                    );
-                    user.setEmail(parts[2]);
-                    return user;
-                }
-            }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return null;
+        return users.findByEmail(email);
     }
 
     // ✅ NEW: Update password for forgot password feature
     public boolean updatePassword(String username, String newPassword) {
-        List<String> lines = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(USERS_CSV))) {
-            String line;
-            boolean firstLine = true;
-            boolean userFound = false;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) {
-                    firstLine = false;
-                    lines.add(line);
-                    continue;
-                }
-
-                if (line.trim().isEmpty()) {
-                    lines.add(line);
-                    continue;
-                }
-
-                String[] parts = line.split(",");
-                if (parts[0].equals(username)) {
-                    userFound = true;
-                    // Update password (keep email and stats)
-                    String email = parts.length > 2 ? parts[2] : "";
-                    String gamesPlayed = parts.length > 3 ? parts[3] : "0";
-                    String gamesWon = parts.length > 4 ? parts[4] : "0";
-                    String highScore = parts.length > 5 ? parts[5] : "0";
-                    
-                    lines.add(username + "," + newPassword + "," + email + "," + 
-                             gamesPlayed + "," + gamesWon + "," + highScore);
-                } else {
-                    lines.add(line);
-                }
-            }
-
-            if (!userFound) {
-                return false;
-            }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
-        }
-
-        try (FileWriter fw = new FileWriter(USERS_CSV)) {
-            for (String l : lines) fw.write(l + "\n");
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
-        }
-
-        return true;
+        return users.updatePassword(username, newPassword);
     }
 
-    public void updateUserStats(String username, int gamesPlayed, int gamesWon, int highScore) {
-        List<String> lines = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(USERS_CSV))) {
-            String line;
-            boolean firstLine = true;
-
-            while ((line = br.readLine()) != null) {
-                if (firstLine) {
-                    firstLine = false;
-                    lines.add(line);
-                    continue;
-                }
-
-                if (line.trim().isEmpty()) {
-                    lines.add(line);
-                    continue;
-                }
-
-                String[] parts = line.split(",");
-                if (parts[0].equals(username)) {
-                    // Keep email when updating stats
-                    String email = parts.length > 2 ? parts[2] : "";
-                    lines.add(username + "," + parts[1] + "," + email + "," + 
-                             gamesPlayed + "," + gamesWon + "," + highScore);
-                } else {
-                    lines.add(line);
-                }
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-            return;
-        }
-
-        try (FileWriter fw = new FileWriter(USERS_CSV)) {
-            for (String l : lines) fw.write(l + "\n");
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    /** Updates the stats at once; the returned future completes when they are on disk. */
+    public CompletableFuture<Void> updateUserStats(String username, int gamesPlayed, int gamesWon, int highScore) {
+        return users.updateStats(username, gamesPlayed, gamesWon, highScore);
     }
 
-    public void incrementGamesPlayed(String username) {
+    public CompletableFuture<Void> incrementGamesPlayed(String username) {
         User user = getUser(username);
-        if (user != null) {
-            updateUserStats(username, user.getGamesPlayed() + 1, user.getGamesWon(), user.getHighScore());
-        }
+        if (user == null) return CompletableFuture.completedFuture(null);
+        return updateUserStats(username, user.getGamesPlayed() + 1, user.getGamesWon(), user.getHighScore());
     }
 
-    public void incrementGamesWon(String username) {
+    public CompletableFuture<Void> incrementGamesWon(String username) {
         User user = getUser(username);
-        if (user != null) {
-            updateUserStats(username, user.getGamesPlayed() + 1, user.getGamesWon() + 1, user.getHighScore());
-        }
+        if (user == null) return CompletableFuture.completedFuture(null);
+        return updateUserStats(username, user.getGamesPlayed() + 1, user.getGamesWon() + 1, user.getHighScore());
     }
 
-    public void updateHighScore(String username, int score) {
+    public CompletableFuture<Void> updateHighScore(String username, int score) {
         User user = getUser(username);
-        if (user != null && score > user.getHighScore()) {
-            updateUserStats(username, user.getGamesPlayed(), user.getGamesWon(), score);
-        }
+        if (user == null || score <= user.getHighScore()) return CompletableFuture.completedFuture(null);
+        return updateUserStats(username, user.getGamesPlayed(), user.getGamesWon(), score);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package view;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * One frame scheduler for every UI animation. A single Swing timer ticks at about 60 fps
+ * and runs, in one EDT event, each registered animation whose period has elapsed. An
+ * animation that falls behind runs once rather than catching up on missed frames.
+ *
+ * An animation with an owner component only runs while the owner is showing and its
+ * frame is not minimized, so a screen swapped out by {@link Main#changeScreen} stops
+ * costing CPU. Once an owner that has been shown leaves the hierarchy for good (its
+ * window disposed or the screen dropped), its animations are removed. With nothing left
+ * to run, the timer stops.
+ */
+public final class AnimationClock {
+
+    public static final int FRAME_MS = 16;
+
+    // polling rate while every registered animation is paused
+    private static final int IDLE_MS = 250;
+
+    private static final List<Animation> animations = new ArrayList<>();
+    private static final Timer timer = new Timer(FRAME_MS, e -> tick());
+
+    private AnimationClock() {}
+
+    /** Handle of a registered animation. */
+    public static final class Animation {
+        private final Component owner;
+        private final long periodNanos;
+        private final BooleanSupplier frame;
+        private long lastNanos;
+        private boolean running = true;
+        private boolean shown;
+
+        private Animation(Component owner, int periodMs, BooleanSupplier frame) {
+            this.owner = owner;
+            this.periodNanos = Math.max(periodMs, 1) * 1_000_000L;
+            this.frame = frame;
+            this.lastNanos = System.nanoTime();
+        }
+
+        public void stop() {
+            if (!running) return;
+            running = false;
+            animations.remove(this);
+        }
+
+        public boolean isRunning() { return running; }
+    }
+
+    /** Runs {@code frame} about every {@code periodMs} until the handle is stopped. */
+    public static Animation every(Component owner, int periodMs, Runnable frame) {
+        return until(owner, periodMs, () -> {
+            frame.run();
+            return true;
+        });
+    }
+
+    /** Runs {@code frame} about every {@code periodMs} for as long as it returns true. */
+    public static Animation until(Component owner, int periodMs, BooleanSupplier frame) {
+        Animation a = new Animation(owner, periodMs, frame);
+        animations.add(a);
+        timer.setDelay(FRAME_MS);
+        if (!timer.isRunning()) timer.start();
+        return a;
+    }
+
+    /** Number of registered animations, paused ones included. */
+    public static int activeCount() {
+        return animations.size();
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        boolean anyLive = false;
+
+        // snapshot: frames may stop themselves or start new animations
+        for (Animation a : animations.toArray(new Animation[0])) {
+            if (!a.running) continue;
+
+            if (a.owner != null) {
+                if (!a.owner.isShowing()) {
+                    if (a.shown && !a.owner.isDisplayable()) a.stop(); // gone for good
+                    continue;
+                }
+                a.shown = true;
+                if (isMinimized(a.owner)) continue;
+            }
+
+            anyLive = true;
+            if (now - a.lastNanos < a.periodNanos) continue;
+            a.lastNanos = now;
+
+            boolean more;
+            try {
+                more = a.frame.getAsBoolean();
+            } catch (RuntimeException ex) {
+                ex.printStackTrace();
+                more = false;
+            }
+            if (!more) a.stop();
+        }
+
+        if (animations.isEmpty()) timer.stop();
+        else timer.setDelay(anyLive ? FRAME_MS : IDLE_MS);
+    }
+
+    private static boolean isMinimized(Component owner) {
+        Window w = owner instanceof Window win ? win : SwingUtilities.getWindowAncestor(owner);
+        while (w != null && !(w instanceof Frame)) w = w.getOwner();
+        return w instanceof Frame f && (f.getExtendedState() & Frame.ICONIFIED) != 0;
+    }
+}
@@ -34,7 +34,7 @@ public class AvatarSelectionDialog extends JDialog {
     private final Consumer<Integer> onAvatarSelected;
     private static final int ARC = 40;
     private final List<AnimatedAvatarButton> buttons = new ArrayList<>();
-    private Timer globalAnimator;
+    private AnimationClock.Animation globalAnimator;
     private long startTime;
 
     public AvatarSelectionDialog(Frame owner, String playerName, Consumer<Integer> onAvatarSelected) {
@@ -104,8 +104,7 @@ public class AvatarSelectionDialog extends JDialog {
     }
 
     private void startGlobalAnimation() {
-        globalAnimator = new Timer(20, e -> repaint());
-        globalAnimator.start();
+        globalAnimator = AnimationClock.every(this, 20, this::repaint);
     }
 
     private void applyRoundedShape() {
@@ -146,16 +145,16 @@ public class AvatarSelectionDialog extends JDialog {
         }
 
         private void animateHover(boolean in) {
-            Timer t = new Timer(15, e -> {
+            AnimationClock.until(this, 15, () -> {
                 if (in) {
                     hoverAlpha += 0.1f;
-                    if (hoverAlpha >= 1f) { hoverAlpha = 1f; ((Timer)e.getSource()).stop(); }
+                    if (hoverAlpha >= 1f) { hoverAlpha = 1f; return false; }
                 } else {
                     hoverAlpha -= 0.1f;
-                    if (hoverAlpha <= 0f) { hoverAlpha = 0f; ((Timer)e.getSource()).stop(); }
+                    if (hoverAlpha <= 0f) { hoverAlpha = 0f; return false; }
                 }
+                return true;
             });
-            t.start();
         }
 
         @Override
@@ -0,0 +1,753 @@
+package view;
+
+import engine.BoardChange;
+import engine.BoardEngine;
+import model.CellType;
+import model.ImageCache;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One component for a whole board. Cells are {@link BoardCell} state objects laid out
+ * like the old GridLayout of buttons (equal cells, gap between them, leftover space
+ * split around the grid); this component paints the cells that intersect the clip,
+ * hit-tests the mouse itself and repaints only the rectangles of cells that changed.
+ *
+ * Mouse: left button on press + release over the same cell is a click, right button
+ * flags on press. Keyboard: arrows move a cursor, Space / Enter click, F flags.
+ *
+ * In viewport mode (for boards that don't fit on screen) the cells keep their own size
+ * instead of stretching, and the component is a camera over the board: the wheel zooms
+ * around the pointer, dragging pans, + / - / 0 zoom from the keyboard and a minimap in
+ * the corner shows the whole board and jumps to where it is clicked. Zoomed out below
+ * {@link #LOD_PITCH} pixels a cell, the board is drawn as one flat color per cell.
+ *
+ * Cell objects are created on first use, a 64 x 64 block at a time, so a huge board only
+ * holds the cells that were revealed, flagged or styled. {@link #getCells} still returns
+ * the full grid for panels of ordinary size.
+ */
+public class BoardCanvas extends JComponent {
+
+    /** Input on one cell; {@code secondary} is the right button or the F key. */
+    public interface CellInput {
+        void cellClicked(int row, int col, boolean secondary);
+    }
+
+    private static final Color CURSOR_COLOR = new Color(0, 255, 255, 200);
+
+    /** Below this many pixels per cell the viewport draws flat color blocks. */
+    public static final int LOD_PITCH = 8;
+    private static final double MAX_PITCH = 96;
+    private static final int MINIMAP_MAX = 160;
+    private static final int MINIMAP_MARGIN = 12;
+    private static final int DRAG_SLOP = 5;
+
+    private static final Color MINIMAP_FRAME = new Color(56, 189, 248, 200);
+    private static final Color MINIMAP_VIEW = new Color(255, 255, 255, 220);
+
+    private static final int CHUNK_SHIFT = 6;            // 64 x 64 cells per chunk
+    private static final int CHUNK = 1 << CHUNK_SHIFT;
+
+    private final int rows;
+    private final int cols;
+    private final int gap;
+    private final int chunkCols;
+    private final BoardCell[][] chunks;
+    private BoardCell[][] grid;                           // built by getCells()
+    private final BoardCell blank;                        // paints cells nobody has touched
+    private int cellSize;
+
+    private CellInput input;
+
+    private int hover = -1;
+    private int pressed = -1;
+    private int cursor = -1;      // keyboard cursor, shown while the keyboard is in use
+
+    // viewport mode: zoom is pixels per cell (fractional below LOD_PITCH), camera is the
+    // board pixel at the left / top edge of the component
+    private boolean viewport;
+    private double zoom;
+    private double camX, camY;
+    private boolean camPlaced;
+
+    private Point dragFrom;
+    private boolean panning;
+    private boolean minimapDrag;
+
+    // only added in viewport mode, so a stretched board leaves the wheel to its scroll pane
+    private final MouseWheelListener wheelZoom =
+            e -> zoomAt(zoom * Math.pow(1.15, -e.getPreciseWheelRotation()), e.getX(), e.getY());
+
+    private BufferedImage lodImage;
+    private BufferedImage minimap;
+    private boolean minimapDirty = true;
+
+    // end-of-game reveal: the composed final board, shown over the first wipeRows rows
+    private static final int WIPE_MS = 600;
+    private BoardSnapshot finalSnapshot;
+    private BufferedImage finalImage;
+    private int wipeRows;
+    private BoardEngine finalEngine;
+    private BoardChange finalChange;
+    private CompletableFuture<Void> finalDone;
+
+    public BoardCanvas(int rows, int cols, int cellSize, int gap) {
+        this.rows = rows;
+        this.cols = cols;
+        this.gap = gap;
+        this.cellSize = cellSize;
+        this.chunkCols = (cols + CHUNK - 1) >> CHUNK_SHIFT;
+        this.chunks = new BoardCell[((rows + CHUNK - 1) >> CHUNK_SHIFT) * chunkCols][];
+        this.blank = new BoardCell(this, -1, -1);
+        this.zoom = cellSize + gap;
+
+        setOpaque(false);
+        setFocusable(true);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!isEnabled()) return;
+                requestFocusInWindow();
+                setCursorCell(-1);
+
+                if (viewport && minimapBounds().contains(e.getPoint())) {
+                    minimapDrag = true;
+                    centerOnMinimap(e.getX(), e.getY());
+                    return;
+                }
+                dragFrom = e.getPoint();
+                panning = viewport && SwingUtilities.isMiddleMouseButton(e);
+
+                int idx = cellAt(e.getX(), e.getY());
+                if (idx < 0) return;
+
+                if (SwingUtilities.isRightMouseButton(e)) fire(idx, true);
+                else if (SwingUtilities.isLeftMouseButton(e)) pressed = idx;
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int idx = pressed;
+                pressed = -1;
+                dragFrom = null;
+                minimapDrag = false;
+                if (panning) {
+                    panning = false;
+                    return;
+                }
+                if (!isEnabled() || idx < 0 || !SwingUtilities.isLeftMouseButton(e)) return;
+                if (cellAt(e.getX(), e.getY()) == idx) fire(idx, false);
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHover(isEnabled() ? cellAt(e.getX(), e.getY()) : -1);
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (minimapDrag) {
+                    centerOnMinimap(e.getX(), e.getY());
+                    return;
+                }
+                if (viewport && dragFrom != null) {
+                    // a left drag past the slop is a pan, not a click
+                    if (!panning && dragFrom.distance(e.getPoint()) > DRAG_SLOP) {
+                        panning = true;
+                        pressed = -1;
+                    }
+                    if (panning) {
+                        panBy(dragFrom.x - e.getX(), dragFrom.y - e.getY());
+                        dragFrom = e.getPoint();
+                        return;
+                    }
+                }
+                mouseMoved(e);
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHover(-1);
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (!isEnabled()) return;
+                int cur = cursor >= 0 ? cursor : (hover >= 0 ? hover : 0);
+                int r = cur / cols, c = cur % cols;
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_UP -> setCursorCell(Math.max(r - 1, 0) * cols + c);
+                    case KeyEvent.VK_DOWN -> setCursorCell(Math.min(r + 1, rows - 1) * cols + c);
+                    case KeyEvent.VK_LEFT -> setCursorCell(r * cols + Math.max(c - 1, 0));
+                    case KeyEvent.VK_RIGHT -> setCursorCell(r * cols + Math.min(c + 1, cols - 1));
+                    case KeyEvent.VK_SPACE, KeyEvent.VK_ENTER -> fire(cur, false);
+                    case KeyEvent.VK_F -> fire(cur, true);
+                    case KeyEvent.VK_PLUS, KeyEvent.VK_EQUALS, KeyEvent.VK_ADD -> {
+                        if (!viewport) return;
+                        zoomAt(zoom * 1.25, getWidth() / 2, getHeight() / 2);
+                    }
+                    case KeyEvent.VK_MINUS, KeyEvent.VK_SUBTRACT -> {
+                        if (!viewport) return;
+                        zoomAt(zoom / 1.25, getWidth() / 2, getHeight() / 2);
+                    }
+                    case KeyEvent.VK_0, KeyEvent.VK_NUMPAD0 -> {
+                        if (!viewport) return;
+                        zoomAt(fitZoom(), getWidth() / 2, getHeight() / 2);
+                    }
+                    default -> { return; }
+                }
+                e.consume();
+            }
+        });
+
+        addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                setCursorCell(-1);
+            }
+        });
+    }
+
+    public void setCellInput(CellInput input) {
+        this.input = input;
+    }
+
+    // =========================
+    // CELLS
+    // =========================
+
+    /** Every cell as a grid; creates the cells not created yet. */
+    public BoardCell[][] getCells() {
+        if (grid == null) {
+            grid = new BoardCell[rows][cols];
+            for (int r = 0; r < rows; r++)
+                for (int c = 0; c < cols; c++)
+                    grid[r][c] = getCell(r, c);
+        }
+        return grid;
+    }
+
+    public BoardCell getCell(int row, int col) {
+        int chunk = (row >> CHUNK_SHIFT) * chunkCols + (col >> CHUNK_SHIFT);
+        BoardCell[] block = chunks[chunk];
+        if (block == null) block = chunks[chunk] = new BoardCell[CHUNK * CHUNK];
+        int local = ((row & (CHUNK - 1)) << CHUNK_SHIFT) | (col & (CHUNK - 1));
+        BoardCell cell = block[local];
+        if (cell == null) cell = block[local] = new BoardCell(this, row, col);
+        return cell;
+    }
+
+    // the cell if it exists, else null: painting must not create cells
+    private BoardCell peekCell(int row, int col) {
+        BoardCell[] block = chunks[(row >> CHUNK_SHIFT) * chunkCols + (col >> CHUNK_SHIFT)];
+        return block == null ? null : block[((row & (CHUNK - 1)) << CHUNK_SHIFT) | (col & (CHUNK - 1))];
+    }
+
+    /** Nominal cell size used for the preferred size; the cells stretch to fill the component. */
+    public void setCellSize(int cellSize) {
+        this.cellSize = cellSize;
+        revalidate();
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (isPreferredSizeSet()) return super.getPreferredSize();
+        return new Dimension(cols * cellSize + (cols - 1) * gap, rows * cellSize + (rows - 1) * gap);
+    }
+
+    private void fire(int idx, boolean secondary) {
+        if (input != null) input.cellClicked(idx / cols, idx % cols, secondary);
+    }
+
+    // =========================
+    // VIEWPORT
+    // =========================
+
+    /**
+     * Switches between stretching the cells over the component (the default) and a
+     * zoomable, pannable camera over the board at the nominal cell size.
+     */
+    public void setViewportMode(boolean on) {
+        if (viewport == on) return;
+        viewport = on;
+        if (on) addMouseWheelListener(wheelZoom);
+        else removeMouseWheelListener(wheelZoom);
+        zoom = cellSize + gap;
+        camPlaced = false;
+        minimapDirty = true;
+        repaint();
+    }
+
+    public boolean isViewportMode() { return viewport; }
+
+    /** Pixels per cell, gap included; fractional when zoomed out past {@link #LOD_PITCH}. */
+    public double getZoom() { return scale(); }
+
+    /** Zooms keeping the board point under (x, y) in place. */
+    public void zoomAt(double newZoom, int x, int y) {
+        placeCamera();
+        double old = scale();
+        double u = (x + camX) / old, v = (y + camY) / old;
+        zoom = Math.max(Math.min(fitZoom(), cellSize + gap), Math.min(MAX_PITCH, newZoom));
+        double s = scale();
+        camX = u * s - x;
+        camY = v * s - y;
+        clampCamera();
+        setHover(-1);
+        repaint();
+    }
+
+    /** Moves the camera by (dx, dy) pixels. */
+    public void panBy(int dx, int dy) {
+        placeCamera();
+        camX += dx;
+        camY += dy;
+        clampCamera();
+        repaint();
+    }
+
+    /** Centers the camera on a cell. */
+    public void centerOn(int row, int col) {
+        placeCamera();
+        double s = scale();
+        camX = (col + 0.5) * s - getWidth() / 2.0;
+        camY = (row + 0.5) * s - getHeight() / 2.0;
+        clampCamera();
+        repaint();
+    }
+
+    // zoom at which the whole board fits
+    private double fitZoom() {
+        if (getWidth() <= 0 || getHeight() <= 0) return zoom;
+        return Math.min(getWidth() / (double) cols, getHeight() / (double) rows);
+    }
+
+    // whole pixels per cell while cells are drawn one by one, so sprites stay sharp
+    private double scale() {
+        return zoom >= LOD_PITCH ? Math.round(zoom) : zoom;
+    }
+
+    private int pitch() { return (int) Math.round(zoom); }
+
+    private boolean lod() { return viewport && zoom < LOD_PITCH; }
+
+    // gap shrinks with the cells so small cells keep most of their face
+    private int viewGap() {
+        int p = pitch();
+        return p >= 16 ? gap : (p >= 10 ? Math.min(gap, 1) : 0);
+    }
+
+    private void placeCamera() {
+        if (camPlaced || getWidth() <= 0) return;
+        camPlaced = true;
+        double s = scale();
+        camX = cols * s / 2 - getWidth() / 2.0;
+        camY = rows * s / 2 - getHeight() / 2.0;
+        clampCamera();
+    }
+
+    // a board larger than the component stays on screen, a smaller one is centered
+    private void clampCamera() {
+        double s = scale();
+        double bw = cols * s, bh = rows * s;
+        camX = bw <= getWidth() ? -(getWidth() - bw) / 2 : Math.max(0, Math.min(camX, bw - getWidth()));
+        camY = bh <= getHeight() ? -(getHeight() - bh) / 2 : Math.max(0, Math.min(camY, bh - getHeight()));
+    }
+
+    private void ensureVisible(int idx) {
+        if (!viewport || idx < 0) return;
+        Rectangle b = cellBounds(idx / cols, idx % cols);
+        if (new Rectangle(0, 0, getWidth(), getHeight()).contains(b)) return;
+        centerOn(idx / cols, idx % cols);
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        super.setBounds(x, y, width, height);
+        if (finalSnapshot != null && (width != finalSnapshot.width || height != finalSnapshot.height)) settleFinal();
+        if (viewport) {
+            placeCamera();
+            clampCamera();
+        }
+    }
+
+    // =========================
+    // GEOMETRY
+    // =========================
+    private int cellWidth() {
+        if (viewport) return Math.max(pitch() - viewGap(), 1);
+        return Math.max((getWidth() - (cols - 1) * gap) / cols, 1);
+    }
+
+    private int cellHeight() {
+        if (viewport) return Math.max(pitch() - viewGap(), 1);
+        return Math.max((getHeight() - (rows - 1) * gap) / rows, 1);
+    }
+
+    private int stepX() { return viewport ? pitch() : cellWidth() + gap; }
+    private int stepY() { return viewport ? pitch() : cellHeight() + gap; }
+
+    private int originX() {
+        if (viewport) { placeCamera(); return (int) Math.floor(-camX); }
+        return (getWidth() - (cellWidth() * cols + (cols - 1) * gap)) / 2;
+    }
+
+    private int originY() {
+        if (viewport) { placeCamera(); return (int) Math.floor(-camY); }
+        return (getHeight() - (cellHeight() * rows + (rows - 1) * gap)) / 2;
+    }
+
+    /** Bounds of one cell in this component's coordinates. */
+    public Rectangle cellBounds(int row, int col) {
+        if (lod()) {
+            placeCamera();
+            double s = scale();
+            int x0 = (int) Math.floor(col * s - camX), y0 = (int) Math.floor(row * s - camY);
+            int x1 = (int) Math.ceil((col + 1) * s - camX), y1 = (int) Math.ceil((row + 1) * s - camY);
+            return new Rectangle(x0, y0, Math.max(x1 - x0, 1), Math.max(y1 - y0, 1));
+        }
+        return new Rectangle(originX() + col * stepX(), originY() + row * stepY(), cellWidth(), cellHeight());
+    }
+
+    /** @return the flat index of the cell under (x, y), or -1 for the gaps and outside the grid */
+    public int cellAt(int x, int y) {
+        if (lod()) {
+            placeCamera();
+            double s = scale();
+            double u = (x + camX) / s, v = (y + camY) / s;
+            if (u < 0 || v < 0 || u >= cols || v >= rows) return -1;
+            return (int) v * cols + (int) u;
+        }
+        int w = cellWidth(), h = cellHeight();
+        int sx = stepX(), sy = stepY();
+        int dx = x - originX(), dy = y - originY();
+        if (dx < 0 || dy < 0) return -1;
+        int c = dx / sx, r = dy / sy;
+        if (r >= rows || c >= cols || dx % sx >= w || dy % sy >= h) return -1;
+        return r * cols + c;
+    }
+
+    // =========================
+    // DIRTY REPAINT
+    // =========================
+    void repaintCell(int row, int col) {
+        if (row < 0) return;                             // the shared blank cell
+        minimapDirty = true;
+        repaint(cellBounds(row, col));
+        if (viewport) repaint(minimapBounds());
+    }
+
+    /**
+     * Brings the cells of one engine move in line with the engine and repaints them with a
+     * single request. Nothing else on the board is touched.
+     */
+    public void apply(BoardEngine engine, BoardChange change) {
+        settleFinal();
+        applyQuietly(engine, change);
+        repaintCells(change.indices());
+    }
+
+    private void applyQuietly(BoardEngine engine, BoardChange change) {
+        for (int i = 0; i < change.size(); i++) {
+            int idx = change.index(i);
+            CellType type = engine.getType(idx);
+            getCell(idx / cols, idx % cols).applyQuietly(change.newState(i), type,
+                    type == CellType.NUMBER ? engine.getAdjacentMines(idx) : 0);
+        }
+    }
+
+    /**
+     * One repaint request covering every changed cell (cascades, bonus reveals), cut down to
+     * the part of the board on screen; changes that are all scrolled away only refresh the minimap.
+     */
+    public void repaintCells(int[] indices) {
+        if (indices == null || indices.length == 0) return;
+
+        int minR = rows, minC = cols, maxR = -1, maxC = -1;
+        for (int idx : indices) {
+            int r = idx / cols, c = idx % cols;
+            minR = Math.min(minR, r);
+            maxR = Math.max(maxR, r);
+            minC = Math.min(minC, c);
+            maxC = Math.max(maxC, c);
+        }
+        minimapDirty = true;
+        Rectangle dirty = cellBounds(minR, minC).union(cellBounds(maxR, maxC))
+                .intersection(viewport ? new Rectangle(0, 0, getWidth(), getHeight()) : getVisibleRect());
+        if (!dirty.isEmpty()) repaint(dirty);
+        if (viewport) repaint(minimapBounds());
+    }
+
+    // =========================
+    // END-OF-GAME REVEAL
+    // =========================
+
+    /**
+     * Shows {@code change} (normally the engine's reveal-all) without walking the cells on
+     * the EDT: the final board is composed on a background thread from a snapshot of the
+     * cell looks, then wiped in top to bottom on the frame clock. The live cells take their
+     * final state quietly once the wipe is over (at once when the canvas is not on screen).
+     * In viewport mode, or before the canvas is laid out, this is a plain {@link #apply}.
+     *
+     * @return completes on the EDT once the cells hold the final state
+     */
+    public CompletableFuture<Void> revealFinal(BoardEngine engine, BoardChange change) {
+        settleFinal();
+        if (viewport || getWidth() <= 0 || getHeight() <= 0) {
+            apply(engine, change);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        finalEngine = engine;
+        finalChange = change;
+        finalDone = new CompletableFuture<>();
+        BoardSnapshot snapshot = finalSnapshot = snapshot(engine, change);
+        CompletableFuture<Void> done = finalDone;
+
+        snapshot.renderAsync().whenComplete((img, err) -> SwingUtilities.invokeLater(() -> {
+            if (finalSnapshot != snapshot) return;                 // settled meanwhile
+            if (err != null || !isShowing() || snapshot.width != getWidth() || snapshot.height != getHeight()) {
+                settleFinal();
+                repaint();
+                return;
+            }
+            finalImage = img;
+            startWipe(snapshot);
+        }));
+        return done;
+    }
+
+    // copies of the current looks with the change applied; the live cells stay as they are
+    private BoardSnapshot snapshot(BoardEngine engine, BoardChange change) {
+        BoardCell[] looks = new BoardCell[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                BoardCell cell = peekCell(r, c);
+                if (cell != null) looks[r * cols + c] = cell.lookCopy();
+            }
+        }
+        for (int i = 0; i < change.size(); i++) {
+            int idx = change.index(i);
+            if (looks[idx] == null) looks[idx] = blank.lookCopy();
+            CellType type = engine.getType(idx);
+            looks[idx].applyQuietly(change.newState(i), type,
+                    type == CellType.NUMBER ? engine.getAdjacentMines(idx) : 0);
+        }
+        return new BoardSnapshot(rows, cols, looks, blank.lookCopy(), getWidth(), getHeight(),
+                originX(), originY(), stepX(), stepY(), cellWidth(), cellHeight(),
+                ImageCache.scaleOf(getGraphicsConfiguration()));
+    }
+
+    private void startWipe(BoardSnapshot snapshot) {
+        long start = System.nanoTime();
+        AnimationClock.until(this, AnimationClock.FRAME_MS, () -> {
+            if (finalSnapshot != snapshot) return false;
+            double t = (System.nanoTime() - start) / (WIPE_MS * 1_000_000.0);
+            int next = Math.min((int) Math.ceil(t * rows), rows);
+            if (next > wipeRows) {
+                int top = snapshot.rowsBottom(wipeRows);
+                wipeRows = next;
+                repaint(0, top, getWidth(), snapshot.rowsBottom(next) - top);
+            }
+            if (next < rows) return true;
+            settleFinal();
+            return false;
+        });
+    }
+
+    // gives the live cells their final state (no repaint: the image on screen already shows it)
+    private void settleFinal() {
+        if (finalSnapshot == null) return;
+        applyQuietly(finalEngine, finalChange);
+        minimapDirty = true;
+        CompletableFuture<Void> done = finalDone;
+        finalSnapshot = null;
+        finalImage = null;
+        finalEngine = null;
+        finalChange = null;
+        finalDone = null;
+        wipeRows = 0;
+        done.complete(null);
+    }
+
+    private void setHover(int idx) {
+        if (idx == hover) return;
+        int old = hover;
+        hover = idx;
+        if (old >= 0) repaint(cellBounds(old / cols, old % cols));
+        if (idx >= 0) repaint(cellBounds(idx / cols, idx % cols));
+    }
+
+    private void setCursorCell(int idx) {
+        if (idx == cursor) return;
+        int old = cursor;
+        cursor = idx;
+        if (old >= 0) repaint(cellBounds(old / cols, old % cols));
+        ensureVisible(idx);
+        if (idx >= 0) repaint(cellBounds(idx / cols, idx % cols));
+    }
+
+    // =========================
+    // PAINTING
+    // =========================
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+        if (lod()) paintBlocks(g, clip);
+        else paintCells(g, clip);
+
+        if (viewport && minimapBounds().intersects(clip)) paintMinimap((Graphics2D) g);
+    }
+
+    private void paintCells(Graphics g, Rectangle clip) {
+        int w = cellWidth(), h = cellHeight();
+        int sx = stepX(), sy = stepY();
+        int x0 = originX(), y0 = originY();
+
+        // only the cells that intersect the dirty region
+        int c0 = Math.max(Math.floorDiv(clip.x - x0, sx), 0);
+        int r0 = Math.max(Math.floorDiv(clip.y - y0, sy), 0);
+        int c1 = Math.min(Math.floorDiv(clip.x + clip.width - x0, sx), cols - 1);
+        int r1 = Math.min(Math.floorDiv(clip.y + clip.height - y0, sy), rows - 1);
+
+        // rows the end-of-game wipe has passed come from the composed image
+        if (finalImage != null && wipeRows > 0) {
+            Graphics2D gi = (Graphics2D) g.create();
+            gi.clipRect(0, 0, getWidth(), finalSnapshot.rowsBottom(wipeRows));
+            gi.drawImage(finalImage, 0, 0, getWidth(), getHeight(), null);
+            gi.dispose();
+            r0 = Math.max(r0, wipeRows);
+        }
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int x = x0 + c * sx, y = y0 + r * sy;
+                BoardCell cell = peekCell(r, c);
+                Graphics2D g2 = (Graphics2D) g.create(x, y, w, h);
+                (cell != null ? cell : blank).paint(g2, w, h, r * cols + c == hover);
+                if (r * cols + c == cursor && hasFocus()) {
+                    g2.setColor(CURSOR_COLOR);
+                    g2.setStroke(new BasicStroke(2f));
+                    g2.drawRect(1, 1, w - 3, h - 3);
+                }
+                g2.dispose();
+            }
+        }
+    }
+
+    // zoomed far out: one flat color per cell, sampled per screen pixel into an image
+    private void paintBlocks(Graphics g, Rectangle clip) {
+        Rectangle area = clip.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+        if (area.isEmpty()) return;
+        if (lodImage == null || lodImage.getWidth() < area.width || lodImage.getHeight() < area.height) {
+            lodImage = new BufferedImage(Math.max(area.width, getWidth()), Math.max(area.height, getHeight()),
+                    BufferedImage.TYPE_INT_ARGB);
+        }
+        int[] px = ((DataBufferInt) lodImage.getRaster().getDataBuffer()).getData();
+        int stride = lodImage.getWidth();
+
+        double s = scale();
+        int lastRow = -1, lastCol = -1, lastRgb = 0;
+        for (int y = 0; y < area.height; y++) {
+            double v = (area.y + y + 0.5 + camY) / s;
+            int r = v < 0 || v >= rows ? -1 : (int) v;
+            int off = y * stride;
+            for (int x = 0; x < area.width; x++) {
+                double u = (area.x + x + 0.5 + camX) / s;
+                int c = u < 0 || u >= cols ? -1 : (int) u;
+                if (r < 0 || c < 0) {
+                    px[off + x] = 0;
+                    continue;
+                }
+                if (r != lastRow || c != lastCol) {
+                    lastRow = r;
+                    lastCol = c;
+                    lastRgb = blockColor(r, c);
+                }
+                px[off + x] = lastRgb;
+            }
+        }
+        g.drawImage(lodImage, area.x, area.y, area.x + area.width, area.y + area.height,
+                0, 0, area.width, area.height, null);
+    }
+
+    private int blockColor(int r, int c) {
+        BoardCell cell = peekCell(r, c);
+        if (cell == null) return CellSprites.blockRgb(BoardCell.CellState.HIDDEN, 0);
+        return CellSprites.blockRgb(cell.getState(), cell.getNumber());
+    }
+
+    // =========================
+    // MINIMAP
+    // =========================
+    private Rectangle minimapBounds() {
+        if (!viewport) return new Rectangle();
+        double s = scale();
+        if (cols * s <= getWidth() && rows * s <= getHeight()) return new Rectangle(); // all in view
+        double k = MINIMAP_MAX / (double) Math.max(rows, cols);
+        int w = Math.max((int) Math.round(cols * k), 8), h = Math.max((int) Math.round(rows * k), 8);
+        return new Rectangle(getWidth() - w - MINIMAP_MARGIN, getHeight() - h - MINIMAP_MARGIN, w, h);
+    }
+
+    private void paintMinimap(Graphics2D g) {
+        Rectangle mb = minimapBounds();
+        if (mb.isEmpty()) return;
+
+        if (minimap == null || minimap.getWidth() != mb.width || minimap.getHeight() != mb.height) {
+            minimap = new BufferedImage(mb.width, mb.height, BufferedImage.TYPE_INT_RGB);
+            minimapDirty = true;
+        }
+        if (minimapDirty) {
+            int[] px = ((DataBufferInt) minimap.getRaster().getDataBuffer()).getData();
+            for (int y = 0; y < mb.height; y++) {
+                int r = (int) ((y + 0.5) * rows / mb.height);
+                for (int x = 0; x < mb.width; x++) {
+                    int c = (int) ((x + 0.5) * cols / mb.width);
+                    px[y * mb.width + x] = blockColor(r, c);
+                }
+            }
+            minimapDirty = false;
+        }
+
+        g.drawImage(minimap, mb.x, mb.y, null);
+        g.setColor(MINIMAP_FRAME);
+        g.drawRect(mb.x - 1, mb.y - 1, mb.width + 1, mb.height + 1);
+
+        // the part of the board on screen
+        double s = scale();
+        double kx = mb.width / (cols * s), ky = mb.height / (rows * s);
+        int vx = mb.x + (int) Math.round(Math.max(camX, 0) * kx);
+        int vy = mb.y + (int) Math.round(Math.max(camY, 0) * ky);
+        int vw = (int) Math.round(Math.min(getWidth(), cols * s) * kx);
+        int vh = (int) Math.round(Math.min(getHeight(), rows * s) * ky);
+        g.setColor(MINIMAP_VIEW);
+        g.drawRect(vx, vy, Math.max(vw - 1, 1), Math.max(vh - 1, 1));
+    }
+
+    private void centerOnMinimap(int x, int y) {
+        Rectangle mb = minimapBounds();
+        if (mb.isEmpty()) return;
+        int col = Math.max(0, Math.min(cols - 1, (x - mb.x) * cols / mb.width));
+        int row = Math.max(0, Math.min(rows - 1, (y - mb.y) * rows / mb.height));
+        centerOn(row, col);
+    }
+}
@@ -0,0 +1,437 @@
+package view;
+
+import engine.BoardChange;
+import javax.swing.*;
+import model.CellType;
+
+import java.awt.*;
+
+/**
+ * Look and state of one board square. Not a Swing component: the owning
+ * {@link BoardCanvas} paints every cell in one pass and routes input to the panel,
+ * and every state change here only marks this cell's rectangle dirty.
+ */
+public class BoardCell {
+
+    public enum CellState {
+        HIDDEN, REVEALED, FLAGGED, MINE, NUMBER, EMPTY,
+        QUESTION, SURPRISE, USED_QUESTION, USED_SURPRISE
+    }
+
+    private final BoardCanvas owner;
+    private final int row;
+    private final int col;
+
+    private CellState state = CellState.HIDDEN;
+    private CellType cellType;
+    private int number = 0;
+    private boolean flagged = false;
+    private boolean used = false;
+ // ===== DEMO ICON (Training) =====
+    private boolean demoIconOn = false;
+    private String demoIcon = "";
+    private Color demoIconColor = Color.WHITE;
+
+
+    // Feedback (flag correctness)
+    private boolean showingFeedback = false;
+    private Color feedbackColor = null;
+
+    // Permanent highlight (training pulse / step focus)
+    private Color permanentBorderColor = null;
+
+    // Fill behind the content (flag style, bonus flash) and game hot/cold overlay on top
+    private Color tint = null;
+    private Color outline = null;
+    private Color overlay = null;
+
+    // Training hint (text) system
+    private boolean showingHint = false;
+    private String hintText = "";
+    private Color hintColor = null;
+    private float hintPulse = 0f;
+    private AnimationClock.Animation hintPulseTimer = null;
+
+    private static final Color HOVER_COLOR = new Color(100, 100, 150, 100);
+    private static final Color SHADOW_FAR = new Color(0, 0, 0, 230);
+    private static final Color SHADOW_NEAR = new Color(0, 0, 0, 170);
+
+    BoardCell(BoardCanvas owner, int row, int col) {
+        this.owner = owner;
+        this.row = row;
+        this.col = col;
+    }
+
+    public int getRow() { return row; }
+    public int getCol() { return col; }
+
+    /** Schedules a repaint of this cell's rectangle only. */
+    public void repaint() {
+        owner.repaintCell(row, col);
+    }
+
+    // =========================
+    // Getters / Setters
+    // =========================
+    public CellState getState() { return state; }
+
+    public void setState(CellState newState) {
+        this.state = newState;
+        repaint();
+    }
+
+    public CellType getCellType() { return cellType; }
+
+    public void setCellType(CellType type) { this.cellType = type; }
+
+    public int getNumber() { return number; }
+
+    public void setNumber(int num) {
+        this.number = num;
+        if (this.state == CellState.REVEALED) this.state = CellState.NUMBER;
+        repaint();
+    }
+
+    public boolean isFlagged() { return flagged; }
+
+    public void setFlagged(boolean flagged) {
+        this.flagged = flagged;
+        if (flagged) setState(CellState.FLAGGED);
+        else setState(CellState.HIDDEN);
+    }
+
+    public boolean isUsed() { return used; }
+
+    public void setUsed(boolean used) {
+        this.used = used;
+        if (used) {
+            if (cellType == CellType.QUESTION) setState(CellState.USED_QUESTION);
+            else if (cellType == CellType.SURPRISE) setState(CellState.USED_SURPRISE);
+        }
+    }
+
+    public void setPermanentBorderColor(Color c) {
+        this.permanentBorderColor = c;
+        repaint();
+    }
+
+    public Color getTint() { return tint; }
+
+    public void setTint(Color c) {
+        this.tint = c;
+        repaint();
+    }
+
+    public void setOutline(Color c) {
+        this.outline = c;
+        repaint();
+    }
+
+    /** Hot/cold hint color drawn over everything, null to clear. */
+    public void setOverlay(Color c) {
+        this.overlay = c;
+        repaint();
+    }
+
+    // =========================
+    // Reveal helpers
+    // =========================
+    public void showMine() { setState(CellState.MINE); }
+
+    public void showNumber(int num) {
+        setNumber(num);
+        setState(CellState.NUMBER);
+    }
+
+    public void showEmpty() { setState(CellState.EMPTY); }
+
+    public void showQuestion() { setState(CellState.QUESTION); }
+
+    public void showSurprise() { setState(CellState.SURPRISE); }
+
+    /**
+     * Takes the cell's type and number and switches to its revealed look without scheduling
+     * layout or paint. Used by cascade reveals, which repaint the whole batch once.
+     */
+    public void revealQuietly(CellType type, int number) {
+        this.cellType = type;
+        this.number = number;
+        revealQuietly();
+    }
+
+    /**
+     * Takes the engine's state for this cell ({@link BoardChange} bits) without scheduling a
+     * paint; the caller repaints the whole change set once.
+     */
+    void applyQuietly(int engineState, CellType type, int number) {
+        flagged = (engineState & BoardChange.FLAGGED) != 0;
+        used = (engineState & BoardChange.USED) != 0;
+        if ((engineState & BoardChange.REVEALED) == 0) {
+            state = flagged ? CellState.FLAGGED : CellState.HIDDEN;
+            return;
+        }
+        revealQuietly(type, number);
+        if (used && type == CellType.QUESTION) state = CellState.USED_QUESTION;
+        else if (used && type == CellType.SURPRISE) state = CellState.USED_SURPRISE;
+    }
+
+    /** Like {@link #revealQuietly(CellType, int)} for a cell whose type is already set. */
+    public void revealQuietly() {
+        if (cellType == null) return;
+        state = switch (cellType) {
+            case MINE -> CellState.MINE;
+            case NUMBER -> CellState.NUMBER;
+            case EMPTY -> CellState.EMPTY;
+            case QUESTION -> CellState.QUESTION;
+            case SURPRISE -> CellState.SURPRISE;
+        };
+    }
+
+    /**
+     * A detached copy of this cell's look (face, tint, outline, overlay, border) that no one
+     * else mutates, for painting a board snapshot off the EDT. Short-lived feedback and
+     * training hints are left out.
+     */
+    BoardCell lookCopy() {
+        BoardCell copy = new BoardCell(owner, -1, -1);   // row -1: repaint() does nothing
+        copy.state = state;
+        copy.cellType = cellType;
+        copy.number = number;
+        copy.flagged = flagged;
+        copy.used = used;
+        copy.permanentBorderColor = permanentBorderColor;
+        copy.tint = tint;
+        copy.outline = outline;
+        copy.overlay = overlay;
+        return copy;
+    }
+
+    // =========================
+    // Flag feedback
+    // =========================
+    public void showCorrectFlagFeedback() {
+        showingFeedback = true;
+        feedbackColor = new Color(0, 255, 0, 170);
+        repaint();
+
+        Timer timer = new Timer(500, e -> {
+            showingFeedback = false;
+            feedbackColor = null;
+            repaint();
+        });
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    public void showIncorrectFlagFeedback() {
+        showingFeedback = true;
+        feedbackColor = new Color(255, 0, 0, 170);
+        repaint();
+
+        Timer timer = new Timer(500, e -> {
+            showingFeedback = false;
+            feedbackColor = null;
+            repaint();
+        });
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    // =========================
+    // Painting
+    // =========================
+    /** Paints the cell into a graphics already translated and clipped to its w x h rectangle. */
+    void paint(Graphics2D g2, int w, int h, boolean hover) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int radius = 8;
+
+        Color fill = hover && (state == CellState.HIDDEN || state == CellState.FLAGGED) ? HOVER_COLOR : tint;
+        if (fill != null) {
+            g2.setColor(fill);
+            g2.fillRoundRect(0, 0, w, h, radius, radius);
+        }
+
+        // 1) Base cell content, blitted from the pre-rendered atlas
+        CellSprites.draw(g2, state, number, w, h);
+
+        if (outline != null) {
+            g2.setColor(outline);
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(1, 1, w - 2, h - 2, radius, radius);
+        }
+
+        // 2) GAME HOT/COLD OVERLAY - ALWAYS ON TOP
+        if (overlay != null) drawGameOverlayHint(g2, w, h);
+
+        // 3) TRAINING hint text overlay (showHint) - ALWAYS ON TOP
+        if (showingHint && hintColor != null) {
+            drawSuperVisibleHintTop(g2, w, h, radius);
+        }
+
+        // 4) feedback + permanent highlight borders
+        if (showingFeedback && feedbackColor != null) {
+            g2.setColor(feedbackColor);
+            g2.setStroke(new BasicStroke(3f));
+            g2.drawRoundRect(2, 2, w - 4, h - 4, radius, radius);
+        }
+
+        if (permanentBorderColor != null) {
+            g2.setColor(permanentBorderColor);
+            g2.setStroke(new BasicStroke(3f));
+            g2.drawRoundRect(2, 2, w - 4, h - 4, radius, radius);
+        }
+    }
+
+    // =========================
+    // GAME overlay hint
+    // =========================
+    private void drawGameOverlayHint(Graphics2D g2, int w, int h) {
+        Graphics2D gHint = (Graphics2D) g2.create();
+
+        // Force strong alpha so it’s ALWAYS visible
+        Color strong = new Color(overlay.getRed(), overlay.getGreen(), overlay.getBlue(), 210);
+
+        // fill
+        gHint.setColor(strong);
+        gHint.fillRoundRect(0, 0, w, h, 10, 10);
+
+        // wide glow
+        gHint.setStroke(new BasicStroke(8f));
+        gHint.setColor(new Color(255, 255, 255, 90));
+        gHint.drawRoundRect(2, 2, w - 4, h - 4, 14, 14);
+
+        // crisp outline
+        gHint.setStroke(new BasicStroke(3.2f));
+        gHint.setColor(new Color(strong.getRed(), strong.getGreen(), strong.getBlue(), 255));
+        gHint.drawRoundRect(3, 3, w - 6, h - 6, 12, 12);
+
+        gHint.dispose();
+    }
+
+    // =========================
+    // TRAINING hint: pulse colours over a cached text layout
+    // =========================
+    private void drawSuperVisibleHintTop(Graphics2D g2, int w, int h, int radius) {
+        float s = (float) ((Math.sin(hintPulse) + 1) / 2.0); // 0..1
+        int fillA = 190 + (int) (55 * s);   // 190..245
+        int glowA = 80 + (int) (110 * s);   // 80..190
+
+        g2.setColor(new Color(hintColor.getRed(), hintColor.getGreen(), hintColor.getBlue(), fillA));
+        g2.fillRoundRect(0, 0, w, h, radius, radius);
+
+        // glow wide
+        g2.setStroke(new BasicStroke(8f));
+        g2.setColor(new Color(255, 255, 255, Math.min(180, glowA)));
+        g2.drawRoundRect(2, 2, w - 4, h - 4, radius + 4, radius + 4);
+
+        // crisp inner line
+        g2.setStroke(new BasicStroke(3.2f));
+        g2.setColor(new Color(hintColor.getRed(), hintColor.getGreen(), hintColor.getBlue(), 240));
+        g2.drawRoundRect(3, 3, w - 6, h - 6, radius + 2, radius + 2);
+
+        int pad = 7;
+        Rectangle box = new Rectangle(pad, pad, w - pad * 2, h - pad * 2);
+
+        HintLayout layout = HintLayout.of(g2, hintText, box.width, box.height);
+
+        // shadow double
+        g2.setColor(SHADOW_FAR);
+        layout.draw(g2, box.x + 2, box.y + 2);
+        g2.setColor(SHADOW_NEAR);
+        layout.draw(g2, box.x + 1, box.y + 1);
+
+        // main text
+        g2.setColor(Color.WHITE);
+        layout.draw(g2, box.x, box.y);
+    }
+
+    // =========================
+    // Utility
+    // =========================
+    public void reset() {
+        state = CellState.HIDDEN;
+        cellType = null;
+        number = 0;
+        flagged = false;
+        used = false;
+        showingFeedback = false;
+        feedbackColor = null;
+        permanentBorderColor = null;
+        tint = null;
+        outline = null;
+        overlay = null;
+
+        clearHint();
+
+        repaint();
+    }
+
+    public boolean canReveal() {
+        return state == CellState.HIDDEN && !flagged;
+    }
+
+    public boolean canFlag() {
+        return state == CellState.HIDDEN || state == CellState.FLAGGED;
+    }
+
+    public boolean canActivate() {
+        return (state == CellState.QUESTION || state == CellState.SURPRISE) && !used;
+    }
+
+    // =========================
+    // Training hint API
+    // =========================
+    public void showHint(String hint, Color hintColor) {
+        this.showingHint = true;
+        this.hintText = hint != null ? hint : "";
+        this.hintColor = hintColor != null ? hintColor : new Color(0, 255, 255);
+        this.hintPulse = 0f;
+
+        if (hintPulseTimer != null) hintPulseTimer.stop();
+
+        hintPulseTimer = AnimationClock.every(owner, 30, () -> {
+            hintPulse += 0.22f;
+            repaint();
+        });
+
+        Timer clearTimer = new Timer(5000, e -> clearHint());
+        clearTimer.setRepeats(false);
+        clearTimer.start();
+
+        repaint();
+    }
+
+    private void clearHint() {
+        if (hintPulseTimer != null) {
+            hintPulseTimer.stop();
+            hintPulseTimer = null;
+        }
+        showingHint = false;
+        hintText = "";
+        hintColor = null;
+        hintPulse = 0f;
+        repaint();
+    }
+    public void showFlagIcon() {
+        demoIconOn = true;
+        demoIcon = "🚩";
+        demoIconColor = new Color(255, 80, 110);
+        repaint();
+    }
+
+    public void forceShowMineIcon() {
+        demoIconOn = true;
+        demoIcon = "💣";
+        demoIconColor = Color.WHITE;
+        repaint();
+    }
+
+    public void clearDemoIcon() {
+        demoIconOn = false;
+        demoIcon = "";
+        repaint();
+    }
+
+}
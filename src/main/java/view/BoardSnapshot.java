@@ -0,0 +1,75 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The look of every cell of a {@link BoardCanvas} at one moment, detached from the live
+ * cells, with the canvas geometry it was taken at. {@link #renderAsync} draws it into an
+ * image on a background thread, so a whole board can be composed while the EDT keeps
+ * running animations and building dialogs.
+ */
+final class BoardSnapshot {
+
+    private static final ExecutorService renderer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "board-render");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int rows, cols;
+    private final BoardCell[] looks;            // row-major; null paints as blank
+    private final BoardCell blank;
+
+    final int width, height;
+    private final int x0, y0, stepX, stepY, cellW, cellH;
+    private final double scale;
+
+    BoardSnapshot(int rows, int cols, BoardCell[] looks, BoardCell blank,
+                  int width, int height, int x0, int y0, int stepX, int stepY,
+                  int cellW, int cellH, double scale) {
+        this.rows = rows;
+        this.cols = cols;
+        this.looks = looks;
+        this.blank = blank;
+        this.width = width;
+        this.height = height;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.stepX = stepX;
+        this.stepY = stepY;
+        this.cellW = cellW;
+        this.cellH = cellH;
+        this.scale = scale;
+    }
+
+    /** Bottom edge, in canvas coordinates, of the first {@code n} rows. */
+    int rowsBottom(int n) {
+        return n >= rows ? height : y0 + n * stepY;
+    }
+
+    CompletableFuture<BufferedImage> renderAsync() {
+        return CompletableFuture.supplyAsync(this::render, renderer);
+    }
+
+    /** The board as the canvas would paint it, at {@code width x height} times the display scale. */
+    BufferedImage render() {
+        BufferedImage img = new BufferedImage((int) Math.ceil(width * scale), (int) Math.ceil(height * scale),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = img.createGraphics();
+        g.scale(scale, scale);
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                BoardCell look = looks[r * cols + c];
+                Graphics2D g2 = (Graphics2D) g.create(x0 + c * stepX, y0 + r * stepY, cellW, cellH);
+                (look != null ? look : blank).paint(g2, cellW, cellH, false);
+                g2.dispose();
+            }
+        }
+        g.dispose();
+        return img;
+    }
+}
@@ -0,0 +1,329 @@
+package view;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pre-rendered cell faces. Every base look of a cell (hidden, flag, mine, numbers 0-8,
+ * empty, question, surprise and their used versions) is drawn once per cell size and
+ * screen scale into one compatible image atlas and then blitted, so a repaint costs an
+ * image copy instead of gradients and emoji text layout. A resize or a new scale only
+ * builds a new atlas; the few most recent atlases stay cached for the other boards on screen.
+ * Atlases are shared under a lock, so a background thread may draw faces too.
+ */
+final class CellSprites {
+
+    private static final Font SYMBOL_FONT = new Font("Segoe UI Emoji", Font.BOLD, 16);
+    private static final Font NUMBER_FONT = new Font("SansSerif", Font.BOLD, 20);
+
+    private static final int RADIUS = 8;
+    private static final int MAX_NUMBER = 8;
+
+    // one slot per state, NUMBER is replaced by one slot per number
+    private static final BoardCell.CellState[] STATES = BoardCell.CellState.values();
+    private static final int NUMBER_SLOT = STATES.length;
+    private static final int SLOTS = NUMBER_SLOT + MAX_NUMBER + 1;
+
+    private static final int MAX_ATLASES = 8;
+
+    private static final Map<Long, Atlas> ATLASES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Atlas> eldest) {
+            return size() > MAX_ATLASES;
+        }
+    };
+
+    private CellSprites() {}
+
+    /** Sprites for one cell size at one device scale; slots are rendered on first use. */
+    private static final class Atlas {
+        final BufferedImage image;
+        final boolean[] rendered = new boolean[SLOTS];
+        final int pw, ph;
+        final double sx, sy;
+        final int w, h;
+
+        Atlas(GraphicsConfiguration gc, int w, int h, double sx, double sy) {
+            this.w = w;
+            this.h = h;
+            this.sx = sx;
+            this.sy = sy;
+            this.pw = (int) Math.ceil(w * sx);
+            this.ph = (int) Math.ceil(h * sy);
+            this.image = gc != null
+                    ? gc.createCompatibleImage(pw * SLOTS, ph, Transparency.TRANSLUCENT)
+                    : new BufferedImage(pw * SLOTS, ph, BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+
+        void render(int slot, BoardCell.CellState state, int number) {
+            Graphics2D g2 = image.createGraphics();
+            g2.clipRect(slot * pw, 0, pw, ph);
+            g2.translate(slot * pw, 0);
+            g2.scale(sx, sy);
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            drawFace(g2, state, number, w, h);
+            g2.dispose();
+            rendered[slot] = true;
+        }
+    }
+
+    /** Draws the base face of a cell into a graphics translated to its w x h rectangle. */
+    static void draw(Graphics2D g2, BoardCell.CellState state, int number, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+
+        AffineTransform tx = g2.getTransform();
+        double sx = tx.getScaleX(), sy = tx.getScaleY();
+        if (tx.getShearX() != 0 || tx.getShearY() != 0 || sx <= 0 || sy <= 0) {
+            drawFace(g2, state, number, w, h); // rotated / mirrored: nothing sensible to cache
+            return;
+        }
+
+        int slot = state == BoardCell.CellState.NUMBER
+                ? NUMBER_SLOT + Math.max(0, Math.min(number, MAX_NUMBER))
+                : state.ordinal();
+
+        Atlas atlas;
+        synchronized (ATLASES) {                 // the end-of-game board is composed off the EDT
+            atlas = atlasFor(g2.getDeviceConfiguration(), w, h, sx, sy);
+            if (!atlas.rendered[slot]) atlas.render(slot, state, number);
+        }
+
+        int x = slot * atlas.pw;
+        g2.drawImage(atlas.image, 0, 0, w, h, x, 0, x + atlas.pw, atlas.ph, null);
+    }
+
+    private static Atlas atlasFor(GraphicsConfiguration gc, int w, int h, double sx, double sy) {
+        long key = ((long) w << 48) | ((long) h << 32)
+                | ((Math.round(sx * 100) & 0xFFFF) << 16) | (Math.round(sy * 100) & 0xFFFF);
+        Atlas atlas = ATLASES.get(key);
+        if (atlas == null) {
+            atlas = new Atlas(gc, w, h, sx, sy);
+            ATLASES.put(key, atlas);
+        }
+        return atlas;
+    }
+
+    // =========================
+    // Faces
+    // =========================
+    private static void drawFace(Graphics2D g2, BoardCell.CellState state, int number, int w, int h) {
+        int radius = RADIUS;
+        switch (state) {
+            case HIDDEN:
+            case FLAGGED:
+                drawHiddenCell(g2, w, h, radius);
+                if (state == BoardCell.CellState.FLAGGED) {
+                    g2.setFont(SYMBOL_FONT);
+                    g2.setColor(Color.RED);
+                    drawCenteredString(g2, "🚩", w, h);
+                }
+                break;
+
+            case MINE:
+                drawMine(g2, w, h, radius);
+                break;
+
+            case NUMBER:
+                drawNumberCell(g2, w, h, radius, number);
+                break;
+
+            case EMPTY:
+                drawEmptyCell(g2, w, h, radius);
+                break;
+
+            case QUESTION:
+                drawQuestionCell(g2, w, h, radius);
+                break;
+
+            case USED_QUESTION:
+                drawUsedQuestionCell(g2, w, h, radius);
+                break;
+
+            case SURPRISE:
+                drawSurpriseCell(g2, w, h, radius);
+                break;
+
+            case USED_SURPRISE:
+                drawUsedSurpriseCell(g2, w, h, radius);
+                break;
+
+            default:
+                g2.setColor(new Color(30, 30, 45));
+                g2.fillRoundRect(0, 0, w, h, radius, radius);
+        }
+    }
+
+    private static void drawMine(Graphics2D g2, int w, int h, int radius) {
+        g2.setColor(new Color(150, 0, 0, 220));
+        g2.fillRoundRect(0, 0, w, h, radius + 2, radius + 2);
+
+        RadialGradientPaint explosionGradient = new RadialGradientPaint(
+                w / 2f, h / 2f, w / 2f,
+                new float[]{0.0f, 0.6f, 1.0f},
+                new Color[]{
+                        new Color(255, 80, 80),
+                        new Color(200, 30, 30),
+                        new Color(130, 0, 0)
+                }
+        );
+        g2.setPaint(explosionGradient);
+        g2.fillRoundRect(2, 2, w - 4, h - 4, radius, radius);
+
+        g2.setFont(SYMBOL_FONT);
+        g2.setColor(new Color(0, 0, 0, 150));
+        drawCenteredString(g2, "💣", w + 1, h + 1);
+        g2.setColor(Color.WHITE);
+        drawCenteredString(g2, "💣", w, h);
+    }
+
+    private static void drawNumberCell(Graphics2D g2, int w, int h, int radius, int number) {
+        g2.setColor(new Color(5, 5, 15, 230));
+        g2.fillRoundRect(2, 2, w - 2, h - 2, radius, radius);
+
+        GradientPaint insetGradient = new GradientPaint(
+                0, 0, new Color(22, 22, 38),
+                w, h, new Color(16, 16, 28)
+        );
+        g2.setPaint(insetGradient);
+        g2.fillRoundRect(3, 3, w - 6, h - 6, radius, radius);
+
+        g2.setFont(NUMBER_FONT);
+        g2.setColor(getNumberColor(number));
+        drawCenteredString(g2, String.valueOf(number), w, h);
+    }
+
+    private static void drawEmptyCell(Graphics2D g2, int w, int h, int radius) {
+        g2.setColor(new Color(5, 5, 15, 230));
+        g2.fillRoundRect(2, 2, w - 2, h - 2, radius, radius);
+
+        GradientPaint emptyGradient = new GradientPaint(
+                0, 0, new Color(18, 18, 30),
+                w, h, new Color(12, 12, 22)
+        );
+        g2.setPaint(emptyGradient);
+        g2.fillRoundRect(3, 3, w - 6, h - 6, radius, radius);
+    }
+
+    private static void drawQuestionCell(Graphics2D g2, int w, int h, int radius) {
+        g2.setColor(new Color(0, 100, 180, 230));
+        g2.fillRoundRect(2, 2, w - 2, h - 2, radius, radius);
+
+        GradientPaint questionGradient = new GradientPaint(
+                0, 0, new Color(15, 70, 140),
+                w, h, new Color(10, 50, 100)
+        );
+        g2.setPaint(questionGradient);
+        g2.fillRoundRect(3, 3, w - 6, h - 6, radius, radius);
+
+        g2.setFont(SYMBOL_FONT);
+        g2.setColor(new Color(120, 240, 255));
+        drawCenteredString(g2, "❓", w, h);
+    }
+
+    private static void drawUsedQuestionCell(Graphics2D g2, int w, int h, int radius) {
+        drawEmptyCell(g2, w, h, radius);
+        g2.setFont(SYMBOL_FONT);
+        g2.setColor(new Color(50, 255, 150));
+        drawCenteredString(g2, "✓", w, h);
+    }
+
+    private static void drawSurpriseCell(Graphics2D g2, int w, int h, int radius) {
+        g2.setColor(new Color(180, 120, 0, 230));
+        g2.fillRoundRect(2, 2, w - 2, h - 2, radius, radius);
+
+        GradientPaint surpriseGradient = new GradientPaint(
+                0, 0, new Color(140, 90, 10),
+                w, h, new Color(100, 65, 5)
+        );
+        g2.setPaint(surpriseGradient);
+        g2.fillRoundRect(3, 3, w - 6, h - 6, radius, radius);
+
+        g2.setFont(SYMBOL_FONT);
+        g2.setColor(new Color(255, 230, 50));
+        drawCenteredString(g2, "🎁", w, h);
+    }
+
+    private static void drawUsedSurpriseCell(Graphics2D g2, int w, int h, int radius) {
+        drawEmptyCell(g2, w, h, radius);
+        g2.setFont(SYMBOL_FONT);
+        g2.setColor(new Color(255, 230, 50));
+        drawCenteredString(g2, "⭐", w, h);
+    }
+
+    private static void drawHiddenCell(Graphics2D g2, int w, int h, int radius) {
+        g2.setColor(new Color(20, 20, 30, 150));
+        g2.fillRoundRect(3, 3, w - 3, h - 3, radius, radius);
+
+        GradientPaint gradient = new GradientPaint(
+                0, 0, new Color(65, 70, 100),
+                w, h, new Color(50, 55, 80)
+        );
+        g2.setPaint(gradient);
+        g2.fillRoundRect(1, 1, w - 4, h - 4, radius, radius);
+
+        g2.setColor(new Color(85, 90, 130, 200));
+        g2.setStroke(new BasicStroke(1.5f));
+        g2.drawRoundRect(1, 1, w - 4, h - 4, radius, radius);
+    }
+
+    private static void drawCenteredString(Graphics g, String text, int w, int h) {
+        FontMetrics fm = g.getFontMetrics();
+        int x = (w - fm.stringWidth(text)) / 2;
+        int y = (fm.getAscent() + (h - (fm.getAscent() + fm.getDescent())) / 2);
+        g.drawString(text, x, y);
+    }
+
+    /**
+     * One opaque ARGB color standing for a whole face, for boards zoomed out too far to
+     * draw faces: roughly the face's average, numbers tinted by their digit color.
+     */
+    static int blockRgb(BoardCell.CellState state, int number) {
+        int slot = state == BoardCell.CellState.NUMBER
+                ? NUMBER_SLOT + Math.max(0, Math.min(number, MAX_NUMBER))
+                : state.ordinal();
+        return BLOCK_RGB[slot];
+    }
+
+    private static final int[] BLOCK_RGB = new int[SLOTS];
+
+    static {
+        for (BoardCell.CellState s : STATES) {
+            Color c = switch (s) {
+                case HIDDEN -> new Color(58, 62, 90);
+                case FLAGGED -> new Color(200, 45, 55);
+                case MINE -> new Color(150, 0, 0);
+                case EMPTY, REVEALED, NUMBER -> new Color(15, 15, 26);
+                case QUESTION -> new Color(15, 70, 140);
+                case USED_QUESTION -> new Color(25, 75, 70);
+                case SURPRISE -> new Color(140, 90, 10);
+                case USED_SURPRISE -> new Color(85, 70, 25);
+            };
+            BLOCK_RGB[s.ordinal()] = c.getRGB();
+        }
+        for (int n = 0; n <= MAX_NUMBER; n++) {
+            Color digit = getNumberColor(n);
+            // a small digit on a dark face: mostly face, a third digit
+            Color c = n == 0 ? new Color(15, 15, 26) : new Color(
+                    (2 * 19 + digit.getRed()) / 3, (2 * 19 + digit.getGreen()) / 3, (2 * 33 + digit.getBlue()) / 3);
+            BLOCK_RGB[NUMBER_SLOT + n] = c.getRGB();
+        }
+    }
+
+    private static Color getNumberColor(int num) {
+        return switch (num) {
+            case 1 -> new Color(0, 220, 255);
+            case 2 -> new Color(50, 255, 150);
+            case 3 -> new Color(255, 100, 30);
+            case 4 -> new Color(170, 70, 255);
+            case 5 -> new Color(255, 50, 90);
+            case 6 -> new Color(0, 240, 220);
+            case 7 -> new Color(255, 230, 0);
+            case 8 -> new Color(200, 200, 200);
+            default -> Color.WHITE;
+        };
+    }
+}
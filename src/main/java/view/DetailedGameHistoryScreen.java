@@ -1,6 +1,7 @@
 package view;
 
 import model.DetailedGameHistoryEntry;
+import model.HistoryStore;
 import model.TwoPlayerMode;
 
 import javax.swing.*;
@@ -14,13 +15,11 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.List;
 
-import javax.swing.Timer;
-
 public class DetailedGameHistoryScreen extends JPanel {
 
     private JFrame frame;
 
-    private Timer bgTimer1;
+    private AnimationClock.Animation bgTimer1;
 
     // Keep original data (never modified)
     private final List<DetailedGameHistoryEntry> allRecords;
@@ -28,7 +27,10 @@ public class DetailedGameHistoryScreen extends JPanel {
     // What we actually display (filtered + sorted)
     private List<DetailedGameHistoryEntry> records;
 
-    private JPanel historyContainer;
+    // Totals over every game, from the history store's columns (null = no summary line)
+    private final HistoryStore.Summary summary;
+
+    private VirtualCardList<DetailedGameHistoryEntry, JPanel> historyList;
    
     // --- Modern Theme Colors ---
     private static final Color BG_DARK = new Color(15, 23, 42);
@@ -64,11 +66,17 @@ public class DetailedGameHistoryScreen extends JPanel {
     private JCheckBox enableDateFilter;
 
     // Background animation
-    private final java.util.List<Particle> particles = new ArrayList<>();
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(BG_DARK, BG_GRAD_2);
     private final Random rnd = new Random();
 
     public DetailedGameHistoryScreen(JFrame frame, List<DetailedGameHistoryEntry> records) {
+        this(frame, records, null);
+    }
+
+    public DetailedGameHistoryScreen(JFrame frame, List<DetailedGameHistoryEntry> records, HistoryStore.Summary summary) {
         this.frame = frame;
+        this.summary = summary;
 
         this.allRecords = (records == null) ? new ArrayList<>() : new ArrayList<>(records);
         this.records = new ArrayList<>(this.allRecords);
@@ -97,11 +105,10 @@ public class DetailedGameHistoryScreen extends JPanel {
 
     private void startBackgroundAnimation1() {
         if (bgTimer1 != null) bgTimer1.stop();
-        bgTimer1 = new Timer(40, e -> {
-            for (Particle p : particles) p.update(getWidth(), getHeight());
+        bgTimer1 = AnimationClock.every(this, 40, () -> {
+            particles.update();
             repaint();
         });
-        bgTimer1.start();
     }
 
     // =============================
@@ -120,7 +127,21 @@ public class DetailedGameHistoryScreen extends JPanel {
         title.setForeground(Color.WHITE);
 
         panel.add(backBtn, BorderLayout.WEST);
-        panel.add(title, BorderLayout.CENTER);
+        if (summary == null) {
+            panel.add(title, BorderLayout.CENTER);
+        } else {
+            JLabel totals = new JLabel(String.format("%d games  \u00b7  %.0f%% won  \u00b7  best %d pts  \u00b7  %dh %02dm played",
+                    summary.games(), summary.winRate(), summary.bestScore(),
+                    summary.totalSeconds() / 3600, summary.totalSeconds() / 60 % 60), SwingConstants.CENTER);
+            totals.setFont(LABEL_FONT);
+            totals.setForeground(TEXT_DIM);
+
+            JPanel titles = new JPanel(new GridLayout(2, 1, 0, 4));
+            titles.setOpaque(false);
+            titles.add(title);
+            titles.add(totals);
+            panel.add(titles, BorderLayout.CENTER);
+        }
         panel.add(Box.createHorizontalStrut(120), BorderLayout.EAST);
         return panel;
     }
@@ -297,14 +318,13 @@ public class DetailedGameHistoryScreen extends JPanel {
     // =============================
 
     private JScrollPane createHistoryScrollPane() {
-        historyContainer = new JPanel();
-        historyContainer.setLayout(new BoxLayout(historyContainer, BoxLayout.Y_AXIS));
-        historyContainer.setOpaque(false);
-        historyContainer.setBorder(new EmptyBorder(10, 40, 30, 40));
-
-        fillHistoryContainer();
+        // VS rows carry a winner line, so they are taller than CO-OP rows
+        historyList = new VirtualCardList<>(this::createDetailedGameCard, this::bindDetailedGameCard,
+                r -> r != null && r.getMode() == TwoPlayerMode.COMPETITIVE, 18);
+        historyList.setBorder(new EmptyBorder(10, 40, 30, 40));
+        historyList.setEmptyView(createEmptyState());
 
-        JScrollPane scrollPane = new JScrollPane(historyContainer);
+        JScrollPane scrollPane = new JScrollPane(historyList);
         scrollPane.setBorder(null);
         scrollPane.setOpaque(false);
         scrollPane.getViewport().setOpaque(false);
@@ -313,39 +333,12 @@ public class DetailedGameHistoryScreen extends JPanel {
         return scrollPane;
     }
 
-    private void fillHistoryContainer() {
-        historyContainer.removeAll();
-
-        if (records.isEmpty()) {
-            showEmptyState();
-            return;
-        }
-
-        for (int i = 0; i < records.size(); i++) {
-            JPanel card = createDetailedGameCard(records.get(i));
-            card.setVisible(false);
-
-            historyContainer.add(card);
-            historyContainer.add(Box.createVerticalStrut(18));
-
-            final int index = i;
-            Timer animTimer = new Timer(index * 70, e -> {
-                card.setVisible(true);
-                historyContainer.revalidate();
-                historyContainer.repaint();
-            });
-            animTimer.setRepeats(false);
-            animTimer.start();
-        }
-    }
-
     private void refreshUI() {
-        fillHistoryContainer();
-        historyContainer.revalidate();
-        historyContainer.repaint();
+        historyList.setItems(records);
     }
 
-    private JPanel createDetailedGameCard(DetailedGameHistoryEntry r) {
+    // card shell, reused by the list; bindDetailedGameCard fills it for one record
+    private JPanel createDetailedGameCard() {
         JPanel card = new JPanel(new BorderLayout(0, 12)) {
             @Override protected void paintComponent(Graphics g) {
                 Graphics2D g2 = (Graphics2D) g.create();
@@ -378,6 +371,12 @@ public class DetailedGameHistoryScreen extends JPanel {
             }
         });
 
+        return card;
+    }
+
+    private void bindDetailedGameCard(JPanel card, DetailedGameHistoryEntry r) {
+        card.removeAll();
+        card.setBackground(CARD_BG);
         card.add(createGameOverview(r), BorderLayout.NORTH);
 
         JPanel center = new JPanel();
@@ -394,8 +393,8 @@ public class DetailedGameHistoryScreen extends JPanel {
         center.add(createPlayerStatsPanel(r));
 
         card.add(center, BorderLayout.CENTER);
-
-        return card;
+        card.revalidate();
+        card.repaint();
     }
 
     // =============================
@@ -705,14 +704,12 @@ public class DetailedGameHistoryScreen extends JPanel {
         return box;
     }
 
-    private void showEmptyState() {
-        JLabel msg = new JLabel("No records found.");
+    private JComponent createEmptyState() {
+        JLabel msg = new JLabel("No records found.", SwingConstants.CENTER);
         msg.setForeground(TEXT_DIM);
         msg.setFont(new Font("Segoe UI", Font.PLAIN, 16));
-        msg.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        historyContainer.add(Box.createVerticalStrut(100));
-        historyContainer.add(msg);
+        msg.setBorder(new EmptyBorder(100, 0, 0, 0));
+        return msg;
     }
 
     // =============================
@@ -922,14 +919,7 @@ public class DetailedGameHistoryScreen extends JPanel {
     // =============================
 
     private void initParticles() {
-        particles.clear();
-        for (int i = 0; i < 55; i++) {
-            particles.add(new Particle(rnd.nextInt(1400), rnd.nextInt(900),
-                    (rnd.nextFloat() - 0.5f) * 0.6f,
-                    (rnd.nextFloat() - 0.5f) * 0.6f,
-                    1 + rnd.nextFloat() * 2.5f,
-                    0.06f + rnd.nextFloat() * 0.10f));
-        }
+        particles = new ParticleField(55, ParticleField.DUST, rnd);
     }
 
     @Override
@@ -939,41 +929,12 @@ public class DetailedGameHistoryScreen extends JPanel {
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        GradientPaint gp = new GradientPaint(0, 0, BG_DARK, getWidth(), getHeight(), BG_GRAD_2);
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
-
-        for (Particle p : particles) p.draw(g2);
+        backdrop.paint(g2, getWidth(), getHeight());
+        particles.paint(g2, getWidth(), getHeight());
 
         g2.dispose();
     }
 
-    private static class Particle {
-        float x, y, vx, vy, size, alpha;
-
-        Particle(float x, float y, float vx, float vy, float size, float alpha) {
-            this.x = x; this.y = y; this.vx = vx; this.vy = vy;
-            this.size = size; this.alpha = alpha;
-        }
-
-        void update(int w, int h) {
-            x += vx;
-            y += vy;
-
-            if (w <= 0 || h <= 0) return;
-
-            if (x < 0) x = w;
-            if (x > w) x = 0;
-            if (y < 0) y = h;
-            if (y > h) y = 0;
-        }
-
-        void draw(Graphics2D g2) {
-            g2.setColor(new Color(255, 255, 255, Math.min(255, (int) (alpha * 255))));
-            g2.fillOval((int) x, (int) y, (int) size, (int) size);
-        }
-    }
-
     // =============================
     // Game-themed icons (no emoji)
     // =============================
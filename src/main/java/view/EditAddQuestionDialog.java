@@ -562,26 +562,25 @@ public class EditAddQuestionDialog extends JDialog {
 
     private void fadeInAndSlide() {
         setOpacity(0f);
-        Timer timer = new Timer(16, e -> {
+        AnimationClock.until(this, 16, () -> {
             opacity = Math.min(1f, opacity + 0.08f);
             slideOffset = Math.max(0f, slideOffset - 4f);
             setOpacity(opacity);
             setLocation(getX(), getY() - (int) (slideOffset * 0.08f));
-            if (opacity >= 1f && slideOffset <= 0f) ((Timer) e.getSource()).stop();
+            return !(opacity >= 1f && slideOffset <= 0f);
         });
-        timer.start();
     }
 
     private void fadeOutAndDispose() {
-        Timer timer = new Timer(16, e -> {
+        AnimationClock.until(this, 16, () -> {
             opacity = Math.max(0f, opacity - 0.12f);
             setOpacity(opacity);
             if (opacity <= 0f) {
-                ((Timer) e.getSource()).stop();
                 dispose();
+                return false;
             }
+            return true;
         });
-        timer.start();
     }
 
     public static Question show(JFrame parent, String title, Question existingQuestion) {
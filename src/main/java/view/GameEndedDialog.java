@@ -1,16 +1,14 @@
 package view;
 
 import com.formdev.flatlaf.FlatClientProperties;
+import model.ImageCache;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.RoundRectangle2D;
-import java.awt.image.BufferedImage;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -29,7 +27,7 @@ public class GameEndedDialog extends JDialog {
     // ✅ Celebration particles (only for WIN)
     private final List<CelebrationParticle> celebrationParticles = new ArrayList<>();
 
-    private Timer animationTimer;
+    private AnimationClock.Animation animationTimer;
 
     // Animation vars
     private float cardScale = 0.6f;
@@ -393,23 +391,13 @@ public class GameEndedDialog extends JDialog {
 
     private Image loadEndImage(EndReason reason, int w, int h) {
         String path = switch (reason) {
-            case WIN -> "/images/win.jpeg";
-            case LOST_NO_LIVES -> "/images/lose.jpeg";
-            case GIVE_UP -> "/images/give_up.jpeg";
+            case WIN -> ImageCache.WIN;
+            case LOST_NO_LIVES -> ImageCache.LOSE;
+            case GIVE_UP -> ImageCache.GIVE_UP;
         };
 
-        try {
-            URL url = getClass().getResource(path);
-            if (url == null) {
-                System.err.println("Image not found: " + path);
-                return null;
-            }
-            BufferedImage img = ImageIO.read(url);
-            return img.getScaledInstance(w, h, Image.SCALE_SMOOTH);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
+        // decoded at startup; scaled once per size and display scale
+        return ImageCache.get(path, w, h, ImageCache.scaleOf(getGraphicsConfiguration()));
     }
 
     private Font safeFont(String name, int style, int size) {
@@ -421,7 +409,7 @@ public class GameEndedDialog extends JDialog {
     // ---------------- Animations ----------------
 
     private void startAnimations() {
-        animationTimer = new Timer(16, e -> {
+        animationTimer = AnimationClock.every(this, 16, () -> {
             if (cardScale < 1.0f) cardScale += (1.0f - cardScale) * 0.1f;
             if (cardOpacity < 1.0f) cardOpacity = Math.min(1f, cardOpacity + 0.06f);
 
@@ -438,7 +426,6 @@ public class GameEndedDialog extends JDialog {
 
             repaint();
         });
-        animationTimer.start();
     }
 
     // ---------------- Background init ----------------
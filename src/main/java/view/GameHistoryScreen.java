@@ -3,7 +3,6 @@ package view;
 import model.GameHistoryEntry;
 
 import javax.swing.*;
-import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.*;
@@ -21,16 +20,27 @@ public class GameHistoryScreen extends JPanel {
     private final String mode;              // keep for navigation ("single" back to private menu)
     private final String loggedInUser;      // ONLY practice user
 
-    private JPanel historyContainer;
+    private VirtualCardList<GameHistoryEntry, HistoryCard> historyList;
     private JTextField searchField;
     private JComboBox<String> sortFilter;
 
     // ✅ fallback order if no timestamp
     private final IdentityHashMap<GameHistoryEntry, Integer> originalIndex = new IdentityHashMap<>();
 
+    // parsed once per record: sorting and search run on every keystroke
+    private final IdentityHashMap<GameHistoryEntry, Long> timestampMillis = new IdentityHashMap<>();
+    private final IdentityHashMap<GameHistoryEntry, String> searchText = new IdentityHashMap<>();
+
+    // this user's practice games, and what the list shows now (filtered + sorted)
+    private List<GameHistoryEntry> practiceRecords;
+    private List<GameHistoryEntry> shown;
+    private String shownQuery;
+    private String shownSort;
+
     // Background animation
-    private Timer animationTimer;
-    private List<AnimatedParticle> particles;
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(BG_DARK, BG_GRAD);
     private final Random random = new Random();
 
     private static final Color BG_DARK = new Color(2, 5, 15);
@@ -63,6 +73,7 @@ public class GameHistoryScreen extends JPanel {
         for (int i = 0; i < this.allRecords.size(); i++) {
             originalIndex.put(this.allRecords.get(i), i);
         }
+        practiceRecords = filterPracticeByUser(this.allRecords);
 
         setLayout(new BorderLayout());
         setOpaque(false);
@@ -144,12 +155,11 @@ public class GameHistoryScreen extends JPanel {
     }
 
     private JComponent createCenter() {
-        historyContainer = new JPanel();
-        historyContainer.setOpaque(false);
-        historyContainer.setLayout(new BoxLayout(historyContainer, BoxLayout.Y_AXIS));
-        historyContainer.setBorder(new EmptyBorder(12, 40, 28, 40));
+        historyList = new VirtualCardList<>(HistoryCard::new, HistoryCard::bind, r -> "card", 14);
+        historyList.setBorder(new EmptyBorder(12, 40, 28, 40));
+        historyList.setEmptyView(createEmptyState());
 
-        JScrollPane scrollPane = new JScrollPane(historyContainer);
+        JScrollPane scrollPane = new JScrollPane(historyList);
         scrollPane.setBorder(null);
         scrollPane.setOpaque(false);
         scrollPane.getViewport().setOpaque(false);
@@ -158,106 +168,111 @@ public class GameHistoryScreen extends JPanel {
     }
 
     private void refreshList() {
-        historyContainer.removeAll();
-
-        // ✅ Practice only: show ONLY records for this user (player1) + practice placeholders
-        List<GameHistoryEntry> filtered = filterPracticeByUser(allRecords);
-
-        // Search
-        String q = searchField.getText();
-        if (q != null && !q.trim().isEmpty()) {
-            String qq = q.trim().toLowerCase();
-            filtered.removeIf(r -> !matchesSearch(r, qq));
-        }
-
-        // Sort
-        sortRecords(filtered);
-
-        if (filtered.isEmpty()) {
-            showEmpty();
-            historyContainer.revalidate();
-            historyContainer.repaint();
-            return;
-        }
-
-        for (int i = 0; i < filtered.size(); i++) {
-            JPanel card = createCard(filtered.get(i));
-            card.setVisible(false);
-            historyContainer.add(card);
-            historyContainer.add(Box.createVerticalStrut(14));
-
-            Timer t = new Timer(Math.min(45 * i, 450), e -> {
-                card.setVisible(true);
-                historyContainer.revalidate();
-                historyContainer.repaint();
-            });
-            t.setRepeats(false);
-            t.start();
+        String q = searchField.getText() == null ? "" : searchField.getText().trim().toLowerCase();
+        String sort = (String) sortFilter.getSelectedItem();
+
+        List<GameHistoryEntry> filtered;
+        if (shown != null && sort != null && sort.equals(shownSort) && q.contains(shownQuery)) {
+            // narrower query, same order: only the rows shown now can still match
+            filtered = q.equals(shownQuery) ? shown : new ArrayList<>(shown);
+        } else {
+            filtered = new ArrayList<>(practiceRecords);
+            sortRecords(filtered);
         }
+        if (!q.isEmpty() && !q.equals(shownQuery)) filtered.removeIf(r -> !matchesSearch(r, q));
 
-        historyContainer.revalidate();
-        historyContainer.repaint();
+        shown = filtered;
+        shownQuery = q;
+        shownSort = sort;
+        historyList.setItems(filtered);
     }
 
     // ========================= Cards =========================
-    private JPanel createCard(GameHistoryEntry r) {
-        boolean won = safeIsWon(r);
-        Color accent = won ? WIN_GREEN : LOSE_RED;
+    // one card, rebound to another record as the list scrolls
+    private final class HistoryCard extends JPanel {
+        private boolean won;
+        private Color accent = LOSE_RED;
+
+        private final JLabel status = new JLabel();
+        private final JLabel player = new JLabel();
+        private final JLabel date = new JLabel();
+        private final JLabel diff = new JLabel();
+        private final JLabel score = new JLabel();
+        private final JLabel time = new JLabel();
+        private final JLabel finalScore = new JLabel();
+
+        HistoryCard() {
+            super(new BorderLayout(18, 0));
+            setOpaque(false);
+            setBackground(CARD_BG);
+            setBorder(new EmptyBorder(18, 20, 18, 20));
+            setMaximumSize(new Dimension(Integer.MAX_VALUE, 220));
+
+            addMouseListener(new MouseAdapter() {
+                public void mouseEntered(MouseEvent e) { setBackground(CARD_HOVER); }
+                public void mouseExited(MouseEvent e) { setBackground(CARD_BG); }
+            });
 
-        JPanel card = new JPanel(new BorderLayout(18, 0)) {
-            protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            add(createLeftBadge(this), BorderLayout.WEST);
+            add(createCardCenter(this), BorderLayout.CENTER);
+            add(createRightScore(this), BorderLayout.EAST);
+        }
 
-                g2.setColor(getBackground());
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), 22, 22);
+        void bind(GameHistoryEntry r) {
+            won = safeIsWon(r);
+            accent = won ? WIN_GREEN : LOSE_RED;
+            setBackground(CARD_BG);
 
-                g2.setColor(new Color(accent.getRed(), accent.getGreen(), accent.getBlue(), 55));
-                g2.setStroke(new BasicStroke(2f));
-                g2.drawRoundRect(2, 2, getWidth() - 5, getHeight() - 5, 20, 20);
+            status.setText(won ? "WIN" : "LOSE");
+            status.setForeground(accent);
 
-                g2.dispose();
-                super.paintComponent(g);
-            }
-        };
+            player.setText("👤 " + safeStr(getPlayer1(r)));
+            String ts = formatTimestampForDisplay(r);
+            date.setText(ts.isEmpty() ? "📅 Recent" : "📅 " + ts);
+            diff.setText("🎯 Difficulty: " + safeStr(getDifficulty(r)));
+            score.setText(safeInt(r.getFinalScore()) + " pts");
+            time.setText(formatTime(safeInt(r.getDurationSeconds())));
 
-        card.setOpaque(false);
-        card.setBackground(CARD_BG);
-        card.setBorder(new EmptyBorder(18, 20, 18, 20));
-        card.setMaximumSize(new Dimension(Integer.MAX_VALUE, 220));
+            finalScore.setText(String.valueOf(safeInt(r.getFinalScore())));
+            finalScore.setForeground(accent);
+            repaint();
+        }
 
-        card.addMouseListener(new MouseAdapter() {
-            public void mouseEntered(MouseEvent e) { card.setBackground(CARD_HOVER); }
-            public void mouseExited(MouseEvent e) { card.setBackground(CARD_BG); }
-        });
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            g2.setColor(getBackground());
+            g2.fillRoundRect(0, 0, getWidth(), getHeight(), 22, 22);
 
-        card.add(createLeftBadge(won, accent), BorderLayout.WEST);
-        card.add(createCardCenter(r, won, accent), BorderLayout.CENTER);
-        card.add(createRightScore(r, accent), BorderLayout.EAST);
+            g2.setColor(new Color(accent.getRed(), accent.getGreen(), accent.getBlue(), 55));
+            g2.setStroke(new BasicStroke(2f));
+            g2.drawRoundRect(2, 2, getWidth() - 5, getHeight() - 5, 20, 20);
 
-        return card;
+            g2.dispose();
+            super.paintComponent(g);
+        }
     }
 
-    private JPanel createLeftBadge(boolean won, Color accent) {
+    private JPanel createLeftBadge(HistoryCard card) {
         JPanel p = new JPanel();
         p.setOpaque(false);
         p.setLayout(new BoxLayout(p, BoxLayout.Y_AXIS));
         p.setPreferredSize(new Dimension(110, 170));
 
-        JLabel status = new JLabel(won ? "WIN" : "LOSE");
+        JLabel status = card.status;
         status.setFont(new Font("SansSerif", Font.BOLD, 18));
-        status.setForeground(accent);
         status.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         JPanel bubble = new JPanel() {
             float pulse = 0f;
-            Timer t = new Timer(30, e -> { pulse += 0.06f; repaint(); });
-            { t.start(); }
+            { AnimationClock.every(this, 30, () -> { pulse += 0.06f; repaint(); }); }
 
             protected void paintComponent(Graphics g) {
                 Graphics2D g2 = (Graphics2D) g.create();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
+                Color accent = card.accent;
                 int w = getWidth(), h = getHeight();
                 float s = (float) (Math.sin(pulse) * 0.15 + 0.85);
 
@@ -269,7 +284,7 @@ public class GameHistoryScreen extends JPanel {
 
                 g2.setColor(Color.WHITE);
                 g2.setFont(new Font("Segoe UI Emoji", Font.PLAIN, 26));
-                String icon = won ? "🏆" : "💥";
+                String icon = card.won ? "🏆" : "💥";
                 FontMetrics fm = g2.getFontMetrics();
                 g2.drawString(icon, w / 2 - fm.stringWidth(icon) / 2, h / 2 + fm.getAscent() / 2 - 2);
 
@@ -289,19 +304,16 @@ public class GameHistoryScreen extends JPanel {
         return p;
     }
 
-    private JPanel createCardCenter(GameHistoryEntry r, boolean won, Color accent) {
+    private JPanel createCardCenter(HistoryCard card) {
         JPanel p = new JPanel();
         p.setOpaque(false);
         p.setLayout(new BoxLayout(p, BoxLayout.Y_AXIS));
 
-        String p1 = safeStr(getPlayer1(r));
-
-        JLabel player = new JLabel("👤 " + p1);
+        JLabel player = card.player;
         player.setFont(new Font("SansSerif", Font.BOLD, 18));
         player.setForeground(TEXT_WHITE);
 
-        String ts = formatTimestampForDisplay(r);
-        JLabel date = new JLabel(ts.isEmpty() ? "📅 Recent" : "📅 " + ts);
+        JLabel date = card.date;
         date.setFont(new Font("SansSerif", Font.PLAIN, 14));
         date.setForeground(TEXT_GRAY);
 
@@ -309,7 +321,7 @@ public class GameHistoryScreen extends JPanel {
         type.setFont(new Font("SansSerif", Font.BOLD, 16));
         type.setForeground(ACCENT_PURPLE);
 
-        JLabel diff = new JLabel("🎯 Difficulty: " + safeStr(getDifficulty(r)));
+        JLabel diff = card.diff;
         diff.setFont(new Font("SansSerif", Font.PLAIN, 14));
         diff.setForeground(TEXT_MUTED);
 
@@ -317,8 +329,8 @@ public class GameHistoryScreen extends JPanel {
         grid.setOpaque(false);
         grid.setMaximumSize(new Dimension(520, 78));
 
-        grid.add(createStatBig("Score", safeInt(r.getFinalScore()) + " pts", ACCENT_CYAN));
-        grid.add(createStatBig("Time", formatTime(safeInt(r.getDurationSeconds())), ACCENT_BLUE));
+        grid.add(createStatBig("Score", card.score, ACCENT_CYAN));
+        grid.add(createStatBig("Time", card.time, ACCENT_BLUE));
 
         p.add(player);
         p.add(Box.createVerticalStrut(6));
@@ -337,7 +349,7 @@ public class GameHistoryScreen extends JPanel {
         return p;
     }
 
-    private JPanel createRightScore(GameHistoryEntry r, Color accent) {
+    private JPanel createRightScore(HistoryCard card) {
         JPanel p = new JPanel();
         p.setOpaque(false);
         p.setLayout(new BoxLayout(p, BoxLayout.Y_AXIS));
@@ -348,9 +360,8 @@ public class GameHistoryScreen extends JPanel {
         lbl.setForeground(TEXT_GRAY);
         lbl.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        JLabel val = new JLabel(String.valueOf(safeInt(r.getFinalScore())));
+        JLabel val = card.finalScore;
         val.setFont(new Font("SansSerif", Font.BOLD, 40));
-        val.setForeground(accent);
         val.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         JLabel pts = new JLabel("POINTS");
@@ -368,7 +379,7 @@ public class GameHistoryScreen extends JPanel {
         return p;
     }
 
-    private JPanel createStatBig(String label, String value, Color valueColor) {
+    private JPanel createStatBig(String label, JLabel v, Color valueColor) {
         JPanel p = new JPanel(new BorderLayout());
         p.setOpaque(false);
 
@@ -376,7 +387,6 @@ public class GameHistoryScreen extends JPanel {
         l.setForeground(TEXT_GRAY);
         l.setFont(new Font("SansSerif", Font.PLAIN, 13));
 
-        JLabel v = new JLabel(value);
         v.setForeground(valueColor);
         v.setFont(new Font("SansSerif", Font.BOLD, 14));
         v.setHorizontalAlignment(SwingConstants.RIGHT);
@@ -388,71 +398,18 @@ public class GameHistoryScreen extends JPanel {
 
     // ========================= Background animation =========================
     private void initAnimationBackground() {
-        particles = new ArrayList<>();
-        for (int i = 0; i < 60; i++) particles.add(new AnimatedParticle(random));
+        particles = new ParticleField(60, ParticleField.NEON, random);
 
-        animationTimer = new Timer(30, e -> {
-            for (AnimatedParticle p : particles) p.update();
+        animationTimer = AnimationClock.every(this, 30, () -> {
+            particles.update();
             repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
         if (animationTimer != null) animationTimer.stop();
     }
 
-    private class AnimatedParticle {
-        float x, y, vx, vy, size, alpha, pulseSpeed, pulseOffset;
-        Color color;
-
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920;
-            y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 1.2f;
-            vy = (r.nextFloat() - 0.5f) * 1.2f;
-            size = r.nextFloat() * 8 + 2;
-            alpha = r.nextFloat() * 0.5f + 0.3f;
-            pulseSpeed = r.nextFloat() * 0.05f + 0.02f;
-            pulseOffset = r.nextFloat() * (float) Math.PI * 2;
-
-            int c = r.nextInt(5);
-            if (c == 0) color = new Color(0, 180, 255);
-            else if (c == 1) color = new Color(0, 220, 100);
-            else if (c == 2) color = new Color(100, 150, 255);
-            else if (c == 3) color = new Color(0, 255, 200);
-            else color = new Color(50, 200, 255);
-        }
-
-        void update() {
-            x += vx; y += vy;
-            if (x < 0) x = 1920;
-            if (x > 1920) x = 0;
-            if (y < 0) y = 1080;
-            if (y > 1080) y = 0;
-            pulseOffset += pulseSpeed;
-        }
-
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth;
-            float scaledY = (y / 1080f) * panelHeight;
-
-            float pulse = (float) Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse;
-            float currentSize = size * pulse;
-
-            for (int i = 3; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.2f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (glowAlpha * 255)));
-                g2.fillOval((int) (scaledX - i * 2), (int) (scaledY - i * 2),
-                        (int) (currentSize + i * 4), (int) (currentSize + i * 4));
-            }
-
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (currentAlpha * 255)));
-            g2.fillOval((int) scaledX, (int) scaledY, (int) currentSize, (int) currentSize);
-        }
-    }
-
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -460,12 +417,10 @@ public class GameHistoryScreen extends JPanel {
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        GradientPaint gp = new GradientPaint(0, 0, BG_DARK, getWidth(), getHeight(), BG_GRAD);
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
 
         if (particles != null) {
-            for (AnimatedParticle p : particles) p.draw(g2, getWidth(), getHeight());
+            particles.paint(g2, getWidth(), getHeight());
         }
 
         g2.dispose();
@@ -494,6 +449,11 @@ public class GameHistoryScreen extends JPanel {
     }
 
     private boolean matchesSearch(GameHistoryEntry r, String q) {
+        return searchText.computeIfAbsent(r, this::buildSearchText).contains(q);
+    }
+
+    // every searchable field, lower case, split by a character no query contains
+    private String buildSearchText(GameHistoryEntry r) {
         String diff = safeLower(getDifficulty(r));
         String ts = safeLower(extractTimestamp(r));
         String p1 = safeLower(getPlayer1(r));
@@ -502,12 +462,7 @@ public class GameHistoryScreen extends JPanel {
         String score = String.valueOf(safeInt(r.getFinalScore()));
         String dur = String.valueOf(safeInt(r.getDurationSeconds()));
 
-        return diff.contains(q)
-                || ts.contains(q)
-                || p1.contains(q)
-                || wl.contains(q)
-                || score.contains(q)
-                || dur.contains(q);
+        return String.join("\u0000", diff, ts, p1, wl, score, dur);
     }
 
     private void sortRecords(List<GameHistoryEntry> recs) {
@@ -555,6 +510,10 @@ public class GameHistoryScreen extends JPanel {
     }
 
     private long extractTimestampMillis(GameHistoryEntry r) {
+        return timestampMillis.computeIfAbsent(r, this::parseTimestampMillis);
+    }
+
+    private long parseTimestampMillis(GameHistoryEntry r) {
         String ts = extractTimestamp(r);
         if (ts == null) return 0L;
         ts = ts.trim();
@@ -734,12 +693,11 @@ public class GameHistoryScreen extends JPanel {
         return b;
     }
 
-    private void showEmpty() {
-        historyContainer.add(Box.createVerticalStrut(90));
-
+    private JComponent createEmptyState() {
         JPanel p = new JPanel();
         p.setOpaque(false);
         p.setLayout(new BoxLayout(p, BoxLayout.Y_AXIS));
+        p.setBorder(new EmptyBorder(90, 0, 0, 0));
 
         JLabel i = new JLabel("🗂️");
         i.setFont(new Font("SansSerif", Font.PLAIN, 62));
@@ -760,8 +718,7 @@ public class GameHistoryScreen extends JPanel {
         p.add(m);
         p.add(Box.createVerticalStrut(8));
         p.add(tip);
-
-        historyContainer.add(p);
+        return p;
     }
 
     // ========================= Safe getters =========================
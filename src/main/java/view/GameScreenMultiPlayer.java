@@ -350,20 +350,21 @@ public class GameScreenMultiPlayer extends JPanel implements GameObserver {
         header.setForeground(new Color(200, 200, 220));
         panel.add(header);
 
-        Map<CellButton.CellState, String> keyMap = new HashMap<>();
-        keyMap.put(CellButton.CellState.HIDDEN, "Hidden");
-        keyMap.put(CellButton.CellState.FLAGGED, "Flag");
-        keyMap.put(CellButton.CellState.MINE, "Mine");
-        keyMap.put(CellButton.CellState.NUMBER, "Number");
-        keyMap.put(CellButton.CellState.EMPTY, "Empty");
-        keyMap.put(CellButton.CellState.QUESTION, "Question");
-        keyMap.put(CellButton.CellState.SURPRISE, "Surprise");
-
-        for (Map.Entry<CellButton.CellState, String> entry : keyMap.entrySet()) {
-            CellButton keyCell = new CellButton(24);
+        Map<BoardCell.CellState, String> keyMap = new HashMap<>();
+        keyMap.put(BoardCell.CellState.HIDDEN, "Hidden");
+        keyMap.put(BoardCell.CellState.FLAGGED, "Flag");
+        keyMap.put(BoardCell.CellState.MINE, "Mine");
+        keyMap.put(BoardCell.CellState.NUMBER, "Number");
+        keyMap.put(BoardCell.CellState.EMPTY, "Empty");
+        keyMap.put(BoardCell.CellState.QUESTION, "Question");
+        keyMap.put(BoardCell.CellState.SURPRISE, "Surprise");
+
+        for (Map.Entry<BoardCell.CellState, String> entry : keyMap.entrySet()) {
+            BoardCanvas keyCanvas = new BoardCanvas(1, 1, 24, 0);
+            BoardCell keyCell = keyCanvas.getCell(0, 0);
             keyCell.setState(entry.getKey());
 
-            if (entry.getKey() == CellButton.CellState.NUMBER) {
+            if (entry.getKey() == BoardCell.CellState.NUMBER) {
                 keyCell.setNumber(3);
             }
 
@@ -373,7 +374,7 @@ public class GameScreenMultiPlayer extends JPanel implements GameObserver {
 
             JPanel item = new JPanel(new FlowLayout(FlowLayout.CENTER, 4, 0));
             item.setOpaque(false);
-            item.add(keyCell);
+            item.add(keyCanvas);
             item.add(description);
 
             panel.add(item);
@@ -8,9 +8,6 @@ import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.geom.Ellipse2D;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 public class GameScreenSinglePlayer extends JPanel {
@@ -27,8 +24,8 @@ public class GameScreenSinglePlayer extends JPanel {
     private final MinesweeperBoardPanel board;
 
     // background animation
-    private Timer bgTimer;
-    private final List<BgParticle> particles = new ArrayList<>();
+    private AnimationClock.Animation bgTimer;
+    private ParticleField particles;
     private final Random random = new Random();
     private float wave = 0f;
 
@@ -76,18 +73,15 @@ public class GameScreenSinglePlayer extends JPanel {
     // Animated background
     // =========================================================
     private void initBackgroundAnimation() {
-        particles.clear();
-
         // more particles on hard looks cooler
         int count = controller.getDifficulty().equalsIgnoreCase("Hard") ? 55 : 40;
-        for (int i = 0; i < count; i++) particles.add(new BgParticle(random));
+        particles = new ParticleField(count, ParticleField.MOTES, random);
 
-        bgTimer = new Timer(30, e -> {
+        bgTimer = AnimationClock.every(this, 30, () -> {
             wave += 0.04f;
-            for (BgParticle p : particles) p.update(getWidth(), getHeight());
+            particles.update();
             repaint();
         });
-        bgTimer.start();
     }
 
     private void stopBackgroundAnimation() {
@@ -120,7 +114,7 @@ public class GameScreenSinglePlayer extends JPanel {
         g2.fillOval(getWidth() - 360, getHeight() / 2 - 280, 620, 620);
 
         // particles
-        for (BgParticle p : particles) p.draw(g2);
+        particles.paint(g2, getWidth(), getHeight());
 
         // subtle grid
         g2.setColor(new Color(255, 255, 255, 5));
@@ -131,42 +125,6 @@ public class GameScreenSinglePlayer extends JPanel {
         super.paintComponent(g);
     }
 
-    static class BgParticle {
-        float x, y, vx, vy, r, alpha;
-        Color color;
-
-        BgParticle(Random rand) {
-            x = rand.nextFloat() * 1600;
-            y = rand.nextFloat() * 900;
-            vx = (rand.nextFloat() - 0.5f) * 0.5f;
-            vy = (rand.nextFloat() * 0.6f) + 0.1f;
-            r = rand.nextFloat() * 3.5f + 1.2f;
-            alpha = rand.nextFloat() * 0.28f + 0.08f;
-
-            Color[] colors = {
-                    new Color(56, 189, 248),
-                    new Color(168, 85, 247),
-                    new Color(34, 211, 238),
-                    new Color(135, 206, 250)
-            };
-            color = colors[rand.nextInt(colors.length)];
-        }
-
-        void update(int w, int h) {
-            x += vx;
-            y += vy;
-            if (y > h + 15) { y = -15; x = (float) (Math.random() * Math.max(1, w)); }
-            if (x < -20) x = w + 20;
-            if (x > w + 20) x = -20;
-        }
-
-        void draw(Graphics2D g2) {
-            int a = (int) (alpha * 255);
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), a));
-            g2.fill(new Ellipse2D.Float(x, y, r, r));
-        }
-    }
-
     // =========================================================
     // Header
     // =========================================================
@@ -413,6 +371,13 @@ public class GameScreenSinglePlayer extends JPanel {
         glass.setOpaque(false);
         glass.setBorder(new EmptyBorder(14, 14, 14, 14));
 
+        // huge custom boards zoom and pan themselves (with a minimap) instead of scrolling
+        if (board.usesViewport()) {
+            glass.add(board, BorderLayout.CENTER);
+            container.add(glass, BorderLayout.CENTER);
+            return container;
+        }
+
         JScrollPane scroller = new JScrollPane(board);
         scroller.setBorder(null);
         scroller.getViewport().setOpaque(false);
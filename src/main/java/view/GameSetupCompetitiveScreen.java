@@ -1,6 +1,9 @@
 package view;
 
 import control.CompetitiveGameController;
+import control.DifficultyFactory;
+import engine.BoardSpec;
+import engine.NoGuessPool;
 import model.SysData;
 import model.User;
 
@@ -27,6 +30,7 @@ public class GameSetupCompetitiveScreen extends JPanel {
     private JPanel hardPanel;
 
     private String selectedDifficulty = "Easy";
+    private JCheckBox noGuessBox;
     private String player1Avatar = "🦁";
     private String player2Avatar = "🐺";
 
@@ -121,7 +125,7 @@ public class GameSetupCompetitiveScreen extends JPanel {
     // =========================
     class AnimatedBackgroundPanel extends JPanel {
         private final List<Particle> particles = new ArrayList<>();
-        private final Timer timer;
+        private final AnimationClock.Animation timer;
 
         // VS animation
         private float vsPhase = 0f;
@@ -129,11 +133,10 @@ public class GameSetupCompetitiveScreen extends JPanel {
         public AnimatedBackgroundPanel() {
             setOpaque(true);
             for (int i = 0; i < 45; i++) particles.add(new Particle());
-            timer = new Timer(35, e -> {
+            timer = AnimationClock.every(this, 35, () -> {
                 vsPhase += 0.06f;
                 repaint();
             });
-            timer.start();
         }
 
         @Override
@@ -296,7 +299,7 @@ public class GameSetupCompetitiveScreen extends JPanel {
 
     class AnimatedVsBadge extends JComponent {
         private float t = 0f;
-        private final Timer timer;
+        private final AnimationClock.Animation timer;
 
         AnimatedVsBadge() {
             setOpaque(false);
@@ -304,11 +307,10 @@ public class GameSetupCompetitiveScreen extends JPanel {
             setMinimumSize(new Dimension(66, 44));
             setMaximumSize(new Dimension(66, 44));
 
-            timer = new Timer(35, e -> {
+            timer = AnimationClock.every(this, 35, () -> {
                 t += 0.08f;
                 repaint();
             });
-            timer.start();
         }
 
         @Override
@@ -497,6 +499,16 @@ public class GameSetupCompetitiveScreen extends JPanel {
         hardPanel = createDifficultyCard("Hard", new Color(239, 68, 68), 16, 6, "★★★");
         panel.add(hardPanel, gbc);
 
+        // No-guess option: boards are prepared in the background while this screen is open
+        noGuessBox = new JCheckBox("🧠 No-guess boards (solvable by logic from the first click)");
+        noGuessBox.setFont(new Font("Segoe UI", Font.PLAIN, 13));
+        noGuessBox.setForeground(Color.LIGHT_GRAY);
+        noGuessBox.setOpaque(false);
+        noGuessBox.setFocusPainted(false);
+        noGuessBox.addActionListener(e -> prewarmNoGuessBoards());
+        gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 3; gbc.insets = new Insets(10, 0, 0, 0);
+        panel.add(noGuessBox, gbc);
+
         updateDifficultySelection();
         return panel;
     }
@@ -556,12 +568,19 @@ public class GameSetupCompetitiveScreen extends JPanel {
             public void mouseClicked(MouseEvent e) {
                 selectedDifficulty = name;
                 updateDifficultySelection();
+                prewarmNoGuessBoards();
             }
         });
 
         return card;
     }
 
+    private void prewarmNoGuessBoards() {
+        if (!noGuessBox.isSelected()) return;
+        DifficultyFactory.Config cfg = DifficultyFactory.create(selectedDifficulty);
+        NoGuessPool.getInstance().prewarm(BoardSpec.forDifficulty(selectedDifficulty, cfg.rows(), cfg.cols()));
+    }
+
     private JPanel createStatRow(String label, String val) {
         JPanel row = new JPanel(new BorderLayout());
         row.setOpaque(false);
@@ -636,6 +655,7 @@ public class GameSetupCompetitiveScreen extends JPanel {
         }
 
         btn.setEnabled(false);
+        boolean noGuess = noGuessBox.isSelected();
 
         int gridSize = switch (selectedDifficulty) {
             case "Easy" -> 9;
@@ -654,6 +674,7 @@ public class GameSetupCompetitiveScreen extends JPanel {
 
                 CompetitiveGameController controller =
                         new CompetitiveGameController(sys, p1, p2, selectedDifficulty, gridSize);
+                controller.setNoGuess(noGuess);
 
                 return new GameScreenCompetitive(frame, controller);
             }
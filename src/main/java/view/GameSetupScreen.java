@@ -1,8 +1,11 @@
 package view;
 
 import com.formdev.flatlaf.FlatClientProperties;
+import control.DifficultyFactory;
 import control.GameSetupController;
 import control.MultiPlayerGameController;
+import engine.BoardSpec;
+import engine.NoGuessPool;
 import model.SysData;
 
 import javax.swing.*;
@@ -23,6 +26,7 @@ public class GameSetupScreen extends JPanel {
     private JPanel easyPanel, mediumPanel, hardPanel;
 
     private String selectedDifficulty = "Easy";
+    private JCheckBox noGuessBox;
     private String player1Avatar = "👻";
     private String player2Avatar = "🐉";
 
@@ -30,8 +34,9 @@ public class GameSetupScreen extends JPanel {
     private float opacity = 0f;
 
     // ✅ Private-style animated background
-    private Timer animationTimer;
-    private final List<AnimatedParticle> particles = new ArrayList<>();
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(new Color(2, 5, 15), new Color(10, 20, 40));
     private final List<FloatingIcon> floatingIcons = new ArrayList<>();
     private final Random random = new Random();
     private float waveOffset = 0f;
@@ -119,6 +124,15 @@ public class GameSetupScreen extends JPanel {
         cardsPanel.add(mediumPanel);
         cardsPanel.add(hardPanel);
 
+        // --- No-guess option (boards are prepared in the background while this screen is open) ---
+        noGuessBox = new JCheckBox("🧠 No-guess boards (solvable by logic from the first click)");
+        noGuessBox.setFont(new Font("Inter", Font.PLAIN, 14));
+        noGuessBox.setForeground(new Color(148, 163, 184));
+        noGuessBox.setOpaque(false);
+        noGuessBox.setFocusPainted(false);
+        noGuessBox.setAlignmentX(CENTER_ALIGNMENT);
+        noGuessBox.addActionListener(e -> prewarmNoGuessBoards());
+
         // --- Buttons ---
         JButton btnStart = createStyledButton("Start Game", new Color(37, 99, 235));
         JButton btnBack = createStyledButton("Back to Menu", new Color(255, 255, 255, 10));
@@ -141,9 +155,11 @@ public class GameSetupScreen extends JPanel {
         mainCard.add(diffTitle);
         mainCard.add(Box.createVerticalStrut(20));
         mainCard.add(cardsPanel);
+        mainCard.add(Box.createVerticalStrut(18));
+        mainCard.add(noGuessBox);
 
         // push buttons down a bit (stable)
-        mainCard.add(Box.createVerticalStrut(55));
+        mainCard.add(Box.createVerticalStrut(30));
 
         mainCard.add(btnStart);
         mainCard.add(Box.createVerticalStrut(12));
@@ -289,6 +305,7 @@ public class GameSetupScreen extends JPanel {
         card.addMouseListener(new MouseAdapter() {
             public void mouseClicked(MouseEvent e) {
                 selectedDifficulty = name;
+                prewarmNoGuessBoards();
                 repaint();
             }
         });
@@ -296,6 +313,12 @@ public class GameSetupScreen extends JPanel {
         return card;
     }
 
+    private void prewarmNoGuessBoards() {
+        if (!noGuessBox.isSelected()) return;
+        DifficultyFactory.Config cfg = DifficultyFactory.create(selectedDifficulty);
+        NoGuessPool.getInstance().prewarm(BoardSpec.forDifficulty(selectedDifficulty, cfg.rows(), cfg.cols()));
+    }
+
     private JButton createStyledButton(String text, Color bg) {
         JButton btn = new JButton(text);
         btn.setFont(new Font("Inter", Font.BOLD, 16));
@@ -319,6 +342,8 @@ public class GameSetupScreen extends JPanel {
                 return;
             }
 
+            boolean noGuess = noGuessBox.isSelected();
+
             new SwingWorker<GameScreenMultiPlayer, Void>() {
                 @Override
                 protected GameScreenMultiPlayer doInBackground() {
@@ -331,6 +356,7 @@ public class GameSetupScreen extends JPanel {
                             config.sysData, config.player1, config.player2,
                             config.difficulty, config.gridSize
                     );
+                    gameController.setNoGuess(noGuess);
                     return new GameScreenMultiPlayer(frame, gameController);
                 }
 
@@ -371,10 +397,7 @@ public class GameSetupScreen extends JPanel {
 
     // ✅ Private-style background init
     private void initializeBackground() {
-        // particles
-        for (int i = 0; i < 60; i++) {
-            particles.add(new AnimatedParticle(random));
-        }
+        particles = new ParticleField(60, ParticleField.NEON, random);
 
         // floating icons
         String[] icons = {"💣", "🚩", "💎", "⭐", "🎯"};
@@ -382,18 +405,17 @@ public class GameSetupScreen extends JPanel {
             floatingIcons.add(new FloatingIcon(random, icons[random.nextInt(icons.length)]));
         }
 
-        animationTimer = new Timer(30, e -> {
+        animationTimer = AnimationClock.every(this, 30, () -> {
             if (opacity < 1f) {
                 opacity = Math.min(1f, opacity + 0.05f);
             }
 
-            for (AnimatedParticle p : particles) p.update();
+            particles.update();
             for (FloatingIcon ic : floatingIcons) ic.update();
 
             waveOffset += 0.05f;
             repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
@@ -401,65 +423,6 @@ public class GameSetupScreen extends JPanel {
     }
 
     // ✅ Animated particle class
-    private class AnimatedParticle {
-        float x, y;
-        float vx, vy;
-        float size;
-        float alpha;
-        float pulseSpeed;
-        float pulseOffset;
-        Color color;
-
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920;
-            y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 1.2f;
-            vy = (r.nextFloat() - 0.5f) * 1.2f;
-            size = r.nextFloat() * 8 + 2;
-            alpha = r.nextFloat() * 0.5f + 0.3f;
-            pulseSpeed = r.nextFloat() * 0.05f + 0.02f;
-            pulseOffset = r.nextFloat() * (float) Math.PI * 2;
-
-            int colorChoice = r.nextInt(5);
-            if (colorChoice == 0) color = new Color(0, 180, 255);
-            else if (colorChoice == 1) color = new Color(0, 220, 100);
-            else if (colorChoice == 2) color = new Color(100, 150, 255);
-            else if (colorChoice == 3) color = new Color(0, 255, 200);
-            else color = new Color(50, 200, 255);
-        }
-
-        void update() {
-            x += vx;
-            y += vy;
-
-            if (x < 0) x = 1920;
-            if (x > 1920) x = 0;
-            if (y < 0) y = 1080;
-            if (y > 1080) y = 0;
-
-            pulseOffset += pulseSpeed;
-        }
-
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth;
-            float scaledY = (y / 1080f) * panelHeight;
-
-            float pulse = (float) Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse;
-            float currentSize = size * pulse;
-
-            // Glow effect
-            for (int i = 3; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.2f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (glowAlpha * 255)));
-                g2.fillOval((int) (scaledX - i * 2), (int) (scaledY - i * 2),
-                        (int) (currentSize + i * 4), (int) (currentSize + i * 4));
-            }
-
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (currentAlpha * 255)));
-            g2.fillOval((int) scaledX, (int) scaledY, (int) currentSize, (int) currentSize);
-        }
-    }
 
     // ✅ Floating icon class
     private class FloatingIcon {
@@ -521,15 +484,10 @@ public class GameSetupScreen extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         // ✅ Gradient background (Private-style)
-        GradientPaint gp = new GradientPaint(
-                0, 0, new Color(2, 5, 15),
-                getWidth(), getHeight(), new Color(10, 20, 40)
-        );
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
 
         // draw particles + icons
-        for (AnimatedParticle p : particles) p.draw(g2, getWidth(), getHeight());
+        particles.paint(g2, getWidth(), getHeight());
         for (FloatingIcon ic : floatingIcons) ic.draw(g2, getWidth(), getHeight());
 
         g2.dispose();
@@ -0,0 +1,70 @@
+package view;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * A screen's static diagonal gradient, rendered once per size into an accelerated
+ * {@link VolatileImage} and blitted on every frame. The image is re-rendered only on a
+ * resize or when the graphics device drops its contents. Where no volatile image can be
+ * made (headless, printing), a compatible buffered image is used instead.
+ */
+public final class GradientBackdrop {
+
+    private final Color from;
+    private final Color to;
+
+    private Image image;
+    private int width, height;
+
+    public GradientBackdrop(Color from, Color to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public void paint(Graphics2D g2, int w, int h) {
+        if (w <= 0 || h <= 0) return;
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            if (image == null || w != width || h != height) {
+                create(gc, w, h);
+                render();
+            } else if (image instanceof VolatileImage vi) {
+                int status = vi.validate(gc);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    create(gc, w, h);
+                    render();
+                } else if (status == VolatileImage.IMAGE_RESTORED) {
+                    render();
+                }
+            }
+
+            g2.drawImage(image, 0, 0, null);
+            if (!(image instanceof VolatileImage vi) || !vi.contentsLost()) return;
+        }
+    }
+
+    private void create(GraphicsConfiguration gc, int w, int h) {
+        if (image != null) image.flush();
+        width = w;
+        height = h;
+
+        Image made = null;
+        try {
+            made = gc.createCompatibleVolatileImage(w, h, Transparency.OPAQUE);
+        } catch (RuntimeException ignored) {
+            // no accelerated surface for this device
+        }
+        image = made != null ? made : gc.createCompatibleImage(w, h, Transparency.OPAQUE);
+        if (image == null) image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private void render() {
+        Graphics2D g = (Graphics2D) image.getGraphics();
+        g.setPaint(new GradientPaint(0, 0, from, width, height, to));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+    }
+}
@@ -0,0 +1,130 @@
+package view;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wrapped, centred lines of a training hint in the largest font that fits its box.
+ * Fitting tries every size from 12 px down and re-wraps the text each time, and the
+ * hint pulse repaints about 33 times a second, so layouts are cached per text, box,
+ * font family and render context. A pulse frame then only draws ready glyph vectors.
+ */
+final class HintLayout {
+
+    private static final String FAMILY = "SansSerif";
+    private static final int START_PX = 12;
+    private static final int MIN_PX = 8;
+    private static final int MAX_ENTRIES = 64;
+
+    private record Key(String text, int width, int height, String family, FontRenderContext frc) {}
+
+    private static final Map<Key, HintLayout> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, HintLayout> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final GlyphVector[] lines;
+    private final int[] xs;
+    private final int[] ys;
+
+    private HintLayout(GlyphVector[] lines, int[] xs, int[] ys) {
+        this.lines = lines;
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    static HintLayout of(Graphics2D g2, String text, int width, int height) {
+        if (text == null) text = "";
+        Key key = new Key(text, width, height, FAMILY, g2.getFontRenderContext());
+        HintLayout layout = CACHE.get(key);
+        if (layout == null) {
+            layout = build(g2, text, width, height);
+            CACHE.put(key, layout);
+        }
+        return layout;
+    }
+
+    /** Draws the lines with the box's top-left corner at (x, y) in the current colour. */
+    void draw(Graphics2D g2, int x, int y) {
+        for (int i = 0; i < lines.length; i++) g2.drawGlyphVector(lines[i], x + xs[i], y + ys[i]);
+    }
+
+    private static HintLayout build(Graphics2D g2, String text, int width, int height) {
+        Font font = null;
+        List<String> wrapped = null;
+        for (int px = START_PX; px >= MIN_PX; px--) {
+            font = new Font(FAMILY, Font.BOLD, px);
+            FontMetrics fm = g2.getFontMetrics(font);
+            wrapped = wrapLines(text, fm, width);
+            if (wrapped.size() * (fm.getAscent() + fm.getDescent()) <= height) break;
+        }
+
+        FontMetrics fm = g2.getFontMetrics(font);
+        FontRenderContext frc = g2.getFontRenderContext();
+        int lineH = fm.getAscent() + fm.getDescent();
+        int totalH = wrapped.size() * lineH;
+
+        GlyphVector[] lines = new GlyphVector[wrapped.size()];
+        int[] xs = new int[lines.length];
+        int[] ys = new int[lines.length];
+        int y = (height - totalH) / 2 + fm.getAscent();
+        for (int i = 0; i < lines.length; i++) {
+            String line = wrapped.get(i);
+            lines[i] = font.createGlyphVector(frc, line);
+            xs[i] = (width - fm.stringWidth(line)) / 2;
+            ys[i] = y;
+            y += lineH;
+        }
+        return new HintLayout(lines, xs, ys);
+    }
+
+    private static List<String> wrapLines(String text, FontMetrics fm, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        if (text == null) return lines;
+
+        String[] paragraphs = text.split("\n");
+        for (String p : paragraphs) {
+            String[] words = p.trim().split("\\s+");
+            if (words.length == 1 && words[0].isEmpty()) {
+                lines.add("");
+                continue;
+            }
+
+            StringBuilder line = new StringBuilder();
+            for (String w : words) {
+                String test = line.isEmpty() ? w : line + " " + w;
+                if (fm.stringWidth(test) <= maxWidth) {
+                    line.setLength(0);
+                    line.append(test);
+                } else {
+                    if (!line.isEmpty()) lines.add(line.toString());
+                    line.setLength(0);
+
+                    if (fm.stringWidth(w) <= maxWidth) {
+                        line.append(w);
+                    } else {
+                        // hard cut very long word
+                        String cut = "";
+                        for (int i = 0; i < w.length(); i++) {
+                            String t = cut + w.charAt(i);
+                            if (fm.stringWidth(t) > maxWidth) {
+                                if (!cut.isEmpty()) lines.add(cut);
+                                cut = "" + w.charAt(i);
+                            } else cut = t;
+                        }
+                        line.append(cut);
+                    }
+                }
+            }
+            if (!line.isEmpty()) lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -6,8 +6,6 @@ import model.User;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 public class LoginPrivateScreen extends JPanel {
@@ -15,8 +13,9 @@ public class LoginPrivateScreen extends JPanel {
     private final JFrame frame;
 
     // Animation fields
-    private Timer animationTimer;
-    private List<AnimatedParticle> particles;
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(new Color(2, 5, 15), new Color(10, 20, 40));
     private Random random;
 
     // UI refs
@@ -263,19 +262,12 @@ public class LoginPrivateScreen extends JPanel {
     // ✅ Initialize animated background
     private void initializeAnimation() {
         random = new Random();
-        particles = new ArrayList<>();
+        particles = new ParticleField(60, ParticleField.NEON, random);
 
-        for (int i = 0; i < 60; i++) {
-            particles.add(new AnimatedParticle(random));
-        }
-
-        animationTimer = new Timer(30, e -> {
-            for (AnimatedParticle p : particles) {
-                p.update();
-            }
+        animationTimer = AnimationClock.every(this, 30, () -> {
+            particles.update();
             repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
@@ -293,70 +285,6 @@ public class LoginPrivateScreen extends JPanel {
     }
 
     // ✅ Animated particle class (same)
-    private class AnimatedParticle {
-        float x, y;
-        float vx, vy;
-        float size;
-        float alpha;
-        float pulseSpeed;
-        float pulseOffset;
-        Color color;
-
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920;
-            y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 1.2f;
-            vy = (r.nextFloat() - 0.5f) * 1.2f;
-            size = r.nextFloat() * 8 + 2;
-            alpha = r.nextFloat() * 0.5f + 0.3f;
-            pulseSpeed = r.nextFloat() * 0.05f + 0.02f;
-            pulseOffset = r.nextFloat() * (float) Math.PI * 2;
-
-            int colorChoice = r.nextInt(5);
-            if (colorChoice == 0) {
-                color = new Color(0, 180, 255);
-            } else if (colorChoice == 1) {
-                color = new Color(0, 220, 100);
-            } else if (colorChoice == 2) {
-                color = new Color(100, 150, 255);
-            } else if (colorChoice == 3) {
-                color = new Color(0, 255, 200);
-            } else {
-                color = new Color(50, 200, 255);
-            }
-        }
-
-        void update() {
-            x += vx;
-            y += vy;
-
-            if (x < 0) x = 1920;
-            if (x > 1920) x = 0;
-            if (y < 0) y = 1080;
-            if (y > 1080) y = 0;
-
-            pulseOffset += pulseSpeed;
-        }
-
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth;
-            float scaledY = (y / 1080f) * panelHeight;
-
-            float pulse = (float) Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse;
-            float currentSize = size * pulse;
-
-            for (int i = 3; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.2f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (glowAlpha * 255)));
-                g2.fillOval((int) (scaledX - i * 2), (int) (scaledY - i * 2),
-                        (int) (currentSize + i * 4), (int) (currentSize + i * 4));
-            }
-
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (currentAlpha * 255)));
-            g2.fillOval((int) scaledX, (int) scaledY, (int) currentSize, (int) currentSize);
-        }
-    }
 
     private JButton createToggleButton(String text, boolean isActive) {
         JButton btn = new JButton(text);
@@ -430,14 +358,10 @@ public class LoginPrivateScreen extends JPanel {
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        GradientPaint gp = new GradientPaint(0, 0, new Color(2, 5, 15), getWidth(), getHeight(), new Color(10, 20, 40));
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
 
         if (particles != null) {
-            for (AnimatedParticle p : particles) {
-                p.draw(g2, getWidth(), getHeight());
-            }
+            particles.paint(g2, getWidth(), getHeight());
         }
     }
 }
@@ -1,6 +1,7 @@
 package view;
 
 import com.formdev.flatlaf.FlatDarkLaf;
+import model.ImageCache;
 
 import javax.swing.*;
 import java.awt.*;
@@ -17,6 +18,9 @@ public class Main {
         // ✅ init SFX once for the whole app
         AudioManager.init();
 
+        // ✅ decode the game over images in the background, before anyone waits for them
+        ImageCache.preloadKnown();
+
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Minesweeper - Multiplayer");
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -7,8 +7,6 @@ import model.GameHistoryEntry;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
@@ -21,8 +19,9 @@ public class MainMenuPrivateScreen extends JPanel {
     private String loggedInUsername; // ✅ FIXED: Store the logged-in user
     
     // Animation fields
-    private Timer animationTimer;
-    private List<AnimatedParticle> particles;
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(new Color(2, 5, 15), new Color(10, 20, 40));
     private List<FloatingIcon> floatingIcons;
     private Random random;
     private float waveOffset = 0;
@@ -177,13 +176,8 @@ public class MainMenuPrivateScreen extends JPanel {
     // ✅ Initialize animated background
     private void initializeAnimation() {
         random = new Random();
-        particles = new ArrayList<>();
         floatingIcons = new ArrayList<>();
-        
-        // Create floating particles
-        for (int i = 0; i < 60; i++) {
-            particles.add(new AnimatedParticle(random));
-        }
+        particles = new ParticleField(60, ParticleField.NEON, random);
         
         // Create floating game-themed icons
         String[] icons = {"💣", "🚩", "💎", "⭐", "🎯"};
@@ -191,20 +185,14 @@ public class MainMenuPrivateScreen extends JPanel {
             floatingIcons.add(new FloatingIcon(random, icons[random.nextInt(icons.length)]));
         }
 
-        animationTimer = new Timer(30, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                for (AnimatedParticle p : particles) {
-                    p.update();
-                }
-                for (FloatingIcon icon : floatingIcons) {
-                    icon.update();
-                }
-                waveOffset += 0.05f;
-                repaint();
+        animationTimer = AnimationClock.every(this, 30, () -> {
+            particles.update();
+            for (FloatingIcon icon : floatingIcons) {
+                icon.update();
             }
+            waveOffset += 0.05f;
+            repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
@@ -214,70 +202,6 @@ public class MainMenuPrivateScreen extends JPanel {
     }
 
     // ✅ Animated particle class
-    private class AnimatedParticle {
-        float x, y;
-        float vx, vy;
-        float size;
-        float alpha;
-        float pulseSpeed;
-        float pulseOffset;
-        Color color;
-
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920;
-            y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 1.2f;
-            vy = (r.nextFloat() - 0.5f) * 1.2f;
-            size = r.nextFloat() * 8 + 2;
-            alpha = r.nextFloat() * 0.5f + 0.3f;
-            pulseSpeed = r.nextFloat() * 0.05f + 0.02f;
-            pulseOffset = r.nextFloat() * (float)Math.PI * 2;
-            
-            int colorChoice = r.nextInt(5);
-            if (colorChoice == 0) {
-                color = new Color(0, 180, 255);
-            } else if (colorChoice == 1) {
-                color = new Color(0, 220, 100);
-            } else if (colorChoice == 2) {
-                color = new Color(100, 150, 255);
-            } else if (colorChoice == 3) {
-                color = new Color(0, 255, 200);
-            } else {
-                color = new Color(50, 200, 255);
-            }
-        }
-
-        void update() {
-            x += vx;
-            y += vy;
-
-            if (x < 0) x = 1920;
-            if (x > 1920) x = 0;
-            if (y < 0) y = 1080;
-            if (y > 1080) y = 0;
-            
-            pulseOffset += pulseSpeed;
-        }
-
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth;
-            float scaledY = (y / 1080f) * panelHeight;
-
-            float pulse = (float)Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse;
-            float currentSize = size * pulse;
-
-            // Glow effect
-            for (int i = 3; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.2f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(glowAlpha * 255)));
-                g2.fillOval((int)(scaledX - i*2), (int)(scaledY - i*2), (int)(currentSize + i*4), (int)(currentSize + i*4));
-            }
-
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(currentAlpha * 255)));
-            g2.fillOval((int)scaledX, (int)scaledY, (int)currentSize, (int)currentSize);
-        }
-    }
     
     // ✅ Floating icon class for extra visual interest
     private class FloatingIcon {
@@ -337,7 +261,7 @@ public class MainMenuPrivateScreen extends JPanel {
             private Color hoverColor = new Color(50, 80, 120, 220);
             private boolean hovering = false;
             private float hoverProgress = 0f;
-            private Timer hoverTimer = null;
+            private AnimationClock.Animation hoverTimer = null;
 
             {
                 addMouseListener(new MouseAdapter() {
@@ -358,19 +282,15 @@ public class MainMenuPrivateScreen extends JPanel {
                     hoverTimer.stop();
                 }
                 
-                hoverTimer = new Timer(20, null);
-                hoverTimer.addActionListener(e -> {
+                hoverTimer = AnimationClock.until(this, 20, () -> {
                     if (entering) {
                         hoverProgress = Math.min(1f, hoverProgress + 0.1f);
                     } else {
                         hoverProgress = Math.max(0f, hoverProgress - 0.1f);
                     }
                     repaint();
-                    if ((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f)) {
-                        hoverTimer.stop();
-                    }
+                    return !((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f));
                 });
-                hoverTimer.start();
             }
 
             @Override
@@ -446,14 +366,10 @@ public class MainMenuPrivateScreen extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Gradient background
-        GradientPaint gp = new GradientPaint(0, 0, new Color(2, 5, 15), getWidth(), getHeight(), new Color(10, 20, 40));
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
 
         // Draw animated particles
-        for (AnimatedParticle p : particles) {
-            p.draw(g2, getWidth(), getHeight());
-        }
+        particles.paint(g2, getWidth(), getHeight());
         
         // Draw floating icons
         for (FloatingIcon icon : floatingIcons) {
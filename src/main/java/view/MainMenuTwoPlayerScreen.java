@@ -17,8 +17,9 @@ public class MainMenuTwoPlayerScreen extends JPanel {
 
     private final JFrame frame;
     private float cardOpacity = 0f;
-    private Timer animationTimer;
-    private final List<AnimatedParticle> particles = new ArrayList<>();
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(new Color(2, 5, 15), new Color(10, 20, 40));
     private final List<FloatingIcon> floatingIcons = new ArrayList<>();
     private final Random random = new Random();
     private float waveOffset = 0f;
@@ -159,8 +160,9 @@ public class MainMenuTwoPlayerScreen extends JPanel {
             new SwingWorker<JPanel, Void>() {
                 @Override
                 protected JPanel doInBackground() {
-                    List<DetailedGameHistoryEntry> list = new GameHistoryController().getDetailedHistoryForLoggedUser();
-                    return new DetailedGameHistoryScreen(frame, list);
+                    GameHistoryController controller = new GameHistoryController();
+                    List<DetailedGameHistoryEntry> list = controller.getDetailedHistoryForLoggedUser();
+                    return new DetailedGameHistoryScreen(frame, list, controller.getDetailedHistorySummary());
                 }
                 @Override
                 protected void done() {
@@ -270,58 +272,22 @@ public class MainMenuTwoPlayerScreen extends JPanel {
     }
 
     private void initializeAnimation() {
-        for (int i = 0; i < 60; i++) particles.add(new AnimatedParticle(random));
+        particles = new ParticleField(60, ParticleField.NEON, random);
         String[] icons = {"💣", "🚩", "💎", "⭐", "🎯"};
         for (int i = 0; i < 8; i++) floatingIcons.add(new FloatingIcon(random, icons[random.nextInt(icons.length)]));
-        animationTimer = new Timer(30, e -> {
+        animationTimer = AnimationClock.every(this, 30, () -> {
             if (cardOpacity < 1f) cardOpacity = Math.min(1f, cardOpacity + 0.04f);
-            for (AnimatedParticle p : particles) p.update();
+            particles.update();
             for (FloatingIcon ic : floatingIcons) ic.update();
             waveOffset += 0.05f;
             repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
         if (animationTimer != null) animationTimer.stop();
     }
 
-    private class AnimatedParticle {
-        float x, y, vx, vy, size, alpha, pulseSpeed, pulseOffset;
-        Color color;
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920; y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 1.2f; vy = (r.nextFloat() - 0.5f) * 1.2f;
-            size = r.nextFloat() * 8 + 2; alpha = r.nextFloat() * 0.5f + 0.3f;
-            pulseSpeed = r.nextFloat() * 0.05f + 0.02f; pulseOffset = r.nextFloat() * (float) Math.PI * 2;
-            int c = r.nextInt(5);
-            if (c == 0) color = new Color(0, 180, 255);
-            else if (c == 1) color = new Color(0, 220, 100);
-            else if (c == 2) color = new Color(100, 150, 255);
-            else if (c == 3) color = new Color(0, 255, 200);
-            else color = new Color(50, 200, 255);
-        }
-        void update() {
-            x += vx; y += vy;
-            if (x < 0) x = 1920; if (x > 1920) x = 0;
-            if (y < 0) y = 1080; if (y > 1080) y = 0;
-            pulseOffset += pulseSpeed;
-        }
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth, scaledY = (y / 1080f) * panelHeight;
-            float pulse = (float) Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse, currentSize = size * pulse;
-            for (int i = 3; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.2f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (glowAlpha * 255)));
-                g2.fillOval((int) (scaledX - i * 2), (int) (scaledY - i * 2), (int) (currentSize + i * 4), (int) (currentSize + i * 4));
-            }
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (currentAlpha * 255)));
-            g2.fillOval((int) scaledX, (int) scaledY, (int) currentSize, (int) currentSize);
-        }
-    }
-
     private class FloatingIcon {
         float x, y, vx, vy, rotation, rotationSpeed, alpha, pulseOffset;
         String icon;
@@ -356,7 +322,7 @@ public class MainMenuTwoPlayerScreen extends JPanel {
             private final Color normalColor = new Color(30, 40, 60, 180);
             private final Color hoverColor = new Color(50, 80, 120, 220);
             private float hoverProgress = 0f;
-            private Timer hoverTimer = null;
+            private AnimationClock.Animation hoverTimer = null;
             {
                 addMouseListener(new MouseAdapter() {
                     @Override
@@ -367,13 +333,12 @@ public class MainMenuTwoPlayerScreen extends JPanel {
             }
             private void animateHover(boolean entering) {
                 if (hoverTimer != null && hoverTimer.isRunning()) hoverTimer.stop();
-                hoverTimer = new Timer(20, e -> {
+                hoverTimer = AnimationClock.until(this, 20, () -> {
                     if (entering) hoverProgress = Math.min(1f, hoverProgress + 0.1f);
                     else hoverProgress = Math.max(0f, hoverProgress - 0.1f);
                     repaint();
-                    if ((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f)) hoverTimer.stop();
+                    return !((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f));
                 });
-                hoverTimer.start();
             }
             @Override
             protected void paintComponent(Graphics g) {
@@ -438,10 +403,8 @@ public class MainMenuTwoPlayerScreen extends JPanel {
         super.paintComponent(g);
         Graphics2D g2 = (Graphics2D) g.create();
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        GradientPaint gp = new GradientPaint(0, 0, new Color(2, 5, 15), getWidth(), getHeight(), new Color(10, 20, 40));
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
-        for (AnimatedParticle p : particles) p.draw(g2, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
+        particles.paint(g2, getWidth(), getHeight());
         for (FloatingIcon ic : floatingIcons) ic.draw(g2, getWidth(), getHeight());
         g2.dispose();
     }
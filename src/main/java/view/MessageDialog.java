@@ -107,25 +107,23 @@ public class MessageDialog extends JDialog {
 
         // Fade in
         setOpacity(0f);
-        Timer t = new Timer(16, e -> {
+        AnimationClock.until(this, 16, () -> {
             opacity = Math.min(1f, opacity + 0.12f);
             setOpacity(opacity);
-            if (opacity >= 1f) ((Timer) e.getSource()).stop();
+            return opacity < 1f;
         });
-        t.start();
     }
 
     private void fadeOutAndDispose() {
-        Timer t = new Timer(16, null);
-        t.addActionListener(e -> {
+        AnimationClock.until(this, 16, () -> {
             opacity = Math.max(0f, opacity - 0.14f);
             setOpacity(opacity);
             if (opacity <= 0f) {
-                ((Timer) e.getSource()).stop();
                 dispose();
+                return false;
             }
+            return true;
         });
-        t.start();
     }
 
     private static JButton wrapPrimaryButton(JButton btn, Color accent) {
@@ -2,38 +2,37 @@ package view;
 
 import control.QuestionController;
 import control.SinglePlayerGameControl;
+import engine.BoardChange;
+import engine.BoardEngine;
+import engine.BoardListener;
 import model.CellType;
+import model.FlagResult;
 import model.Question;
 
 import javax.swing.*;
-import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.List;
 
-public class MinesweeperBoardPanel extends JPanel {
+public class MinesweeperBoardPanel extends JPanel implements BoardListener {
 
     private final int rows;
     private final int cols;
-    private final CellButton[][] cells;
+    private final BoardCanvas canvas;
     private int cellSize;
 
+    // a board bigger than this on screen is shown through the zoomable viewport
+    private static final int MAX_PLAIN_WIDTH = 1200;
+    private static final int MAX_PLAIN_HEIGHT = 800;
+
     private final SinglePlayerGameControl controller;
     private final QuestionController questionController;
 
     private boolean isFlagMode = false;
-    private final Random random = new Random();
-
-    // delayed generation
-    private boolean generated = false;
-
-    // win helpers
-    private int totalMines = 0;
-    private int revealedMines = 0;
 
-    private static final String PROP_FLAG_KIND = "flagKind";   // "correct" / "wrong" / null
-    private static final String PROP_COUNTED  = "counted";     // true once we gave +1 reveal points
+    // board rules and state (generated on first interaction); this panel only renders engine events
+    private final BoardEngine engine;
 
     public MinesweeperBoardPanel(int rows, int cols,
                                  SinglePlayerGameControl controller,
@@ -42,7 +41,8 @@ public class MinesweeperBoardPanel extends JPanel {
         this.cols = cols;
         this.controller = controller;
         this.questionController = questionController;
-        this.cells = new CellButton[rows][cols];
+        this.engine = new BoardEngine(controller.getBoardSpec());
+        engine.addListener(this);
 
         switch (controller.getDifficulty()) {
             case "Easy" -> cellSize = 40;
@@ -51,7 +51,9 @@ public class MinesweeperBoardPanel extends JPanel {
             default -> cellSize = 24;
         }
 
-        setLayout(new GridLayout(rows, cols, 2, 2));
+        this.canvas = new BoardCanvas(rows, cols, cellSize, 2);
+
+        setLayout(new BorderLayout());
         setBackground(new Color(10, 10, 15));
 
         initializeBoard();
@@ -59,26 +61,21 @@ public class MinesweeperBoardPanel extends JPanel {
     }
 
     private void initializeBoard() {
-        int boardWidth = cols * cellSize + (cols - 1) * 2;
-        int boardHeight = rows * cellSize + (rows - 1) * 2;
-        setPreferredSize(new Dimension(boardWidth, boardHeight));
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                CellButton cell = new CellButton(cellSize);
-                cells[i][j] = cell;
-                add(cell);
-
-                int r = i, c = j;
-
-                cell.addActionListener(e -> handleLeftClick(r, c));
-                cell.addMouseListener(new java.awt.event.MouseAdapter() {
-                    @Override public void mousePressed(java.awt.event.MouseEvent e) {
-                        if (SwingUtilities.isRightMouseButton(e)) handleRightClick(r, c);
-                    }
-                });
-            }
+        long boardWidth = (long) cols * cellSize + (cols - 1) * 2L;
+        long boardHeight = (long) rows * cellSize + (rows - 1) * 2L;
+        if (boardWidth > MAX_PLAIN_WIDTH || boardHeight > MAX_PLAIN_HEIGHT) {
+            canvas.setViewportMode(true);
+            setPreferredSize(new Dimension((int) Math.min(boardWidth, MAX_PLAIN_WIDTH),
+                    (int) Math.min(boardHeight, MAX_PLAIN_HEIGHT)));
+        } else {
+            setPreferredSize(new Dimension((int) boardWidth, (int) boardHeight));
         }
+
+        add(canvas, BorderLayout.CENTER);
+        canvas.setCellInput((r, c, secondary) -> {
+            if (secondary) handleRightClick(r, c);
+            else handleLeftClick(r, c);
+        });
     }
 
     // =========================
@@ -88,25 +85,22 @@ public class MinesweeperBoardPanel extends JPanel {
         if (controller.isGameOver()) return;
 
         // ✅ Generate on FIRST interaction always (even if flag mode) — like regular board
-        if (!generated) {
+        if (!engine.isGenerated()) {
             generateBoardEnsuringSafeFirstClick(r, c);
-            generated = true;
         }
 
-        CellButton cell = cells[r][c];
-
         // flag mode
         if (isFlagMode || controller.isFlagMode()) {
             handleFlagPlacement(r, c);
             return;
         }
 
-        if (cell.getState() == CellButton.CellState.HIDDEN) {
+        int idx = engine.index(r, c);
+        if (!engine.isRevealed(idx)) {
             revealCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.QUESTION && cell.canActivate()) {
-            activateQuestionCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.SURPRISE && cell.canActivate()) {
-            activateSurpriseCell(r, c);
+        } else if (engine.canActivate(idx)) {
+            if (engine.getType(idx) == CellType.QUESTION) activateQuestionCell(r, c);
+            else activateSurpriseCell(r, c);
         }
     }
 
@@ -114,9 +108,8 @@ public class MinesweeperBoardPanel extends JPanel {
         if (controller.isGameOver()) return;
 
         // ✅ generate board on FIRST interaction even if it's RIGHT click
-        if (!generated) {
+        if (!engine.isGenerated()) {
             generateBoardEnsuringSafeFirstClick(r, c);
-            generated = true;
         }
 
         handleFlagPlacement(r, c);
@@ -126,121 +119,50 @@ public class MinesweeperBoardPanel extends JPanel {
     // GENERATION (FIRST CLICK SAFE + EMPTY)
     // =========================
     private void generateBoardEnsuringSafeFirstClick(int safeR, int safeC) {
-        revealedMines = 0;
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c].setCellType(CellType.EMPTY);
-                cells[r][c].setNumber(0);
-                cells[r][c].putClientProperty(PROP_COUNTED, null);
-                cells[r][c].putClientProperty(PROP_FLAG_KIND, null);
-
-                cells[r][c].setFlagged(false);
-                cells[r][c].setState(CellButton.CellState.HIDDEN);
-                clearFlagStyle(cells[r][c]);
-            }
-        }
-
-        int minesToPlace = minesForDifficulty();
-        totalMines = minesToPlace;
-
-        boolean[][] forbidden = new boolean[rows][cols];
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int rr = safeR + dr;
-                int cc = safeC + dc;
-                if (isValidCell(rr, cc)) forbidden[rr][cc] = true;
-            }
-        }
-
-        int placed = 0;
-        while (placed < minesToPlace) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            if (forbidden[r][c]) continue;
-            if (cells[r][c].getCellType() == CellType.MINE) continue;
-
-            cells[r][c].setCellType(CellType.MINE);
-            placed++;
-        }
-
-        calculateNumbers();
-        placeSpecialCells();
-
-        // guarantee first click is EMPTY
-        cells[safeR][safeC].setCellType(CellType.EMPTY);
-        cells[safeR][safeC].setNumber(0);
+        // mines stay out of the 3x3 around the first click and no special cell lands on it,
+        // so the first click always opens an EMPTY cascade
+        engine.generate(safeR, safeC, controller.getBoardSeed());
     }
 
-    private void calculateNumbers() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() == CellType.MINE) continue;
-
-                int adjacentMines = calculateAdjacentMines(r, c);
-                if (adjacentMines > 0) {
-                    cells[r][c].setCellType(CellType.NUMBER);
-                    cells[r][c].setNumber(adjacentMines);
-                } else {
-                    cells[r][c].setCellType(CellType.EMPTY);
-                }
-            }
-        }
-    }
-
-    private void placeSpecialCells() {
-        List<int[]> emptyCells = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() == CellType.EMPTY) {
-                    emptyCells.add(new int[]{r, c});
-                }
-            }
-        }
-        Collections.shuffle(emptyCells, random);
+    // =========================
+    // ENGINE EVENTS -> CELLS
+    // =========================
+    @Override
+    public void onBoardGenerated(BoardEngine engine) {
+        // cells take their type when revealed, so a huge board creates no cell up front
 
-        int questionCellsNeeded;
-        int surpriseCellsNeeded;
-        switch (controller.getDifficulty()) {
-            case "Easy" -> { questionCellsNeeded = 6;  surpriseCellsNeeded = 2; }
-            case "Medium" -> { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
-            case "Hard" -> { questionCellsNeeded = 11; surpriseCellsNeeded = 4; }
-            default -> { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
+        // a very dense custom board can run out of empty cells for its specials
+        int missing = engine.getMissingSpecials();
+        if (missing > 0) {
+            SwingUtilities.invokeLater(() -> ModernPopup.info(this, "Fewer special cells",
+                    "This board only had room for " + (engine.getTotalQuestions() + engine.getTotalSurprises()) +
+                            " question / surprise cells; " + missing + " could not be placed."));
         }
+    }
 
-        int idx = 0;
-        for (int i = 0; i < questionCellsNeeded && idx < emptyCells.size(); i++) {
-            int[] p = emptyCells.get(idx++);
-            cells[p[0]][p[1]].setCellType(CellType.QUESTION);
-        }
-        for (int i = 0; i < surpriseCellsNeeded && idx < emptyCells.size(); i++) {
-            int[] p = emptyCells.get(idx++);
-            cells[p[0]][p[1]].setCellType(CellType.SURPRISE);
-        }
+    // one event per move: the changed cells are updated and repainted, nothing else
+    @Override
+    public void onCellsChanged(BoardEngine engine, BoardChange change) {
+        canvas.apply(engine, change);
     }
 
     // =========================
     // FLAG (✅ TOGGLE LIKE REGULAR BOARD)
     // =========================
     private void handleFlagPlacement(int r, int c) {
-        CellButton cell = cells[r][c];
+        BoardCell cell = canvas.getCell(r, c);
 
-        // never flag revealed/special (match your Practice rule)
-        if (cell.getState() == CellButton.CellState.REVEALED ||
-            cell.getState() == CellButton.CellState.QUESTION ||
-            cell.getState() == CellButton.CellState.SURPRISE) {
-            return;
-        }
+        // never flag revealed/special (match your Practice rule) -> engine returns INVALID
+        FlagResult result = engine.toggleFlag(r, c);
+        if (result == FlagResult.INVALID) return;
 
         // ✅ REGULAR behavior: if already flagged -> UNFLAG
-        if (cell.isFlagged()) {
-            boolean wasCorrect = "correct".equals(cell.getClientProperty(PROP_FLAG_KIND));
-
-            cell.setFlagged(false);
-            cell.setState(CellButton.CellState.HIDDEN);
+        if (result == FlagResult.REMOVED) {
+            // a flag was correct exactly when it sat on a mine
+            boolean wasCorrect = engine.getType(engine.index(r, c)) == CellType.MINE;
 
-            cell.putClientProperty(PROP_FLAG_KIND, null);
-            clearFlagStyle(cell);
+            cell.setState(BoardCell.CellState.HIDDEN);
+            applyFlagStyle(cell, null);
 
             // Try to notify controller if it supports flag removal (no compile errors if absent)
             notifyFlagRemovedIfExists(wasCorrect);
@@ -251,14 +173,12 @@ public class MinesweeperBoardPanel extends JPanel {
         }
 
         // ADD flag
-        cell.setFlagged(true);
-        cell.setState(CellButton.CellState.FLAGGED);
+        cell.setState(BoardCell.CellState.FLAGGED);
 
-        boolean correct = (cell.getCellType() == CellType.MINE);
+        boolean correct = (result == FlagResult.CORRECT_MINE);
         controller.onFlagPlaced(correct);
 
-        cell.putClientProperty(PROP_FLAG_KIND, correct ? "correct" : "wrong");
-        applyFlagStyle(cell);
+        applyFlagStyle(cell, correct);
 
         updateGameScreen();
         checkEndConditions();
@@ -273,148 +193,52 @@ public class MinesweeperBoardPanel extends JPanel {
         }
     }
 
-    private void applyFlagStyle(CellButton cell) {
-        Object kind = cell.getClientProperty(PROP_FLAG_KIND);
-
-        if (kind == null) {
-            cell.setBorder(null);
-            cell.setBackground(null);
-            cell.setOpaque(false);
-            return;
-        }
-
-        cell.setOpaque(true);
-        cell.setBorderPainted(true);
-        cell.setContentAreaFilled(true);
-
-        if ("correct".equals(kind)) {
-            Color greenBorder = new Color(0, 255, 0, 180);
-            Color greenFill = new Color(0, 255, 0, 70);
-            cell.setBackground(greenFill);
-            cell.setBorder(new LineBorder(greenBorder, 2, true));
+    /** Green / red fill and outline for a correct / wrong flag, none for null. */
+    private void applyFlagStyle(BoardCell cell, Boolean correct) {
+        if (correct == null) {
+            cell.setTint(null);
+            cell.setOutline(null);
+        } else if (correct) {
+            cell.setTint(new Color(0, 255, 0, 70));
+            cell.setOutline(new Color(0, 255, 0, 180));
         } else {
-            Color redBorder = new Color(255, 0, 0, 180);
-            Color redFill = new Color(255, 0, 0, 70);
-            cell.setBackground(redFill);
-            cell.setBorder(new LineBorder(redBorder, 2, true));
+            cell.setTint(new Color(255, 0, 0, 70));
+            cell.setOutline(new Color(255, 0, 0, 180));
         }
-
-        cell.revalidate();
-        cell.repaint();
-    }
-
-    private void clearFlagStyle(CellButton cell) {
-        cell.putClientProperty(PROP_FLAG_KIND, null);
-        applyFlagStyle(cell);
     }
 
     // =========================
     // REVEAL
     // =========================
     private void revealCell(int r, int c) {
-        CellButton cell = cells[r][c];
-        if (!cell.canReveal()) return;
-        if (cell.isFlagged()) return;
-
-        CellType type = cell.getCellType();
-        cell.setState(CellButton.CellState.REVEALED);
-
-        switch (type) {
-            case MINE -> {
-                revealedMines++;
-                controller.onMineHit();
-                cell.showMine();
-
-                ModernDialog.info(
-                        SwingUtilities.getWindowAncestor(this),
-                        "Mine!",
-                        "You hit a mine!\nLives left: " + controller.getLives(),
-                        ModernDialog.Theme.WARNING
-                );
-            }
-
-            case NUMBER -> {
-                countRevealPointsOnce(cell);
-                cell.showNumber(calculateAdjacentMines(r, c));
-            }
-
-            case EMPTY -> {
-                countRevealPointsOnce(cell);
-                cell.showEmpty();
-                cascadeReveal(r, c);
-            }
-
-            case QUESTION -> {
-                countRevealPointsOnce(cell);
-                cell.showQuestion();
-                cell.setState(CellButton.CellState.QUESTION);
-                cascadeReveal(r, c);
-            }
-
-            case SURPRISE -> {
-                countRevealPointsOnce(cell);
-                cell.showSurprise();
-                cell.setState(CellButton.CellState.SURPRISE);
-                cascadeReveal(r, c);
-            }
+        BoardEngine.RevealResult reveal = engine.reveal(r, c);
+        if (reveal == null) return;
+
+        if (reveal.type() == CellType.MINE) {
+            controller.onMineHit();
+
+            ModernDialog.info(
+                    SwingUtilities.getWindowAncestor(this),
+                    "Mine!",
+                    "You hit a mine!\nLives left: " + controller.getLives(),
+                    ModernDialog.Theme.WARNING
+            );
+        } else {
+            // reveal points only for the clicked cell; cascade cells are free
+            controller.onRevealNumberOrEmpty();
         }
 
         updateGameScreen();
         checkEndConditions();
     }
 
-    private void countRevealPointsOnce(CellButton cell) {
-        if (cell.getClientProperty(PROP_COUNTED) != null) return;
-        cell.putClientProperty(PROP_COUNTED, true);
-        controller.onRevealNumberOrEmpty();
-    }
-
-    private void cascadeReveal(int r, int c) {
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-
-                int nr = r + dr, nc = c + dc;
-                if (!isValidCell(nr, nc)) continue;
-
-                CellButton n = cells[nr][nc];
-                if (!n.canReveal()) continue;
-                if (n.isFlagged()) continue;
-                if (n.getState() == CellButton.CellState.REVEALED) continue;
-
-                CellType t = n.getCellType();
-                if (t == CellType.MINE) continue;
-
-                n.setState(CellButton.CellState.REVEALED);
-
-                switch (t) {
-                    case EMPTY -> {
-                        n.showEmpty();
-                        cascadeReveal(nr, nc);
-                    }
-                    case NUMBER -> n.showNumber(calculateAdjacentMines(nr, nc));
-                    case QUESTION -> {
-                        n.showQuestion();
-                        n.setState(CellButton.CellState.QUESTION);
-                        cascadeReveal(nr, nc);
-                    }
-                    case SURPRISE -> {
-                        n.showSurprise();
-                        n.setState(CellButton.CellState.SURPRISE);
-                        cascadeReveal(nr, nc);
-                    }
-                }
-            }
-        }
-    }
-
     // =========================
     // SURPRISE
     // =========================
     private void activateSurpriseCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
             ModernDialog.info(SwingUtilities.getWindowAncestor(this),
                     "Already Used", "This surprise cell has already been used.", ModernDialog.Theme.INFO);
             return;
@@ -437,7 +261,7 @@ public class MinesweeperBoardPanel extends JPanel {
         if (!ok) return;
 
         SinglePlayerGameControl.CellActionResult res = controller.activateSurpriseSingle();
-        cell.setUsed(true);
+        engine.markUsed(idx);
 
         ModernDialog.info(SwingUtilities.getWindowAncestor(this),
                 "Surprise", res.message, ModernDialog.Theme.INFO);
@@ -450,9 +274,9 @@ public class MinesweeperBoardPanel extends JPanel {
     // QUESTION
     // =========================
     private void activateQuestionCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
             ModernDialog.info(SwingUtilities.getWindowAncestor(this),
                     "Already Used", "This question cell has already been used.", ModernDialog.Theme.INFO);
             return;
@@ -470,7 +294,7 @@ public class MinesweeperBoardPanel extends JPanel {
         start.setVisible(true);
         if (!start.shouldProceed()) return;
 
-        cell.setUsed(true);
+        engine.markUsed(idx);
         showQuestionDialog();
     }
 
@@ -521,8 +345,7 @@ public class MinesweeperBoardPanel extends JPanel {
             return;
         }
 
-        int correctFlags = countCorrectFlags();
-        if (revealedMines + correctFlags >= totalMines) {
+        if (engine.isBoardFinished()) {
             controller.endGame(true);
             fireEndDialog();
             disableAll();
@@ -540,43 +363,13 @@ public class MinesweeperBoardPanel extends JPanel {
     }
 
     private void disableAll() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) cells[r][c].setEnabled(false);
-        }
-    }
-
-    private int countCorrectFlags() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].isFlagged() && cells[r][c].getCellType() == CellType.MINE) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        canvas.setEnabled(false);
     }
 
 
     // =========================
     // HELPERS
     // =========================
-    private int calculateAdjacentMines(int r, int c) {
-        int count = 0;
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-                int nr = r + dr, nc = c + dc;
-                if (isValidCell(nr, nc) && cells[nr][nc].getCellType() == CellType.MINE) count++;
-            }
-        }
-        return count;
-    }
-
-    private boolean isValidCell(int r, int c) {
-        return r >= 0 && r < rows && c >= 0 && c < cols;
-    }
-
     private void updateGameScreen() {
         SwingUtilities.invokeLater(() -> {
             Container parent = getParent();
@@ -587,29 +380,20 @@ public class MinesweeperBoardPanel extends JPanel {
         });
     }
 
-    public void setFlagMode(boolean flagMode) {
-        this.isFlagMode = flagMode;
+    /** True when the board is too big for the screen and zooms / pans itself. */
+    public boolean usesViewport() {
+        return canvas.isViewportMode();
     }
 
-    // Mine count for difficulty
-    private int minesForDifficulty() {
-        return switch (controller.getDifficulty()) {
-            case "Easy" -> 10;
-            case "Medium" -> 26;
-            case "Hard" -> 44;
-            default -> 26;
-        };
+    public void setFlagMode(boolean flagMode) {
+        this.isFlagMode = flagMode;
     }
 
     public int getTotalMines() {
-        return (totalMines > 0) ? totalMines : minesForDifficulty();
+        return engine.getTotalMines();
     }
 
     public int getMinesLeftCalculated() {
-        int handled = revealedMines + countCorrectFlags();   // ✅ גם מוקשים שנחשפו וגם דגלים נכונים
-        int left = getTotalMines() - handled;
-        return Math.max(left, 0);
+        return engine.getMinesLeft();   // ✅ גם מוקשים שנחשפו וגם דגלים נכונים
     }
-
-
 }
@@ -4,23 +4,30 @@ import control.CompetitiveCellActionFactory;
 import control.CompetitiveCellActionTemplate;
 import control.CompetitiveGameController;
 import control.QuestionController;
+import engine.BoardChange;
+import engine.BoardEngine;
+import engine.BoardLayout;
+import engine.BoardListener;
+import engine.BoardSpec;
+import engine.MineSolver;
+import engine.NoGuessPool;
 import model.CellType;
+import model.FlagResult;
 import model.Question;
 
 import javax.swing.*;
 import javax.swing.Timer;
-import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.util.*;
-import java.util.List;
 
-public class MinesweeperBoardPanelCompetitive extends JPanel {
+public class MinesweeperBoardPanelCompetitive extends JPanel implements BoardListener {
 
     private final int rows;
     private final int cols;
-    private final CellButton[][] cells;
+    private final BoardCanvas canvas;
+    private final BoardCell[][] cells;
 
     // ✅ UI Responsive settings
     private int cellSize;
@@ -33,23 +40,20 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     private final GameScreenCompetitive parentScreen;
     private final boolean isPlayer1Board;
 
-    private int totalMines;
-    private int revealedMines = 0;
-    private int totalNonMineCells;
-    private int revealedNonMineCells = 0;
+    // board rules and state; this panel only renders engine events
+    private final BoardEngine engine;
 
-    private boolean isFlagMode = false;
-    private final Random random = new Random();
+    // probabilities for the hot/cold hint; keeps solved frontier components between hints
+    private final MineSolver solver = new MineSolver();
 
-    private int firstClickRow = -1;
-    private int firstClickCol = -1;
-    private boolean boardGenerated = false;
+    private boolean isFlagMode = false;
     private boolean endUiShown = false;
+    private boolean revealingEnd = false;     // the reveal-all is composed off the EDT
 
     // =========================
     // HOT/COLD HINT
     // =========================
-    private final Map<CellButton, Color> hintOverlay = new HashMap<>();
+    private final java.util.List<BoardCell> hintCells = new ArrayList<>();
 
     public MinesweeperBoardPanelCompetitive(int rows, int cols,
                                            CompetitiveGameController gameController,
@@ -62,7 +66,8 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
         this.questionController = questionController;
         this.parentScreen = parentScreen;
         this.isPlayer1Board = isPlayer1Board;
-        this.cells = new CellButton[rows][cols];
+        this.engine = new BoardEngine(BoardSpec.forDifficulty(gameController.getDifficulty(), rows, cols));
+        engine.addListener(this);
 
         // ✅ Base size by difficulty
         switch (gameController.getDifficulty()) {
@@ -72,7 +77,10 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
             default:       cellSize = 28; break;
         }
 
-        setLayout(new GridLayout(rows, cols, gap, gap));
+        this.canvas = new BoardCanvas(rows, cols, cellSize, gap);
+        this.cells = canvas.getCells();
+
+        setLayout(new BorderLayout());
         setBackground(new Color(10, 10, 15));
         setOpaque(true);
 
@@ -94,7 +102,7 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // =========================
     public void refreshResponsive() {
         updateCellSizeFromPanel();
-        resizeAllCells();
+        canvas.setCellSize(cellSize);
         revalidate();
         repaint();
     }
@@ -116,19 +124,6 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
         cellSize = newSize;
     }
 
-    private void resizeAllCells() {
-        Dimension d = new Dimension(cellSize, cellSize);
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                CellButton cell = cells[i][j];
-                if (cell == null) continue;
-                cell.setPreferredSize(d);
-                cell.setMinimumSize(d);
-                cell.setMaximumSize(d);
-            }
-        }
-    }
-
     @Override
     public Dimension getPreferredSize() {
         int w = cols * cellSize + (cols - 1) * gap;
@@ -149,130 +144,49 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // BOARD INIT / GENERATION
     // =========================
     private void initializeBoard() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                CellButton cell = new CellButton(cellSize);
-
-                // ✅ allow CellButton to find its board for hint overlay painting
-                cell.putClientProperty("boardRef", this);
-
-                cells[i][j] = cell;
-                add(cell);
-
-                final int r = i, c = j;
-
-                cell.addActionListener(e -> handleCellClick(r, c));
-
-                cell.addMouseListener(new java.awt.event.MouseAdapter() {
-                    @Override
-                    public void mousePressed(java.awt.event.MouseEvent e) {
-                        if (SwingUtilities.isRightMouseButton(e)) {
-                            handleRightClick(r, c);
-                        }
-                    }
-                });
-            }
-        }
+        add(canvas, BorderLayout.CENTER);
+        canvas.setCellInput((r, c, secondary) -> {
+            if (secondary) handleRightClick(r, c);
+            else handleCellClick(r, c);
+        });
     }
 
     private void generateBoardWithSafeFirstCell(int firstRow, int firstCol) {
-        if (boardGenerated) return;
-
-        firstClickRow = firstRow;
-        firstClickCol = firstCol;
-
-        placeMines();
-        calculateNumbers();
-        placeSpecialCells();
-
-        boardGenerated = true;
+        if (engine.isGenerated()) return;
 
         int playerNum = isPlayer1Board ? 1 : 2;
-        gameController.setPlayerTotalMines(playerNum, totalMines);
-    }
-
-    private void placeMines() {
-        int minesToPlace = calculateMineCount();
-        int placed = 0;
+        BoardLayout noGuessBoard = gameController.isNoGuess()
+                ? NoGuessPool.getInstance().take(engine.getSpec(), firstRow, firstCol)
+                : null;
 
-        List<String> forbiddenPositions = new ArrayList<>();
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int nr = firstClickRow + dr;
-                int nc = firstClickCol + dc;
-                if (isValidCell(nr, nc)) forbiddenPositions.add(nr + "," + nc);
-            }
-        }
-
-        while (placed < minesToPlace) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            String pos = r + "," + c;
-
-            if (!forbiddenPositions.contains(pos) && cells[r][c].getCellType() != CellType.MINE) {
-                cells[r][c].setCellType(CellType.MINE);
-                placed++;
-            }
+        if (noGuessBoard != null) {
+            engine.load(noGuessBoard);
+        } else {
+            // regular board (also the fallback if no no-guess board fits the click in time)
+            engine.generate(firstRow, firstCol, gameController.getBoardSeed(playerNum));
         }
 
-        totalMines = minesToPlace;
+        gameController.setPlayerTotalMines(playerNum, engine.getTotalMines());
+        gameController.setPlayerFirstClick(playerNum, engine.index(firstRow, firstCol));
     }
 
-    private int calculateMineCount() {
-        String d = gameController.getDifficulty();
-        if ("Easy".equals(d)) return 10;
-        if ("Medium".equals(d)) return 26;
-        if ("Hard".equals(d)) return 44;
-        return 26;
-    }
-
-    private void calculateNumbers() {
-        totalNonMineCells = (rows * cols) - totalMines;
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() != CellType.MINE) {
-                    int adjacentMines = calculateAdjacentMines(r, c);
-                    if (adjacentMines > 0) {
-                        cells[r][c].setCellType(CellType.NUMBER);
-                        cells[r][c].setNumber(adjacentMines);
-                    } else {
-                        cells[r][c].setCellType(CellType.EMPTY);
-                    }
-                }
-            }
+    // =========================
+    // ENGINE EVENTS -> CELLS
+    // =========================
+    @Override
+    public void onBoardGenerated(BoardEngine engine) {
+        for (int idx = 0; idx < rows * cols; idx++) {
+            BoardCell cell = cells[idx / cols][idx % cols];
+            cell.setCellType(engine.getType(idx));
+            if (engine.getType(idx) == CellType.NUMBER) cell.setNumber(engine.getAdjacentMines(idx));
         }
     }
 
-    private void placeSpecialCells() {
-        List<int[]> emptyCells = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() == CellType.EMPTY) emptyCells.add(new int[]{r, c});
-            }
-        }
-
-        Collections.shuffle(emptyCells);
-
-        int questionCellsNeeded;
-        int surpriseCellsNeeded;
-        String d = gameController.getDifficulty();
-
-        if ("Easy".equals(d)) { questionCellsNeeded = 6; surpriseCellsNeeded = 2; }
-        else if ("Medium".equals(d)) { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
-        else if ("Hard".equals(d)) { questionCellsNeeded = 11; surpriseCellsNeeded = 4; }
-        else { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
-
-        int index = 0;
-
-        for (int i = 0; i < questionCellsNeeded && index < emptyCells.size(); i++) {
-            int[] pos = emptyCells.get(index++);
-            cells[pos[0]][pos[1]].setCellType(CellType.QUESTION);
-        }
-        for (int i = 0; i < surpriseCellsNeeded && index < emptyCells.size(); i++) {
-            int[] pos = emptyCells.get(index++);
-            cells[pos[0]][pos[1]].setCellType(CellType.SURPRISE);
-        }
+    // one event per move: the changed cells are updated and repainted, nothing else
+    @Override
+    public void onCellsChanged(BoardEngine engine, BoardChange change) {
+        if (revealingEnd) canvas.revealFinal(engine, change);
+        else canvas.apply(engine, change);
     }
 
     // =========================
@@ -292,26 +206,24 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
             return;
         }
 
-        if (!boardGenerated) {
+        if (!engine.isGenerated()) {
             generateBoardWithSafeFirstCell(r, c);
             int playerNum = isPlayer1Board ? 1 : 2;
             gameController.markFirstMoveDone(playerNum);
             gameController.markGameStarted();
         }
 
-        CellButton cell = cells[r][c];
-
         if (isFlagMode) {
             handleFlagPlacement(r, c);
             return;
         }
 
-        if (cell.getState() == CellButton.CellState.HIDDEN) {
+        int idx = engine.index(r, c);
+        if (!engine.isRevealed(idx)) {
             revealCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.QUESTION && cell.canActivate()) {
-            activateQuestionCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.SURPRISE && cell.canActivate()) {
-            activateSurpriseCell(r, c);
+        } else if (engine.canActivate(idx)) {
+            if (engine.getType(idx) == CellType.QUESTION) activateQuestionCell(r, c);
+            else activateSurpriseCell(r, c);
         }
     }
 
@@ -323,7 +235,7 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
 
         if ((isPlayer1Board && !isTurnPlayer1) || (!isPlayer1Board && isTurnPlayer1)) return;
 
-        if (!boardGenerated) {
+        if (!engine.isGenerated()) {
             generateBoardWithSafeFirstCell(r, c);
             int playerNum = isPlayer1Board ? 1 : 2;
             gameController.markFirstMoveDone(playerNum);
@@ -337,27 +249,15 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // FLAG
     // =========================
     private void handleFlagPlacement(int r, int c) {
-        CellButton cell = cells[r][c];
-
-        if (cell.getState() != CellButton.CellState.HIDDEN &&
-            cell.getState() != CellButton.CellState.FLAGGED) {
-            return;
-        }
-
-        // remove
-        if (cell.isFlagged()) {
-            cell.setFlagged(false);
-            cell.setState(CellButton.CellState.HIDDEN);
-            repaint();
-            return;
-        }
+        FlagResult flag = engine.toggleFlag(r, c);
+        if (flag == FlagResult.INVALID) return;
 
-        // add
-        cell.setFlagged(true);
-        cell.setState(CellButton.CellState.FLAGGED);
+        // removed: the change event already repainted the cell
+        if (flag == FlagResult.REMOVED) return;
 
-        CellType actualType = cell.getCellType();
-        boolean correct = (actualType == CellType.MINE);
+        // added
+        BoardCell cell = cells[r][c];
+        boolean correct = (flag == FlagResult.CORRECT_MINE);
         int playerNum = isPlayer1Board ? 1 : 2;
 
         CompetitiveCellActionTemplate action =
@@ -369,20 +269,15 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
             cell.showCorrectFlagFeedback();
             AudioManager.play(AudioManager.Sfx.FLAG_RIGHT);
 
-            cell.setBorder(new LineBorder(new Color(0, 255, 0, 150)));
-            cell.setBackground(new Color(0, 255, 0, 150));
             cell.setPermanentBorderColor(new Color(0, 255, 0, 150));
         } else {
             cell.showIncorrectFlagFeedback();
             AudioManager.play(AudioManager.Sfx.BAD_SURPRISE);
 
-            cell.setBorder(new LineBorder(new Color(255, 0, 0, 150)));
-            cell.setBackground(new Color(255, 0, 0, 150));
             cell.setPermanentBorderColor(new Color(255, 0, 0, 150));
         }
 
         parentScreen.updateHUD();
-        repaint();
 
         checkBoardComplete();
 
@@ -394,10 +289,10 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // REVEAL
     // =========================
     private void revealCell(int r, int c) {
-        CellButton cell = cells[r][c];
-        if (!cell.canReveal()) return;
+        BoardEngine.RevealResult reveal = engine.reveal(r, c);
+        if (reveal == null) return;
 
-        CellType type = cell.getCellType();
+        CellType type = reveal.type();
         int playerNum = isPlayer1Board ? 1 : 2;
 
         CompetitiveCellActionTemplate action =
@@ -405,136 +300,35 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
 
         CompetitiveGameController.CellActionResult result = action.execute();
 
-        switch (type) {
-            case MINE -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showMine();
-                AudioManager.play(AudioManager.Sfx.BOOM);
-
-                revealedMines++;
-                parentScreen.updateHUD();
-
-                if (result != null && result.turnEnded) parentScreen.updateActivePlayer();
-
-                if (!gameController.isGameOver()) {
-                    ModernDialog.info(parentScreen.getFrame(),
-                            "💣 Mine hit!",
-                            (result != null ? result.message : "Mine hit!") +
-                                    "\nLives left: " + gameController.getLives(playerNum) +
-                                    "\nTurn ended!",
-                            ModernDialog.Theme.DANGER);
-                }
-            }
-
-            case NUMBER -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showNumber(calculateAdjacentMines(r, c));
-                revealedNonMineCells++;
-
-                parentScreen.updateHUD();
-                if (result != null && result.turnEnded) parentScreen.updateActivePlayer();
-            }
-
-            case EMPTY -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showEmpty();
-                revealedNonMineCells++;
-
-                parentScreen.updateHUD();
-                cascadeReveal(r, c);
-
-                if (result != null && result.turnEnded) parentScreen.updateActivePlayer();
-            }
-
-            case QUESTION -> {
-                cell.showQuestion();
-                cell.setState(CellButton.CellState.QUESTION);
-                revealedNonMineCells++;
-                parentScreen.updateHUD();
-
-                cascadeReveal(r, c);
-
-                // ✅ FIXED: זהה למצב הרגיל - סיום תור רק אם result אומר כך
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
-            }
-
-            case SURPRISE -> {
-                cell.showSurprise();
-                cell.setState(CellButton.CellState.SURPRISE);
-                revealedNonMineCells++;
-                parentScreen.updateHUD();
+        parentScreen.updateHUD();
+        if (result != null && result.turnEnded) parentScreen.updateActivePlayer();
 
-                cascadeReveal(r, c);
+        if (type == CellType.MINE) {
+            AudioManager.play(AudioManager.Sfx.BOOM);
 
-                // ✅ FIXED: זהה למצב הרגיל - סיום תור רק אם result אומר כך
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
+            if (!gameController.isGameOver()) {
+                ModernDialog.info(parentScreen.getFrame(),
+                        "💣 Mine hit!",
+                        (result != null ? result.message : "Mine hit!") +
+                                "\nLives left: " + gameController.getLives(playerNum) +
+                                "\nTurn ended!",
+                        ModernDialog.Theme.DANGER);
             }
         }
+
         checkBoardComplete();
-        repaint();
 
         if (result != null && result.gameOver) showEndOnce();
         if (gameController.isGameOver()) showEndOnce();
     }
 
-    private void cascadeReveal(int r, int c) {
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-
-                int nr = r + dr;
-                int nc = c + dc;
-                if (!isValidCell(nr, nc)) continue;
-
-                CellButton neighbor = cells[nr][nc];
-
-                if (!neighbor.canReveal()) continue;
-                if (neighbor.isFlagged()) continue;
-                if (neighbor.getState() == CellButton.CellState.REVEALED) continue;
-
-                CellType t = neighbor.getCellType();
-
-                switch (t) {
-                    case EMPTY -> {
-                        neighbor.setState(CellButton.CellState.REVEALED);
-                        neighbor.showEmpty();
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case NUMBER -> {
-                        neighbor.setState(CellButton.CellState.REVEALED);
-                        neighbor.showNumber(calculateAdjacentMines(nr, nc));
-                        revealedNonMineCells++;
-                    }
-                    case QUESTION -> {
-                        neighbor.showQuestion();
-                        neighbor.setState(CellButton.CellState.QUESTION);
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case SURPRISE -> {
-                        neighbor.showSurprise();
-                        neighbor.setState(CellButton.CellState.SURPRISE);
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case MINE -> { /* no auto reveal */ }
-                }
-            }
-        }
-    }
-
     // =========================
     // SURPRISE
     // =========================
     private void activateSurpriseCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
             ModernDialog.info(parentScreen.getFrame(),
                     "Already Used",
                     "This surprise cell has already been used.",
@@ -561,7 +355,7 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
         if (!ok) return;
 
         CompetitiveGameController.CellActionResult result = gameController.activateSurprise(playerNum);
-        cell.setUsed(true);
+        engine.markUsed(idx);
 
         if (result != null && result.scoreChanged > 0) {
             AudioManager.play(AudioManager.Sfx.GOOD_SURPRISE);
@@ -576,7 +370,6 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
             parentScreen.updateActivePlayer();
         }
 
-        repaint();
 
         if (result != null && result.gameOver) showEndOnce();
         if (gameController.isGameOver()) showEndOnce();
@@ -586,9 +379,9 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // QUESTION
     // =========================
     private void activateQuestionCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
             ModernDialog.info(parentScreen.getFrame(),
                     "Already Used",
                     "This question cell has already been used.",
@@ -612,7 +405,7 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
         if (!cellDialog.shouldProceed()) return;
 
         AudioManager.play(AudioManager.Sfx.QUESTION_OPEN);
-        cell.setUsed(true);
+        engine.markUsed(idx);
 
         Question q = questionController.getRandomQuestion(-1);
         if (q == null) {
@@ -665,7 +458,6 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
                     }
 
                     parentScreen.updateHUD();
-                    repaint();
 
                     if (result != null && result.gameOver) showEndOnce();
                     if (gameController.isGameOver()) showEndOnce();
@@ -679,26 +471,7 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // BOARD COMPLETE
     // =========================
     private void checkBoardComplete() {
-        if (gameController.isGameOver() || !boardGenerated) return;
-
-        int hiddenCells = 0;
-        int correctlyFlaggedMines = 0;
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
-
-                boolean revealed = (cb.getState() == CellButton.CellState.REVEALED);
-                boolean flagged = cb.isFlagged();
-
-                if (!revealed && !flagged) hiddenCells++;
-
-                if (flagged && cb.getCellType() == CellType.MINE) correctlyFlaggedMines++;
-            }
-        }
-
-        boolean boardFinished = (hiddenCells == 0) || (revealedMines + correctlyFlaggedMines >= totalMines);
-        if (!boardFinished) return;
+        if (gameController.isGameOver() || !engine.isBoardFinished()) return;
 
         int playerNum = isPlayer1Board ? 1 : 2;
         gameController.setPlayerBoardComplete(playerNum, true);
@@ -714,18 +487,6 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // =========================
     // HELPERS
     // =========================
-    private int calculateAdjacentMines(int r, int c) {
-        int count = 0;
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-                int nr = r + dr, nc = c + dc;
-                if (isValidCell(nr, nc) && cells[nr][nc].getCellType() == CellType.MINE) count++;
-            }
-        }
-        return count;
-    }
-
     private boolean isValidCell(int r, int c) {
         return r >= 0 && r < rows && c >= 0 && c < cols;
     }
@@ -734,10 +495,9 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     // HOT/COLD HINT API
     // =========================
     public void showHotColdHint(int radius) {
-        if (!boardGenerated || gameController.isGameOver()) return;
+        if (!engine.isGenerated() || gameController.isGameOver()) return;
 
-        Point mine = pickRandomHiddenMine();
-        if (mine == null) {
+        if (engine.getMinesLeft() == 0) {
             ModernDialog.info(parentScreen.getFrame(),
                     "No Mines Available",
                     "No hidden mines found to hint!",
@@ -745,54 +505,48 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
             return;
         }
 
-        hintOverlay.clear();
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
+        // snapshot on the EDT, solve in the background, paint when the probabilities are back
+        MineSolver.Snapshot snapshot = MineSolver.Snapshot.of(engine);
+        boolean[] flagged = new boolean[rows * cols];
+        for (int idx = 0; idx < flagged.length; idx++) flagged[idx] = engine.isFlagged(idx);
 
-                if (cb.getState() != CellButton.CellState.HIDDEN) continue;
-                if (cb.isFlagged()) continue;
-
-                int dist = Math.abs(r - mine.x) + Math.abs(c - mine.y);
+        new SwingWorker<MineSolver.Result, Void>() {
+            @Override
+            protected MineSolver.Result doInBackground() {
+                return solver.solve(snapshot);
+            }
 
-                if (radius >= 1 && dist == 1) {
-                    hintOverlay.put(cb, new Color(255, 60, 60, 140));
-                } else if (radius >= 2 && dist == 2) {
-                    hintOverlay.put(cb, new Color(255, 180, 0, 120));
-                } else if (radius >= 3 && dist == 3) {
-                    hintOverlay.put(cb, new Color(0, 180, 255, 110));
+            @Override
+            protected void done() {
+                try {
+                    showHintOverlay(ProbabilityHint.colors(get(), flagged, radius));
+                } catch (Exception ex) {
+                    ex.printStackTrace();
                 }
             }
-        }
+        }.execute();
+    }
 
-        repaint();
+    private void showHintOverlay(Map<Integer, Color> colors) {
+        if (gameController.isGameOver()) return;
 
-        Timer t = new Timer(2500, e -> {
-            hintOverlay.clear();
-            repaint();
-        });
+        clearHintOverlay();
+        for (Map.Entry<Integer, Color> e : colors.entrySet()) {
+            int idx = e.getKey();
+            if (engine.isRevealed(idx)) continue; // a move landed while solving
+            BoardCell cell = cells[idx / cols][idx % cols];
+            cell.setOverlay(e.getValue());
+            hintCells.add(cell);
+        }
+
+        Timer t = new Timer(2500, e -> clearHintOverlay());
         t.setRepeats(false);
         t.start();
     }
 
-    public Color getHintOverlayFor(CellButton cb) {
-        return hintOverlay.get(cb);
-    }
-
-    private Point pickRandomHiddenMine() {
-        List<Point> mines = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
-                if (cb.getCellType() == CellType.MINE &&
-                        cb.getState() == CellButton.CellState.HIDDEN &&
-                        !cb.isFlagged()) {
-                    mines.add(new Point(r, c));
-                }
-            }
-        }
-        return mines.isEmpty() ? null : mines.get(random.nextInt(mines.size()));
+    private void clearHintOverlay() {
+        for (BoardCell cell : hintCells) cell.setOverlay(null);
+        hintCells.clear();
     }
 
     // =========================
@@ -801,106 +555,38 @@ public class MinesweeperBoardPanelCompetitive extends JPanel {
     public void setFlagMode(boolean flagMode) { this.isFlagMode = flagMode; }
     public int getCellSize() { return cellSize; }
 
-    public CellButton getCell(int row, int col) {
+    public BoardCell getCell(int row, int col) {
         return isValidCell(row, col) ? cells[row][col] : null;
     }
 
-    public int getCorrectFlagsCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].isFlagged() && cells[r][c].getCellType() == CellType.MINE) count++;
-        return count;
-    }
+    public int getCorrectFlagsCount() { return engine.getCorrectFlags(); }
 
-    public int getIncorrectFlagsCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].isFlagged() && cells[r][c].getCellType() != CellType.MINE) count++;
-        return count;
-    }
+    public int getIncorrectFlagsCount() { return engine.getWrongFlags(); }
 
-    public int getUsedQuestionsCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].getCellType() == CellType.QUESTION && cells[r][c].isUsed()) count++;
-        return count;
-    }
+    public int getUsedQuestionsCount() { return engine.getUsedQuestions(); }
 
-    public int getTotalQuestionsCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].getCellType() == CellType.QUESTION) count++;
-        return count;
-    }
+    public int getTotalQuestionsCount() { return engine.getTotalQuestions(); }
 
-    public int getUsedSurprisesCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].getCellType() == CellType.SURPRISE && cells[r][c].isUsed()) count++;
-        return count;
-    }
-
-    public int getTotalSurprisesCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) for (int c = 0; c < cols; c++)
-            if (cells[r][c].getCellType() == CellType.SURPRISE) count++;
-        return count;
-    }
+    public int getUsedSurprisesCount() { return engine.getUsedSurprises(); }
 
-    public int getRevealedMinesCount() {
-        int count = 0;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
-                if (cb.getCellType() != CellType.MINE) continue;
+    public int getTotalSurprisesCount() { return engine.getTotalSurprises(); }
 
-                if (cb.isFlagged()) { count++; continue; }
-
-                CellButton.CellState st = cb.getState();
-                if (st == CellButton.CellState.REVEALED || st == CellButton.CellState.MINE) count++;
-            }
-        }
-        return count;
-    }
+    public int getRevealedMinesCount() { return engine.getHandledMines(); }
 
-    public int getTotalMines() { return totalMines; }
+    public int getTotalMines() { return engine.getTotalMines(); }
 
     public void revealAllCellsForEnd(boolean forceGenerateIfNeeded, boolean playEndSfx) {
-        if (forceGenerateIfNeeded && !boardGenerated) generateBoardWithSafeFirstCell(0, 0);
+        if (forceGenerateIfNeeded && !engine.isGenerated()) generateBoardWithSafeFirstCell(0, 0);
 
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cell = cells[r][c];
-                cell.setEnabled(false);
+        canvas.setEnabled(false);
 
-                if (!boardGenerated) continue;
-                if (cell.getState() == CellButton.CellState.REVEALED) continue;
+        // the final board is drawn in the background and wiped in, the dialog does not wait for it
+        revealingEnd = true;
+        int[] opened = engine.revealAll();
+        revealingEnd = false;
 
-                switch (cell.getCellType()) {
-                    case MINE -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showMine();
-                        if (playEndSfx) AudioManager.play(AudioManager.Sfx.BOOM);
-                    }
-                    case NUMBER -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showNumber(calculateAdjacentMines(r, c));
-                    }
-                    case EMPTY -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showEmpty();
-                    }
-                    case QUESTION -> {
-                        cell.showQuestion();
-                        cell.setState(CellButton.CellState.QUESTION);
-                    }
-                    case SURPRISE -> {
-                        cell.showSurprise();
-                        cell.setState(CellButton.CellState.SURPRISE);
-                    }
-                }
-            }
+        for (int idx : opened) {
+            if (playEndSfx && engine.getType(idx) == CellType.MINE) AudioManager.play(AudioManager.Sfx.BOOM);
         }
-        repaint();
     }
-}
\ No newline at end of file
+}
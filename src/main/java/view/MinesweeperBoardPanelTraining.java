@@ -7,15 +7,20 @@ import model.CellType;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public class MinesweeperBoardPanelTraining extends JPanel {
 
     private final int rows = 5;
     private final int cols = 5;
-    private final CellButton[][] cells;
+    private final BoardCanvas canvas;
+    private final BoardCell[][] cells;
     private final int cellSize = 60;
 
+    private final Map<BoardCell, AnimationClock.Animation> highlightPulses = new HashMap<>();
+
     private final Consumer<String> onAction;
     private boolean trainingEnabled = false;
 
@@ -31,9 +36,10 @@ public class MinesweeperBoardPanelTraining extends JPanel {
 
     public MinesweeperBoardPanelTraining(Consumer<String> onAction) {
         this.onAction = onAction;
-        this.cells = new CellButton[rows][cols];
+        this.canvas = new BoardCanvas(rows, cols, cellSize, 3);
+        this.cells = canvas.getCells();
 
-        setLayout(new GridLayout(rows, cols, 3, 3));
+        setLayout(new BorderLayout());
         setBackground(new Color(10, 10, 15));
 
         int boardWidth = cols * cellSize + (cols - 1) * 3;
@@ -72,28 +78,12 @@ public class MinesweeperBoardPanelTraining extends JPanel {
     }
 
     private void initializeBoard() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                CellButton cell = new CellButton(cellSize);
-                cells[i][j] = cell;
-                add(cell);
-
-                int r = i, c = j;
-
-                cell.addActionListener(e -> {
-                    if (trainingEnabled) handleCellClick(r, c);
-                });
-
-                cell.addMouseListener(new java.awt.event.MouseAdapter() {
-                    @Override
-                    public void mousePressed(java.awt.event.MouseEvent e) {
-                        if (SwingUtilities.isRightMouseButton(e) && trainingEnabled) {
-                            handleRightClick(r, c);
-                        }
-                    }
-                });
-            }
-        }
+        add(canvas, BorderLayout.CENTER);
+        canvas.setCellInput((r, c, secondary) -> {
+            if (!trainingEnabled) return;
+            if (secondary) handleRightClick(r, c);
+            else handleCellClick(r, c);
+        });
     }
 
     public void resetBoard() {
@@ -103,7 +93,7 @@ public class MinesweeperBoardPanelTraining extends JPanel {
             for (int j = 0; j < cols; j++) {
                 cells[i][j].reset();
                 cells[i][j].setCellType(CellType.EMPTY);
-                cells[i][j].setState(CellButton.CellState.HIDDEN);
+                cells[i][j].setState(BoardCell.CellState.HIDDEN);
                 cells[i][j].setFlagged(false);
                 cells[i][j].setUsed(false);
                 cells[i][j].setPermanentBorderColor(null);
@@ -151,38 +141,38 @@ public class MinesweeperBoardPanelTraining extends JPanel {
             case "QUESTION" -> {
                 revealNumbersAroundMineForContext();
                 cells[MINE_ROW][MINE_COL].setFlagged(true);
-                cells[MINE_ROW][MINE_COL].setState(CellButton.CellState.REVEALED);
+                cells[MINE_ROW][MINE_COL].setState(BoardCell.CellState.REVEALED);
                 cells[MINE_ROW][MINE_COL].showMine();
 
-                cells[QUESTION_ROW][QUESTION_COL].setState(CellButton.CellState.REVEALED);
+                cells[QUESTION_ROW][QUESTION_COL].setState(BoardCell.CellState.REVEALED);
                 cells[QUESTION_ROW][QUESTION_COL].showQuestion();
                 highlightCell(QUESTION_ROW, QUESTION_COL);
             }
             case "SURPRISE" -> {
                 revealNumbersAroundMineForContext();
                 cells[MINE_ROW][MINE_COL].setFlagged(true);
-                cells[MINE_ROW][MINE_COL].setState(CellButton.CellState.REVEALED);
+                cells[MINE_ROW][MINE_COL].setState(BoardCell.CellState.REVEALED);
                 cells[MINE_ROW][MINE_COL].showMine();
 
-                cells[QUESTION_ROW][QUESTION_COL].setState(CellButton.CellState.REVEALED);
+                cells[QUESTION_ROW][QUESTION_COL].setState(BoardCell.CellState.REVEALED);
                 cells[QUESTION_ROW][QUESTION_COL].showQuestion();
                 cells[QUESTION_ROW][QUESTION_COL].setUsed(true);
 
-                cells[SURPRISE_ROW][SURPRISE_COL].setState(CellButton.CellState.REVEALED);
+                cells[SURPRISE_ROW][SURPRISE_COL].setState(BoardCell.CellState.REVEALED);
                 cells[SURPRISE_ROW][SURPRISE_COL].showSurprise();
                 highlightCell(SURPRISE_ROW, SURPRISE_COL);
             }
             case "HINT" -> {
                 revealNumbersAroundMineForContext();
                 cells[MINE_ROW][MINE_COL].setFlagged(true);
-                cells[MINE_ROW][MINE_COL].setState(CellButton.CellState.REVEALED);
+                cells[MINE_ROW][MINE_COL].setState(BoardCell.CellState.REVEALED);
                 cells[MINE_ROW][MINE_COL].showMine();
 
-                cells[QUESTION_ROW][QUESTION_COL].setState(CellButton.CellState.REVEALED);
+                cells[QUESTION_ROW][QUESTION_COL].setState(BoardCell.CellState.REVEALED);
                 cells[QUESTION_ROW][QUESTION_COL].showQuestion();
                 cells[QUESTION_ROW][QUESTION_COL].setUsed(true);
 
-                cells[SURPRISE_ROW][SURPRISE_COL].setState(CellButton.CellState.REVEALED);
+                cells[SURPRISE_ROW][SURPRISE_COL].setState(BoardCell.CellState.REVEALED);
                 cells[SURPRISE_ROW][SURPRISE_COL].showSurprise();
                 cells[SURPRISE_ROW][SURPRISE_COL].setUsed(true);
 
@@ -201,11 +191,11 @@ public class MinesweeperBoardPanelTraining extends JPanel {
 
     private void revealNumbersAroundMineForContext() {
         if (MINE_ROW > 0) {
-            cells[MINE_ROW - 1][MINE_COL].setState(CellButton.CellState.REVEALED);
+            cells[MINE_ROW - 1][MINE_COL].setState(BoardCell.CellState.REVEALED);
             cells[MINE_ROW - 1][MINE_COL].showNumber(1);
         }
         if (MINE_COL > 0) {
-            cells[MINE_ROW][MINE_COL - 1].setState(CellButton.CellState.REVEALED);
+            cells[MINE_ROW][MINE_COL - 1].setState(BoardCell.CellState.REVEALED);
             cells[MINE_ROW][MINE_COL - 1].showNumber(1);
         }
     }
@@ -219,42 +209,37 @@ public class MinesweeperBoardPanelTraining extends JPanel {
     }
 
     private void highlightCell(int row, int col) {
-        CellButton cell = cells[row][col];
+        BoardCell cell = cells[row][col];
 
-        Timer old = (Timer) cell.getClientProperty("highlightTimer");
+        AnimationClock.Animation old = highlightPulses.remove(cell);
         if (old != null) old.stop();
 
         final float[] t = {0f};
 
-        Timer pulseTimer = new Timer(35, e -> {
+        AnimationClock.Animation pulse = AnimationClock.every(this, 35, () -> {
             t[0] += 0.18f;
             float s = (float) ((Math.sin(t[0]) + 1) / 2.0);
             int a = 140 + (int) (115 * s);
             cell.setPermanentBorderColor(new Color(0, 255, 255, a));
             cell.repaint();
         });
-
-        pulseTimer.start();
-        cell.putClientProperty("highlightTimer", pulseTimer);
+        highlightPulses.put(cell, pulse);
     }
 
     private void clearHighlights() {
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
                 cells[i][j].setPermanentBorderColor(null);
-                Timer timer = (Timer) cells[i][j].getClientProperty("highlightTimer");
-                if (timer != null) {
-                    timer.stop();
-                    cells[i][j].putClientProperty("highlightTimer", null);
-                }
             }
         }
+        for (AnimationClock.Animation pulse : highlightPulses.values()) pulse.stop();
+        highlightPulses.clear();
     }
 
     private void handleCellClick(int r, int c) {
-        CellButton cell = cells[r][c];
+        BoardCell cell = cells[r][c];
 
-        if (cell.getState() == CellButton.CellState.REVEALED) {
+        if (cell.getState() == BoardCell.CellState.REVEALED) {
             if (cell.getCellType() == CellType.QUESTION && !cell.isUsed()) {
                 cell.setUsed(true);
                 onAction.accept("QUESTION");
@@ -269,13 +254,13 @@ public class MinesweeperBoardPanelTraining extends JPanel {
 
         switch (type) {
             case MINE -> {
-                cell.setState(CellButton.CellState.REVEALED);
+                cell.setState(BoardCell.CellState.REVEALED);
                 cell.showMine();
                 onAction.accept("MINE");
             }
             case QUESTION -> {
                 if (!cell.isUsed()) {
-                    cell.setState(CellButton.CellState.REVEALED);
+                    cell.setState(BoardCell.CellState.REVEALED);
                     cell.showQuestion();
                     cell.setUsed(true);
                     onAction.accept("QUESTION");
@@ -283,27 +268,27 @@ public class MinesweeperBoardPanelTraining extends JPanel {
             }
             case SURPRISE -> {
                 if (!cell.isUsed()) {
-                    cell.setState(CellButton.CellState.REVEALED);
+                    cell.setState(BoardCell.CellState.REVEALED);
                     cell.showSurprise();
                     cell.setUsed(true);
                     onAction.accept("SURPRISE");
                 }
             }
             case NUMBER -> {
-                cell.setState(CellButton.CellState.REVEALED);
+                cell.setState(BoardCell.CellState.REVEALED);
                 cell.showNumber(cell.getNumber());
             }
             case EMPTY -> {
-                cell.setState(CellButton.CellState.REVEALED);
+                cell.setState(BoardCell.CellState.REVEALED);
                 cell.showEmpty();
             }
         }
     }
 
     private void handleRightClick(int r, int c) {
-        CellButton cell = cells[r][c];
+        BoardCell cell = cells[r][c];
 
-        if (cell.getState() != CellButton.CellState.HIDDEN) return;
+        if (cell.getState() != BoardCell.CellState.HIDDEN) return;
 
         if (!cell.isFlagged()) {
             cell.setFlagged(true);
@@ -322,20 +307,8 @@ public class MinesweeperBoardPanelTraining extends JPanel {
     public void setTrainingEnabled(boolean enabled) {
         this.trainingEnabled = enabled;
 
-        if (!enabled) {
-            clearHighlights();
-            for (int i = 0; i < rows; i++) {
-                for (int j = 0; j < cols; j++) {
-                    cells[i][j].setEnabled(false);
-                }
-            }
-        } else {
-            for (int i = 0; i < rows; i++) {
-                for (int j = 0; j < cols; j++) {
-                    cells[i][j].setEnabled(true);
-                }
-            }
-        }
+        if (!enabled) clearHighlights();
+        canvas.setEnabled(enabled);
     }
 
     // ✅ called ONLY from the dialog button
@@ -351,7 +324,7 @@ public class MinesweeperBoardPanelTraining extends JPanel {
 
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (cells[i][j].getState() == CellButton.CellState.HIDDEN) {
+                if (cells[i][j].getState() == BoardCell.CellState.HIDDEN) {
                     hiddenCells.add(new int[]{i, j});
                 }
             }
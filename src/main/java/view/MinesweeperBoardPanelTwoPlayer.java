@@ -6,23 +6,30 @@ import view.AudioManager;
 import control.CellActionFactory;
 import control.CellActionTemplate;
 import control.MultiPlayerGameController;
+import engine.BoardChange;
+import engine.BoardEngine;
+import engine.BoardLayout;
+import engine.BoardListener;
+import engine.BoardSpec;
+import engine.MineSolver;
+import engine.NoGuessPool;
 import model.Question;
 import model.CellType;
+import model.FlagResult;
 
 import javax.swing.*;
 import javax.swing.Timer;
-import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.util.*;
-import java.util.List;
 
-public class MinesweeperBoardPanelTwoPlayer extends JPanel {
+public class MinesweeperBoardPanelTwoPlayer extends JPanel implements BoardListener {
 
     private static final long serialVersionUID = 1L;
 
     private final int rows;
     private final int cols;
-    private final CellButton[][] cells;
+    private final BoardCanvas canvas;
+    private final BoardCell[][] cells;
     private int cellSize;
 
     private final MultiPlayerGameController gameController;
@@ -30,24 +37,21 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     private final GameScreenMultiPlayer parentScreen;
     private final boolean isPlayer1Board;
 
-    private int totalMines;
-    private int revealedMines = 0;
-    private int totalNonMineCells;
-    private int revealedNonMineCells = 0;
+    // board rules and state; this panel only renders engine events
+    private final BoardEngine engine;
 
-    private boolean isFlagMode = false;
-    private final Random random = new Random();
+    // probabilities for the hot/cold hint; keeps solved frontier components between hints
+    private final MineSolver solver = new MineSolver();
 
-    private int firstClickRow = -1;
-    private int firstClickCol = -1;
-    private boolean boardGenerated = false;
+    private boolean isFlagMode = false;
 
     private boolean endUiShown = false;
+    private boolean revealingEnd = false;     // the reveal-all is composed off the EDT
 
     // =========================
     // HOT/COLD HINT (NEW)
     // =========================
-    private final Map<CellButton, Color> hintOverlay = new HashMap<>();
+    private final java.util.List<BoardCell> hintCells = new ArrayList<>();
 
     public MinesweeperBoardPanelTwoPlayer(int rows, int cols,
                                           MultiPlayerGameController gameController,
@@ -60,7 +64,8 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
         this.questionController = questionController;
         this.parentScreen = parentScreen;
         this.isPlayer1Board = isPlayer1Board;
-        this.cells = new CellButton[rows][cols];
+        this.engine = new BoardEngine(BoardSpec.forDifficulty(gameController.getDifficulty(), rows, cols));
+        engine.addListener(this);
 
         switch (gameController.getDifficulty()) {
             case "Easy" -> cellSize = 40;
@@ -69,7 +74,10 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
             default -> cellSize = 22;
         }
 
-        setLayout(new GridLayout(rows, cols, 2, 2));
+        this.canvas = new BoardCanvas(rows, cols, cellSize, 2);
+        this.cells = canvas.getCells();
+
+        setLayout(new BorderLayout());
         setBackground(new Color(10, 10, 15));
         initializeBoard();
     }
@@ -94,149 +102,55 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
         int boardHeight = rows * cellSize + (rows - 1) * 2;
         setPreferredSize(new Dimension(boardWidth, boardHeight));
 
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                CellButton cell = new CellButton(cellSize);
-
-                // ✅ allow CellButton to find its board for hint overlay painting
-                cell.putClientProperty("boardRef", this);
-
-                cells[i][j] = cell;
-                add(cell);
-
-                int r = i, c = j;
-
-                cell.addActionListener(e -> handleCellClick(r, c));
-
-                cell.addMouseListener(new java.awt.event.MouseAdapter() {
-                    @Override
-                    public void mousePressed(java.awt.event.MouseEvent e) {
-                        if (SwingUtilities.isRightMouseButton(e)) {
-                            handleRightClick(r, c);
-                        }
-                    }
-                });
-            }
-        }
+        add(canvas, BorderLayout.CENTER);
+        canvas.setCellInput((r, c, secondary) -> {
+            if (secondary) handleRightClick(r, c);
+            else handleCellClick(r, c);
+        });
     }
 
     private void generateBoardWithSafeFirstCell(int firstRow, int firstCol) {
-        if (boardGenerated) return;
+        if (engine.isGenerated()) return;
 
         System.out.println("Generating board for " + (isPlayer1Board ? "Player 1" : "Player 2") +
                 " with first click at: " + firstRow + "," + firstCol);
 
-        firstClickRow = firstRow;
-        firstClickCol = firstCol;
-
-        placeMines();
-        calculateNumbers();
-        placeSpecialCells();
-
-        boardGenerated = true;
-
         int playerNum = isPlayer1Board ? 1 : 2;
-        gameController.setPlayerTotalMines(playerNum, totalMines);
-
-        System.out.println("Board generated: " + totalMines + " mines, " +
-                totalNonMineCells + " non-mine cells");
-    }
-
-    private void placeMines() {
-        int minesToPlace = calculateMineCount();
-        int placed = 0;
-
-        List<String> forbiddenPositions = new ArrayList<>();
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int nr = firstClickRow + dr;
-                int nc = firstClickCol + dc;
-                if (isValidCell(nr, nc)) {
-                    forbiddenPositions.add(nr + "," + nc);
-                }
-            }
-        }
+        BoardLayout noGuessBoard = gameController.isNoGuess()
+                ? NoGuessPool.getInstance().take(engine.getSpec(), firstRow, firstCol)
+                : null;
 
-        while (placed < minesToPlace) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            String pos = r + "," + c;
-
-            if (!forbiddenPositions.contains(pos) && cells[r][c].getCellType() != CellType.MINE) {
-                cells[r][c].setCellType(CellType.MINE);
-                placed++;
-            }
+        if (noGuessBoard != null) {
+            engine.load(noGuessBoard);
+        } else {
+            // regular board (also the fallback if no no-guess board fits the click in time)
+            engine.generate(firstRow, firstCol, gameController.getBoardSeed(playerNum));
         }
 
-        totalMines = minesToPlace;
-        System.out.println("Placed exactly " + placed + " mines on " +
-                (isPlayer1Board ? "Player 1" : "Player 2") + " board");
-    }
+        gameController.setPlayerTotalMines(playerNum, engine.getTotalMines());
+        gameController.setPlayerFirstClick(playerNum, engine.index(firstRow, firstCol));
 
-    private int calculateMineCount() {
-        return switch (gameController.getDifficulty()) {
-            case "Easy" -> 10;
-            case "Medium" -> 26;
-            case "Hard" -> 44;
-            default -> 26;
-        };
+        System.out.println("Board generated: " + engine.getTotalMines() + " mines, " +
+                engine.getHiddenSafeCells() + " non-mine cells");
     }
 
-    private void calculateNumbers() {
-        totalNonMineCells = (rows * cols) - totalMines;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() != CellType.MINE) {
-                    int adjacentMines = calculateAdjacentMines(r, c);
-                    if (adjacentMines > 0) {
-                        cells[r][c].setCellType(CellType.NUMBER);
-                        cells[r][c].setNumber(adjacentMines);
-                    } else {
-                        cells[r][c].setCellType(CellType.EMPTY);
-                    }
-                }
-            }
+    // =========================
+    // ENGINE EVENTS -> CELLS
+    // =========================
+    @Override
+    public void onBoardGenerated(BoardEngine engine) {
+        for (int idx = 0; idx < rows * cols; idx++) {
+            BoardCell cell = cells[idx / cols][idx % cols];
+            cell.setCellType(engine.getType(idx));
+            if (engine.getType(idx) == CellType.NUMBER) cell.setNumber(engine.getAdjacentMines(idx));
         }
     }
 
-    private void placeSpecialCells() {
-        List<int[]> emptyCells = new ArrayList<>();
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].getCellType() == CellType.EMPTY) {
-                    emptyCells.add(new int[]{r, c});
-                }
-            }
-        }
-
-        Collections.shuffle(emptyCells);
-
-        int questionCellsNeeded;
-        int surpriseCellsNeeded;
-
-        switch (gameController.getDifficulty()) {
-            case "Easy" -> { questionCellsNeeded = 6;  surpriseCellsNeeded = 2; }
-            case "Medium" -> { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
-            case "Hard" -> { questionCellsNeeded = 11; surpriseCellsNeeded = 4; }
-            default -> { questionCellsNeeded = 7; surpriseCellsNeeded = 3; }
-        }
-
-        int index = 0;
-
-        for (int i = 0; i < questionCellsNeeded && index < emptyCells.size(); i++) {
-            int[] pos = emptyCells.get(index++);
-            cells[pos[0]][pos[1]].setCellType(CellType.QUESTION);
-        }
-
-        for (int i = 0; i < surpriseCellsNeeded && index < emptyCells.size(); i++) {
-            int[] pos = emptyCells.get(index++);
-            cells[pos[0]][pos[1]].setCellType(CellType.SURPRISE);
-        }
-
-        System.out.println("Placed " + questionCellsNeeded + " question cells and " +
-                surpriseCellsNeeded + " surprise cells on " +
-                (isPlayer1Board ? "Player 1" : "Player 2") + " board");
+    // one event per move: the changed cells are updated and repainted, nothing else
+    @Override
+    public void onCellsChanged(BoardEngine engine, BoardChange change) {
+        if (revealingEnd) canvas.revealFinal(engine, change);
+        else canvas.apply(engine, change);
     }
 
     // =========================
@@ -254,26 +168,24 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
             return;
         }
 
-        if (!boardGenerated) {
+        if (!engine.isGenerated()) {
             generateBoardWithSafeFirstCell(r, c);
             int playerNum = isPlayer1Board ? 1 : 2;
             gameController.markFirstMoveDone(playerNum);
             gameController.markGameStarted();
         }
 
-        CellButton cell = cells[r][c];
-
         if (isFlagMode) {
             handleFlagPlacement(r, c);
             return;
         }
 
-        if (cell.getState() == CellButton.CellState.HIDDEN) {
+        int idx = engine.index(r, c);
+        if (!engine.isRevealed(idx)) {
             revealCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.QUESTION && cell.canActivate()) {
-            activateQuestionCell(r, c);
-        } else if (cell.getState() == CellButton.CellState.SURPRISE && cell.canActivate()) {
-            activateSurpriseCell(r, c);
+        } else if (engine.canActivate(idx)) {
+            if (engine.getType(idx) == CellType.QUESTION) activateQuestionCell(r, c);
+            else activateSurpriseCell(r, c);
         }
     }
 
@@ -285,7 +197,7 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
             return;
         }
 
-        if (!boardGenerated) {
+        if (!engine.isGenerated()) {
             generateBoardWithSafeFirstCell(r, c);
             int playerNum = isPlayer1Board ? 1 : 2;
             gameController.markFirstMoveDone(playerNum);
@@ -299,27 +211,15 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     // FLAG (Factory + Template)
     // =========================
     private void handleFlagPlacement(int r, int c) {
-        CellButton cell = cells[r][c];
+        FlagResult flag = engine.toggleFlag(r, c);
+        if (flag == FlagResult.INVALID) return;
 
-        if (cell.getState() != CellButton.CellState.HIDDEN &&
-                cell.getState() != CellButton.CellState.FLAGGED) {
-            return;
-        }
-
-        // remove
-        if (cell.isFlagged()) {
-            cell.setFlagged(false);
-            cell.setState(CellButton.CellState.HIDDEN);
-            repaint();
-            return;
-        }
-
-        // add
-        cell.setFlagged(true);
-        cell.setState(CellButton.CellState.FLAGGED);
+        // removed: the change event already repainted the cell
+        if (flag == FlagResult.REMOVED) return;
 
-        CellType actualType = cell.getCellType();
-        boolean correct = (actualType == CellType.MINE);
+        // added
+        BoardCell cell = cells[r][c];
+        boolean correct = (flag == FlagResult.CORRECT_MINE);
 
         // ✅ Action via Factory
         CellActionTemplate action =
@@ -331,21 +231,16 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
             cell.showCorrectFlagFeedback();
             AudioManager.play(AudioManager.Sfx.FLAG_RIGHT);
 
-            cell.setBorder(new LineBorder(new Color(0, 255, 0, 150)));
-            cell.setBackground(new Color(0, 255, 0, 150));
             cell.setPermanentBorderColor(new Color(0, 255, 0, 150));
         } else {
             cell.showIncorrectFlagFeedback();
             AudioManager.play(AudioManager.Sfx.BAD_SURPRISE);
 
-            cell.setBorder(new LineBorder(new Color(255, 0, 0, 150)));
-            cell.setBackground(new Color(255, 0, 0, 150));
             cell.setPermanentBorderColor(new Color(255, 0, 0, 150));
         }
 
         parentScreen.updateGameStateDisplay(result);
 
-        repaint();
         checkBoardComplete();
     }
 
@@ -353,10 +248,10 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     // REVEAL (Factory + Template)
     // =========================
     private void revealCell(int r, int c) {
-        CellButton cell = cells[r][c];
-        if (!cell.canReveal()) return;
+        BoardEngine.RevealResult reveal = engine.reveal(r, c);
+        if (reveal == null) return;
 
-        CellType type = cell.getCellType();
+        CellType type = reveal.type();
 
         // ✅ Action via Factory
         CellActionTemplate action =
@@ -364,143 +259,41 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
 
         MultiPlayerGameController.CellActionResult result = action.execute();
 
-        switch (type) {
-            case MINE -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showMine();
-                AudioManager.play(AudioManager.Sfx.BOOM);
-
-                revealedMines++;
+        if (type == CellType.MINE) {
+            AudioManager.play(AudioManager.Sfx.BOOM);
 
-                parentScreen.updateGameStateDisplay(result);
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
-
-                checkAllMinesRevealed();
-
-                if (!gameController.isGameOver()) {
-                    // ✅ popup only (no logic change)
-                    ModernPopup.warn(this,
-                            "Mine Revealed",
-                            "💣 Mine hit! Lives left: " + gameController.getSharedLives() + "\nTurn ended!");
-                }
-            }
-
-            case NUMBER -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showNumber(calculateAdjacentMines(r, c));
-                revealedNonMineCells++;
-
-                parentScreen.updateGameStateDisplay(result);
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
+            parentScreen.updateGameStateDisplay(result);
+            if (result != null && result.turnEnded) {
+                parentScreen.updateActivePlayer();
             }
 
-            case EMPTY -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showEmpty();
-                revealedNonMineCells++;
-
-                parentScreen.updateGameStateDisplay(result);
+            checkAllMinesRevealed();
 
-                cascadeReveal(r, c);
-
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
+            if (!gameController.isGameOver()) {
+                // ✅ popup only (no logic change)
+                ModernPopup.warn(this,
+                        "Mine Revealed",
+                        "💣 Mine hit! Lives left: " + gameController.getSharedLives() + "\nTurn ended!");
             }
-
-            case QUESTION -> {
-                cell.showQuestion();
-                cell.setState(CellButton.CellState.QUESTION);
-                revealedNonMineCells++;
-
-                parentScreen.updateGameStateDisplay(result);
-
-                cascadeReveal(r, c);
-
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
-            }
-
-            case SURPRISE -> {
-                cell.showSurprise();
-                cell.setState(CellButton.CellState.SURPRISE);
-                revealedNonMineCells++;
-
-                parentScreen.updateGameStateDisplay(result);
-
-                cascadeReveal(r, c);
-
-                if (result != null && result.turnEnded) {
-                    parentScreen.updateActivePlayer();
-                }
+        } else {
+            parentScreen.updateGameStateDisplay(result);
+            if (result != null && result.turnEnded) {
+                parentScreen.updateActivePlayer();
             }
         }
 
         checkBoardComplete();
-        repaint();
 
         if (gameController.isGameOver()) {
             showEndOnce();
         }
     }
 
-    private void cascadeReveal(int r, int c) {
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-
-                int nr = r + dr;
-                int nc = c + dc;
-                if (!isValidCell(nr, nc)) continue;
-
-                CellButton neighbor = cells[nr][nc];
-                if (!neighbor.canReveal()) continue;
-
-                if (neighbor.isFlagged()) continue;
-                if (neighbor.getState() == CellButton.CellState.REVEALED) continue;
-
-                CellType type = neighbor.getCellType();
-
-                switch (type) {
-                    case EMPTY -> {
-                        neighbor.setState(CellButton.CellState.REVEALED);
-                        neighbor.showEmpty();
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case NUMBER -> {
-                        neighbor.setState(CellButton.CellState.REVEALED);
-                        neighbor.showNumber(calculateAdjacentMines(nr, nc));
-                        revealedNonMineCells++;
-                    }
-                    case QUESTION -> {
-                        neighbor.showQuestion();
-                        neighbor.setState(CellButton.CellState.QUESTION);
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case SURPRISE -> {
-                        neighbor.showSurprise();
-                        neighbor.setState(CellButton.CellState.SURPRISE);
-                        revealedNonMineCells++;
-                        cascadeReveal(nr, nc);
-                    }
-                    case MINE -> { }
-                }
-            }
-        }
-    }
-
     // =========================
     // WIN CHECKS
     // =========================
     private void checkAllMinesRevealed() {
-        if (revealedMines >= totalMines) {
+        if (engine.getRevealedMines() >= engine.getTotalMines()) {
             int playerNum = isPlayer1Board ? 1 : 2;
             System.out.println("Player " + playerNum + " handled ALL mines! WIN!");
 
@@ -510,43 +303,10 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     }
 
     private void checkBoardComplete() {
-        if (gameController.isGameOver() || !boardGenerated) return;
-
-        int hiddenCells = 0;
-        int correctlyFlaggedMines = 0;
-        int wrongFlags = 0;
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
-                CellType type = cb.getCellType();
-
-                boolean revealed = (cb.getState() == CellButton.CellState.REVEALED);
-                boolean flagged = cb.isFlagged();
-
-                if (!revealed && !flagged) hiddenCells++;
-
-                if (flagged) {
-                    if (type == CellType.MINE) correctlyFlaggedMines++;
-                    else wrongFlags++;
-                }
-            }
-        }
+        if (gameController.isGameOver() || !engine.isBoardFinished()) return;
 
         int playerNum = isPlayer1Board ? 1 : 2;
-
-        boolean gameEnds = false;
-        boolean playerWins = false;
-
-        if (hiddenCells == 0) {
-            gameEnds = true;
-            playerWins = (gameController.getSharedLives() > 0);
-        } else if (revealedMines + correctlyFlaggedMines >= totalMines) {
-            gameEnds = true;
-            playerWins = (gameController.getSharedLives() > 0);
-        }
-
-        if (!gameEnds) return;
+        boolean playerWins = (gameController.getSharedLives() > 0);
 
         if (playerWins) {
             gameController.setPlayerBoardComplete(playerNum, true);
@@ -558,7 +318,7 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
             
             ModernPopup.error(this,
                     "Wrong Flags",
-                    "Wrong flags detected: " + wrongFlags + "\nGame Over - You Lose!");
+                    "Wrong flags detected: " + engine.getWrongFlags() + "\nGame Over - You Lose!");
         }
 
         showEndOnce();
@@ -568,9 +328,9 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     // SURPRISE
     // =========================
     private void activateSurpriseCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
           
             ModernPopup.info(this, "Already Used", "This surprise cell has already been used!");
             return;
@@ -593,7 +353,7 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
         if (!ok) return;
 
         MultiPlayerGameController.CellActionResult result = gameController.activateSurprise();
-        cell.setUsed(true);
+        engine.markUsed(idx);
 
         if (result.pointsChanged > 0) {
             AudioManager.play(AudioManager.Sfx.GOOD_SURPRISE);
@@ -606,7 +366,6 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
         }
 
         parentScreen.updateGameStateDisplay(result);
-        repaint();
 
         if (gameController.isGameOver()) showEndOnce();
     }
@@ -615,9 +374,9 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     // QUESTION
     // =========================
     private void activateQuestionCell(int r, int c) {
-        CellButton cell = cells[r][c];
+        int idx = engine.index(r, c);
 
-        if (cell.isUsed()) {
+        if (engine.isUsed(idx)) {
             // ✅ popup only
             ModernPopup.info(this, "Already Used", "This question cell has already been used!");
             return;
@@ -640,10 +399,9 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
         // ✅ Question open sfx
         AudioManager.play(AudioManager.Sfx.QUESTION_OPEN);
 
-        cell.setUsed(true);
+        engine.markUsed(idx);
         showQuestionDialog(r, c);
 
-        repaint();
     }
 
     private void showQuestionDialog(int r, int c) {
@@ -711,276 +469,45 @@ public class MinesweeperBoardPanelTwoPlayer extends JPanel {
     // BONUSES (keep yours)
     // =========================
     private void revealRandomMineBonus() {
-        List<int[]> candidates = new ArrayList<>();
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cb = cells[r][c];
-                if (cb.getCellType() == CellType.MINE &&
-                        cb.getState() == CellButton.CellState.HIDDEN &&
-                        !cb.isFlagged()) {
-                    candidates.add(new int[]{r, c});
-                }
-            }
-        }
-
-        if (candidates.isEmpty()) return;
-
-        Collections.shuffle(candidates, random);
-        int[] pos = candidates.get(0);
-        CellButton cell = cells[pos[0]][pos[1]];
-
-        cell.setState(CellButton.CellState.REVEALED);
-        cell.showMine();
+        int idx = engine.revealRandomHiddenMine();
+        if (idx < 0) return;
 
         // ✅ don't spam BOOM if you want, but here it's a “mine reveal bonus” so ok
         AudioManager.play(AudioManager.Sfx.BOOM);
 
-        revealedMines++;
-
-        flashBonusCell(cell);
+        flashBonusCell(cells[idx / cols][idx % cols]);
         checkBoardComplete();
     }
 
     private void revealRandom3x3Bonus() {
-        final int TARGET = 9;
-
-        if (rows < 3 || cols < 3) {
-            List<String> log = new ArrayList<>();
-            topUpRevealAnyCellsOpenAllTypes(TARGET, log);
-            checkBoardComplete();
-            repaint();
-            return;
-        }
-
-        List<int[]> blocks = new ArrayList<>();
-        int best = 0;
-
-        for (int tr = 0; tr <= rows - 3; tr++) {
-            for (int tc = 0; tc <= cols - 3; tc++) {
-                int eligible = countEligibleAllTypesIn3x3(tr, tc);
-                if (eligible > 0) {
-                    blocks.add(new int[]{tr, tc, eligible});
-                    best = Math.max(best, eligible);
-                }
-            }
-        }
-
-        if (blocks.isEmpty()) {
-            List<String> log = new ArrayList<>();
-            topUpRevealAnyCellsOpenAllTypes(TARGET, log);
-            checkBoardComplete();
-            repaint();
-            return;
-        }
-
-        List<int[]> bestBlocks = new ArrayList<>();
-        for (int[] b : blocks) if (b[2] == best) bestBlocks.add(b);
-
-        Collections.shuffle(bestBlocks, random);
-        int tr = bestBlocks.get(0)[0];
-        int tc = bestBlocks.get(0)[1];
-
-        int inside = 0;
-        List<String> revealedCellsLog = new ArrayList<>();
-
-        for (int r = tr; r < tr + 3 && inside < TARGET; r++) {
-            for (int c = tc; c < tc + 3 && inside < TARGET; c++) {
-                CellButton cell = cells[r][c];
-                if (cell.isFlagged()) continue;
-                if (cell.getState() == CellButton.CellState.REVEALED) continue;
-                if (!cell.canReveal()) continue;
-
-                CellType t = cell.getCellType();
-
-                switch (t) {
-                    case MINE -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showMine();
-                        // 🔇 IMPORTANT: don't play BOOM for every mine in bulk reveal
-                        revealedMines++;
-                    }
-                    case NUMBER -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showNumber(calculateAdjacentMines(r, c));
-                        revealedNonMineCells++;
-                    }
-                    case EMPTY -> {
-                        cell.setState(CellButton.CellState.REVEALED);
-                        cell.showEmpty();
-                        revealedNonMineCells++;
-                    }
-                    case QUESTION -> {
-                        cell.showQuestion();
-                        cell.setState(CellButton.CellState.QUESTION);
-                        revealedNonMineCells++;
-                    }
-                    case SURPRISE -> {
-                        cell.showSurprise();
-                        cell.setState(CellButton.CellState.SURPRISE);
-                        revealedNonMineCells++;
-                    }
-                }
-
-                flashBonusCell(cell);
-                revealedCellsLog.add("(" + r + "," + c + ":" + t + ")");
-                inside++;
-            }
-        }
-
-        if (inside < TARGET) {
-            int need = TARGET - inside;
-            topUpRevealAnyCellsOpenAllTypes(need, revealedCellsLog);
+        // 🔇 IMPORTANT: don't play BOOM for every mine in bulk reveal
+        for (int idx : engine.revealBonusBlock(9)) {
+            flashBonusCell(cells[idx / cols][idx % cols]);
         }
 
         checkBoardComplete();
-        repaint();
-    }
-
-    private int countEligibleAllTypesIn3x3(int tr, int tc) {
-        int count = 0;
-        for (int r = tr; r < tr + 3; r++) {
-            for (int c = tc; c < tc + 3; c++) {
-                CellButton cell = cells[r][c];
-                if (cell.isFlagged()) continue;
-                if (cell.getState() == CellButton.CellState.REVEALED) continue;
-                if (!cell.canReveal()) continue;
-                count++;
-            }
-        }
-        return count;
-    }
-
-    private int topUpRevealAnyCellsOpenAllTypes(int need, List<String> revealedCellsLog) {
-        if (need <= 0) return 0;
-
-        List<int[]> pool = new ArrayList<>();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton cell = cells[r][c];
-                if (cell.isFlagged()) continue;
-                if (cell.getState() == CellButton.CellState.REVEALED) continue;
-                if (!cell.canReveal()) continue;
-                pool.add(new int[]{r, c});
-            }
-        }
-
-        Collections.shuffle(pool, random);
-
-        int added = 0;
-        for (int i = 0; i < pool.size() && added < need; i++) {
-            int r = pool.get(i)[0];
-            int c = pool.get(i)[1];
-
-            CellButton cell = cells[r][c];
-            if (cell.isFlagged()) continue;
-            if (cell.getState() == CellButton.CellState.REVEALED) continue;
-            if (!cell.canReveal()) continue;
-
-            CellType t = cell.getCellType();
-            switch (t) {
-            case MINE -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showMine();
-                // 🔇 no BOOM spam here
-                revealedMines++;
-            }
-            case NUMBER -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showNumber(calculateAdjacentMines(r, c));
-                revealedNonMineCells++;
-            }
-            case EMPTY -> {
-                cell.setState(CellButton.CellState.REVEALED);
-                cell.showEmpty();
-                revealedNonMineCells++;
-            }
-            case QUESTION -> {
-                cell.showQuestion();
-                cell.setState(CellButton.CellState.QUESTION);
-                revealedNonMineCells++;
-            }
-            case SURPRISE -> {
-                cell.showSurprise();
-                cell.setState(CellButton.CellState.SURPRISE);
-                revealedNonMineCells++;
-            }
-        }
-
-        flashBonusCell(cell);
-        revealedCellsLog.add("[TOP-UP](" + r + "," + c + ":" + t + ")");
-        added++;
-    }
-
-    return added;
-}
-
-// =========================
-// HELPERS
-// =========================
-private int calculateAdjacentMines(int r, int c) {
-    int count = 0;
-    for (int dr = -1; dr <= 1; dr++) {
-        for (int dc = -1; dc <= 1; dc++) {
-            if (dr == 0 && dc == 0) continue;
-
-            int nr = r + dr;
-            int nc = c + dc;
-
-            if (isValidCell(nr, nc) && cells[nr][nc].getCellType() == CellType.MINE) {
-                count++;
-            }
-        }
     }
-    return count;
-}
 
 private boolean isValidCell(int r, int c) {
     return r >= 0 && r < rows && c >= 0 && c < cols;
 }
 
 public void revealAllCellsForEnd(boolean forceGenerateIfNeeded, boolean playEndSfx) {
-    if (forceGenerateIfNeeded && !boardGenerated) {
+    if (forceGenerateIfNeeded && !engine.isGenerated()) {
         generateBoardWithSafeFirstCell(0, 0);
     }
 
-    for (int r = 0; r < rows; r++) {
-        for (int c = 0; c < cols; c++) {
-            CellButton cell = cells[r][c];
-            cell.setEnabled(false);
+    canvas.setEnabled(false);
 
-            if (!boardGenerated) continue;
-            if (cell.getState() == CellButton.CellState.REVEALED) continue;
+    // the final board is drawn in the background and wiped in, the dialog does not wait for it
+    revealingEnd = true;
+    int[] opened = engine.revealAll();
+    revealingEnd = false;
 
-            CellType type = cell.getCellType();
-
-            switch (type) {
-                case MINE -> {
-                    cell.setState(CellButton.CellState.REVEALED);
-                    cell.showMine();
-                    // ✅ בסוף משחק לא עושים BOOM
-                    if (playEndSfx) AudioManager.play(AudioManager.Sfx.BOOM);
-                }
-                case NUMBER -> {
-                    cell.setState(CellButton.CellState.REVEALED);
-                    cell.showNumber(calculateAdjacentMines(r, c));
-                }
-                case EMPTY -> {
-                    cell.setState(CellButton.CellState.REVEALED);
-                    cell.showEmpty();
-                }
-                case QUESTION -> {
-                    cell.showQuestion();
-                    cell.setState(CellButton.CellState.QUESTION);
-                }
-                case SURPRISE -> {
-                    cell.showSurprise();
-                    cell.setState(CellButton.CellState.SURPRISE);
-                }
-            }
-        }
+    for (int idx : opened) {
+        // ✅ בסוף משחק לא עושים BOOM
+        if (playEndSfx && engine.getType(idx) == CellType.MINE) AudioManager.play(AudioManager.Sfx.BOOM);
     }
-    repaint();
 }
 
 public void setFlagMode(boolean flagMode) {
@@ -989,92 +516,30 @@ public void setFlagMode(boolean flagMode) {
 
 public int getCellSize() { return cellSize; }
 
-public CellButton getCell(int row, int col) {
+public BoardCell getCell(int row, int col) {
     return isValidCell(row, col) ? cells[row][col] : null;
 }
 
-public int getCorrectFlagsCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].isFlagged() && cells[i][j].getCellType() == CellType.MINE) count++;
-        }
-    }
-    return count;
-}
+public int getCorrectFlagsCount() { return engine.getCorrectFlags(); }
 
-public int getIncorrectFlagsCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].isFlagged() && cells[i][j].getCellType() != CellType.MINE) count++;
-        }
-    }
-    return count;
-}
+public int getIncorrectFlagsCount() { return engine.getWrongFlags(); }
 
-public int getUsedQuestionsCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].getCellType() == CellType.QUESTION && cells[i][j].isUsed()) count++;
-        }
-    }
-    return count;
-}
+public int getUsedQuestionsCount() { return engine.getUsedQuestions(); }
 
-public int getTotalQuestionsCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].getCellType() == CellType.QUESTION) count++;
-        }
-    }
-    return count;
-}
+public int getTotalQuestionsCount() { return engine.getTotalQuestions(); }
 
-public int getUsedSurprisesCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].getCellType() == CellType.SURPRISE && cells[i][j].isUsed()) count++;
-        }
-    }
-    return count;
-}
+public int getUsedSurprisesCount() { return engine.getUsedSurprises(); }
 
-public int getTotalSurprisesCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            if (cells[i][j].getCellType() == CellType.SURPRISE) count++;
-        }
-    }
-    return count;
-}
-
-public int getRevealedMinesCount() {
-    int count = 0;
-    for (int i = 0; i < rows; i++) {
-        for (int j = 0; j < cols; j++) {
-            CellButton cb = cells[i][j];
-            if (cb.getCellType() != CellType.MINE) continue;
+public int getTotalSurprisesCount() { return engine.getTotalSurprises(); }
 
-            if (cb.isFlagged()) { count++; continue; }
+public int getRevealedMinesCount() { return engine.getHandledMines(); }
 
-            CellButton.CellState st = cb.getState();
-            if (st == CellButton.CellState.REVEALED || st == CellButton.CellState.MINE) count++;
-        }
-    }
-    return count;
-}
+public int getTotalMines() { return engine.getTotalMines(); }
 
-public int getTotalMines() { return totalMines; }
-
-private void flashBonusCell(CellButton cell) {
-    Color old = cell.getBackground();
-    cell.setBackground(new Color(0, 150, 255, 120));
-    Timer t = new Timer(500, e -> cell.setBackground(old));
+private void flashBonusCell(BoardCell cell) {
+    Color old = cell.getTint();
+    cell.setTint(new Color(0, 150, 255, 120));
+    Timer t = new Timer(500, e -> cell.setTint(old));
     t.setRepeats(false);
     t.start();
 }
@@ -1083,63 +548,49 @@ private void flashBonusCell(CellButton cell) {
 // HOT/COLD HINT API (NEW)
 // =========================
 public void showHotColdHint(int radius) {
-    if (!boardGenerated) return;
-    if (gameController.isGameOver()) return;
-
-    Point mine = pickRandomHiddenMine();
-    if (mine == null) return;
+    if (!engine.isGenerated() || gameController.isGameOver()) return;
 
-    hintOverlay.clear();
+    // snapshot on the EDT, solve in the background, paint when the probabilities are back
+    MineSolver.Snapshot snapshot = MineSolver.Snapshot.of(engine);
+    boolean[] flagged = new boolean[rows * cols];
+    for (int idx = 0; idx < flagged.length; idx++) flagged[idx] = engine.isFlagged(idx);
 
-    for (int r = 0; r < rows; r++) {
-        for (int c = 0; c < cols; c++) {
-            CellButton cb = cells[r][c];
-
-            if (cb.getState() != CellButton.CellState.HIDDEN) continue;
-            if (cb.isFlagged()) continue;
-
-            int dist = Math.abs(r - mine.x) + Math.abs(c - mine.y);
+    new SwingWorker<MineSolver.Result, Void>() {
+        @Override
+        protected MineSolver.Result doInBackground() {
+            return solver.solve(snapshot);
+        }
 
-            if (radius >= 1 && dist == 1) {
-                hintOverlay.put(cb, new Color(255, 60, 60, 140));
-            } else if (radius >= 2 && dist == 2) {
-                hintOverlay.put(cb, new Color(255, 180, 0, 120));
-            } else if (radius >= 3 && dist == 3) {
-                hintOverlay.put(cb, new Color(0, 180, 255, 110));
+        @Override
+        protected void done() {
+            try {
+                showHintOverlay(ProbabilityHint.colors(get(), flagged, radius));
+            } catch (Exception ex) {
+                ex.printStackTrace();
             }
         }
-    }
+    }.execute();
+}
 
-    repaint();
+private void showHintOverlay(Map<Integer, Color> colors) {
+    if (gameController.isGameOver()) return;
 
-    Timer t = new Timer(2500, e -> {
-        hintOverlay.clear();
-        repaint();
-    });
+    clearHintOverlay();
+    for (Map.Entry<Integer, Color> e : colors.entrySet()) {
+        int idx = e.getKey();
+        if (engine.isRevealed(idx)) continue; // a move landed while solving
+        BoardCell cell = cells[idx / cols][idx % cols];
+        cell.setOverlay(e.getValue());
+        hintCells.add(cell);
+    }
+
+    Timer t = new Timer(2500, e -> clearHintOverlay());
     t.setRepeats(false);
     t.start();
 }
 
-public Color getHintOverlayFor(CellButton cb) {
-    return hintOverlay.get(cb);
-}
-
-private Point pickRandomHiddenMine() {
-    List<Point> mines = new ArrayList<>();
-
-    for (int r = 0; r < rows; r++) {
-        for (int c = 0; c < cols; c++) {
-            CellButton cb = cells[r][c];
-            if (cb.getCellType() == CellType.MINE &&
-                    cb.getState() == CellButton.CellState.HIDDEN &&
-                    !cb.isFlagged()) {
-                mines.add(new Point(r, c));
-            }
-        }
-    }
-
-    if (mines.isEmpty()) return null;
-    return mines.get(random.nextInt(mines.size()));
+private void clearHintOverlay() {
+    for (BoardCell cell : hintCells) cell.setOverlay(null);
+    hintCells.clear();
 }
 }
-
@@ -161,21 +161,19 @@ public class ModernPopup {
         if (!d.isShowing()) return; // ✅ critical guard
 
         final Point base = d.getLocation(); // ✅ SAFE
-        Timer t = new Timer(18, null);
         final int[] i = {0};
 
-        t.addActionListener(e -> {
+        AnimationClock.until(d, 18, () -> {
             int dx = (i[0] % 2 == 0) ? 6 : -6;
             d.setLocation(base.x + dx, base.y);
             i[0]++;
 
             if (i[0] > 8) {
                 d.setLocation(base);
-                t.stop();
+                return false;
             }
+            return true;
         });
-
-        t.start();
     }
 
     // ===================== Animations =====================
@@ -183,34 +181,29 @@ public class ModernPopup {
     private static void animateOpenSafe(JDialog d) {
         try { d.setOpacity(0f); } catch (Exception ignored) {}
 
-        Timer t = new Timer(15, null);
         final float[] p = {0f};
 
-        t.addActionListener(e -> {
+        AnimationClock.until(d, 15, () -> {
             p[0] += 0.12f;
             float k = Math.min(1f, p[0]);
             try { d.setOpacity(k); } catch (Exception ignored) {}
-            if (k >= 1f) t.stop();
+            return k < 1f;
         });
-
-        t.start();
     }
 
     private static void animateClose(JDialog d) {
-        Timer t = new Timer(12, null);
         final float[] p = {1f};
 
-        t.addActionListener(e -> {
+        AnimationClock.until(d, 12, () -> {
             p[0] -= 0.12f;
             float k = Math.max(0f, p[0]);
             try { d.setOpacity(k); } catch (Exception ignored) {}
             if (k <= 0f) {
-                t.stop();
                 d.dispose();
+                return false;
             }
+            return true;
         });
-
-        t.start();
     }
 
     private static void applyShapeSafe(JDialog d, int arc) {
@@ -0,0 +1,191 @@
+package view;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ * Decorative background particles kept in primitive arrays (struct of arrays) instead of
+ * one object per particle. Colours for every palette entry and alpha level are built once,
+ * so a frame allocates nothing. The field times its own frames: when update + paint go
+ * over the frame budget it draws fewer particles, and it adds them back while there is room.
+ */
+public final class ParticleField {
+
+    /**
+     * Look of a field. Sizes, alphas and pulse speeds are picked in [min, min + range).
+     * {@code scaled} fields live in a virtual 1920 x 1080 space stretched over the panel;
+     * the others move in panel pixels and wrap {@code margin} pixels outside it.
+     */
+    public record Style(Color[] palette, float speed, float fall,
+                        float minSize, float sizeRange, float minAlpha, float alphaRange,
+                        float minPulse, float pulseRange, int glowRings, float glow,
+                        boolean scaled, float margin) {}
+
+    /** Pulsing neon dots with a three-ring glow (login, menu, setup and history screens). */
+    public static final Style NEON = new Style(new Color[]{
+            new Color(0, 180, 255), new Color(0, 220, 100), new Color(100, 150, 255),
+            new Color(0, 255, 200), new Color(50, 200, 255)},
+            1.2f, 0f, 2f, 8f, 0.3f, 0.5f, 0.02f, 0.05f, 3, 0.2f, true, 0f);
+
+    /** Calmer blue variant of {@link #NEON} with a two-ring glow (single player setup). */
+    public static final Style SOFT_NEON = new Style(new Color[]{
+            new Color(0, 191, 255), new Color(135, 206, 250), new Color(100, 149, 237),
+            new Color(0, 206, 209)},
+            0.8f, 0f, 2f, 6f, 0.2f, 0.4f, 0.02f, 0.04f, 2, 0.15f, true, 0f);
+
+    /** Faint white dust drifting in panel pixels (detailed history). */
+    public static final Style DUST = new Style(new Color[]{Color.WHITE},
+            0.6f, 0f, 1f, 2.5f, 0.06f, 0.10f, 0f, 0f, 0, 0f, false, 0f);
+
+    /** Slow falling motes behind the single player board. */
+    public static final Style MOTES = new Style(new Color[]{
+            new Color(56, 189, 248), new Color(168, 85, 247), new Color(34, 211, 238),
+            new Color(135, 206, 250)},
+            0.5f, 0.6f, 1.2f, 3.5f, 0.08f, 0.28f, 0f, 0f, 0, 0f, false, 20f);
+
+    private static final float VIRTUAL_W = 1920f;
+    private static final float VIRTUAL_H = 1080f;
+
+    // default: particles may take about a quarter of a 60 fps frame
+    private static final long DEFAULT_BUDGET_NANOS = 4_000_000L;
+
+    private final Style style;
+    private final Random random;
+    private final int count;
+
+    private final float[] x, y, vx, vy, size, alpha, pulseSpeed, pulseOffset;
+    private final byte[] colour;
+
+    // [palette entry][alpha 0..255]
+    private final Color[][] shades;
+
+    private int active;
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private long updateNanos;
+    private double frameNanos;      // moving average of update + paint
+
+    private int width, height;      // last painted panel size, for pixel fields
+
+    public ParticleField(int count, Style style, Random random) {
+        this.style = style;
+        this.random = random;
+        this.count = count;
+        this.active = count;
+
+        x = new float[count];
+        y = new float[count];
+        vx = new float[count];
+        vy = new float[count];
+        size = new float[count];
+        alpha = new float[count];
+        pulseSpeed = new float[count];
+        pulseOffset = new float[count];
+        colour = new byte[count];
+
+        float spanW = style.scaled() ? VIRTUAL_W : 1400f;
+        float spanH = style.scaled() ? VIRTUAL_H : 900f;
+        for (int i = 0; i < count; i++) {
+            x[i] = random.nextFloat() * spanW;
+            y[i] = random.nextFloat() * spanH;
+            vx[i] = (random.nextFloat() - 0.5f) * style.speed();
+            vy[i] = style.fall() > 0
+                    ? random.nextFloat() * style.fall() + 0.1f
+                    : (random.nextFloat() - 0.5f) * style.speed();
+            size[i] = random.nextFloat() * style.sizeRange() + style.minSize();
+            alpha[i] = random.nextFloat() * style.alphaRange() + style.minAlpha();
+            pulseSpeed[i] = style.pulseRange() > 0 ? random.nextFloat() * style.pulseRange() + style.minPulse() : 0f;
+            pulseOffset[i] = random.nextFloat() * (float) Math.PI * 2;
+            colour[i] = (byte) random.nextInt(style.palette().length);
+        }
+
+        shades = new Color[style.palette().length][256];
+        for (int c = 0; c < shades.length; c++) {
+            Color base = style.palette()[c];
+            for (int a = 0; a < 256; a++) shades[c][a] = new Color(base.getRed(), base.getGreen(), base.getBlue(), a);
+        }
+    }
+
+    /** Particles drawn per frame right now; at most the count the field was built with. */
+    public int getActiveCount() { return active; }
+
+    public void setFrameBudgetNanos(long budgetNanos) { this.budgetNanos = budgetNanos; }
+
+    /** Advances every particle one frame. */
+    public void update() {
+        long t0 = System.nanoTime();
+        int n = count;                          // inactive ones keep moving so they come back spread out
+        if (style.scaled()) {
+            for (int i = 0; i < n; i++) {
+                x[i] += vx[i];
+                y[i] += vy[i];
+                if (x[i] < 0) x[i] = VIRTUAL_W;
+                if (x[i] > VIRTUAL_W) x[i] = 0;
+                if (y[i] < 0) y[i] = VIRTUAL_H;
+                if (y[i] > VIRTUAL_H) y[i] = 0;
+                pulseOffset[i] += pulseSpeed[i];
+            }
+        } else if (width > 0 && height > 0) {
+            float m = style.margin();
+            for (int i = 0; i < n; i++) {
+                x[i] += vx[i];
+                y[i] += vy[i];
+                if (y[i] > height + m) {
+                    y[i] = -m;
+                    if (style.fall() > 0) x[i] = random.nextFloat() * width;
+                }
+                if (y[i] < -m) y[i] = height + m;
+                if (x[i] < -m) x[i] = width + m;
+                if (x[i] > width + m) x[i] = -m;
+                pulseOffset[i] += pulseSpeed[i];
+            }
+        }
+        updateNanos = System.nanoTime() - t0;
+    }
+
+    /** Paints the active particles over a panel of the given size. */
+    public void paint(Graphics2D g2, int panelWidth, int panelHeight) {
+        long t0 = System.nanoTime();
+        width = panelWidth;
+        height = panelHeight;
+
+        float sx = style.scaled() ? panelWidth / VIRTUAL_W : 1f;
+        float sy = style.scaled() ? panelHeight / VIRTUAL_H : 1f;
+        int rings = style.glowRings();
+        float glow = style.glow();
+        boolean pulsing = style.pulseRange() > 0;
+
+        for (int i = 0; i < active; i++) {
+            Color[] shade = shades[colour[i]];
+            float px = x[i] * sx;
+            float py = y[i] * sy;
+            float pulse = pulsing ? (float) Math.sin(pulseOffset[i]) * 0.3f + 0.7f : 1f;
+            float a = alpha[i] * pulse;
+            float s = size[i] * pulse;
+
+            for (int r = rings; r > 0; r--) {
+                g2.setColor(shade[alphaIndex(a * glow / r)]);
+                g2.fillOval((int) (px - r * 2), (int) (py - r * 2), (int) (s + r * 4), (int) (s + r * 4));
+            }
+            g2.setColor(shade[alphaIndex(a)]);
+            g2.fillOval((int) px, (int) py, (int) s, (int) s);
+        }
+
+        adapt(updateNanos + System.nanoTime() - t0);
+    }
+
+    private static int alphaIndex(float a) {
+        return Math.max(0, Math.min(255, (int) (a * 255)));
+    }
+
+    // drop a quarter of the particles when over budget, add one back per calm frame
+    private void adapt(long nanos) {
+        frameNanos = frameNanos == 0 ? nanos : frameNanos * 0.9 + nanos * 0.1;
+        int floor = Math.max(1, count / 4);
+        if (frameNanos > budgetNanos && active > floor) {
+            active = Math.max(floor, active * 3 / 4);
+            frameNanos = budgetNanos * 0.75;
+        } else if (frameNanos < budgetNanos / 3.0 && active < count) {
+            active++;
+        }
+    }
+}
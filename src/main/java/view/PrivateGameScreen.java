@@ -1,6 +1,7 @@
 package view;
 
 import control.SinglePlayerGameControl;
+import engine.BoardSpec;
 import model.SysData;
 import model.User;
 import model.SessionManager;
@@ -10,12 +11,8 @@ import view.HelpDialog;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 public class PrivateGameScreen extends JPanel {
@@ -25,13 +22,19 @@ public class PrivateGameScreen extends JPanel {
     private JButton easyButton;
     private JButton mediumButton;
     private JButton hardButton;
+    private JButton customButton;
     private String selectedDifficulty = "Easy";
 
+    // one button per cell on the game screen, so the dialog keeps custom boards at a size it can lay out
+    private static final int MAX_CUSTOM_SIDE = BoardSpec.MAX_SIDE;
+    private BoardSpec customSpec = BoardSpec.custom(20, 30, 100, 10, 5);
+
     private final User user;
     
     // Animation fields
-    private Timer animationTimer;
-    private List<AnimatedParticle> particles;
+    private AnimationClock.Animation animationTimer;
+    private ParticleField particles;
+    private final GradientBackdrop backdrop = new GradientBackdrop(new Color(10, 10, 20), new Color(20, 15, 30));
     private Random random;
     private float waveOffset = 0;
 
@@ -80,7 +83,9 @@ public class PrivateGameScreen extends JPanel {
         startButton.addActionListener(e -> {
             stopAnimation();
             SysData sysData = new SysData();
-            SinglePlayerGameControl gameController = new SinglePlayerGameControl(user, selectedDifficulty, sysData);
+            SinglePlayerGameControl gameController = "Custom".equals(selectedDifficulty)
+                    ? new SinglePlayerGameControl(user, customSpec, sysData)
+                    : new SinglePlayerGameControl(user, selectedDifficulty, sysData);
             MinesweeperBoardPanel boardPanel = gameController.createBoardPanel();
             GameScreenSinglePlayer gameScreen = new GameScreenSinglePlayer(frame, gameController, boardPanel);
             frame.setContentPane(gameScreen);
@@ -96,23 +101,13 @@ public class PrivateGameScreen extends JPanel {
     
     private void initializeAnimation() {
         random = new Random();
-        particles = new ArrayList<>();
-        
-        for (int i = 0; i < 40; i++) {
-            particles.add(new AnimatedParticle(random));
-        }
+        particles = new ParticleField(40, ParticleField.SOFT_NEON, random);
 
-        animationTimer = new Timer(30, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                for (AnimatedParticle p : particles) {
-                    p.update();
-                }
-                waveOffset += 0.04f;
-                repaint();
-            }
+        animationTimer = AnimationClock.every(this, 30, () -> {
+            particles.update();
+            waveOffset += 0.04f;
+            repaint();
         });
-        animationTimer.start();
     }
 
     private void stopAnimation() {
@@ -121,68 +116,6 @@ public class PrivateGameScreen extends JPanel {
         }
     }
 
-    private class AnimatedParticle {
-        float x, y;
-        float vx, vy;
-        float size;
-        float alpha;
-        float pulseSpeed;
-        float pulseOffset;
-        Color color;
-
-        AnimatedParticle(Random r) {
-            x = r.nextFloat() * 1920;
-            y = r.nextFloat() * 1080;
-            vx = (r.nextFloat() - 0.5f) * 0.8f;
-            vy = (r.nextFloat() - 0.5f) * 0.8f;
-            size = r.nextFloat() * 6 + 2;
-            alpha = r.nextFloat() * 0.4f + 0.2f;
-            pulseSpeed = r.nextFloat() * 0.04f + 0.02f;
-            pulseOffset = r.nextFloat() * (float)Math.PI * 2;
-            
-            int colorChoice = r.nextInt(4);
-            if (colorChoice == 0) {
-                color = new Color(0, 191, 255);
-            } else if (colorChoice == 1) {
-                color = new Color(135, 206, 250);
-            } else if (colorChoice == 2) {
-                color = new Color(100, 149, 237);
-            } else {
-                color = new Color(0, 206, 209);
-            }
-        }
-
-        void update() {
-            x += vx;
-            y += vy;
-
-            if (x < 0) x = 1920;
-            if (x > 1920) x = 0;
-            if (y < 0) y = 1080;
-            if (y > 1080) y = 0;
-            
-            pulseOffset += pulseSpeed;
-        }
-
-        void draw(Graphics2D g2, int panelWidth, int panelHeight) {
-            float scaledX = (x / 1920f) * panelWidth;
-            float scaledY = (y / 1080f) * panelHeight;
-
-            float pulse = (float)Math.sin(pulseOffset) * 0.3f + 0.7f;
-            float currentAlpha = alpha * pulse;
-            float currentSize = size * pulse;
-
-            for (int i = 2; i > 0; i--) {
-                float glowAlpha = currentAlpha * 0.15f / i;
-                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(glowAlpha * 255)));
-                g2.fillOval((int)(scaledX - i*2), (int)(scaledY - i*2), (int)(currentSize + i*4), (int)(currentSize + i*4));
-            }
-
-            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int)(currentAlpha * 255)));
-            g2.fillOval((int)scaledX, (int)scaledY, (int)currentSize, (int)currentSize);
-        }
-    }
-
     private JPanel createHeaderPanel() {
         JPanel headerPanel = new JPanel(new BorderLayout());
         headerPanel.setOpaque(false);
@@ -323,7 +256,7 @@ public class PrivateGameScreen extends JPanel {
     private JPanel createStatCard(String title, String value, Color valueColor, Color accentColor) {
         JPanel card = new JPanel() {
             private float hoverProgress = 0f;
-            private Timer hoverTimer = null;
+            private AnimationClock.Animation hoverTimer = null;
             
             {
                 addMouseListener(new MouseAdapter() {
@@ -344,19 +277,15 @@ public class PrivateGameScreen extends JPanel {
                     hoverTimer.stop();
                 }
                 
-                hoverTimer = new Timer(20, null);
-                hoverTimer.addActionListener(e -> {
+                hoverTimer = AnimationClock.until(this, 20, () -> {
                     if (entering) {
                         hoverProgress = Math.min(1f, hoverProgress + 0.1f);
                     } else {
                         hoverProgress = Math.max(0f, hoverProgress - 0.1f);
                     }
                     repaint();
-                    if ((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f)) {
-                        hoverTimer.stop();
-                    }
+                    return !((entering && hoverProgress >= 1f) || (!entering && hoverProgress <= 0f));
                 });
-                hoverTimer.start();
             }
             
             @Override
@@ -444,7 +373,10 @@ public class PrivateGameScreen extends JPanel {
 
         buttonContainer.add(easyButton);
         buttonContainer.add(mediumButton);
+        customButton = createDifficultyButton("🧩 CUSTOM", customDescription(), "Custom",
+            new Color(138, 43, 226), new Color(186, 85, 211));
         buttonContainer.add(hardButton);
+        buttonContainer.add(customButton);
 
         panel.add(buttonContainer);
         panel.add(Box.createVerticalGlue());
@@ -457,8 +389,8 @@ public class PrivateGameScreen extends JPanel {
         JButton button = new JButton() {
             private float hoverProgress = 0f;
             private float selectedProgress = selectedDifficulty.equals(difficulty) ? 1f : 0f;
-            private Timer hoverTimer = null;
-            private Timer selectTimer = null;
+            private AnimationClock.Animation hoverTimer = null;
+            private AnimationClock.Animation selectTimer = null;
 
             {
                 addMouseListener(new MouseAdapter() {
@@ -483,19 +415,15 @@ public class PrivateGameScreen extends JPanel {
                     hoverTimer.stop();
                 }
                 
-                hoverTimer = new Timer(20, null);
-                hoverTimer.addActionListener(e -> {
+                hoverTimer = AnimationClock.until(this, 20, () -> {
                     if (entering) {
                         hoverProgress = Math.min(0.5f, hoverProgress + 0.05f);
                     } else {
                         hoverProgress = Math.max(0f, hoverProgress - 0.05f);
                     }
                     repaint();
-                    if ((entering && hoverProgress >= 0.5f) || (!entering && hoverProgress <= 0f)) {
-                        hoverTimer.stop();
-                    }
+                    return !((entering && hoverProgress >= 0.5f) || (!entering && hoverProgress <= 0f));
                 });
-                hoverTimer.start();
             }
             
             public void animateSelection(boolean isSelected) {
@@ -503,19 +431,15 @@ public class PrivateGameScreen extends JPanel {
                     selectTimer.stop();
                 }
                 
-                selectTimer = new Timer(20, null);
-                selectTimer.addActionListener(e -> {
+                selectTimer = AnimationClock.until(this, 20, () -> {
                     if (isSelected) {
                         selectedProgress = Math.min(1f, selectedProgress + 0.1f);
                     } else {
                         selectedProgress = Math.max(0f, selectedProgress - 0.1f);
                     }
                     repaint();
-                    if ((isSelected && selectedProgress >= 1f) || (!isSelected && selectedProgress <= 0f)) {
-                        selectTimer.stop();
-                    }
+                    return !((isSelected && selectedProgress >= 1f) || (!isSelected && selectedProgress <= 0f));
                 });
-                selectTimer.start();
             }
 
             @Override
@@ -581,11 +505,9 @@ public class PrivateGameScreen extends JPanel {
         button.putClientProperty("difficulty", difficulty);
         
         button.addActionListener(e -> {
+            if (difficulty.equals("Custom") && !editCustomSpec()) return;
             selectedDifficulty = difficulty;
-            if (difficulty.equals("Custom")) {
-                JOptionPane.showMessageDialog(this, "Custom difficulty setup not implemented yet.", 
-                    "Custom Game", JOptionPane.INFORMATION_MESSAGE);
-            }
+            if (difficulty.equals("Custom")) descLabel.setText(customDescription());
             updateDifficultySelection();
         });
         
@@ -600,11 +522,51 @@ public class PrivateGameScreen extends JPanel {
             animateMethod.invoke(easyButton, selectedDifficulty.equals("Easy"));
             animateMethod.invoke(mediumButton, selectedDifficulty.equals("Medium"));
             animateMethod.invoke(hardButton, selectedDifficulty.equals("Hard"));
+            animateMethod.invoke(customButton, selectedDifficulty.equals("Custom"));
         } catch (Exception e) {
             // Fallback to simple repaint
             easyButton.repaint();
             mediumButton.repaint();
             hardButton.repaint();
+            customButton.repaint();
+        }
+    }
+
+    private String customDescription() {
+        return customSpec.rows() + "x" + customSpec.cols() + " Grid | " + customSpec.mines() + " Mines";
+    }
+
+    /** Asks for the custom board's size and cell counts. @return false if cancelled */
+    private boolean editCustomSpec() {
+        JSpinner rows = new JSpinner(new SpinnerNumberModel(customSpec.rows(), 5, MAX_CUSTOM_SIDE, 1));
+        JSpinner cols = new JSpinner(new SpinnerNumberModel(customSpec.cols(), 5, MAX_CUSTOM_SIDE, 1));
+        JSpinner mines = new JSpinner(new SpinnerNumberModel(customSpec.mines(), 1, Integer.MAX_VALUE, 1));
+        JSpinner questions = new JSpinner(new SpinnerNumberModel(customSpec.questions(), 0, Integer.MAX_VALUE, 1));
+        JSpinner surprises = new JSpinner(new SpinnerNumberModel(customSpec.surprises(), 0, Integer.MAX_VALUE, 1));
+
+        JPanel form = new JPanel(new GridLayout(5, 2, 10, 8));
+        form.add(new JLabel("Rows:"));
+        form.add(rows);
+        form.add(new JLabel("Columns:"));
+        form.add(cols);
+        form.add(new JLabel("Mines:"));
+        form.add(mines);
+        form.add(new JLabel("Questions:"));
+        form.add(questions);
+        form.add(new JLabel("Surprises:"));
+        form.add(surprises);
+
+        while (true) {
+            int choice = JOptionPane.showConfirmDialog(this, form, "Custom Game",
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (choice != JOptionPane.OK_OPTION) return false;
+            try {
+                customSpec = BoardSpec.custom((Integer) rows.getValue(), (Integer) cols.getValue(),
+                        (Integer) mines.getValue(), (Integer) questions.getValue(), (Integer) surprises.getValue());
+                return true;
+            } catch (IllegalArgumentException ex) {
+                JOptionPane.showMessageDialog(this, ex.getMessage(), "Custom Game", JOptionPane.WARNING_MESSAGE);
+            }
         }
     }
 
@@ -623,16 +585,9 @@ public class PrivateGameScreen extends JPanel {
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Animated gradient background
-        GradientPaint gp = new GradientPaint(
-            0, 0, new Color(10, 10, 20), 
-            getWidth(), getHeight(), new Color(20, 15, 30)
-        );
-        g2.setPaint(gp);
-        g2.fillRect(0, 0, getWidth(), getHeight());
+        backdrop.paint(g2, getWidth(), getHeight());
 
         // Draw animated particles
-        for (AnimatedParticle p : particles) {
-            p.draw(g2, getWidth(), getHeight());
-        }
+        particles.paint(g2, getWidth(), getHeight());
     }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package view;
+
+import engine.MineSolver;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hot/cold colors from solver probabilities, shared by the multiplayer board panels.
+ *
+ * Only frontier cells are colored. The hint radius (3 on Easy, 1 on Hard) widens the
+ * bands: radius 1 shows only certain cells, radius 3 also shows the uncertain ones.
+ */
+final class ProbabilityHint {
+
+    static final Color HOT = new Color(255, 60, 60, 140);     // likely mine
+    static final Color WARM = new Color(255, 180, 0, 120);   // unsure
+    static final Color COLD = new Color(0, 180, 255, 110);   // likely safe
+
+    private ProbabilityHint() {}
+
+    /** @return cell index -> overlay color (hidden, unflagged cells only) */
+    static Map<Integer, Color> colors(MineSolver.Result result, boolean[] skip, int radius) {
+        double slack = switch (radius) {
+            case 1 -> 0.0;
+            case 2 -> 0.2;
+            default -> 0.35;
+        };
+
+        Map<Integer, Color> out = new HashMap<>();
+        double[] p = result.probability();
+        int safest = -1;
+
+        for (int idx = 0; idx < p.length; idx++) {
+            if (Double.isNaN(p[idx]) || skip[idx]) continue;
+            if (safest < 0 || p[idx] < p[safest]) safest = idx;
+            if (!result.isFrontier(idx)) continue;
+
+            if (p[idx] >= 1 - slack - 1e-9) out.put(idx, HOT);
+            else if (p[idx] <= slack + 1e-9) out.put(idx, COLD);
+            else if (radius >= 3) out.put(idx, WARM);
+        }
+
+        // nothing certain enough: point at the best guess
+        if (out.isEmpty() && safest >= 0) out.put(safest, COLD);
+        return out;
+    }
+}
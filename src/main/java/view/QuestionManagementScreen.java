@@ -25,14 +25,14 @@ public class QuestionManagementScreen extends JPanel {
     private TableRowSorter<DefaultTableModel> sorter;
 
     // Background animation
-    private Timer animationTimer;
+    private AnimationClock.Animation animationTimer;
     private List<AnimatedParticle> particles;
     private Random random;
     
     // Pulse effect
     private int pulseRow = -1;
     private float pulseAlpha = 0f;
-    private Timer pulseTimer;
+    private AnimationClock.Animation pulseTimer;
     
     // UI Constants
     private final Color BACKGROUND_DARK = new Color(15, 23, 42);
@@ -358,16 +358,16 @@ public class QuestionManagementScreen extends JPanel {
         pulseAlpha = 1.0f;
         
         // Pulse animation - fade out
-        pulseTimer = new Timer(30, e -> {
+        pulseTimer = AnimationClock.until(this, 30, () -> {
             pulseAlpha -= 0.05f;
-            if (pulseAlpha <= 0f) {
+            boolean more = pulseAlpha > 0f;
+            if (!more) {
                 pulseAlpha = 0f;
                 pulseRow = -1;
-                ((Timer) e.getSource()).stop();
             }
             questionTable.repaint();
+            return more;
         });
-        pulseTimer.start();
     }
 
     
@@ -573,8 +573,7 @@ public class QuestionManagementScreen extends JPanel {
         random = new Random();
         particles = new ArrayList<>();
         for (int i = 0; i < 40; i++) particles.add(new AnimatedParticle(random));
-        animationTimer = new Timer(40, e -> repaint());
-        animationTimer.start();
+        animationTimer = AnimationClock.every(this, 40, this::repaint);
     }
 
     private class AnimatedParticle {
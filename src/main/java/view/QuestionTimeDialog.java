@@ -17,8 +17,8 @@ public class QuestionTimeDialog extends JDialog {
 
     // Animations
     private float fade = 0f;
-    private Timer fadeTimer;
-    private Timer headerGlowTimer;
+    private AnimationClock.Animation fadeTimer;
+    private AnimationClock.Animation headerGlowTimer;
     private float headerGlow = 0f;
     private boolean headerGlowUp = true;
 
@@ -551,38 +551,33 @@ public class QuestionTimeDialog extends JDialog {
         final int dx = 6;
         final int[] n = {0};
 
-        Timer t = new Timer(18, null);
-        t.addActionListener(e -> {
+        AnimationClock.until(comp, 18, () -> {
             int i = n[0]++;
             int offset = (i % 2 == 0) ? dx : -dx;
             comp.setLocation(p.x + offset, p.y);
 
             if (i >= 10) {
                 comp.setLocation(p);
-                t.stop();
+                return false;
             }
+            return true;
         });
-        t.start();
     }
 
     private void startFadeIn() {
         fade = 0f;
         try { setOpacity(0f); } catch (Exception ignored) { /* Some systems may not support; safe */ }
 
-        fadeTimer = new Timer(16, e -> {
-            fade += 0.08f;
-            if (fade >= 1f) {
-                fade = 1f;
-                fadeTimer.stop();
-            }
-            try { setOpacity(Math.min(1f, fade)); } catch (Exception ignored) { }
+        fadeTimer = AnimationClock.until(this, 16, () -> {
+            fade = Math.min(1f, fade + 0.08f);
+            try { setOpacity(fade); } catch (Exception ignored) { }
             root.repaint();
+            return fade < 1f;
         });
-        fadeTimer.start();
     }
 
     private void startHeaderGlow() {
-        headerGlowTimer = new Timer(30, e -> {
+        headerGlowTimer = AnimationClock.every(this, 30, () -> {
             if (headerGlowUp) headerGlow += 0.03f;
             else headerGlow -= 0.03f;
 
@@ -592,7 +587,6 @@ public class QuestionTimeDialog extends JDialog {
             // Only repaint top region lightly
             root.repaint(0, 0, getWidth(), 120);
         });
-        headerGlowTimer.start();
 
         // stop timers when dialog closes
         addWindowListener(new WindowAdapter() {
@@ -168,11 +168,16 @@ public class SignUpScreen extends JPanel {
             frame.setContentPane(new LoginPrivateScreen(frame));
             frame.revalidate();
             frame.repaint();
-        } else {
+        } else if (userService.getUser(username) != null) {
             JOptionPane.showMessageDialog(this,
                     "Username already exists. Please choose a different username.",
                     "Sign Up Failed",
                     JOptionPane.ERROR_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this,
+                    "Your account could not be saved. Please try again.",
+                    "Sign Up Failed",
+                    JOptionPane.ERROR_MESSAGE);
         }
     }
 
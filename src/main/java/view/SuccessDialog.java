@@ -10,7 +10,7 @@ import java.awt.geom.RoundRectangle2D;
 public class SuccessDialog extends JDialog {
     
     private float opacity = 0.0f;
-    private Timer fadeInTimer;
+    private AnimationClock.Animation fadeInTimer;
     private Timer autoCloseTimer;
     private JLabel messageLabel;
     private JLabel iconLabel;
@@ -125,27 +125,20 @@ public class SuccessDialog extends JDialog {
     }
     
     private void startFadeIn() {
-        fadeInTimer = new Timer(20, e -> {
-            opacity += 0.08f;
-            if (opacity >= 1.0f) {
-                opacity = 1.0f;
-                fadeInTimer.stop();
-            }
+        fadeInTimer = AnimationClock.until(this, 20, () -> {
+            opacity = Math.min(1.0f, opacity + 0.08f);
             setOpacity(opacity);
+            return opacity < 1.0f;
         });
-        fadeInTimer.start();
     }
     
     private void startPulseAnimation() {
-        Timer pulseTimer = new Timer(150, e -> {
+        AnimationClock.until(this, 150, () -> {
             pulseCount++;
             iconLabel.repaint();
             
-            if (pulseCount > 20) { // Stop after ~3 seconds
-                ((Timer)e.getSource()).stop();
-            }
+            return pulseCount <= 20; // Stop after ~3 seconds
         });
-        pulseTimer.start();
     }
     
     private void startAutoClose() {
@@ -157,17 +150,16 @@ public class SuccessDialog extends JDialog {
     }
     
     private void fadeOut() {
-        Timer fadeOutTimer = new Timer(10, null);
-        fadeOutTimer.addActionListener(e -> {
+        AnimationClock.until(this, 10, () -> {
             opacity -= 0.1f;
             if (opacity <= 0.0f) {
                 opacity = 0.0f;
-                fadeOutTimer.stop();
                 dispose();
+                return false;
             }
             setOpacity(opacity);
+            return true;
         });
-        fadeOutTimer.start();
     }
     
     /**
@@ -0,0 +1,221 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.event.ChangeListener;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Vertical list of cards for a scroll pane that only has cards for the rows in view.
+ * Cards come from {@code factory} and are filled with {@code binder}; a card whose row
+ * scrolls out is hidden and rebound to the next row that scrolls in, so a list of
+ * thousands of games holds about one screen of cards. {@link #setItems} swaps the data
+ * and rebinds only the visible rows, starting again from the top.
+ *
+ * Rows of the same kind (per {@code kindOf}) share a height, measured once from a bound
+ * card. A card is as wide as the list, capped at its maximum width and centered, like a
+ * BoxLayout column.
+ */
+public class VirtualCardList<T, C extends JComponent> extends JPanel implements Scrollable {
+
+    private final Supplier<C> factory;
+    private final BiConsumer<C, T> binder;
+    private final Function<T, ?> kindOf;
+    private final int gap;
+
+    private List<T> items = new ArrayList<>();
+    private int[] tops = {0};                     // tops[i] = y of row i, tops[n] = total height
+
+    private final Map<Object, Integer> kindHeights = new HashMap<>();
+    private final Map<Integer, C> bound = new HashMap<>();
+    private final List<C> spare = new ArrayList<>();
+
+    private JComponent emptyView;
+
+    private final ChangeListener scrollListener = e -> layoutRows();
+    private JViewport watched;
+
+    public VirtualCardList(Supplier<C> factory, BiConsumer<C, T> binder, Function<T, ?> kindOf, int gap) {
+        super(null);
+        this.factory = factory;
+        this.binder = binder;
+        this.kindOf = kindOf;
+        this.gap = gap;
+        setOpaque(false);
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) watchViewport();
+        });
+    }
+
+    /** Shown instead of the rows while the list is empty. */
+    public void setEmptyView(JComponent view) {
+        if (emptyView != null) remove(emptyView);
+        emptyView = view;
+        if (view != null) add(view);
+        revalidate();
+        repaint();
+    }
+
+    public void setItems(List<T> newItems) {
+        items = newItems == null ? new ArrayList<>() : newItems;
+        for (C card : bound.values()) release(card);
+        bound.clear();
+
+        measureKinds();
+        computeTops();
+        if (getParent() instanceof JViewport vp) vp.setViewPosition(new Point(0, 0));   // new results start at the top
+        revalidate();
+        repaint();
+    }
+
+    public int getItemCount() { return items.size(); }
+
+    /** Cards created so far, bound or spare. */
+    public int getCardCount() { return bound.size() + spare.size(); }
+
+    /** Index of the item shown at the top of the visible area, or -1 when empty. */
+    public int firstVisibleIndex() {
+        if (items.isEmpty()) return -1;
+        return rowAt(getVisibleRect().y - getInsets().top);
+    }
+
+    // =========================
+    // Layout
+    // =========================
+
+    // rebind rows as the viewport scrolls
+    private void watchViewport() {
+        if (watched != null) watched.removeChangeListener(scrollListener);
+        watched = getParent() instanceof JViewport vp ? vp : null;
+        if (watched != null) watched.addChangeListener(scrollListener);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        Insets in = getInsets();
+        int h = in.top + in.bottom + tops[items.size()];
+        if (items.isEmpty() && emptyView != null) h += emptyView.getPreferredSize().height;
+        return new Dimension(in.left + in.right, h);
+    }
+
+    @Override
+    public void doLayout() {
+        layoutRows();
+    }
+
+    private void layoutRows() {
+        Insets in = getInsets();
+        int avail = getWidth() - in.left - in.right;
+
+        if (emptyView != null) {
+            emptyView.setVisible(items.isEmpty());
+            if (items.isEmpty()) {
+                Dimension d = emptyView.getPreferredSize();
+                emptyView.setBounds(in.left, in.top, Math.max(avail, 0), d.height);
+            }
+        }
+        if (items.isEmpty() || avail <= 0) return;
+
+        Rectangle view = getVisibleRect();
+        if (view.height <= 0) view = new Rectangle(0, 0, getWidth(), getHeight());
+        int first = rowAt(view.y - in.top);
+        int last = rowAt(view.y + view.height - in.top);
+
+        // free cards that left the window
+        bound.entrySet().removeIf(e -> {
+            int i = e.getKey();
+            if (i >= first && i <= last) return false;
+            release(e.getValue());
+            return true;
+        });
+
+        for (int i = first; i <= last; i++) {
+            C card = bound.get(i);
+            if (card == null) {
+                card = acquire();
+                binder.accept(card, items.get(i));
+                bound.put(i, card);
+            }
+            int w = Math.min(avail, card.getMaximumSize().width);
+            int h = tops[i + 1] - tops[i] - gap;
+            card.setBounds(in.left + (avail - w) / 2, in.top + tops[i], w, h);
+            card.setVisible(true);
+            card.validate();
+        }
+    }
+
+    private C acquire() {
+        if (!spare.isEmpty()) return spare.remove(spare.size() - 1);
+        C card = factory.get();
+        add(card);
+        return card;
+    }
+
+    // spare cards stay in the hierarchy, hidden, so their animations pause instead of ending
+    private void release(C card) {
+        card.setVisible(false);
+        spare.add(card);
+    }
+
+    private void measureKinds() {
+        C probe = null;
+        for (T item : items) {
+            Object kind = kindOf.apply(item);
+            if (kindHeights.containsKey(kind)) continue;
+            if (probe == null) probe = acquire();
+            binder.accept(probe, item);
+            kindHeights.put(kind, probe.getPreferredSize().height);
+        }
+        if (probe != null) release(probe);
+    }
+
+    private void computeTops() {
+        int n = items.size();
+        tops = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            tops[i + 1] = tops[i] + kindHeights.get(kindOf.apply(items.get(i))) + gap;
+        }
+    }
+
+    // row whose band contains y, clamped to the list
+    private int rowAt(int y) {
+        int n = items.size();
+        int lo = 0, hi = n - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (tops[mid] <= y) lo = mid;
+            else hi = mid - 1;
+        }
+        return lo;
+    }
+
+    // =========================
+    // Scrollable
+    // =========================
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() { return getPreferredSize(); }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visible, int orientation, int direction) { return 18; }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visible, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visible.height : visible.width;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() { return true; }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport vp && vp.getHeight() > getPreferredSize().height;
+    }
+}
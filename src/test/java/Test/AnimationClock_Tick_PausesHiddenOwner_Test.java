@@ -0,0 +1,50 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.AnimationClock;
+
+import javax.swing.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnimationClock_Tick_PausesHiddenOwner_Test {
+
+    @Test
+    void hiddenOwnersPause_finishedAnimationsLeave_andFramesAreDropped() throws Exception {
+        AtomicInteger free = new AtomicInteger();
+        AtomicInteger hidden = new AtomicInteger();
+        AtomicInteger fade = new AtomicInteger();
+        AtomicInteger slow = new AtomicInteger();
+        JPanel offScreen = new JPanel();               // never added to a window: not showing
+
+        AnimationClock.Animation[] handles = new AnimationClock.Animation[3];
+        SwingUtilities.invokeAndWait(() -> {
+            handles[0] = AnimationClock.every(null, 16, free::incrementAndGet);
+            handles[1] = AnimationClock.every(offScreen, 16, hidden::incrementAndGet);
+            AnimationClock.until(null, 16, () -> fade.incrementAndGet() < 5);
+            handles[2] = AnimationClock.every(null, 16, () -> {
+                slow.incrementAndGet();
+                try {
+                    Thread.sleep(50);                  // a frame that overruns three periods
+                } catch (InterruptedException ignored) {
+                }
+            });
+        });
+
+        Thread.sleep(600);
+
+        SwingUtilities.invokeAndWait(() -> {
+            for (AnimationClock.Animation a : handles) a.stop();
+        });
+
+        System.out.println("[animationClock] free=" + free.get() + " hidden=" + hidden.get() +
+                " fade=" + fade.get() + " slow=" + slow.get());
+
+        assertTrue(free.get() > 0, "animation without an owner runs");
+        assertEquals(0, hidden.get(), "owner that is not showing pauses its animation");
+        assertEquals(5, fade.get(), "until() stops once the frame returns false");
+        assertTrue(slow.get() <= 600 / 50 + 1, "late frames are dropped, not replayed");
+        assertFalse(handles[0].isRunning());
+    }
+}
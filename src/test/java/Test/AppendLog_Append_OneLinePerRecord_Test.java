@@ -0,0 +1,53 @@
+package Test;
+
+import model.AppendLog;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppendLog_Append_OneLinePerRecord_Test {
+
+    @Test
+    void saveCostsOneLine_rewriteHappensInTheBackground() throws Exception {
+        Path dir = Files.createTempDirectory("appendlog");
+        Path file = dir.resolve("detailed_history.csv");
+        AppendLog log = new AppendLog(file.toString(), "A,B");
+
+        List<String> all = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) all.add("old" + i + "," + i);
+        log.rewriteAsync(all).get(10, TimeUnit.SECONDS);
+        long before = Files.size(file);
+
+        // saving one more game touches only its own line
+        long t0 = System.nanoTime();
+        log.append("new,1");
+        long appendUs = (System.nanoTime() - t0) / 1_000;
+        assertEquals(before + "new,1\n".length(), Files.size(file));
+
+        // a line cut short by a crash is closed before the next record
+        Files.write(file, "torn,".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        log.append("next,2");
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("A,B", lines.get(0));
+        assertEquals("torn,", lines.get(lines.size() - 2));
+        assertEquals("next,2", lines.get(lines.size() - 1));
+
+        // delete everything: queued writes land in request order
+        log.rewriteAsync(List.of());
+        log.appendAsync("after,3").get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("A,B", "after,3"), Files.readAllLines(file));
+
+        System.out.println("[appendLog] append to a 20000-record file: " + appendUs + " us");
+
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+    }
+}
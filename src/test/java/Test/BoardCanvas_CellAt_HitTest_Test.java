@@ -0,0 +1,58 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.BoardCanvas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCanvas_CellAt_HitTest_Test {
+
+    @Test
+    void cellAt_mapsPointsToCells_andGapsToNothing() {
+        BoardCanvas canvas = new BoardCanvas(3, 4, 20, 2);
+        assertEquals(new Dimension(4 * 20 + 3 * 2, 3 * 20 + 2 * 2), canvas.getPreferredSize());
+        canvas.setSize(canvas.getPreferredSize());
+
+        assertEquals(0, canvas.cellAt(0, 0));
+        assertEquals(0, canvas.cellAt(19, 19));
+        assertEquals(-1, canvas.cellAt(20, 5), "gap between columns");
+        assertEquals(1, canvas.cellAt(22, 5));
+        assertEquals(-1, canvas.cellAt(5, 21), "gap between rows");
+        assertEquals(2 * 4 + 3, canvas.cellAt(85, 63));
+        assertEquals(-1, canvas.cellAt(86, 5), "outside the grid");
+
+        Rectangle b = canvas.cellBounds(2, 3);
+        assertEquals(new Rectangle(66, 44, 20, 20), b);
+        assertEquals(2 * 4 + 3, canvas.cellAt(b.x + b.width / 2, b.y + b.height / 2));
+    }
+
+    @Test
+    void paint_drawsWholeBoardInOneComponent() {
+        int side = 100;
+        BoardCanvas canvas = new BoardCanvas(side, side, 24, 2);
+        canvas.setSize(canvas.getPreferredSize());
+        BufferedImage img = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = img.createGraphics();
+        canvas.paint(g);                       // warm up
+        long t0 = System.nanoTime();
+        canvas.paint(g);
+        long fullMs = (System.nanoTime() - t0) / 1_000_000;
+
+        // a single dirty cell only paints that cell
+        g.setClip(canvas.cellBounds(50, 50));
+        t0 = System.nanoTime();
+        canvas.paint(g);
+        long cellUs = (System.nanoTime() - t0) / 1_000;
+        g.dispose();
+
+        System.out.println("[boardCanvas] " + side + "x" + side + " full paint " + fullMs +
+                " ms, one dirty cell " + cellUs + " us");
+
+        assertEquals(0, canvas.getComponentCount(), "no child component per cell");
+        assertNotEquals(0, img.getRGB(canvas.cellBounds(0, 0).x + 12, canvas.cellBounds(0, 0).y + 12));
+    }
+}
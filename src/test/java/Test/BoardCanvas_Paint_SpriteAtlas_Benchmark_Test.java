@@ -0,0 +1,62 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.BoardCanvas;
+import view.BoardCell;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCanvas_Paint_SpriteAtlas_Benchmark_Test {
+
+    private static final int SIDE = 60;
+    private static final int FRAMES = 5;
+
+    @Test
+    void revealedBoard_repaintsFromAtlas_atEveryScale() {
+        BoardCanvas canvas = new BoardCanvas(SIDE, SIDE, 32, 2);
+        canvas.setSize(canvas.getPreferredSize());
+
+        // a finished board: every face the game shows, emoji included
+        BoardCell.CellState[] faces = {
+                BoardCell.CellState.MINE, BoardCell.CellState.NUMBER, BoardCell.CellState.EMPTY,
+                BoardCell.CellState.FLAGGED, BoardCell.CellState.QUESTION, BoardCell.CellState.SURPRISE,
+                BoardCell.CellState.USED_QUESTION, BoardCell.CellState.USED_SURPRISE, BoardCell.CellState.HIDDEN
+        };
+        for (int r = 0; r < SIDE; r++) {
+            for (int c = 0; c < SIDE; c++) {
+                BoardCell cell = canvas.getCell(r, c);
+                cell.setState(faces[(r * SIDE + c) % faces.length]);
+                cell.setNumber(1 + (r + c) % 8);
+            }
+        }
+
+        for (double scale : new double[]{1.0, 2.0}) {
+            BufferedImage img = new BufferedImage((int) (canvas.getWidth() * scale),
+                    (int) (canvas.getHeight() * scale), BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = img.createGraphics();
+            g.scale(scale, scale);
+
+            long t0 = System.nanoTime();
+            canvas.paint(g);                   // builds the atlas for this size and scale
+            long firstMs = (System.nanoTime() - t0) / 1_000_000;
+
+            t0 = System.nanoTime();
+            for (int i = 0; i < FRAMES; i++) canvas.paint(g);
+            long frameMs = (System.nanoTime() - t0) / 1_000_000 / FRAMES;
+            g.dispose();
+
+            System.out.println("[spriteAtlas] " + SIDE + "x" + SIDE + " at " + scale + "x: first paint " +
+                    firstMs + " ms, repaint " + frameMs + " ms");
+
+            Rectangle mine = canvas.cellBounds(0, 0);
+            Rectangle empty = canvas.cellBounds(0, 2);
+            int mineRgb = img.getRGB((int) ((mine.x + mine.width / 2) * scale), (int) ((mine.y + 3) * scale));
+            int emptyRgb = img.getRGB((int) ((empty.x + empty.width / 2) * scale), (int) ((empty.y + 3) * scale));
+            assertNotEquals(0, mineRgb, "face painted at " + scale + "x");
+            assertNotEquals(mineRgb, emptyRgb, "each state keeps its own face");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package Test;
+
+import engine.BoardChange;
+import engine.BoardEngine;
+import engine.BoardListener;
+import engine.BoardSpec;
+import org.junit.jupiter.api.Test;
+import view.BoardCanvas;
+import view.BoardCell;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCanvas_RevealFinal_OffEdt_Test {
+
+    @Test
+    void endReveal_isComposedInTheBackground_thenSettlesTheCells() throws Exception {
+        BoardEngine engine = new BoardEngine(BoardSpec.forDifficulty("Hard", 30, 30));
+        BoardCanvas canvas = new BoardCanvas(30, 30, 26, 2);
+        canvas.setSize(30 * 28, 30 * 28);
+        canvas.getCells();
+        engine.generate(15, 15, 99L);
+
+        BoardChange[] end = new BoardChange[1];
+        engine.addListener(new BoardListener() {
+            @Override public void onBoardGenerated(BoardEngine e) {}
+            @Override public void onCellsChanged(BoardEngine e, BoardChange change) { end[0] = change; }
+        });
+        engine.revealAll();
+        assertEquals(900, end[0].size());
+
+        long[] edtUs = new long[1];
+        BoardCell.CellState[] during = new BoardCell.CellState[1];
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void>[] done = new CompletableFuture[1];
+        SwingUtilities.invokeAndWait(() -> {
+            long t0 = System.nanoTime();
+            done[0] = canvas.revealFinal(engine, end[0]);
+            edtUs[0] = (System.nanoTime() - t0) / 1_000;
+            during[0] = canvas.getCell(0, 0).getState();
+        });
+
+        done[0].get(10, TimeUnit.SECONDS);
+        BoardCell.CellState[] after = new BoardCell.CellState[1];
+        SwingUtilities.invokeAndWait(() -> after[0] = canvas.getCell(0, 0).getState());
+
+        System.out.println("[endReveal] 900 cells, EDT time " + edtUs[0] + " us, settled as " + after[0]);
+
+        assertEquals(BoardCell.CellState.HIDDEN, during[0], "the live cells are not walked on the EDT");
+        assertNotEquals(BoardCell.CellState.HIDDEN, after[0], "the cells hold the final state afterwards");
+    }
+}
@@ -0,0 +1,63 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.BoardCanvas;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCanvas_Viewport_HugeBoard_Benchmark_Test {
+
+    private static final int SIDE = 10_000;
+
+    @Test
+    void hugeBoard_paintsOnlyWhatIsOnScreen_atEveryZoom() {
+        long t0 = System.nanoTime();
+        BoardCanvas canvas = new BoardCanvas(SIDE, SIDE, 24, 2);
+        canvas.setViewportMode(true);
+        canvas.setSize(900, 640);
+        long createMs = (System.nanoTime() - t0) / 1_000_000;
+
+        BufferedImage img = new BufferedImage(900, 640, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        canvas.paint(g);                                   // warm the sprite atlas
+        t0 = System.nanoTime();
+        canvas.paint(g);
+        long detailMs = (System.nanoTime() - t0) / 1_000_000;
+
+        // the camera starts on the middle of the board; the point under the pointer stays put
+        int idx = canvas.cellAt(450, 320);
+        assertTrue(Math.abs(idx / SIDE - SIDE / 2) <= 1);
+        canvas.zoomAt(60, 450, 320);
+        assertEquals(idx, canvas.cellAt(450, 320), "zoom keeps the cell under the pointer");
+
+        // hit-testing and bounds agree after a pan
+        canvas.panBy(-137, 91);
+        Rectangle b = canvas.cellBounds(SIDE / 2, SIDE / 2);
+        assertEquals(SIDE / 2 * SIDE + SIDE / 2, canvas.cellAt(b.x + b.width / 2, b.y + b.height / 2));
+
+        // zoomed out: flat color blocks, a revealed cell shows up as its own color
+        canvas.zoomAt(4, 450, 320);
+        assertTrue(canvas.getZoom() < BoardCanvas.LOD_PITCH);
+        int r = canvas.cellAt(450, 320) / SIDE, c = canvas.cellAt(450, 320) % SIDE;
+        canvas.getCell(r, c).showNumber(3);
+        canvas.paint(g);
+        Rectangle cell = canvas.cellBounds(r, c);
+        Rectangle hidden = canvas.cellBounds(r, c + 2);
+        assertNotEquals(img.getRGB(hidden.x + 1, hidden.y + 1), img.getRGB(cell.x + 1, cell.y + 1));
+
+        canvas.zoomAt(0.01, 450, 320);                      // clamps to the whole board
+        t0 = System.nanoTime();
+        canvas.paint(g);
+        long wholeMs = (System.nanoTime() - t0) / 1_000_000;
+        g.dispose();
+
+        System.out.println("[viewport] " + SIDE + "x" + SIDE + " create " + createMs + " ms, detail paint " +
+                detailMs + " ms, whole board paint " + wholeMs + " ms at " +
+                String.format("%.3f", canvas.getZoom()) + " px/cell");
+
+        assertEquals(0.064, canvas.getZoom(), 0.001, "fully zoomed out the board fits the component");
+    }
+}
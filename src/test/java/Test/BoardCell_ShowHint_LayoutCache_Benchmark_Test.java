@@ -0,0 +1,42 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.BoardCanvas;
+import view.BoardCell;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardCell_ShowHint_LayoutCache_Benchmark_Test {
+
+    private static final int FRAMES = 300;
+
+    @Test
+    void pulseFrames_reuseTheFittedLayout() {
+        BoardCanvas canvas = new BoardCanvas(5, 5, 60, 3);
+        canvas.setSize(canvas.getPreferredSize());
+        BoardCell cell = canvas.getCell(2, 2);
+        cell.showHint("🌡️ WARM - the mine is two steps away", new Color(255, 210, 60));
+
+        BufferedImage img = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        Rectangle bounds = canvas.cellBounds(2, 2);
+        g.setClip(bounds);
+
+        long t0 = System.nanoTime();
+        canvas.paint(g);                       // fits the font and wraps the lines once
+        long firstUs = (System.nanoTime() - t0) / 1_000;
+
+        t0 = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) canvas.paint(g);
+        long frameUs = (System.nanoTime() - t0) / 1_000 / FRAMES;
+        g.dispose();
+
+        System.out.println("[hintLayout] first hinted paint " + firstUs + " us, pulse frame " + frameUs + " us");
+
+        int center = img.getRGB(bounds.x + bounds.width / 2, bounds.y + 4);
+        assertNotEquals(0, center, "hint is painted over the cell");
+    }
+}
@@ -0,0 +1,87 @@
+package Test;
+
+import engine.BoardEngine;
+import engine.BoardLayout;
+import engine.BoardSpec;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardEngine_Generate_CustomBoard10k_Benchmark_Test {
+
+    private static final int SIDE = BoardSpec.MAX_SIDE;
+
+    @Test
+    void customSpec_rejectsBoardsThatCannotBePlayed() {
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(SIDE + 1, 10, 5, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(4, 4, 8, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(10, 10, 80, 10, 5));
+        assertEquals(7 * 13, BoardSpec.custom(7, 13, 20, 3, 2).size());
+        // 45% mines leave about 1% of the cells empty: plenty of non-mine cells, too few empty ones
+        assertThrows(IllegalArgumentException.class, () -> BoardSpec.custom(100, 100, 4_500, 200, 50));
+    }
+
+    @Test
+    void tenThousandSquare_generatesRevealsAndFinishesInteractively() {
+        BoardSpec spec = BoardSpec.custom(SIDE, SIDE, 12_000_000, 50_000, 20_000);
+
+        long t0 = System.nanoTime();
+        BoardEngine engine = new BoardEngine(spec);
+        engine.generate(SIDE / 2, SIDE / 2, 42L);
+        long generateMs = (System.nanoTime() - t0) / 1_000_000;
+
+        t0 = System.nanoTime();
+        BoardEngine.RevealResult first = engine.reveal(SIDE / 2, SIDE / 2);
+        long revealUs = (System.nanoTime() - t0) / 1_000;
+
+        t0 = System.nanoTime();
+        boolean finished = engine.isBoardFinished();
+        int hiddenSafe = engine.getHiddenSafeCells();
+        int mine = engine.pickRandomHiddenMine();
+        long endCheckUs = (System.nanoTime() - t0) / 1_000;
+
+        System.out.println("[customBoard " + SIDE + "x" + SIDE + "] generate=" + generateMs + " ms, first reveal opened " + first.opened().length + " in " + revealUs +
+                " us, end check + mine pick " + endCheckUs + " us");
+
+        assertEquals(spec.mines(), engine.getTotalMines());
+        assertEquals(spec.questions(), engine.getUnopenedQuestions());
+        assertTrue(first.opened().length > 1, "first click opens a cascade");
+        assertFalse(finished);
+        assertEquals(spec.size() - spec.mines() - first.opened().length, hiddenSafe);
+        assertTrue(mine >= 0 && engine.getType(mine) == model.CellType.MINE);
+    }
+
+    @Test
+    void denseBoard_placesEverySpecialOnTheRareEmptyCells() {
+        // ~0.5% of the cells are empty, so random draws give up early and the rest are picked by rank
+        BoardSpec spec = BoardSpec.custom(2_000, 2_000, 1_800_000, 3_000, 1_500);
+        BoardEngine engine = new BoardEngine(spec);
+        engine.generate(1_000, 1_000, 7L);
+        BoardLayout layout = engine.toLayout(0L);
+
+        assertEquals(spec.questions(), layout.questions().length);
+        assertEquals(spec.surprises(), layout.surprises().length);
+        assertEquals(0, engine.getMissingSpecials());
+        for (int[] specials : new int[][] { layout.questions(), layout.surprises() }) {
+            for (int idx : specials) {
+                assertNotEquals(layout.firstClick(), idx);
+                assertEquals(0, engine.getAdjacentMines(idx), "special cells go on empty cells");
+            }
+        }
+
+        BoardEngine again = new BoardEngine(spec);
+        again.generate(1_000, 1_000, 7L);
+        assertArrayEquals(layout.questions(), again.toLayout(0L).questions(), "same seed, same layout");
+    }
+
+    @Test
+    void specialsWithoutRoom_areReportedNotPrinted() {
+        // not a custom spec, so nothing checked the specials against the empty cells
+        BoardEngine engine = new BoardEngine(new BoardSpec(6, 6, 20, 12, 4));
+        engine.generate(3, 3, 11L);
+
+        int placed = engine.getTotalQuestions() + engine.getTotalSurprises();
+        assertTrue(placed < 16);
+        assertEquals(16 - placed, engine.getMissingSpecials());
+    }
+}
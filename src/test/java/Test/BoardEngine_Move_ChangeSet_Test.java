@@ -0,0 +1,66 @@
+package Test;
+
+import engine.BoardChange;
+import engine.BoardEngine;
+import engine.BoardListener;
+import engine.BoardSpec;
+import model.CellType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardEngine_Move_ChangeSet_Test {
+
+    @Test
+    void everyMove_sendsOneCompactChangeSet() {
+        BoardEngine engine = new BoardEngine(BoardSpec.forDifficulty("Medium", 12, 12));
+        List<BoardChange> changes = new ArrayList<>();
+        engine.addListener(new BoardListener() {
+            @Override public void onBoardGenerated(BoardEngine e) {}
+            @Override public void onCellsChanged(BoardEngine e, BoardChange change) { changes.add(change); }
+        });
+        engine.generate(6, 6, 1234L);
+        assertTrue(changes.isEmpty(), "generation changes no visible state");
+
+        // a cascade is one change set, ascending, every cell hidden -> revealed
+        BoardEngine.RevealResult first = engine.reveal(6, 6);
+        assertEquals(1, changes.size());
+        BoardChange cascade = changes.get(0);
+        assertEquals(first.opened().length, cascade.size());
+        for (int i = 0; i < cascade.size(); i++) {
+            if (i > 0) assertTrue(cascade.index(i) > cascade.index(i - 1), "indices are ascending");
+            assertEquals(0, cascade.oldState(i));
+            assertEquals(BoardChange.REVEALED, cascade.newState(i));
+        }
+
+        int hidden = -1;
+        for (int idx = 0; idx < 144 && hidden < 0; idx++) if (!engine.isRevealed(idx)) hidden = idx;
+        engine.toggleFlag(hidden / 12, hidden % 12);
+        BoardChange flag = changes.get(1);
+        assertEquals(1, flag.size());
+        assertEquals(hidden, flag.index(0));
+        assertEquals(BoardChange.FLAGGED, flag.newState(0));
+
+        // end of game: one change set for the whole board, the flag survives the reveal
+        int before = engine.getHiddenSafeCells() + engine.getTotalMines();
+        engine.revealAll();
+        assertEquals(3, changes.size());
+        BoardChange end = changes.get(2);
+        assertEquals(before, end.size());
+        int at = Arrays.binarySearch(end.indices(), hidden);
+        assertEquals(BoardChange.FLAGGED, end.oldState(at));
+        assertEquals(BoardChange.FLAGGED | BoardChange.REVEALED, end.newState(at));
+
+        System.out.println("[changeSet] cascade=" + cascade.size() + " cells, end reveal=" + end.size() +
+                " cells, events=" + changes.size());
+
+        // nothing left to change: no event at all
+        engine.revealAll();
+        assertEquals(3, changes.size());
+        assertEquals(CellType.EMPTY, engine.getType(6 * 12 + 6));
+    }
+}
@@ -0,0 +1,34 @@
+package Test;
+
+import engine.BoardEngine;
+import engine.BoardSpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardEngine_RevealBonusBlock_FullestWindow_Test {
+
+    @Test
+    void bonusOpensTheOnlyFullWindow_onABuiltInSizeBoard() {
+        // flag everything except one 3x3 block and a few scattered cells: the block is the
+        // single window with nine hidden cells, which random windows would rarely hit
+        for (long seed = 1; seed <= 20; seed++) {
+            BoardEngine engine = new BoardEngine(new BoardSpec(16, 16, 40, 0, 0));
+            engine.generate(0, 0, seed);
+            for (int r = 0; r < 16; r++) {
+                for (int c = 0; c < 16; c++) {
+                    boolean block = r >= 9 && r < 12 && c >= 4 && c < 7;
+                    boolean scattered = (r * 16 + c) % 7 == 0;
+                    if (!block && !scattered) engine.toggleFlag(r, c);
+                }
+            }
+
+            int[] opened = engine.revealBonusBlock(9);
+            int[] expected = { 9 * 16 + 4, 9 * 16 + 5, 9 * 16 + 6, 10 * 16 + 4, 10 * 16 + 5, 10 * 16 + 6,
+                    11 * 16 + 4, 11 * 16 + 5, 11 * 16 + 6 };
+            assertArrayEquals(expected, Arrays.copyOf(opened, 9), "seed " + seed);
+        }
+    }
+}
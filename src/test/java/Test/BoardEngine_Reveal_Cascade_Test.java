@@ -0,0 +1,69 @@
+package Test;
+
+import engine.BoardEngine;
+import engine.BoardListener;
+import engine.BoardSpec;
+import model.CellType;
+import model.FlagResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardEngine_Reveal_Cascade_Test {
+
+    @Test
+    void firstClickCascades_flagsAndMinesFinishTheBoard() {
+        BoardEngine engine = new BoardEngine(BoardSpec.forDifficulty("Medium", 12, 12));
+        int[] events = new int[3]; // generated, revealed cells, flag changes
+        engine.addListener(new BoardListener() {
+            @Override public void onBoardGenerated(BoardEngine e) { events[0]++; }
+            @Override public void onCellsRevealed(BoardEngine e, int[] indices) { events[1] += indices.length; }
+            @Override public void onFlagChanged(BoardEngine e, int index, boolean flagged) { events[2]++; }
+        });
+
+        assertNull(engine.reveal(6, 6), "nothing to reveal before generation");
+        engine.generate(6, 6, 1234L);
+        assertEquals(1, events[0]);
+        assertEquals(26, engine.getTotalMines());
+
+        BoardEngine.RevealResult first = engine.reveal(6, 6);
+        assertNotNull(first);
+        assertEquals(CellType.EMPTY, first.type());
+        assertTrue(first.opened().length > 1, "first click must cascade");
+        assertEquals(first.opened().length, events[1]);
+        assertNull(engine.reveal(6, 6), "already open");
+
+        // flag every mine except one, plus one wrong flag that gets removed again
+        int lastMine = -1;
+        int wrong = -1;
+        for (int idx = 0; idx < 144; idx++) {
+            if (engine.isRevealed(idx)) continue;
+            if (engine.getType(idx) != CellType.MINE) {
+                if (wrong < 0) wrong = idx;
+                continue;
+            }
+            if (lastMine >= 0)
+                assertEquals(FlagResult.CORRECT_MINE, engine.toggleFlag(lastMine / 12, lastMine % 12));
+            lastMine = idx;
+        }
+
+        assertEquals(FlagResult.INCORRECT, engine.toggleFlag(wrong / 12, wrong % 12));
+        assertEquals(1, engine.getWrongFlags());
+        assertEquals(FlagResult.REMOVED, engine.toggleFlag(wrong / 12, wrong % 12));
+        assertEquals(FlagResult.INVALID, engine.toggleFlag(6, 6));
+
+        assertFalse(engine.isBoardFinished());
+        assertEquals(1, engine.getMinesLeft());
+
+        BoardEngine.RevealResult boom = engine.reveal(lastMine / 12, lastMine % 12);
+        assertEquals(CellType.MINE, boom.type());
+        assertEquals(1, boom.opened().length);
+
+        System.out.println("[boardEngine] cascade=" + first.opened().length +
+                ", flagEvents=" + events[2] + ", finished=" + engine.isBoardFinished());
+
+        assertTrue(engine.isBoardFinished());
+        assertEquals(0, engine.getMinesLeft());
+        assertEquals(26, engine.getHandledMines());
+    }
+}
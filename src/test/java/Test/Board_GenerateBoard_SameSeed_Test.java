@@ -0,0 +1,47 @@
+package Test;
+
+import model.Board;
+import model.CellType;
+import model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Board_GenerateBoard_SameSeed_Test {
+
+    private static final long SEED = 0x5EEDL;
+
+    @Test
+    void sameSeed_reproducesMinesNumbersAndSpecials() {
+        Board a = new Board(16);
+        Board b = new Board(16);
+        a.generateBoard(40, 7, 3, SEED);
+        b.generateBoard(40, 7, 3, SEED);
+
+        PackedBoard pa = a.getPackedBoard();
+        PackedBoard pb = b.getPackedBoard();
+        int questions = 0;
+        for (int idx = 0; idx < pa.size(); idx++) {
+            assertEquals(pa.getType(idx), pb.getType(idx), "type differs at " + idx);
+            assertEquals(pa.getAdjacentMines(idx), pb.getAdjacentMines(idx), "number differs at " + idx);
+            if (pa.getType(idx) == CellType.QUESTION) questions++;
+        }
+
+        System.out.println("[seed " + SEED + "] mines=" + pa.countMines() + ", questions=" + questions);
+        assertEquals(40, pa.countMines());
+        assertEquals(7, questions);
+    }
+
+    @Test
+    void differentSeed_givesDifferentLayout() {
+        Board a = new Board(16);
+        Board b = new Board(16);
+        a.generateBoard(40, 7, 3, SEED);
+        b.generateBoard(40, 7, 3, SEED + 1);
+
+        boolean differs = false;
+        for (int idx = 0; idx < a.getPackedBoard().size() && !differs; idx++)
+            differs = a.getPackedBoard().isMine(idx) != b.getPackedBoard().isMine(idx);
+        assertTrue(differs);
+    }
+}
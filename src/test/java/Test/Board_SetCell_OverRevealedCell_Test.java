@@ -0,0 +1,31 @@
+package Test;
+
+import model.Board;
+import model.PackedBoard;
+import model.SurpriseCell;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Board_SetCell_OverRevealedCell_Test {
+
+    @Test
+    void freshCell_replacesRevealedAndUsedState() {
+        Board board = new Board(4, 5);
+        PackedBoard packed = board.getPackedBoard();
+        int idx = packed.index(2, 3);
+        packed.setSurprise(idx, true);
+        packed.reveal(idx);
+        packed.markUsed(idx);
+        assertEquals(19, packed.getHiddenSafeCells());
+        assertEquals(1, packed.countUsedSurprises());
+
+        board.setCell(2, 3, new SurpriseCell(2, 3));
+
+        assertFalse(board.getCell(2, 3).isRevealed(), "the new cell is hidden");
+        assertFalse(board.getCell(2, 3).isUsed());
+        assertEquals(20, packed.getHiddenSafeCells());
+        assertEquals(1, packed.countUnopenedSurprises());
+        assertEquals(0, packed.countUsedSurprises());
+    }
+}
@@ -0,0 +1,40 @@
+package Test;
+
+import model.DetailedGameHistoryEntry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DetailedGameHistoryEntry_FromCSV_Seed_Test {
+
+    @Test
+    void seedAndFirstClicks_roundTripThroughCsv() {
+        DetailedGameHistoryEntry entry = new DetailedGameHistoryEntry("alice", "bob", "Hard", 120, 300, true);
+        entry.setSeed(-8_070_450_532_247_928_832L);
+        entry.setPlayer1FirstClick(17);
+        entry.setPlayer2FirstClick(203);
+
+        DetailedGameHistoryEntry back = DetailedGameHistoryEntry.fromCSV(entry.toCSV());
+
+        System.out.println("[csv] " + entry.toCSV());
+        assertNotNull(back);
+        assertEquals(entry.getSeed(), back.getSeed());
+        assertEquals(17, back.getPlayer1FirstClick());
+        assertEquals(203, back.getPlayer2FirstClick());
+    }
+
+    @Test
+    void oldRowWithoutSeedColumns_stillLoads() {
+        String old32 = "2024-01-01 10:00:00,alice,bob,Easy,50,90,true," +
+                "1,1,0,0,0,2,2,0,10,0," +
+                "0,0,0,0,0,1,1,0,8,0," +
+                "COOP,,WIN,0,0";
+
+        DetailedGameHistoryEntry back = DetailedGameHistoryEntry.fromCSV(old32);
+
+        assertNotNull(back);
+        assertEquals(0L, back.getSeed());
+        assertEquals(-1, back.getPlayer1FirstClick());
+        assertEquals(-1, back.getPlayer2FirstClick());
+    }
+}
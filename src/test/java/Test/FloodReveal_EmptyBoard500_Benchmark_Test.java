@@ -0,0 +1,36 @@
+package Test;
+
+import model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FloodReveal_EmptyBoard500_Benchmark_Test {
+
+    private static final int SIZE = 500;
+    private static final int RUNS = 5;
+
+    @Test
+    void revealFromCorner_opensWholeEmptyBoard_withoutStackOverflow() {
+        long best = Long.MAX_VALUE;
+        int opened = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            PackedBoard board = new PackedBoard(SIZE, SIZE);
+            board.computeAdjacency();
+
+            long t0 = System.nanoTime();
+            board.reveal(0);
+            opened = board.floodReveal(0).length;
+            long elapsed = System.nanoTime() - t0;
+
+            best = Math.min(best, elapsed);
+            assertTrue(board.allSafeRevealed());
+        }
+
+        System.out.println("[floodReveal " + SIZE + "x" + SIZE + "] opened=" + opened +
+                " | best of " + RUNS + " = " + (best / 1_000_000.0) + " ms");
+
+        assertEquals(SIZE * SIZE - 1, opened);
+    }
+}
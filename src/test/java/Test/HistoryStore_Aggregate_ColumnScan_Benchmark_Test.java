@@ -0,0 +1,132 @@
+package Test;
+
+import model.DetailedGameHistoryEntry;
+import model.HistoryStore;
+import model.TwoPlayerMode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HistoryStore_Aggregate_ColumnScan_Benchmark_Test {
+
+    private static final int GAMES = 100_000;
+
+    @Test
+    void statsScanColumns_andTheCsvRoundTrips() throws Exception {
+        Path dir = Files.createTempDirectory("historystore");
+        Path csv = dir.resolve("detailed_history.csv");
+
+        List<String> lines = new ArrayList<>();
+        lines.add(DetailedGameHistoryEntry.getCSVHeader());
+        int aliceGames = 0;
+        long totalSeconds = 0;
+        for (int i = 0; i < GAMES; i++) {
+            boolean alice = i % 3 == 0;
+            DetailedGameHistoryEntry e = new DetailedGameHistoryEntry(
+                    alice ? "alice" : "bob", alice ? "bob" : "carol", i % 2 == 0 ? "EASY" : "HARD", i % 997, 60 + i % 50, i % 4 == 0);
+            e.setTimestamp(String.format("2026-01-%02d 12:%02d:%02d", 1 + i % 28, i % 60, (i / 60) % 60));
+            e.setMode(i % 5 == 0 ? TwoPlayerMode.COMPETITIVE : TwoPlayerMode.COOP);
+            e.setWinner(i % 5 == 0 ? "bob" : "");
+            e.setEndReason(e.isWon() ? "WIN" : "LOST");
+            e.setSeed(i * 31L);
+            e.setPlayer1QuestionsAnswered(i % 7);
+            e.setPlayer2QuestionsAnswered(1);
+            if (alice) aliceGames++;
+            totalSeconds += 60 + i % 50;
+            lines.add(e.toCSV());
+        }
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+
+        long t0 = System.nanoTime();
+        HistoryStore store = new HistoryStore(dir.resolve("detailed_history.bin").toString());
+        assertEquals(GAMES, store.importCsv(csv.toString()));
+        long importMs = (System.nanoTime() - t0) / 1_000_000;
+        store.close();
+
+        // a reopen maps the file; nothing is parsed
+        t0 = System.nanoTime();
+        store = new HistoryStore(dir.resolve("detailed_history.bin").toString());
+        HistoryStore.Summary summary = store.summary();
+        long summaryMs = (System.nanoTime() - t0) / 1_000_000;
+
+        assertEquals(GAMES, store.size());
+        assertEquals(GAMES, summary.games());
+        assertEquals(GAMES / 4, summary.won());
+        assertEquals(996, summary.bestScore());
+        assertEquals(totalSeconds, summary.totalSeconds());
+
+        // every field reads back as it was written
+        assertEquals(lines.subList(1, lines.size()), store.csvLines());
+        assertEquals(aliceGames, store.readForPlayer("alice").size());
+
+        DetailedGameHistoryEntry extra = new DetailedGameHistoryEntry("dave", null, "MEDIUM", 5, 9, true);
+        store.append(extra);
+        assertEquals(GAMES + 1, store.size());
+        assertEquals(extra.toCSV(), store.get(GAMES).toCSV());
+
+        store.clear();
+        assertEquals(0, store.size());
+        assertEquals(0, store.summary().games());
+        store.close();
+
+        store = new HistoryStore(dir.resolve("detailed_history.bin").toString());
+        assertEquals(0, store.size(), "the cleared count was persisted");
+        store.close();
+
+        System.out.println("[historyStore] import " + GAMES + " csv rows: " + importMs +
+                " ms, reopen + summary: " + summaryMs + " ms");
+
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toList()) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    void timestampsInOtherFormats_readBackVerbatim() throws Exception {
+        Path dir = Files.createTempDirectory("historystore");
+        Path bin = dir.resolve("detailed_history.bin");
+        String[] stamps = { "2026-03-04 05:06:07", "04/03/2026 05:06", "2026-02-30 10:00:00", "" };
+
+        HistoryStore store = new HistoryStore(bin.toString());
+        for (String stamp : stamps) {
+            DetailedGameHistoryEntry e = new DetailedGameHistoryEntry("erin", null, "EASY", 1, 2, false);
+            e.setTimestamp(stamp);
+            store.append(e);
+        }
+        store.close();
+
+        store = new HistoryStore(bin.toString());
+        for (int row = 0; row < stamps.length; row++) assertEquals(stamps[row], store.get(row).getTimestamp());
+        store.close();
+
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toList()) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    void unknownFile_isMovedAside() throws Exception {
+        Path dir = Files.createTempDirectory("historystore");
+        Path bin = dir.resolve("detailed_history.bin");
+        Files.write(bin, "not a history store".getBytes(StandardCharsets.UTF_8));
+
+        HistoryStore store = new HistoryStore(bin.toString());
+        assertEquals(0, store.size());
+        store.close();
+        assertEquals("not a history store",
+                Files.readString(dir.resolve("detailed_history.bin.bak"), StandardCharsets.UTF_8));
+
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toList()) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+}
@@ -0,0 +1,35 @@
+package Test;
+
+import model.ImageCache;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageCache_Get_ScaledVariantCached_Test {
+
+    @Test
+    void endImage_isDecodedOnce_andEachSizeScaledOnce() {
+        ImageCache.preloadKnown();
+
+        long t0 = System.nanoTime();
+        BufferedImage first = ImageCache.get(ImageCache.WIN, 150, 150, 1.0);
+        long firstUs = (System.nanoTime() - t0) / 1_000;
+
+        t0 = System.nanoTime();
+        BufferedImage again = ImageCache.get(ImageCache.WIN, 150, 150, 1.0);
+        long againUs = (System.nanoTime() - t0) / 1_000;
+
+        BufferedImage hiDpi = ImageCache.get(ImageCache.WIN, 150, 150, 2.0);
+
+        System.out.println("[imageCache] first dialog image " + firstUs + " us, next " + againUs + " us");
+
+        assertNotNull(first, "win image is on the classpath");
+        assertSame(first, again, "a size is scaled once and then reused");
+        assertSame(ImageCache.get(ImageCache.WIN), ImageCache.get(ImageCache.WIN), "the resource is decoded once");
+        assertEquals(150, first.getWidth());
+        assertEquals(300, hiDpi.getWidth(), "HiDPI variant has device pixels");
+        assertNull(ImageCache.get("/images/missing.png", 10, 10, 1.0));
+    }
+}
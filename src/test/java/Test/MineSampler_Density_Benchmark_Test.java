@@ -0,0 +1,57 @@
+package Test;
+
+import model.MineSampler;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MineSampler_Density_Benchmark_Test {
+
+    private static final int ROWS = 300;
+    private static final int COLS = 300;
+    private static final int RUNS = 5;
+
+    @Test
+    void sampleAcrossDensities_exactCountAndSafeZoneRespected() {
+        int size = ROWS * COLS;
+        int[] safeZone = MineSampler.safeZone(ROWS, COLS, ROWS / 2, COLS / 2);
+        Random rnd = new Random(42);
+
+        for (int percent = 10; percent <= 90; percent += 10) {
+            int mines = size * percent / 100;
+            long best = Long.MAX_VALUE;
+            int[] picked = null;
+
+            for (int run = 0; run < RUNS; run++) {
+                long t0 = System.nanoTime();
+                picked = MineSampler.sample(size, mines, safeZone, rnd);
+                best = Math.min(best, System.nanoTime() - t0);
+            }
+
+            boolean[] seen = new boolean[size];
+            for (int idx : picked) {
+                assertFalse(seen[idx], "duplicate mine at " + idx);
+                seen[idx] = true;
+            }
+            for (int idx : safeZone) assertFalse(seen[idx], "mine inside safe zone at " + idx);
+
+            System.out.println("[mineSampler " + ROWS + "x" + COLS + "] density=" + percent + "% mines=" + mines +
+                    " | best of " + RUNS + " = " + (best / 1_000_000.0) + " ms");
+
+            assertEquals(mines, picked.length);
+        }
+    }
+
+    @Test
+    void cornerSafeZone_isClippedAndFullBoardMinusZoneFits() {
+        int[] zone = MineSampler.safeZone(9, 9, 0, 0);
+        assertArrayEquals(new int[]{0, 1, 9, 10}, zone);
+
+        int[] all = MineSampler.sample(81, 77, zone, new Random(7));
+        assertEquals(77, all.length);
+        assertThrows(IllegalArgumentException.class,
+                () -> MineSampler.sample(81, 78, zone, new Random(7)));
+    }
+}
@@ -0,0 +1,101 @@
+package Test;
+
+import engine.BoardEngine;
+import engine.BoardSpec;
+import engine.MineSolver;
+import model.CellType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MineSolver_Probabilities_Board30_Test {
+
+    private static final byte H = MineSolver.HIDDEN;
+
+    @Test
+    void smallBoards_exactProbabilities() {
+        // "1" with a single hidden neighbour: that neighbour is the mine, the far cell is safe
+        MineSolver.Result line = new MineSolver().solve(
+                new MineSolver.Snapshot(1, 3, 1, new byte[]{1, H, H}));
+        assertTrue(line.exact());
+        assertEquals(1.0, line.probabilityAt(1), 1e-9);
+        assertEquals(0.0, line.probabilityAt(2), 1e-9);
+        assertArrayEquals(new int[]{1}, line.mineCells());
+        assertArrayEquals(new int[]{2}, line.safeCells());
+        assertTrue(Double.isNaN(line.probabilityAt(0)));
+
+        // "1" in a 2x2 corner: one mine among three equal cells
+        MineSolver.Result corner = new MineSolver().solve(
+                new MineSolver.Snapshot(2, 2, 1, new byte[]{1, H, H, H}));
+        for (int idx = 1; idx < 4; idx++) assertEquals(1.0 / 3, corner.probabilityAt(idx), 1e-9);
+        assertEquals(0, corner.safeCells().length);
+    }
+
+    @Test
+    void componentWithoutLayoutInTime_fallsBackToDensity_noCellLeftOut() {
+        // a row of 3s between hidden rows: one component with far too many layouts for
+        // a zero budget, plus three hidden rows that touch no number
+        int cols = 80;
+        byte[] cells = new byte[6 * cols];
+        Arrays.fill(cells, H);
+        Arrays.fill(cells, cols, 2 * cols, (byte) 3);
+
+        MineSolver.Result r = new MineSolver().solve(new MineSolver.Snapshot(6, cols, 100, cells), 0);
+
+        assertFalse(r.exact());
+        for (int idx = 0; idx < cells.length; idx++) {
+            if (cells[idx] != H) continue;
+            assertFalse(Double.isNaN(r.probabilityAt(idx)), "hidden cell without a probability: " + idx);
+            assertEquals(100.0 / 400, r.probabilityAt(idx), 1e-9);
+        }
+    }
+
+    @Test
+    void board30x30_hintWithinBudget_soundAndIncremental() {
+        BoardEngine engine = new BoardEngine(new BoardSpec(30, 30, 150, 0, 0));
+        engine.generate(15, 15, 99L);
+        engine.reveal(15, 15);
+
+        MineSolver solver = new MineSolver();
+        long t0 = System.nanoTime();
+        MineSolver.Result first = solver.solve(MineSolver.Snapshot.of(engine));
+        long firstNanos = System.nanoTime() - t0;
+
+        assertSound(engine, first);
+        assertTrue(first.safeCells().length > 0 || !first.exact(), "an opening always yields a safe cell or a sampled answer");
+
+        // play the guaranteed-safe cells and solve again: untouched components come from the cache
+        int moves = 0;
+        long worst = firstNanos;
+        MineSolver.Result result = first;
+        while (result.safeCells().length > 0 && moves < 40) {
+            int safe = result.safeCells()[0];
+            assertNotNull(engine.reveal(safe / 30, safe % 30));
+            moves++;
+
+            t0 = System.nanoTime();
+            result = solver.solve(MineSolver.Snapshot.of(engine));
+            worst = Math.max(worst, System.nanoTime() - t0);
+            assertSound(engine, result);
+        }
+
+        System.out.println("[mineSolver 30x30] first=" + (firstNanos / 1_000_000.0) + " ms, worst=" +
+                (worst / 1_000_000.0) + " ms over " + moves + " safe moves, last reused=" +
+                solver.getLastReused() + ", enumerated=" + solver.getLastEnumerated());
+
+        assertTrue(moves > 0);
+        assertTrue(worst < 2 * MineSolver.DEFAULT_BUDGET_NANOS, "solve must stay within about two frames");
+    }
+
+    private static void assertSound(BoardEngine engine, MineSolver.Result r) {
+        for (int idx : r.safeCells()) assertTrue(engine.getType(idx) != CellType.MINE, "safe cell is a mine: " + idx);
+        for (int idx : r.mineCells()) assertSame(CellType.MINE, engine.getType(idx));
+        for (int idx = 0; idx < 900; idx++) {
+            double p = r.probabilityAt(idx);
+            if (engine.isRevealed(idx)) assertTrue(Double.isNaN(p));
+            else assertTrue(p >= 0 && p <= 1, "probability out of range at " + idx);
+        }
+    }
+}
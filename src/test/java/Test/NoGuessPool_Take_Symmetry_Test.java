@@ -0,0 +1,67 @@
+package Test;
+
+import engine.BoardEngine;
+import engine.BoardLayout;
+import engine.BoardSpec;
+import engine.NoGuessGenerator;
+import engine.NoGuessPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NoGuessPool_Take_Symmetry_Test {
+
+    private static final BoardSpec SPEC = BoardSpec.forDifficulty("Medium", 12, 12);
+
+    @Test
+    void pooledBoards_openUnderTheClick_andNeedNoGuess() throws InterruptedException {
+        NoGuessPool pool = NoGuessPool.getInstance();
+        pool.prewarm(SPEC);
+
+        long waitUntil = System.currentTimeMillis() + 10_000;
+        while (pool.readyCount(SPEC) < NoGuessPool.CAPACITY && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(20);
+        }
+        assertTrue(pool.readyCount(SPEC) > 0, "pool should fill in the background");
+
+        int[][] clicks = {{0, 0}, {6, 6}, {11, 3}, {2, 9}, {11, 11}, {5, 0}};
+        for (int[] click : clicks) {
+            long t0 = System.nanoTime();
+            BoardLayout layout = pool.take(SPEC, click[0], click[1]);
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            if (layout == null) continue; // fell back to a regular board
+
+            int idx = click[0] * 12 + click[1];
+            assertEquals(idx, layout.firstClick());
+
+            BoardEngine engine = new BoardEngine(SPEC);
+            engine.load(layout);
+            assertEquals(SPEC.mines(), engine.getTotalMines());
+            assertTrue(NoGuessGenerator.solvesWithoutGuessing(engine, click[0], click[1]),
+                    "board taken for " + click[0] + "," + click[1] + " needs a guess");
+            System.out.println("[noGuessPool] take " + click[0] + "," + click[1] + " in " + ms + " ms");
+        }
+
+        NoGuessPool.Stats stats = pool.getStats();
+        System.out.println("[noGuessPool] " + stats);
+        assertEquals(clicks.length, stats.hits() + stats.misses());
+    }
+
+    @Test
+    void symmetries_mapOpeningOntoEveryClickOfIt() {
+        BoardLayout layout = null;
+        for (long seed = 1; layout == null; seed++) layout = NoGuessGenerator.candidate(SPEC, 2, 3, seed);
+
+        for (int s = 0; s < layout.symmetryCount(); s++) {
+            for (int cell : layout.opening()) {
+                int click = layout.map(cell, s);
+                assertTrue(layout.symmetryOpeningAt(click) >= 0);
+
+                BoardLayout moved = layout.transform(layout.symmetryOpeningAt(click), click);
+                BoardEngine engine = new BoardEngine(SPEC);
+                engine.load(moved);
+                assertEquals(0, engine.getAdjacentMines(click), "opening cell must stay empty");
+            }
+        }
+    }
+}
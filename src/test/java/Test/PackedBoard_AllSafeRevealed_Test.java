@@ -0,0 +1,57 @@
+package Test;
+
+import model.Board;
+import model.Cell;
+import model.CellType;
+import model.MineCell;
+import model.PackedBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedBoard_AllSafeRevealed_Test {
+
+    private Board board;
+    private PackedBoard packed;
+
+    @BeforeEach
+    void setup() {
+        // 9x9 = 81 cells -> the last bitset word is partial, which is what validMask must handle
+        board = new Board(9);
+        packed = board.getPackedBoard();
+        board.setCell(0, 0, new MineCell(0, 0));
+        board.setCell(8, 8, new MineCell(8, 8));
+        packed.computeAdjacency();
+    }
+
+    @Test
+    void revealAllSafeCells_thenWinAndMinesStillHidden() {
+        for (int idx = 0; idx < packed.size(); idx++) {
+            if (!packed.isMine(idx)) packed.reveal(idx);
+        }
+
+        System.out.println("[packed] mines=" + packed.countMines() +
+                " | allSafeRevealed=" + packed.allSafeRevealed() +
+                ", allMinesRevealed=" + board.allMinesRevealed());
+
+        assertEquals(2, packed.countMines());
+        assertTrue(packed.allSafeRevealed());
+        assertFalse(board.allMinesRevealed());
+    }
+
+    @Test
+    void cellViews_writeThroughToPackedBits() {
+        Cell neighbour = board.getCell(0, 1);
+        assertEquals(CellType.NUMBER, neighbour.getType());
+
+        neighbour.toggleFlag();
+        assertTrue(packed.isFlagged(packed.index(0, 1)));
+        assertTrue(board.getCell(0, 1).isFlagged());
+
+        board.getCell(0, 0).reveal();
+        board.getCell(8, 8).reveal();
+        assertTrue(board.allMinesRevealed());
+        assertFalse(packed.allSafeRevealed());
+    }
+}
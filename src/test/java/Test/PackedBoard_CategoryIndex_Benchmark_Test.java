@@ -0,0 +1,77 @@
+package Test;
+
+import model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedBoard_CategoryIndex_Benchmark_Test {
+
+    private static final int PICKS = 100_000;
+
+    @Test
+    void revealFlagAndSpecials_keepIndexesInStep() {
+        PackedBoard packed = new PackedBoard(4, 5);
+        int mine = packed.index(1, 1);
+        int question = packed.index(0, 4);
+        int surprise = packed.index(3, 0);
+        packed.setMine(mine, true);
+        packed.setQuestion(question, true);
+        packed.setSurprise(surprise, true);
+
+        assertEquals(1, packed.countHiddenMines());
+        assertEquals(19, packed.countHiddenSafe());
+        assertEquals(1, packed.countUnopenedQuestions());
+        assertEquals(1, packed.countUnopenedSurprises());
+
+        SplittableRandom rnd = new SplittableRandom(3);
+        assertEquals(mine, packed.randomHiddenMine(rnd));
+
+        packed.toggleFlag(mine);
+        assertEquals(-1, packed.randomHiddenMine(rnd), "flagged mines are not hidden");
+        packed.toggleFlag(mine);
+        assertEquals(1, packed.countHiddenMines());
+
+        packed.reveal(question);
+        packed.reveal(packed.index(2, 2));
+        assertEquals(0, packed.countUnopenedQuestions());
+        assertEquals(17, packed.countHiddenSafe());
+
+        for (int i = 0; i < 200; i++) {
+            int idx = packed.randomHiddenCell(rnd);
+            assertFalse(packed.isRevealed(idx));
+        }
+
+        packed.clear();
+        assertEquals(0, packed.countHiddenMines());
+        assertEquals(20, packed.countHiddenSafe());
+        assertEquals(0, packed.countUnopenedSurprises());
+    }
+
+    @Test
+    void randomPick_costsTheSameOnSmallAndHugeBoards() {
+        double small = nanosPerPick(16);
+        double huge = nanosPerPick(1000);
+
+        System.out.println("[categoryIndex] random hidden mine pick: 16x16 = " + small +
+                " ns, 1000x1000 = " + huge + " ns");
+
+        assertTrue(huge < small * 20 + 1_000, "pick must not grow with the board");
+    }
+
+    private static double nanosPerPick(int n) {
+        PackedBoard packed = new PackedBoard(n, n);
+        SplittableRandom rnd = new SplittableRandom(n);
+        for (int i = 0; i < n * n; i += 6) packed.setMine(i, true);
+
+        long sum = 0;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < PICKS; i++) sum += packed.randomHiddenMine(rnd);
+        long elapsed = System.nanoTime() - t0;
+
+        assertTrue(sum > 0);
+        return (double) elapsed / PICKS;
+    }
+}
@@ -0,0 +1,47 @@
+package Test;
+
+import model.PackedBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackedBoard_LiveCounters_Test {
+
+    @Test
+    void flagUnflagAndReveal_keepCountersInStep() {
+        PackedBoard packed = new PackedBoard(4, 5);
+        int mine = packed.index(1, 1);
+        int safe = packed.index(3, 4);
+        packed.setMine(mine, true);
+
+        assertEquals(1, packed.countMines());
+        assertEquals(19, packed.getHiddenSafeCells());
+
+        packed.toggleFlag(mine);
+        packed.toggleFlag(safe);
+        assertEquals(1, packed.getCorrectFlags());
+        assertEquals(1, packed.getWrongFlags());
+
+        packed.toggleFlag(safe);
+        packed.setFlagged(safe, false); // no-op, must not double count
+        assertEquals(0, packed.getWrongFlags());
+
+        packed.reveal(safe);
+        packed.reveal(safe);
+        packed.reveal(mine);
+
+        System.out.println("[counters] hiddenSafe=" + packed.getHiddenSafeCells() +
+                ", revealedMines=" + packed.getRevealedMines() +
+                ", correctFlags=" + packed.getCorrectFlags());
+
+        assertEquals(18, packed.getHiddenSafeCells());
+        assertEquals(1, packed.getRevealedMines());
+        assertTrue(packed.allMinesRevealed());
+        assertFalse(packed.allSafeRevealed());
+
+        packed.clear();
+        assertEquals(0, packed.countMines());
+        assertEquals(0, packed.getCorrectFlags());
+        assertEquals(20, packed.getHiddenSafeCells());
+    }
+}
@@ -0,0 +1,52 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.ParticleField;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleField_Paint_AdaptiveQuality_Benchmark_Test {
+
+    private static final int FRAMES = 200;
+
+    @Test
+    void overBudgetFrames_drawFewerParticles_thenRecover() {
+        BufferedImage img = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        ParticleField field = new ParticleField(60, ParticleField.NEON, new Random(7));
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) {
+            field.update();
+            field.paint(g, img.getWidth(), img.getHeight());
+        }
+        long frameUs = (System.nanoTime() - t0) / 1_000 / FRAMES;
+
+        field.setFrameBudgetNanos(1);                  // nothing fits: shed down to the floor
+        for (int i = 0; i < 50; i++) {
+            field.update();
+            field.paint(g, img.getWidth(), img.getHeight());
+        }
+        int reduced = field.getActiveCount();
+
+        field.setFrameBudgetNanos(Long.MAX_VALUE / 4); // plenty of room: grow back
+        for (int i = 0; i < 100; i++) {
+            field.update();
+            field.paint(g, img.getWidth(), img.getHeight());
+        }
+        int recovered = field.getActiveCount();
+        g.dispose();
+
+        System.out.println("[particleField] frame " + frameUs + " us, reduced to " + reduced +
+                ", recovered to " + recovered);
+
+        assertEquals(15, reduced, "an over-budget field keeps a quarter of its particles");
+        assertEquals(60, recovered, "a calm field adds particles back up to its full count");
+    }
+}
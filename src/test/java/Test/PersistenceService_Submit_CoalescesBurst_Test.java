@@ -0,0 +1,86 @@
+package Test;
+
+import model.PersistenceService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistenceService_Submit_CoalescesBurst_Test {
+
+    @Test
+    void burstOfStatUpdates_isOneWrite_andOrderIsKept() throws Exception {
+        PersistenceService service = PersistenceService.getInstance();
+        assertTrue(service.flush(5_000));
+
+        CountDownLatch slowDisk = holdWriter(service);     // the burst piles up behind a slow write
+        long writesBefore = service.getWriteCount();
+
+        AtomicInteger diskWrites = new AtomicInteger();
+        int[] lastWritten = new int[1];
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        long t0 = System.nanoTime();
+        for (int i = 1; i <= 5; i++) {
+            int value = i;
+            futures.add(service.submit("users.csv", () -> {
+                diskWrites.incrementAndGet();
+                lastWritten[0] = value;
+            }));
+            futures.add(service.submit(() -> order.add(value)));
+        }
+        long submitUs = (System.nanoTime() - t0) / 1_000;
+        slowDisk.countDown();
+
+        for (CompletableFuture<Void> f : futures) f.get(5, TimeUnit.SECONDS);
+
+        System.out.println("[persistence] 10 writes queued in " + submitUs + " us, keyed disk writes " +
+                diskWrites.get());
+
+        assertEquals(1, diskWrites.get(), "five updates of one file are one write");
+        assertEquals(5, lastWritten[0], "the newest state is the one written");
+        assertEquals(List.of(1, 2, 3, 4, 5), order, "unkeyed writes keep their order");
+        assertEquals(1 + 6, service.getWriteCount() - writesBefore, "the slow write, one keyed and five appends");
+    }
+
+    @Test
+    void replacedWrite_keepsItsPlace_soFlushCoversIt() throws Exception {
+        PersistenceService service = PersistenceService.getInstance();
+        assertTrue(service.flush(5_000));
+
+        CountDownLatch slowDisk = holdWriter(service);
+
+        List<String> ran = new ArrayList<>();
+        service.submit("stats", () -> ran.add("stats-old"));
+        service.submit(() -> ran.add("append"));
+        CompletableFuture<Void> replaced = service.submit("stats", () -> ran.add("stats-new"));
+        slowDisk.countDown();
+
+        assertTrue(service.flush(5_000));
+        assertTrue(replaced.isDone(), "a flush waits for writes queued before it");
+        assertEquals(List.of("stats-new", "append"), ran);
+    }
+
+    // queues a write that blocks the writer until the returned latch is released
+    private static CountDownLatch holdWriter(PersistenceService service) throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service.submit(() -> {
+            writing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+}
@@ -0,0 +1,79 @@
+package Test;
+
+import model.AppendLog;
+import model.PlayerIndex;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerIndex_OffsetsOf_OneUserLines_Test {
+
+    private static final int GAMES = 200_000;
+
+    @Test
+    void oneUsersLinesAreReadWithoutScanningTheFile() throws Exception {
+        Path dir = Files.createTempDirectory("playerindex");
+        Path csv = dir.resolve("history.csv");
+
+        List<String> lines = new ArrayList<>();
+        List<String> rare = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) {
+            String line = (i % 1000 == 7 ? "rare" : "player" + (i % 50)) + ",Practice Mode,EASY," + i + ",60,false";
+            if (line.startsWith("rare,")) rare.add(line);
+            lines.add(line);
+        }
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+
+        // first lookup builds the index from the file
+        PlayerIndex index = PlayerIndex.of(csv.toString());
+        long t0 = System.nanoTime();
+        assertEquals(rare, index.linesOf("rare"));
+        long buildMs = (System.nanoTime() - t0) / 1_000_000;
+
+        t0 = System.nanoTime();
+        List<String> found = index.linesOf("rare");
+        long lookupUs = (System.nanoTime() - t0) / 1_000;
+        assertEquals(rare, found);
+        assertEquals(0, index.offsetsOf("nobody").length);
+
+        // appends keep the index current without a rebuild
+        AppendLog log = new AppendLog(csv.toString(), null);
+        String next = "rare,Practice Mode,HARD,1,2,true";
+        index.added(next, log.append(next));
+        assertEquals(next, index.linesOf("rare").get(rare.size()));
+        Path idx = dir.resolve("history_players.idx");
+        assertEquals(GAMES + 1, Files.readAllLines(idx).size());
+
+        // a line on disk but not added yet (the writer is between the two) is no reason to rescan
+        Files.write(csv, "rare,late,EASY,3,4,false\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(rare.size() + 1, index.linesOf("rare").size());
+        assertEquals(GAMES + 1, Files.readAllLines(idx).size(), "no rebuild");
+
+        // the next added line shows the gap, and the lookup after it rebuilds with both
+        String last = "rare,Practice Mode,EASY,5,6,false";
+        index.added(last, log.append(last));
+        List<String> after = index.linesOf("rare");
+        assertEquals(rare.size() + 3, after.size());
+        assertEquals("rare,late,EASY,3,4,false", after.get(after.size() - 2));
+        assertEquals(last, after.get(after.size() - 1));
+
+        // a rewrite through the index is picked up on the next lookup
+        index.replaceData(() -> log.rewrite(List.of("solo,Practice Mode,EASY,1,1,true", rare.get(0))));
+        assertEquals(List.of(rare.get(0)), index.linesOf("rare"));
+
+        System.out.println("[playerIndex] build over " + GAMES + " lines: " + buildMs +
+                " ms, one user's " + rare.size() + " lines: " + lookupUs + " us");
+
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toList()) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+}
@@ -0,0 +1,85 @@
+package Test;
+
+import model.User;
+import model.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserRepository_Find_IndexedLookup_Test {
+
+    @Test
+    void lookupsComeFromMemory_andStatsSurviveAReload() throws Exception {
+        Path dir = Files.createTempDirectory("users");
+        Path csv = dir.resolve("users.csv");
+
+        List<String> lines = new ArrayList<>();
+        lines.add("username,password,email,gamesPlayed,gamesWon,highScore");
+        for (int i = 0; i < 5_000; i++) lines.add("user" + i + ",pw" + i + ",User" + i + "@Mail.com,0,0,0");
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+
+        UserRepository repo = new UserRepository(csv.toString());
+        assertEquals(5_000, repo.size());
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < 5_000; i++) assertNotNull(repo.find("user" + i));
+        long findUs = (System.nanoTime() - t0) / 1_000;
+
+        assertEquals("user42", repo.findByEmail("  user42@mail.COM ").getUsername());
+        assertNull(repo.find("nobody"));
+        assertNull(repo.findByEmail(""));
+
+        // callers get copies; only the repository changes an account
+        repo.find("user7").setGamesWon(99);
+        assertEquals(0, repo.find("user7").getGamesWon());
+
+        assertNull(repo.add("user1", "x", "x@mail.com"), "a taken name is refused");
+        repo.add("newbie", "pw", "new@mail.com").get(5, TimeUnit.SECONDS);
+        assertTrue(repo.updatePassword("user3", "changed"));
+        for (int i = 1; i <= 10; i++) repo.updateStats("user7", i, i / 2, i * 100);
+        repo.updateStats("user7", 11, 6, 1_100).get(5, TimeUnit.SECONDS);
+        repo.flush();
+
+        UserRepository reloaded = new UserRepository(csv.toString());
+        User u7 = reloaded.find("user7");
+        assertEquals(11, u7.getGamesPlayed());
+        assertEquals(6, u7.getGamesWon());
+        assertEquals(1_100, u7.getHighScore());
+        assertEquals("changed", reloaded.find("user3").getPassword());
+        assertEquals("newbie", reloaded.findByEmail("NEW@mail.com").getUsername());
+        assertEquals(5_001, reloaded.size());
+
+        // enough saves to fold the journal back into users.csv; the newest rows survive it
+        for (int i = 0; i < 6_000; i++) reloaded.updateStats("user" + (i % 100), i, 0, 0);
+        reloaded.updateStats("user9", 1, 2, 3);
+        reloaded.flush();
+        UserRepository compacted = new UserRepository(csv.toString());
+        assertEquals(5_999, compacted.find("user99").getGamesPlayed());
+        assertEquals(3, compacted.find("user9").getHighScore());
+        assertTrue(Files.readAllLines(dir.resolve("users_journal.csv")).size() < 6_000, "the journal was compacted");
+
+        // a sign-up whose row cannot be written is reported through its future
+        Path journal = dir.resolve("users_journal.csv");
+        Files.delete(journal);
+        Files.createDirectory(journal);
+        assertThrows(CompletionException.class, () -> compacted.add("unlucky", "pw", "").join());
+        compacted.discard("unlucky");
+        assertNull(compacted.find("unlucky"));
+        Files.delete(journal);
+
+        System.out.println("[users] 5000 lookups: " + findUs + " us");
+
+        try (var files = Files.list(dir)) {
+            for (Path p : files.toList()) Files.deleteIfExists(p);
+        }
+        Files.deleteIfExists(dir);
+    }
+}
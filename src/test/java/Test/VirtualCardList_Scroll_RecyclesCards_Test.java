@@ -0,0 +1,90 @@
+package Test;
+
+import org.junit.jupiter.api.Test;
+import view.VirtualCardList;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualCardList_Scroll_RecyclesCards_Test {
+
+    private static final int ITEMS = 5000;
+
+    @Test
+    void thousandsOfRows_holdAboutOneScreenOfCards() throws Exception {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) items.add(i);
+
+        SwingUtilities.invokeAndWait(() -> {
+            // even rows are 100 px tall, odd rows 60 px
+            VirtualCardList<Integer, JLabel> list = new VirtualCardList<>(
+                    JLabel::new,
+                    (card, i) -> {
+                        card.setText("game " + i);
+                        card.setPreferredSize(new Dimension(300, i % 2 == 0 ? 100 : 60));
+                    },
+                    i -> i % 2 == 0, 10);
+
+            JScrollPane scroll = new JScrollPane(list);
+            scroll.setSize(800, 600);
+
+            long t0 = System.nanoTime();
+            list.setItems(items);
+            layout(scroll);
+            long openUs = (System.nanoTime() - t0) / 1_000;
+
+            assertEquals(ITEMS / 2 * (110 + 70), list.getPreferredSize().height, "height comes from the row kinds");
+            int cardsOnOpen = list.getCardCount();
+
+            // scroll through the whole list a page at a time
+            JViewport vp = scroll.getViewport();
+            for (int y = 0; y < list.getHeight() - 600; y += 550) {
+                vp.setViewPosition(new Point(0, y));
+            }
+            vp.setViewPosition(new Point(0, 180 * 1000));
+            int cardsAfterScroll = list.getCardCount();
+
+            // filtering swaps the items without building new cards
+            list.setItems(items.subList(0, 20));
+            layout(scroll);
+
+            System.out.println("[virtualList] open " + openUs + " us, cards on open " + cardsOnOpen +
+                    ", after scroll " + cardsAfterScroll + ", after filter " + list.getCardCount());
+
+            assertTrue(cardsOnOpen <= 12, "only the rows in view get cards");
+            assertTrue(cardsAfterScroll <= 14, "scrolling recycles cards instead of creating one per row");
+            assertEquals(cardsAfterScroll, list.getCardCount(), "a filter reuses the existing cards");
+            assertEquals(0, list.firstVisibleIndex());
+        });
+    }
+
+    @Test
+    void scrollPosition_mapsToTheRowUnderIt() throws Exception {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) items.add(i);
+
+        SwingUtilities.invokeAndWait(() -> {
+            VirtualCardList<Integer, JLabel> list = new VirtualCardList<>(
+                    JLabel::new,
+                    (card, i) -> card.setPreferredSize(new Dimension(300, i % 2 == 0 ? 100 : 60)),
+                    i -> i % 2 == 0, 10);
+            JScrollPane scroll = new JScrollPane(list);
+            scroll.setSize(800, 600);
+            list.setItems(items);
+            layout(scroll);
+
+            scroll.getViewport().setViewPosition(new Point(0, 180 * 1000 + 115));
+            assertEquals(2001, list.firstVisibleIndex());
+        });
+    }
+
+    private static void layout(JScrollPane scroll) {
+        scroll.doLayout();
+        scroll.getViewport().doLayout();
+        scroll.getViewport().getView().doLayout();
+    }
+}